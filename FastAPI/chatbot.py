@@ -4,10 +4,12 @@ import httpx # 비동기 HTTP 통신을 위해 추천
 from langchain_core.prompts import ChatPromptTemplate
 from dotenv import load_dotenv
 
+from errors import AnswerUnavailableError
+
 load_dotenv()
 
 async def call_gemini_api(prompt_text):
-    """Gemini API를 호출하는 공통 함수"""
+    """Gemini API를 호출하는 공통 함수 (실패 시 AnswerUnavailableError)"""
     gms_key = os.getenv("GMS_KEY")
     url = os.getenv("GMS_URL")
 
@@ -26,11 +28,11 @@ async def call_gemini_api(prompt_text):
             # API 응답 구조에 'candidates'가 없을 경우를 대비한 안전 장치
             if 'candidates' in result and result['candidates']:
                 return result['candidates'][0]['content']['parts'][0]['text'].strip()
-            return "API 응답이 비어있습니다. 다시 시도해주세요."
         except httpx.HTTPStatusError as e:
-            return f"답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: {e.response.status_code})"
+            raise AnswerUnavailableError(f"답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: {e.response.status_code})") from e
         except Exception as e:
-            return f"답변 생성 중 예상치 못한 오류가 발생했습니다: {str(e)}"
+            raise AnswerUnavailableError(f"답변 생성 중 예상치 못한 오류가 발생했습니다: {str(e)}") from e
+    raise AnswerUnavailableError("API 응답이 비어있습니다. 다시 시도해주세요.")
 
     # 2. 결과 파싱 로직: 숫자만 추출하여 판단 (가장 안전함)
 
@@ -54,12 +56,58 @@ def expand_context(best_id, collection):
 
     return "\n\n".join(sorted_documents)
 
+DB_UNAVAILABLE_MESSAGE = "죄송합니다. 현재 데이터베이스에 연결할 수 없어 답변을 드릴 수 없습니다."
+
+
+async def stream_gemini_api(prompt_text):
+    """Gemini 스트리밍 API(SSE)를 호출해 생성되는 텍스트 조각을 순서대로 내보냅니다."""
+    gms_key = os.getenv("GMS_KEY")
+    url = os.getenv("GMS_STREAM_URL") or os.getenv("GMS_URL", "").replace(
+        ":generateContent", ":streamGenerateContent?alt=sse")
+
+    headers = {"Content-Type": "application/json", "x-goog-api-key": gms_key}
+    payload = {
+        "contents": [{"parts": [{"text": prompt_text}]}],
+        "generationConfig": {"temperature": 0.1, "maxOutputTokens": 9000}
+    }
+
+    # 호출한 쪽(Spring)이 연결을 끊으면 이 제너레이터가 취소되고, async with 가 Gemini 연결도 닫는다
+    async with httpx.AsyncClient(timeout=30.0) as client:
+        async with client.stream("POST", url, headers=headers, json=payload) as response:
+            response.raise_for_status()
+            async for line in response.aiter_lines():
+                if not line.startswith("data:"):
+                    continue
+                chunk = json.loads(line[len("data:"):].strip())
+                for candidate in chunk.get("candidates", []):
+                    for part in candidate.get("content", {}).get("parts", []):
+                        if part.get("text"):
+                            yield part["text"]
+
+
 async def get_rag_answer(user_question: str, collection, title: str):
     """RAG 파이프라인을 실행하여 사용자의 질문에 답변합니다."""
+    full_prompt = build_rag_prompt(user_question, collection, title)
+    if full_prompt is None:
+        raise AnswerUnavailableError(DB_UNAVAILABLE_MESSAGE, status_code=503)
+    return await call_gemini_api(full_prompt)
+
+
+async def stream_rag_answer(user_question: str, collection, title: str):
+    """get_rag_answer 의 스트리밍 버전 (텍스트 조각 단위)"""
+    full_prompt = build_rag_prompt(user_question, collection, title)
+    if full_prompt is None:
+        raise AnswerUnavailableError(DB_UNAVAILABLE_MESSAGE, status_code=503)
+    async for text in stream_gemini_api(full_prompt):
+        yield text
+
+
+def build_rag_prompt(user_question: str, collection, title: str):
+    """유사도 검색 결과에 따라 RAG / 일반 답변 프롬프트를 만듭니다. (DB 미연결 시 None)"""
 
     # 1. 유사도 검색 (가장 관련 있는 1개 청크 확보)
     if collection is None:
-        return "죄송합니다. 현재 데이터베이스에 연결할 수 없어 답변을 드릴 수 없습니다."
+        return None
 
     where_clause = {"title": title}
     results = collection.query(
@@ -68,6 +116,45 @@ async def get_rag_answer(user_question: str, collection, title: str):
         where=where_clause,
         include=["documents", "metadatas", "distances"]
     )
+    return prompt_from_results(user_question, title, results)
+
+
+def build_rag_prompts_batch(items, collection, embedding_function):
+    """
+    여러 질문의 프롬프트를 한 번에 만듭니다. (DB 미연결 시 None 목록)
+    - 모든 질문을 한 번의 임베딩 패스로 벡터화하고, 같은 제목끼리 묶어 검색합니다.
+    """
+    if collection is None:
+        return [None] * len(items)
+
+    embeddings = embedding_function([item.message for item in items])
+
+    # 제목별로 묶어서 한 번씩 검색 (where 조건이 제목마다 다르므로)
+    by_title = {}
+    for index, item in enumerate(items):
+        by_title.setdefault(item.title, []).append(index)
+
+    prompts = [None] * len(items)
+    for title, indexes in by_title.items():
+        results = collection.query(
+            query_embeddings=[embeddings[i] for i in indexes],
+            n_results=3,
+            where={"title": title},
+            include=["documents", "metadatas", "distances"]
+        )
+        for position, index in enumerate(indexes):
+            # 단건 검색 결과와 같은 모양으로 잘라서 전달
+            single = {
+                "ids": [results["ids"][position]],
+                "distances": [results["distances"][position]],
+                "documents": [results["documents"][position]],
+            }
+            prompts[index] = prompt_from_results(items[index].message, title, single)
+    return prompts
+
+
+def prompt_from_results(user_question: str, title: str, results):
+    """검색 결과의 유사도에 따라 RAG / 일반 답변 프롬프트를 고릅니다."""
     is_relevant_result = False
     if results and results['ids'] and results['ids'][0]:
         # 결과가 있을 경우, 유사도 임계값(Threshold) 확인
@@ -101,8 +188,7 @@ async def get_rag_answer(user_question: str, collection, title: str):
             )),
             ("human", "주제: {title}\n질문: {question}\n\n서울집사의 지식을 바탕으로 위 주제와 질문에 대해 친절하게 답변해줘.")
         ])
-        full_prompt = general_prompt_template.format(question=user_question, title=title)
-        return await call_gemini_api(full_prompt)
+        return general_prompt_template.format(question=user_question, title=title)
     else:
         # 2-2. 검색 결과가 유효할 경우: RAG 답변 생성
         # 3. 문맥 확장 (슬라이딩 윈도우 방식으로 주변 텍스트 병합)
@@ -141,7 +227,4 @@ async def get_rag_answer(user_question: str, collection, title: str):
             )),
             ("human", "내용:\n{context}\n\n질문: {question}")
         ])
-        full_prompt = prompt_template.format(context=final_context, question=user_question, title=title, source_folder=title)
-
-        # 5. Gemini API 호출 (비동기 처리)
-        return await call_gemini_api(full_prompt)
\ No newline at end of file
+        return prompt_template.format(context=final_context, question=user_question, title=title, source_folder=title)
\ No newline at end of file
@@ -0,0 +1,9 @@
+class AnswerUnavailableError(Exception):
+    """
+    Gemini 호출 실패 / DB 미연결처럼 정상 답변(요약)을 만들지 못한 경우.
+    문자열로 돌려주면 호출한 쪽(Spring)이 정상 답변으로 캐시하므로, 예외로 올려 5xx 또는 error 로 응답합니다.
+    """
+
+    def __init__(self, message: str, status_code: int = 502):
+        super().__init__(message)
+        self.status_code = status_code
@@ -1,17 +1,27 @@
 import os
+import asyncio
 import chromadb
-from fastapi import FastAPI
+import json
+import logging
+from fastapi import FastAPI, HTTPException
+from fastapi.responses import StreamingResponse
 from fastapi.middleware.cors import CORSMiddleware
 from contextlib import asynccontextmanager
 from chromadb.utils import embedding_functions
 
-from schema import ChatRequest, ChatResponse, SummaryRequest, SummaryResponse
-from chatbot import get_rag_answer
+from schema import ChatRequest, ChatResponse, ChatBatchRequest, ChatBatchResponse, SummaryRequest, SummaryResponse
+from chatbot import get_rag_answer, stream_rag_answer, build_rag_prompts_batch, call_gemini_api, DB_UNAVAILABLE_MESSAGE
+from errors import AnswerUnavailableError
 from summary import get_full_text, get_summary_from_gms
 
 # 전역 상태 저장소
 app_state = {}
 
+logger = logging.getLogger(__name__)
+
+# 스트리밍 중 오류 시 클라이언트에 보내는 고정 메시지 (예외 내용은 서버 로그에만 남긴다)
+STREAM_ERROR_MESSAGE = "답변 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해 주세요."
+
 # 로컬 상황
 # @asynccontextmanager
 # async def lifespan(app: FastAPI):
@@ -82,22 +92,73 @@ app.add_middleware(
 
 
 # 3. 챗봇 API
+# - Gemini 실패는 502, DB 미연결은 503 (오류 문구를 200 으로 보내면 Spring 이 정상 답변으로 캐시한다)
 @app.post("/chat", response_model=ChatResponse)
 async def chat(request: ChatRequest):
-    answer = await get_rag_answer(request.message, app_state["collection"], request.title)
+    try:
+        answer = await get_rag_answer(request.message, app_state["collection"], request.title)
+    except AnswerUnavailableError as e:
+        raise HTTPException(status_code=e.status_code, detail=str(e))
     return ChatResponse(message=answer)
 
+# 3-0. 챗봇 배치 API
+# - Spring 마이크로 배처가 모은 질문들을 한 번에 받아 임베딩은 한 번에, Gemini 호출은 동시에 수행
+# - 응답 순서는 요청 순서와 같다
+# - 항목별 실패는 배치 전체를 실패시키지 않고 error=true 로 표시한다
+@app.post("/chat/batch", response_model=ChatBatchResponse)
+async def chat_batch(request: ChatBatchRequest):
+    prompts = build_rag_prompts_batch(request.requests, app_state["collection"], app_state["ko_embedding"])
+
+    async def answer(prompt):
+        if prompt is None:
+            return ChatResponse(message=DB_UNAVAILABLE_MESSAGE, error=True)
+        try:
+            return ChatResponse(message=await call_gemini_api(prompt))
+        except AnswerUnavailableError as e:
+            return ChatResponse(message=str(e), error=True)
+
+    answers = await asyncio.gather(*(answer(prompt) for prompt in prompts))
+    return ChatBatchResponse(responses=answers)
+
+# 3-1. 챗봇 스트리밍 API (SSE)
+# - event: delta (data: {"text": "..."}) 를 생성되는 대로 보내고, 마지막에 event: done
+# - 클라이언트가 끊으면 제너레이터가 취소되어 Gemini 호출도 함께 중단된다
+@app.post("/chat/stream")
+async def chat_stream(request: ChatRequest):
+    async def event_stream():
+        try:
+            async for text in stream_rag_answer(request.message, app_state["collection"], request.title):
+                yield f"event: delta\ndata: {json.dumps({'text': text}, ensure_ascii=False)}\n\n"
+        except AnswerUnavailableError as e:
+            yield f"event: error\ndata: {json.dumps({'text': str(e)}, ensure_ascii=False)}\n\n"
+            return
+        except Exception:
+            logger.exception("chat stream failed")
+            yield f"event: error\ndata: {json.dumps({'text': STREAM_ERROR_MESSAGE}, ensure_ascii=False)}\n\n"
+            return
+        yield "event: done\ndata: {}\n\n"
+
+    return StreamingResponse(
+        event_stream(),
+        media_type="text/event-stream",
+        headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"},
+    )
+
 # 4. 요약 API
 @app.post("/summary", response_model=SummaryResponse)
 async def summarize_notice(request: SummaryRequest):
     # 1. DB에서 title에 해당하는 전체 텍스트 가져오기
     full_text = get_full_text(request.title, app_state["collection"])
 
+    # 원문이 아직 적재되지 않았거나 Gemini 가 실패하면 오류 코드로 응답 → Spring 워커가 실패로 기록하고 재시도
     if not full_text:
-        return SummaryResponse(summary="해당 공고의 내용을 찾을 수 없어 요약할 수 없습니다.")
-        
+        raise HTTPException(status_code=404, detail="해당 공고의 내용을 찾을 수 없어 요약할 수 없습니다.")
+
     # 2. Gemini를 통해 텍스트 요약하기
-    summary_text = await get_summary_from_gms(full_text)
+    try:
+        summary_text = await get_summary_from_gms(full_text)
+    except AnswerUnavailableError as e:
+        raise HTTPException(status_code=e.status_code, detail=str(e))
     
     # 3. 요약된 텍스트 반환
     return SummaryResponse(summary=summary_text)
@@ -1,3 +1,5 @@
+from typing import List
+
 from pydantic import BaseModel
 
 class ChatRequest(BaseModel):
@@ -6,6 +8,14 @@ class ChatRequest(BaseModel):
 
 class ChatResponse(BaseModel):
     message: str
+    # 배치 항목 실패 (Gemini 오류 / DB 미연결) → message 는 오류 문구이므로 캐시하지 않는다
+    error: bool = False
+
+class ChatBatchRequest(BaseModel):
+    requests: List[ChatRequest]
+
+class ChatBatchResponse(BaseModel):
+    responses: List[ChatResponse]
 
 class SummaryRequest(BaseModel):
     title: str
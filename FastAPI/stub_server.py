@@ -0,0 +1,83 @@
+# 로컬 테스트용 FastAPI 스텁 서버
+# - 모델/ChromaDB 없이 /chat, /summary 를 흉내 내어 Spring 쪽 타임아웃/서킷 브레이커/bulkhead 를 오프라인에서 확인
+# - 실행: uvicorn stub_server:app --port 8000
+# - 동작 조절 (환경변수 또는 POST /_stub/config)
+#   STUB_DELAY_MS : 응답 지연 (ms)
+#   STUB_FAIL_RATE: 500 응답 비율 (0.0 ~ 1.0)
+import asyncio
+import json
+import os
+import random
+
+from fastapi import FastAPI, HTTPException
+from fastapi.responses import StreamingResponse
+from pydantic import BaseModel
+
+from schema import ChatRequest, ChatResponse, ChatBatchRequest, ChatBatchResponse, SummaryRequest, SummaryResponse
+
+
+class StubConfig(BaseModel):
+    delay_ms: int = int(os.getenv("STUB_DELAY_MS", "0"))
+    fail_rate: float = float(os.getenv("STUB_FAIL_RATE", "0"))
+
+
+app = FastAPI()
+config = StubConfig()
+stats = {"chat": 0, "chat_batch": 0, "chat_stream": 0, "summary": 0, "failed": 0}
+
+
+async def simulate(endpoint: str):
+    stats[endpoint] += 1
+    if config.delay_ms > 0:
+        await asyncio.sleep(config.delay_ms / 1000)
+    if random.random() < config.fail_rate:
+        stats["failed"] += 1
+        raise HTTPException(status_code=500, detail="stub failure")
+
+
+@app.post("/chat", response_model=ChatResponse)
+async def chat(request: ChatRequest):
+    await simulate("chat")
+    return ChatResponse(message=f"[stub] {request.title}: {request.message}")
+
+
+# 배치 한 번에 지연 한 번 (임베딩 1회 흉내)
+@app.post("/chat/batch", response_model=ChatBatchResponse)
+async def chat_batch(request: ChatBatchRequest):
+    await simulate("chat_batch")
+    return ChatBatchResponse(responses=[
+        ChatResponse(message=f"[stub] {item.title}: {item.message}") for item in request.requests
+    ])
+
+
+# 지연 후 단어 단위로 delta 이벤트 전송
+@app.post("/chat/stream")
+async def chat_stream(request: ChatRequest):
+    await simulate("chat_stream")
+
+    async def event_stream():
+        for word in f"[stub] {request.title}: {request.message}".split(" "):
+            yield f"event: delta\ndata: {json.dumps({'text': word + ' '}, ensure_ascii=False)}\n\n"
+            await asyncio.sleep(0.05)
+        yield "event: done\ndata: {}\n\n"
+
+    return StreamingResponse(event_stream(), media_type="text/event-stream")
+
+
+@app.post("/summary", response_model=SummaryResponse)
+async def summarize_notice(request: SummaryRequest):
+    await simulate("summary")
+    return SummaryResponse(summary=f"[stub] {request.title} 요약")
+
+
+# 스텁 동작 변경 (지연/실패율)
+@app.post("/_stub/config")
+async def update_config(new_config: StubConfig):
+    global config
+    config = new_config
+    return config
+
+
+@app.get("/_stub/stats")
+async def get_stats():
+    return {"config": config, **stats}
@@ -3,12 +3,15 @@ import httpx
 from langchain_core.prompts import ChatPromptTemplate
 from dotenv import load_dotenv
 
+from errors import AnswerUnavailableError
+
 load_dotenv()
 
 async def call_summary_gemini_api(prompt_text: str):
     """
     요약 기능 전용 Gemini API 호출 함수.
     generationConfig가 없는 payload를 사용합니다.
+    실패 시 AnswerUnavailableError 를 던집니다. (오류 문구가 요약으로 저장되지 않도록)
     """
     gms_key = os.getenv("GMS_KEY")
     url = os.getenv("GMS_URL")
@@ -25,14 +28,14 @@ async def call_summary_gemini_api(prompt_text: str):
             result = response.json()
             if 'candidates' in result and result['candidates']:
                 return result['candidates'][0]['content']['parts'][0]['text'].strip()
-            return "API 응답이 비어있습니다. 다시 시도해주세요."
         except httpx.HTTPStatusError as e:
             print(f"!!! Gemini API Error (Summary): {e}")
             print(f"!!! Response Body (Summary): {e.response.text}")
-            return f"답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: {e.response.status_code})"
+            raise AnswerUnavailableError(f"답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: {e.response.status_code})") from e
         except Exception as e:
             print(f"!!! An Unexpected Error Occurred (Summary): {e}")
-            return f"답변 생성 중 예상치 못한 오류가 발생했습니다: {str(e)}"
+            raise AnswerUnavailableError(f"답변 생성 중 예상치 못한 오류가 발생했습니다: {str(e)}") from e
+    raise AnswerUnavailableError("API 응답이 비어있습니다. 다시 시도해주세요.")
 
 CHUNK_LIMIT = 15
 
@@ -0,0 +1,113 @@
+package com.ssafy14.a606.domain.chatbot.batch;
+
+import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import com.ssafy14.a606.global.fastapi.FastApiProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단건 /chat 호출 vs 마이크로 배치 /chat/batch 호출 처리량 비교
+ * - 스텁 서버는 FastAPI 를 흉내 낸다: 요청마다 임베딩 패스 고정 비용(EMBEDDING_MS),
+ *   질문당 추가 비용(PER_ITEM_MS), 동시에 처리할 수 있는 요청 수(WORKERS) 제한
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class ChatMicroBatcherBenchmark {
+
+    private static final long EMBEDDING_MS = 20;
+    private static final long PER_ITEM_MS = 1;
+    private static final int WORKERS = 4;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private FastApiClient fastApiClient;
+    private ChatMicroBatcher batcher;
+
+    private final ChatbotRequestDto request = new ChatbotRequestDto("신청 자격이 어떻게 되나요?", "행복주택 공고");
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat", exchange -> respond(exchange, 1, "{\"message\":\"ok\"}"));
+        server.createContext("/chat/batch", this::handleBatch);
+        serverExecutor = Executors.newFixedThreadPool(WORKERS);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        // 비교가 공정하도록 bulkhead/풀은 넉넉하게
+        FastApiProperties.Endpoint wide = new FastApiProperties.Endpoint(30000, 256);
+        FastApiProperties properties = new FastApiProperties(
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                1000,
+                new FastApiProperties.Pool(128, 1000, 30000, 30000, 300000),
+                null,
+                new FastApiProperties.Endpoints(wide, wide, wide, wide),
+                null
+        );
+        fastApiClient = new FastApiClient(WebClient.builder(), properties);
+        batcher = new ChatMicroBatcher(fastApiClient, true, 5, 16);
+    }
+
+    @TearDown
+    public void tearDown() {
+        batcher.shutdown();
+        fastApiClient.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ChatbotResponseDto oneByOne() {
+        return fastApiClient.post(FastApiEndpoint.CHAT, request, ChatbotResponseDto.class).block();
+    }
+
+    @Benchmark
+    public ChatbotResponseDto microBatched() {
+        return batcher.submit(request).block();
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        int items = body.split("\"message\"", -1).length - 1;
+
+        StringBuilder response = new StringBuilder("{\"responses\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) response.append(',');
+            response.append("{\"message\":\"ok\"}");
+        }
+        response.append("]}");
+        respond(exchange, items, response.toString());
+    }
+
+    private void respond(HttpExchange exchange, int items, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(EMBEDDING_MS + PER_ITEM_MS * items);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
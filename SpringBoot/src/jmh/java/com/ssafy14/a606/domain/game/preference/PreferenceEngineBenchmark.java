@@ -0,0 +1,143 @@
+package com.ssafy14.a606.domain.game.preference;
+
+import com.ssafy14.a606.domain.game.dto.request.PreferenceAnswerRequest;
+import com.ssafy14.a606.domain.game.dto.request.PreferenceResultRequest;
+import com.ssafy14.a606.domain.game.dto.response.PreferenceResultResponse;
+import com.ssafy14.a606.domain.game.enums.PreferenceOption;
+import com.ssafy14.a606.domain.game.enums.PreferenceQuestionKey;
+import com.ssafy14.a606.domain.game.enums.PreferenceType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주거 선호도 채점: 기존 switch + EnumMap 서비스 vs 가중치 표(int[][]) 엔진
+ * - 질문 6개에 무작위 선택지를 고른 설문 256개를 돌려가며 채점
+ * - 할당량까지 보려면: ./gradlew jmh -PjmhIncludes=PreferenceEngineBenchmark 후 결과의 gc.alloc.rate.norm (-prof gc)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreferenceEngineBenchmark {
+
+    // 질문별로 고를 수 있는 선택지 (PreferenceOption 선언 순서대로 3개씩)
+    private static final int OPTIONS_PER_QUESTION = 3;
+
+    private PreferenceResultRequest[] requests;
+    private PreferenceEngine engine;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        PreferenceQuestionKey[] questions = PreferenceQuestionKey.values();
+        PreferenceOption[] options = PreferenceOption.values();
+
+        requests = new PreferenceResultRequest[256];
+        for (int i = 0; i < requests.length; i++) {
+            List<PreferenceAnswerRequest> answers = new ArrayList<>(questions.length);
+            for (PreferenceQuestionKey question : questions) {
+                PreferenceOption option = options[question.ordinal() * OPTIONS_PER_QUESTION + random.nextInt(OPTIONS_PER_QUESTION)];
+                answers.add(new PreferenceAnswerRequest(question.name(), option.name()));
+            }
+            requests[i] = new PreferenceResultRequest(answers);
+        }
+        engine = new PreferenceEngine(null);
+    }
+
+    private PreferenceResultRequest next() {
+        cursor = (cursor + 1) & (requests.length - 1);
+        return requests[cursor];
+    }
+
+    @Benchmark
+    public PreferenceResultResponse legacyService() {
+        return LegacyPreferenceService.calculatePreferenceType(next());
+    }
+
+    @Benchmark
+    public PreferenceResultResponse matrixEngine() {
+        return engine.evaluate(next());
+    }
+
+    /**
+     * 변경 전 PreferenceService 구현 (비교 기준)
+     */
+    static final class LegacyPreferenceService {
+
+        static PreferenceResultResponse calculatePreferenceType(PreferenceResultRequest request) {
+            Map<PreferenceType, Integer> scoreMap = new EnumMap<>(PreferenceType.class);
+            for (PreferenceType type : PreferenceType.values()) {
+                scoreMap.put(type, 0);
+            }
+            for (PreferenceAnswerRequest answer : request.getAnswers()) {
+                applyScore(scoreMap, PreferenceQuestionKey.from(answer.getQuestionKey()),
+                        PreferenceOption.from(answer.getSelectedOption()));
+            }
+            return new PreferenceResultResponse(determineResultType(scoreMap));
+        }
+
+        private static PreferenceType determineResultType(Map<PreferenceType, Integer> scoreMap) {
+            int maxScore = scoreMap.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+            List<PreferenceType> topTypes = scoreMap.entrySet().stream()
+                    .filter(entry -> entry.getValue() == maxScore)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            return topTypes.size() > 1 ? PreferenceType.BALANCE_SEEKER : topTypes.get(0);
+        }
+
+        private static void applyScore(Map<PreferenceType, Integer> scoreMap,
+                                       PreferenceQuestionKey questionKey, PreferenceOption option) {
+            switch (questionKey) {
+                case COMMUTE_TIME -> {
+                    if (option == PreferenceOption.WITHIN_30_MIN) {
+                        scoreMap.merge(PreferenceType.STABLE_SEEKER, 2, Integer::sum);
+                        scoreMap.merge(PreferenceType.LOCATION_PRIORITY, 1, Integer::sum);
+                    } else if (option == PreferenceOption.NO_LIMIT) {
+                        scoreMap.merge(PreferenceType.FLEXIBLE_MOVER, 2, Integer::sum);
+                    }
+                }
+                case HOUSING_COST -> {
+                    if (option == PreferenceOption.MINIMIZE_COST) {
+                        scoreMap.merge(PreferenceType.COST_CONSERVATIVE, 3, Integer::sum);
+                    } else if (option == PreferenceOption.FLEXIBLE_COST) {
+                        scoreMap.merge(PreferenceType.OPPORTUNITY_SEEKER, 2, Integer::sum);
+                    }
+                }
+                case LOAN_ATTITUDE -> {
+                    if (option == PreferenceOption.AVOID_LOAN) {
+                        scoreMap.merge(PreferenceType.STABLE_SEEKER, 2, Integer::sum);
+                    } else if (option == PreferenceOption.ACTIVE_LOAN) {
+                        scoreMap.merge(PreferenceType.OPPORTUNITY_SEEKER, 2, Integer::sum);
+                    }
+                }
+                case STAY_DURATION -> {
+                    if (option == PreferenceOption.LONG_TERM) {
+                        scoreMap.merge(PreferenceType.STABLE_SEEKER, 2, Integer::sum);
+                    } else if (option == PreferenceOption.SHORT_TERM) {
+                        scoreMap.merge(PreferenceType.FLEXIBLE_MOVER, 2, Integer::sum);
+                    }
+                }
+                case RELOCATION_FLEX -> {
+                    if (option == PreferenceOption.AVOID_MOVE) {
+                        scoreMap.merge(PreferenceType.STABLE_SEEKER, 1, Integer::sum);
+                    } else if (option == PreferenceOption.FLEXIBLE_MOVE) {
+                        scoreMap.merge(PreferenceType.FLEXIBLE_MOVER, 2, Integer::sum);
+                    }
+                }
+                case SACRIFICE_PRIORITY -> {
+                    if (option == PreferenceOption.SACRIFICE_COST) {
+                        scoreMap.merge(PreferenceType.OPPORTUNITY_SEEKER, 1, Integer::sum);
+                    } else if (option == PreferenceOption.SACRIFICE_LOCATION) {
+                        scoreMap.merge(PreferenceType.COST_CONSERVATIVE, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+    }
+}
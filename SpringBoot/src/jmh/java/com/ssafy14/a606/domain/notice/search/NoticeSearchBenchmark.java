@@ -0,0 +1,133 @@
+package com.ssafy14.a606.domain.notice.search;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 공고 검색: n-gram 역색인(BM25) vs 제목/요약 전체 contains 스캔
+ * - 합성 공고 10만 건 (제목 = 연도 + 자치구 + 주택 유형 + 대상 + 모집 구분, 요약 = 안내 문장 3~5개)
+ * - 목표: 역색인 검색 p99 가 한 자릿수 ms (AverageTime 결과와 -prof 없이 비교)
+ * - 실행: ./gradlew jmh -PjmhIncludes=NoticeSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class NoticeSearchBenchmark {
+
+    private static final int NOTICES = 100_000;
+
+    private static final String[] DISTRICTS = {
+            "강남구", "강동구", "강북구", "강서구", "관악구", "광진구", "구로구", "금천구", "노원구", "도봉구",
+            "동대문구", "동작구", "마포구", "서대문구", "서초구", "성동구", "성북구", "송파구", "양천구", "영등포구",
+            "용산구", "은평구", "종로구", "중구", "중랑구"};
+    private static final String[] HOUSING = {
+            "행복주택", "청년안심주택", "국민임대", "장기전세", "매입임대주택", "전세임대", "공공임대", "신혼희망타운"};
+    private static final String[] TARGETS = {"청년", "신혼부부", "대학생", "고령자", "다자녀가구", "일반"};
+    private static final String[] ACTIONS = {
+            "입주자 모집", "예비입주자 모집", "추가 모집", "잔여세대 모집", "당첨자 발표", "서류심사 대상자 발표"};
+    private static final String[] SENTENCES = {
+            "신청 자격은 공고일 현재 무주택세대구성원입니다.",
+            "소득 기준은 전년도 도시근로자 가구당 월평균소득의 100% 이하입니다.",
+            "총자산과 자동차가액 기준을 모두 충족해야 합니다.",
+            "임대보증금과 월임대료는 주변 시세의 60~80% 수준입니다.",
+            "인터넷 청약 접수 후 서류 제출 대상자에게 개별 안내합니다.",
+            "역세권에 위치해 출퇴근이 편리합니다.",
+            "최초 2년 계약 후 재계약을 통해 최대 10년까지 거주할 수 있습니다.",
+            "전용면적 29㎡부터 59㎡까지 다양한 평형을 공급합니다.",
+            "청약통장 가입 기간과 납입 횟수에 따라 가점을 부여합니다.",
+            "당첨자는 계약 체결 전 자격 검증을 거쳐야 합니다."};
+
+    private InvertedIndex index;
+    private String[] corpus;
+    private NoticeListItemDto[] items;
+    private String[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        NoticeCategory[] categories = NoticeCategory.values();
+
+        index = new InvertedIndex(NOTICES, 2000);
+        corpus = new String[NOTICES];
+        items = new NoticeListItemDto[NOTICES];
+        for (int i = 0; i < NOTICES; i++) {
+            long id = i + 1;
+            String title = (2024 + random.nextInt(3)) + "년 " + pick(random, DISTRICTS) + " " + pick(random, HOUSING)
+                    + " " + pick(random, TARGETS) + " " + pick(random, ACTIONS) + " 공고";
+            StringBuilder summary = new StringBuilder();
+            for (int s = 3 + random.nextInt(3); s > 0; s--) {
+                summary.append(pick(random, SENTENCES)).append(' ');
+            }
+            LocalDate regDate = base.plusDays(random.nextInt(900));
+            NoticeSearchDocument document = new NoticeSearchDocument(id, title, categories[random.nextInt(categories.length)],
+                    regDate, regDate, regDate.plusDays(14 + random.nextInt(30)), null, null, summary.toString());
+            index.put(document);
+            corpus[i] = NgramTokenizer.normalize(title + " " + summary);
+            items[i] = document.toItem();
+        }
+
+        queries = new String[]{"청년 매입임대", "강동구 행복주택 예비입주자", "신혼희망타운 당첨자 발표",
+                "무주택 소득 기준", "마포구 청년안심주택", "장기전세 추가 모집", "역세권 출퇴근", "다자녀 국민임대"};
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String next() {
+        cursor = (cursor + 1) & 7;
+        return queries[cursor];
+    }
+
+    @Benchmark
+    public InvertedIndex.Result invertedIndex() {
+        return search(next(), item -> true);
+    }
+
+    // 카테고리 + 마감 전 필터 (후보 판정 때 함께 거른다)
+    @Benchmark
+    public InvertedIndex.Result invertedIndexFiltered() {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        return search(next(), item -> item.getCategory() == NoticeCategory.YOUTH_RESIDENCE
+                && !item.getEndDate().isBefore(today));
+    }
+
+    // 비교 기준: 검색어 단어가 모두 들어 있는 공고를 전부 훑어 찾는다 (랭킹 없음)
+    @Benchmark
+    public List<NoticeListItemDto> containsScan() {
+        String[] words = NgramTokenizer.normalize(next()).split(" ");
+        List<NoticeListItemDto> result = new ArrayList<>();
+        for (int i = 0; i < corpus.length; i++) {
+            boolean all = true;
+            for (String word : words) {
+                if (!corpus[i].contains(word)) {
+                    all = false;
+                    break;
+                }
+            }
+            if (all && result.size() < 20) {
+                result.add(items[i]);
+            }
+        }
+        return result;
+    }
+
+    private InvertedIndex.Result search(String query, Predicate<NoticeListItemDto> filter) {
+        String normalized = NgramTokenizer.normalize(query);
+        Set<String> bigrams = NgramTokenizer.uniqueGrams(normalized, 2);
+        Set<String> trigrams = NgramTokenizer.uniqueGrams(normalized, 3);
+        return index.search(bigrams, trigrams, filter, 0.6, 0, 20);
+    }
+}
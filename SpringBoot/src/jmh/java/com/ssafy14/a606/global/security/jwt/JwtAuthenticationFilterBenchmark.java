@@ -0,0 +1,118 @@
+package com.ssafy14.a606.global.security.jwt;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청(/api/users/me, /api/notices/favorites) 1건당 JWT 필터 처리량
+ * - claimsOnly: 현재 필터 (검증 결과 캐시 + 로컬 강제 만료 스냅샷, DB/Redis 조회 없음)
+ * - userLookup: 같은 필터 뒤에서 이전 필터가 하던 users PK 조회(loadUserByUserId)를 요청마다 추가
+ *   (인메모리 H2 라 네트워크 왕복이 없으므로 실제 MySQL 보다 차이가 작게 나온다)
+ * - 실행: ./gradlew jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("benchmark-secret-key-for-jwt-0123456789abcdef".getBytes());
+    private static final String DB_URL = "jdbc:h2:mem:filter-bench;DB_CLOSE_DELAY=-1";
+    private static final long USER_ID = 42L;
+
+    @Param({"/api/users/me", "/api/notices/favorites"})
+    public String path;
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private Connection schema;
+
+    @Setup
+    public void setUp() throws SQLException {
+        JwtProperties properties = new JwtProperties(SECRET, 1_800_000L, 1_209_600_000L);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        filter = new JwtAuthenticationFilter(provider, new TokenRevocationStore(new StringRedisTemplate(), properties));
+        token = provider.createAccessToken(USER_ID, "USER");
+
+        schema = DriverManager.getConnection(DB_URL);
+        try (Statement statement = schema.createStatement()) {
+            statement.execute("create table if not exists users ("
+                    + "id bigint primary key, login_id varchar(50), password varchar(100), role varchar(20))");
+            statement.execute("merge into users key(id) values (" + USER_ID + ", 'bench', '{bcrypt}hash', 'USER')");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        schema.close();
+    }
+
+    // 스레드별 DB 연결 (커넥션 풀에서 하나씩 빌린 상황)
+    @State(Scope.Thread)
+    public static class UserTable {
+
+        private Connection connection;
+        private PreparedStatement findById;
+
+        @Setup
+        public void open() throws SQLException {
+            connection = DriverManager.getConnection(DB_URL);
+            findById = connection.prepareStatement("select id, login_id, password, role from users where id = ?");
+        }
+
+        @TearDown
+        public void close() throws SQLException {
+            findById.close();
+            connection.close();
+        }
+
+        private String findRole(long userId) throws SQLException {
+            findById.setLong(1, userId);
+            try (ResultSet rs = findById.executeQuery()) {
+                return rs.next() ? rs.getString("role") : null;
+            }
+        }
+    }
+
+    @Benchmark
+    public Authentication claimsOnly() throws Exception {
+        return authenticate((request, response) -> {
+        });
+    }
+
+    @Benchmark
+    public Authentication userLookup(UserTable users) throws Exception {
+        return authenticate((request, response) -> {
+            try {
+                users.findRole(USER_ID);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Authentication authenticate(FilterChain chain) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy14.a606.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 access token 검증 비용 비교
+ * - before: 요청마다 파서를 새로 만들고 서명을 두 번 검증 (validateTokenOrThrow + getUserId)
+ * - reusableParser: 파서 재사용 + 1회 검증 (캐시 미스 때의 비용)
+ * - cached: 검증 결과 캐시 적중 (같은 토큰으로 반복 요청)
+ * - 실행: ./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("benchmark-secret-key-for-jwt-0123456789abcdef".getBytes());
+
+    private SecretKey key;
+    private JwtParser parser;
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        parser = Jwts.parser().verifyWith(key).build();
+        provider = new JwtTokenProvider(new JwtProperties(SECRET, 1_800_000L, 1_209_600_000L));
+        token = provider.createAccessToken(42L, "USER");
+    }
+
+    @Benchmark
+    public Long before() {
+        beforeParse(token);
+        return Long.valueOf(beforeParse(token).getSubject());
+    }
+
+    @Benchmark
+    public Long reusableParser() {
+        return Long.valueOf(parser.parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    @Benchmark
+    public Long cached() {
+        return provider.verify(token).userId();
+    }
+
+    private Claims beforeParse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}
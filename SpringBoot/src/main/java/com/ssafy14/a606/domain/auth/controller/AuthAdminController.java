@@ -0,0 +1,61 @@
+package com.ssafy14.a606.domain.auth.controller;
+
+import com.ssafy14.a606.domain.auth.dto.response.LoginProtectionStatsDto;
+import com.ssafy14.a606.domain.auth.refresh.RefreshTokenStore;
+import com.ssafy14.a606.global.security.jwt.TokenRevocationStore;
+import com.ssafy14.a606.global.security.password.PasswordHasher;
+import com.ssafy14.a606.global.security.throttle.LoginThrottle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/auth")
+@RequiredArgsConstructor
+public class AuthAdminController {
+
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
+
+    // 특정 사용자의 발급된 access token 강제 만료 + 전체 기기 로그아웃 (권한 변경/계정 정지 후 호출)
+    @PostMapping("/users/{userId}/revoke-tokens")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable Long userId) {
+        tokenRevocationStore.revokeUser(userId);
+        refreshTokenStore.deleteAll(List.of(userId));
+        return ResponseEntity.noContent().build();
+    }
+
+    // 여러 사용자 일괄 처리 (refresh 세션은 파이프라인으로 한 번에 삭제)
+    @PostMapping("/users/revoke-tokens")
+    public ResponseEntity<Void> revokeUsersTokens(@RequestBody List<Long> userIds) {
+        userIds.forEach(tokenRevocationStore::revokeUser);
+        refreshTokenStore.deleteAll(userIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    // BCrypt 실행기 포화도 / 로그인 시도 제한 현황
+    @GetMapping("/login-protection/stats")
+    public ResponseEntity<LoginProtectionStatsDto> getLoginProtectionStats() {
+        return ResponseEntity.ok(LoginProtectionStatsDto.builder()
+                .bcryptCost(passwordHasher.getTargetCost())
+                .active(passwordHasher.getActive())
+                .queued(passwordHasher.getQueued())
+                .completedCount(passwordHasher.getCompletedCount())
+                .rejectedCount(passwordHasher.getRejectedCount())
+                .timedOutCount(passwordHasher.getTimedOutCount())
+                .rehashedCount(passwordHasher.getRehashedCount())
+                .throttledCount(loginThrottle.getThrottledCount())
+                .build());
+    }
+
+    // 전체 사용자의 발급된 access token 강제 만료
+    @PostMapping("/revoke-tokens")
+    public ResponseEntity<Void> revokeAllTokens() {
+        tokenRevocationStore.revokeAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -6,14 +6,18 @@ import com.ssafy14.a606.domain.auth.dto.response.FindIdResponseDto;
 import com.ssafy14.a606.domain.auth.dto.response.TokenReissueResponseDto;
 import com.ssafy14.a606.domain.auth.dto.response.SignInResponseDto;
 import com.ssafy14.a606.domain.auth.service.AuthService;
+import com.ssafy14.a606.global.exceptions.AuthorizationException;
 import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import com.ssafy14.a606.global.security.throttle.ClientIpResolver;
+import com.ssafy14.a606.global.security.user.CustomUserDetails;
 import io.jsonwebtoken.io.IOException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -25,14 +29,17 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final ClientIpResolver clientIpResolver;
 
     // 로컬 로그인
     @PostMapping("/login")
     public ResponseEntity<SignInResponseDto> signInLocal(
              @Valid @RequestBody SignInRequestDto request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
-        SignInResponseDto result = authService.signInLocal(request, response);
+        // nginx 를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 로 제한 (ClientIpResolver)
+        SignInResponseDto result = authService.signInLocal(request, clientIpResolver.resolve(httpRequest), response);
         return ResponseEntity.ok(result);
     }
 
@@ -48,11 +55,15 @@ public class AuthController {
     // 로그아웃
     @PostMapping("/logout")
     public ResponseEntity<Map<String, String>> logout(
-            Authentication authentication,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @CookieValue(value = "refreshToken", required = false) String refreshToken,
+            @RequestParam(defaultValue = "false") boolean allDevices,
             HttpServletResponse response
     ) {
-        String loginId = authentication.getName();
-        authService.logout(loginId, response);
+        if (principal == null) {
+            throw new AuthorizationException("인증되지 않은 사용자입니다.");
+        }
+        authService.logout(principal.getUserId(), refreshToken, allDevices, response);
         return ResponseEntity.ok(Map.of("message", "LOGOUT_SUCCESS"));
     }
 
@@ -0,0 +1,22 @@
+package com.ssafy14.a606.domain.auth.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LoginProtectionStatsDto {
+
+    // BCrypt 실행기
+    private int bcryptCost;
+    private int active;
+    private int queued;
+    private long completedCount;
+    // 대기열 초과 / 대기 시간 초과로 503 처리한 수
+    private long rejectedCount;
+    private long timedOutCount;
+    private long rehashedCount;
+
+    // 시도 횟수 제한으로 429 처리한 수
+    private long throttledCount;
+}
@@ -1,43 +1,143 @@
 package com.ssafy14.a606.domain.auth.refresh;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
 
+/**
+ * 기기(세션)별 refreshToken 저장소
+ * - Redis hash refresh:{userId}, field = 세션 ID(refreshToken 의 sid claim)
+ * - value = "현재 토큰 해시|직전 토큰 해시|교체 시각(ms)|생성 시각(ms)" (원문 토큰은 저장하지 않음)
+ * - 교체(rotation)는 Lua 스크립트 한 번으로 비교+교체 → 왕복 1회, 동시 재발급 경쟁 없음
+ * - 이미 교체된 토큰이 다시 오면 재사용(탈취 의심)으로 보고 해당 세션 삭제
+ *   (단, 교체 직후 grace 시간 안에 직전 토큰이 오면 여러 탭의 동시 재발급으로 보고 거절만 함)
+ */
 @Repository
-@RequiredArgsConstructor
 public class RefreshTokenStore {
 
-    private final StringRedisTemplate redisTemplate;
-
     private static final String KEY_PREFIX = "refresh:";
 
     private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
 
-    // Redis에 저장
-    public void save(Long userId, String refreshToken) {
-        String key = KEY_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, REFRESH_TOKEN_TTL);
+    // ARGV: sid, 토큰 해시, 현재 시각(ms), 최대 세션 수, TTL(초)
+    // 세션 수가 가득 차면 가장 오래 쓰지 않은 세션을 밀어낸다
+    // 예전 형식(refresh:{userId} 문자열 키)이 남아 있으면 지우고 시작
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+                redis.call('DEL', KEYS[1])
+            end
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0
+                    and redis.call('HLEN', KEYS[1]) >= tonumber(ARGV[4]) then
+                local entries = redis.call('HGETALL', KEYS[1])
+                local oldestField, oldestAt
+                for i = 1, #entries, 2 do
+                    local _, _, rotatedAt, createdAt = string.match(entries[i + 1], '([^|]*)|([^|]*)|([^|]*)|([^|]*)')
+                    local lastUsed = math.max(tonumber(rotatedAt) or 0, tonumber(createdAt) or 0)
+                    if oldestAt == nil or lastUsed < oldestAt then
+                        oldestField, oldestAt = entries[i], lastUsed
+                    end
+                end
+                redis.call('HDEL', KEYS[1], oldestField)
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '||0|' .. ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // ARGV: sid, 제시된 토큰 해시, 새 토큰 해시, 현재 시각(ms), grace(ms), TTL(초)
+    // 반환: 1 교체, 0 세션 없음, 2 직전 토큰(동시 재발급), -1 재사용 감지 → 세션 삭제
+    private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return 0
+            end
+            local current, previous, rotatedAt, createdAt = string.match(value, '([^|]*)|([^|]*)|([^|]*)|([^|]*)')
+            if current == ARGV[2] then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. current .. '|' .. ARGV[4] .. '|' .. createdAt)
+                redis.call('EXPIRE', KEYS[1], ARGV[6])
+                return 1
+            end
+            if previous == ARGV[2] and tonumber(ARGV[4]) - tonumber(rotatedAt) <= tonumber(ARGV[5]) then
+                return 2
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSessions;
+    private final long reuseGraceMs;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${app.auth.refresh.max-sessions:10}") int maxSessions,
+                             @Value("${app.auth.refresh.reuse-grace-ms:10000}") long reuseGraceMs) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessions = maxSessions;
+        this.reuseGraceMs = reuseGraceMs;
+    }
+
+    // 로그인 시 새 세션 저장
+    public void save(Long userId, String sessionId, String refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)),
+                sessionId, hash(refreshToken), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxSessions), String.valueOf(REFRESH_TOKEN_TTL.toSeconds()));
+    }
+
+    // 재발급: 제시된 토큰이 세션의 현재 토큰이면 새 토큰으로 교체
+    public RotationResult rotate(Long userId, String sessionId, String presentedToken, String newToken) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(userId)),
+                sessionId, hash(presentedToken), hash(newToken), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(reuseGraceMs), String.valueOf(REFRESH_TOKEN_TTL.toSeconds()));
+        return RotationResult.of(result == null ? 0 : result);
+    }
+
+    // 한 기기 로그아웃
+    public void delete(Long userId, String sessionId) {
+        redisTemplate.opsForHash().delete(key(userId), sessionId);
+    }
+
+    // 여러 사용자의 모든 세션 삭제 (파이프라인으로 왕복 1회)
+    public void deleteAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deleteKeys(connection, userIds);
+            return null;
+        });
+    }
+
+    public long countSessions(Long userId) {
+        return redisTemplate.opsForHash().size(key(userId));
     }
 
-    // Redis에서 조회
-    public Optional<String> get(Long userId) {
-        String key = KEY_PREFIX + userId;
-        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    private void deleteKeys(RedisConnection connection, Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            connection.keyCommands().del(key(userId).getBytes(StandardCharsets.UTF_8));
+        }
     }
 
-    // Redis에서 삭제
-    // 로그아웃 or 강제 만료 처리 시 사용
-    public void delete(Long userId) {
-        String key = KEY_PREFIX + userId;
-        redisTemplate.delete(key);
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
     }
 
-    // 요청으로 들어온 refreshToken이 Redis에 저장된 값과 동일한지 검증
-    public boolean matches(Long userId, String refreshToken) {
-        return get(userId).map(saved -> saved.equals(refreshToken)).orElse(false);
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.ssafy14.a606.domain.auth.refresh;
+
+// refreshToken 교체 결과 (RefreshTokenStore ROTATE_SCRIPT 반환값)
+public enum RotationResult {
+    ROTATED,
+    SESSION_NOT_FOUND,
+    // 교체 직후 직전 토큰으로 다시 요청 (여러 탭 동시 재발급) → 거절만 하고 세션 유지
+    CONCURRENT,
+    // 이미 교체된 토큰 재사용 (탈취 의심) → 세션 삭제됨
+    REUSED;
+
+    static RotationResult of(long code) {
+        if (code == 1) return ROTATED;
+        if (code == 2) return CONCURRENT;
+        if (code == -1) return REUSED;
+        return SESSION_NOT_FOUND;
+    }
+}
@@ -9,14 +9,14 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public interface AuthService {
 
-    // 로컬 로그인
-    SignInResponseDto signInLocal(SignInRequestDto request, HttpServletResponse response);
+    // 로컬 로그인 (clientIp: 시도 횟수 제한용)
+    SignInResponseDto signInLocal(SignInRequestDto request, String clientIp, HttpServletResponse response);
 
     // 토큰 재발급
     TokenReissueResponseDto reissueToken(String refreshToken, HttpServletResponse response);
 
-    // 로그아웃
-    void logout(String loginId, HttpServletResponse response);
+    // 로그아웃 (refreshToken 쿠키의 기기만, allDevices 면 전체 기기)
+    void logout(Long userId, String refreshToken, boolean allDevices, HttpServletResponse response);
 
     // 아이디찾기
     FindIdResponseDto findLoginId(FindIdRequestDto requestDto);
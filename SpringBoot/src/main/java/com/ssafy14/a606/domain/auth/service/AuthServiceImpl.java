@@ -13,31 +13,45 @@ import com.ssafy14.a606.global.exceptions.AuthorizationException;
 import com.ssafy14.a606.global.exceptions.InvalidValueException;
 import com.ssafy14.a606.global.exceptions.NotFoundException;
 import com.ssafy14.a606.global.security.jwt.JwtTokenProvider;
+import com.ssafy14.a606.global.security.jwt.VerifiedToken;
+import com.ssafy14.a606.global.security.password.PasswordHasher;
+import com.ssafy14.a606.global.security.throttle.LoginThrottle;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthServiceImpl implements AuthService{
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
 
     // 로컬 로그인
+    // BCrypt 를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 (조회는 리포지토리 자체 트랜잭션, 재해시 저장만 짧은 쓰기 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
-    public SignInResponseDto signInLocal(SignInRequestDto request, HttpServletResponse response) {
+    public SignInResponseDto signInLocal(SignInRequestDto request, String clientIp, HttpServletResponse response) {
+
+        // loginId/IP 별 시도 횟수 제한 - BCrypt 를 돌리기 전에 거절 (429)
+        loginThrottle.acquire(request.getLoginId(), clientIp);
 
         User user = userRepository.findByLoginId(request.getLoginId())
                 .orElseThrow(() -> new AuthorizationException("아이디 또는 비밀번호가 올바르지 않습니다."));
@@ -45,15 +59,29 @@ public class AuthServiceImpl implements AuthService{
             throw new AuthorizationException("아이디 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        if (user.getPassword() == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // BCrypt 는 전용 실행기에서 (요청이 몰리면 503)
+        if (user.getPassword() == null || !passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new AuthorizationException("아이디 또는 비밀번호가 올바르지 않습니다.");
         }
+        loginThrottle.reset(request.getLoginId());
+
+        // 저장된 해시의 cost 가 현재 설정보다 낮으면 새 cost 로 다시 저장
+        // - 해시는 트랜잭션 밖에서 만들고, 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            String rehashed = passwordHasher.encode(request.getPassword());
+            Integer updated = transactionTemplate.execute(status ->
+                    userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed));
+            if (updated != null && updated > 0) {
+                passwordHasher.recordRehash();
+            }
+        }
 
         Long userId = user.getId();
         String role = user.getRole().name(); // enum이면 name()
 
         String accessToken = jwtTokenProvider.createAccessToken(userId, role);
-        String refreshToken = jwtTokenProvider.createRefreshToken(userId);
+        String sessionId = jwtTokenProvider.newSessionId();
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, sessionId);
 
         String userRole = "ROLE_" + user.getRole().name();
 
@@ -68,7 +96,8 @@ public class AuthServiceImpl implements AuthService{
 
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
 
-        refreshTokenStore.save(user.getId(), refreshToken);
+        // 기기별 세션으로 저장 (다른 기기의 로그인은 유지)
+        refreshTokenStore.save(user.getId(), sessionId, refreshToken);
 
         return new SignInResponseDto(accessToken, refreshToken, user.getUserName(), userRole);
     }
@@ -83,35 +112,45 @@ public class AuthServiceImpl implements AuthService{
             throw new AuthorizationException("RefreshToken이 없습니다.");
         }
 
-        // 2) + 3) 만료/유효하지 않음 분기 + userId 추출
+        // 2) + 3) 만료/유효하지 않음 분기 + userId 추출 (서명 검증 1회)
         final Long userId;
+        final String sessionId;
         try {
-            userId = jwtTokenProvider.getUserId(refreshToken);
+            VerifiedToken verified = jwtTokenProvider.verify(refreshToken);
+            if (verified.isAccessToken() || verified.sessionId() == null) {
+                throw new JwtException("JWT is not a refresh token");
+            }
+            userId = verified.userId();
+            sessionId = verified.sessionId();
         } catch (ExpiredJwtException e) {
             throw new AuthorizationException("RefreshToken이 만료되었습니다.");
         } catch (JwtException | IllegalArgumentException e) {
             throw new AuthorizationException("RefreshToken이 유효하지 않습니다.");
         }
 
-        // 4) loginId로 사용자 조회
+        // 4) 세션의 현재 토큰과 비교 후 새 토큰으로 교체 (Lua 1회, 폐기된 토큰이면 DB 를 보기 전에 거절)
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId, sessionId);
+        switch (refreshTokenStore.rotate(userId, sessionId, refreshToken, newRefreshToken)) {
+            case ROTATED -> {
+            }
+            case CONCURRENT -> throw new AuthorizationException("이미 재발급된 RefreshToken입니다.");
+            case REUSED -> {
+                log.warn("Refresh token reuse detected. userId={}, sessionId={}", userId, sessionId);
+                throw new AuthorizationException("RefreshToken이 만료되었거나 유효하지 않습니다.");
+            }
+            default -> throw new AuthorizationException("RefreshToken이 만료되었거나 유효하지 않습니다.");
+        }
+
+        // 5) userId로 사용자 조회 (role 은 DB 최신값으로 발급)
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AuthorizationException("사용자 정보를 찾을 수 없습니다."));
 
         String role = user.getRole().name();
 
-        // 5) Redis 저장값과 일치 확인 (rotation 검증)
-        if (!refreshTokenStore.matches(userId, refreshToken)) {
-            throw new AuthorizationException("RefreshToken이 만료되었거나 유효하지 않습니다.");
-        }
-
-        // 6) 새 access/refresh 발급
+        // 6) 새 access 발급
         String newAccessToken = jwtTokenProvider.createAccessToken(userId, role);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId);
-
-        // 7) Redis 덮어쓰기 (기존 refresh 폐기)
-        refreshTokenStore.save(userId, newRefreshToken);
 
-        // 8) refreshToken 쿠키 교체
+        // 7) refreshToken 쿠키 교체
         ResponseCookie cookie = ResponseCookie.from("refreshToken", newRefreshToken)
                 .httpOnly(true)
                 .secure(true)      // 운영 https: true
@@ -127,15 +166,19 @@ public class AuthServiceImpl implements AuthService{
 
     // 로그아웃
     @Override
-    public void logout(String loginId, HttpServletResponse response) {
-
-        // 1) DB에서 userId 얻기
-        Long userId = userRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new AuthorizationException("인증되지 않은 사용자입니다."))
-                .getId();
-
-        // 2) Redis에서 refreshToken 삭제
-        refreshTokenStore.delete(userId);
+    public void logout(Long userId, String refreshToken, boolean allDevices, HttpServletResponse response) {
+
+        // 1) userId 는 access token claim 에서 (DB 조회 없음)
+        // 2) Redis에서 refreshToken 삭제 - allDevices 면 전체, 아니면 쿠키의 세션(이 기기)만
+        //    (쿠키가 없거나 세션을 알 수 없으면 지울 세션도 없음 - 다른 기기는 건드리지 않는다)
+        if (allDevices) {
+            refreshTokenStore.deleteAll(List.of(userId));
+        } else {
+            String sessionId = sessionIdOf(userId, refreshToken);
+            if (sessionId != null) {
+                refreshTokenStore.delete(userId, sessionId);
+            }
+        }
 
         // 3) refreshToken 쿠키 만료
         ResponseCookie expiredCookie = ResponseCookie.from("refreshToken", "")
@@ -149,6 +192,19 @@ public class AuthServiceImpl implements AuthService{
         response.addHeader("Set-Cookie", expiredCookie.toString());
     }
 
+    // 쿠키의 refreshToken 에서 이 기기의 세션 ID 추출 (없거나 다른 사용자 것이면 null)
+    private String sessionIdOf(Long userId, String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return null;
+        }
+        try {
+            VerifiedToken verified = jwtTokenProvider.verify(refreshToken);
+            return userId.equals(verified.userId()) ? verified.sessionId() : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // 아이디찾기
     @Override
     public FindIdResponseDto findLoginId(FindIdRequestDto requestDto) {
@@ -0,0 +1,185 @@
+package com.ssafy14.a606.domain.chatbot.batch;
+
+import com.ssafy14.a606.domain.chatbot.dto.request.ChatBatchRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatBatchResponseDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatBatchStatsDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 챗봇 질문 마이크로 배처
+ * - 첫 질문이 들어오면 windowMs 동안(또는 maxSize 개가 모일 때까지) 모아서 FastAPI /chat/batch 한 번으로 보낸다.
+ * - FastAPI 는 모인 질문을 한 번의 임베딩 패스로 처리하고, 답변을 요청 순서대로 돌려준다.
+ * - 배치 호출이 실패하면 그 배치의 모든 요청에 같은 오류를 전달 (fallback 은 호출한 쪽에서)
+ */
+@Slf4j
+@Component
+public class ChatMicroBatcher {
+
+    private record Pending(ChatbotRequestDto request, MonoSink<ChatbotResponseDto> sink) {
+    }
+
+    private final FastApiClient fastApiClient;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxSize;
+
+    private final ScheduledExecutorService timer;
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder sizeFlushes = new LongAdder();
+    private final LongAdder windowFlushes = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    public ChatMicroBatcher(FastApiClient fastApiClient,
+                            @Value("${app.chatbot.batch.enabled:true}") boolean enabled,
+                            @Value("${app.chatbot.batch.window-ms:5}") long windowMs,
+                            @Value("${app.chatbot.batch.max-size:16}") int maxSize) {
+        this.fastApiClient = fastApiClient;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxSize = maxSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<ChatbotResponseDto> submit(ChatbotRequestDto request) {
+        return Mono.create(sink -> {
+            Pending entry = new Pending(request, sink);
+            List<Pending> ready = null;
+
+            // 아직 보내기 전에 취소되면 배치에서 뺀다 (이미 보냈으면 결과만 버려짐)
+            // - 큐에 넣기 전에 등록해야 타이머가 먼저 보내더라도 취소를 놓치지 않는다
+            sink.onCancel(() -> {
+                synchronized (lock) {
+                    pending.remove(entry);
+                }
+            });
+
+            synchronized (lock) {
+                pending.add(entry);
+                if (pending.size() >= maxSize) {
+                    ready = drain();
+                    sizeFlushes.increment();
+                } else if (pending.size() == 1) {
+                    scheduledFlush = timer.schedule(this::flushOnWindow, windowMs, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (ready != null) {
+                send(ready);
+            }
+        });
+    }
+
+    public ChatBatchStatsDto getStats() {
+        long batchCount = batches.sum();
+        long requestCount = requests.sum();
+
+        int pendingCount;
+        synchronized (lock) {
+            pendingCount = pending.size();
+        }
+
+        return ChatBatchStatsDto.builder()
+                .enabled(enabled)
+                .windowMs(windowMs)
+                .maxSize(maxSize)
+                .pending(pendingCount)
+                .batchCount(batchCount)
+                .requestCount(requestCount)
+                .avgBatchSize(batchCount == 0 ? 0.0 : (double) requestCount / batchCount)
+                .sizeFlushCount(sizeFlushes.sum())
+                .windowFlushCount(windowFlushes.sum())
+                .failedBatchCount(failedBatches.sum())
+                .build();
+    }
+
+    private void flushOnWindow() {
+        List<Pending> ready;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                scheduledFlush = null;
+                return;
+            }
+            ready = drain();
+        }
+        windowFlushes.increment();
+        send(ready);
+    }
+
+    // lock 안에서 호출
+    private List<Pending> drain() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<Pending> batch) {
+        batches.increment();
+        requests.add(batch.size());
+
+        ChatBatchRequestDto body = new ChatBatchRequestDto(batch.stream().map(Pending::request).toList());
+        fastApiClient.post(FastApiEndpoint.CHAT_BATCH, body, ChatBatchResponseDto.class)
+                .switchIfEmpty(Mono.error(new IllegalStateException("배치 응답이 비어 있습니다.")))
+                .subscribe(
+                        response -> distribute(batch, response),
+                        error -> fail(batch, error)
+                );
+    }
+
+    private void distribute(List<Pending> batch, ChatBatchResponseDto response) {
+        List<ChatbotResponseDto> responses = response.getResponses();
+        if (responses == null || responses.size() != batch.size()) {
+            fail(batch, new IllegalStateException(
+                    "배치 응답 개수가 요청과 다릅니다. requested=" + batch.size()
+                            + ", received=" + (responses == null ? 0 : responses.size())));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).sink().success(responses.get(i));
+        }
+    }
+
+    private void fail(List<Pending> batch, Throwable error) {
+        failedBatches.increment();
+        log.warn("Chat batch failed. size={}, reason={}", batch.size(), error.getMessage());
+        batch.forEach(entry -> entry.sink().error(error));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,271 @@
+package com.ssafy14.a606.domain.chatbot.cache;
+
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatAnswerCacheStatsDto;
+import com.ssafy14.a606.domain.chatbot.store.ChatAnswerStore;
+import com.ssafy14.a606.domain.chatbot.util.ChatQuestionNormalizer;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 챗봇 답변 2단 캐시
+ * - L1: 인스턴스 로컬 LRU (TTL), L2: Redis (ChatAnswerStore)
+ * - 키: (공고 제목, 정규화된 질문)
+ * - 공고가 수정/삭제되면 해당 제목의 캐시 전체를 비우고, pub/sub 으로 다른 인스턴스 L1 도 비운다.
+ * - 조회(get) 때 받은 Lookup 을 저장(put)에 그대로 넘긴다. 그 사이에 무효화가 있었으면
+ *   L1(로컬 무효화 epoch)과 L2(Redis 제목 세대) 모두 저장하지 않는다.
+ * - Redis 장애는 캐시 미스로 취급 (챗봇 응답은 계속)
+ */
+@Slf4j
+@Component
+public class ChatAnswerCache implements MessageListener {
+
+    private record CacheKey(String title, String question) {
+    }
+
+    private record LocalEntry(String answer, long expiresAtNanos) {
+    }
+
+    /**
+     * 조회 결과 (미스면 answer 가 null)
+     * - generation: 조회 시점의 Redis 제목 세대 (Redis 오류/로컬 적중이면 UNKNOWN_GENERATION → Redis 에 저장하지 않음)
+     * - epoch: 조회 시점의 로컬 무효화 횟수
+     */
+    public record Lookup(String answer, long generation, long epoch) {
+
+        public boolean hit() {
+            return answer != null;
+        }
+    }
+
+    static final long UNKNOWN_GENERATION = -1L;
+
+    private final ChatAnswerStore chatAnswerStore;
+    private final int localMaxEntries;
+    private final long localTtlNanos;
+    private final Duration redisTtl;
+    private final long maxEntriesPerTitle;
+
+    // access-order LinkedHashMap = LRU
+    private final LinkedHashMap<CacheKey, LocalEntry> local;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder upstreamLatencyMs = new LongAdder();
+    private final LongAdder latencySavedMs = new LongAdder();
+
+    // 이 인스턴스에서 로컬 캐시를 비운 횟수 (제목 무관, 무효화는 드물어서 전역 하나로 충분)
+    private final AtomicLong localEpoch = new AtomicLong();
+
+    public ChatAnswerCache(ChatAnswerStore chatAnswerStore,
+                           RedisMessageListenerContainer listenerContainer,
+                           @Value("${app.chatbot.cache.local-max-entries:1000}") int localMaxEntries,
+                           @Value("${app.chatbot.cache.local-ttl-ms:600000}") long localTtlMs,
+                           @Value("${app.chatbot.cache.redis-ttl-ms:86400000}") long redisTtlMs,
+                           @Value("${app.chatbot.cache.max-entries-per-title:1000}") long maxEntriesPerTitle) {
+        this.chatAnswerStore = chatAnswerStore;
+        this.localMaxEntries = localMaxEntries;
+        this.localTtlNanos = Duration.ofMillis(localTtlMs).toNanos();
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        this.maxEntriesPerTitle = maxEntriesPerTitle;
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, LocalEntry> eldest) {
+                return size() > ChatAnswerCache.this.localMaxEntries;
+            }
+        };
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(ChatAnswerStore.INVALIDATE_CHANNEL));
+    }
+
+    public Lookup get(String title, String message) {
+        // epoch 는 로컬 조회보다 먼저 읽는다 (조회 이후의 무효화를 놓치지 않도록)
+        long epoch = localEpoch.get();
+        CacheKey key = key(title, message);
+        if (key == null) {
+            return new Lookup(null, UNKNOWN_GENERATION, epoch);
+        }
+
+        String answer = getLocal(key);
+        if (answer != null) {
+            localHits.increment();
+            recordSaved();
+            return new Lookup(answer, UNKNOWN_GENERATION, epoch);
+        }
+
+        long generation = UNKNOWN_GENERATION;
+        try {
+            ChatAnswerStore.Lookup stored = chatAnswerStore.get(key.title(), key.question());
+            if (stored.answer() != null) {
+                redisHits.increment();
+                recordSaved();
+                putLocal(key, stored.answer(), epoch);
+                return new Lookup(stored.answer(), stored.generation(), epoch);
+            }
+            generation = stored.generation();
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Chat answer cache lookup failed: {}", e.getMessage());
+        }
+
+        misses.increment();
+        return new Lookup(null, generation, epoch);
+    }
+
+    /**
+     * FastAPI 응답 저장
+     * - lookup: 같은 요청의 get 결과. 그 이후 무효화가 있었으면 저장하지 않는다.
+     * - Redis 쓰기는 응답 스레드(Netty 이벤트 루프)를 막지 않도록 별도 스케줄러에서 수행
+     */
+    public void put(String title, String message, Lookup lookup, String answer, long upstreamLatency) {
+        upstreamCalls.increment();
+        upstreamLatencyMs.add(upstreamLatency);
+
+        CacheKey key = key(title, message);
+        if (key == null || answer == null || answer.isBlank()) {
+            return;
+        }
+
+        if (!putLocal(key, answer, lookup.epoch())) {
+            return;
+        }
+        if (lookup.generation() == UNKNOWN_GENERATION) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                boolean saved = chatAnswerStore.save(key.title(), key.question(), answer, redisTtl,
+                        maxEntriesPerTitle, lookup.generation());
+                if (!saved) {
+                    // 제목당 한도 초과 또는 조회 이후 다른 인스턴스에서 무효화됨
+                    log.debug("Chat answer not stored in Redis. title={}", key.title());
+                }
+            } catch (DataAccessException e) {
+                redisErrors.increment();
+                log.warn("Chat answer cache store failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 제목 단위 무효화 (Redis 삭제 + 다른 인스턴스에 알림)
+    public void invalidateTitle(String title) {
+        if (title == null) return;
+
+        String trimmed = title.trim();
+        invalidations.increment();
+        evictLocal(trimmed);
+        try {
+            chatAnswerStore.deleteTitle(trimmed);
+        } catch (DataAccessException e) {
+            redisErrors.increment();
+            log.warn("Chat answer cache invalidation failed. title={}, reason={}", title, e.getMessage());
+        }
+    }
+
+    // 공고 수정/삭제 커밋 후 이전 제목 기준으로 무효화
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.type() == NoticeChangedEvent.ChangeType.UPDATED
+                || event.type() == NoticeChangedEvent.ChangeType.DELETED) {
+            invalidateTitle(event.previousTitle());
+        }
+    }
+
+    // 다른 인스턴스에서 보낸 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    public ChatAnswerCacheStatsDto getStats() {
+        long localHitCount = localHits.sum();
+        long redisHitCount = redisHits.sum();
+        long missCount = misses.sum();
+        long total = localHitCount + redisHitCount + missCount;
+        long calls = upstreamCalls.sum();
+
+        int localSize;
+        synchronized (local) {
+            localSize = local.size();
+        }
+
+        return ChatAnswerCacheStatsDto.builder()
+                .localEntryCount(localSize)
+                .localHitCount(localHitCount)
+                .redisHitCount(redisHitCount)
+                .missCount(missCount)
+                .hitRate(total == 0 ? 0.0 : (double) (localHitCount + redisHitCount) / total)
+                .redisErrorCount(redisErrors.sum())
+                .invalidationCount(invalidations.sum())
+                .avgUpstreamLatencyMs(calls == 0 ? 0 : upstreamLatencyMs.sum() / calls)
+                .estimatedLatencySavedMs(latencySavedMs.sum())
+                .build();
+    }
+
+    private CacheKey key(String title, String message) {
+        String question = ChatQuestionNormalizer.normalize(message);
+        if (question.isEmpty()) {
+            return null;
+        }
+        return new CacheKey(title == null ? "" : title.trim(), question);
+    }
+
+    private String getLocal(CacheKey key) {
+        synchronized (local) {
+            LocalEntry entry = local.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+                local.remove(key);
+                return null;
+            }
+            return entry.answer();
+        }
+    }
+
+    // 조회 이후 로컬 무효화가 있었으면 넣지 않음 (epoch 비교와 삽입을 같은 락 안에서)
+    private boolean putLocal(CacheKey key, String answer, long epoch) {
+        synchronized (local) {
+            if (localEpoch.get() != epoch) {
+                return false;
+            }
+            local.put(key, new LocalEntry(answer, System.nanoTime() + localTtlNanos));
+            return true;
+        }
+    }
+
+    private void evictLocal(String title) {
+        String trimmed = title.trim();
+        synchronized (local) {
+            localEpoch.incrementAndGet();
+            local.keySet().removeIf(key -> key.title().equals(trimmed));
+        }
+    }
+
+    private void recordSaved() {
+        long calls = upstreamCalls.sum();
+        if (calls > 0) {
+            latencySavedMs.add(upstreamLatencyMs.sum() / calls);
+        }
+    }
+}
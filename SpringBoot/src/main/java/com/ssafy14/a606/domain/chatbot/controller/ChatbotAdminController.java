@@ -0,0 +1,46 @@
+package com.ssafy14.a606.domain.chatbot.controller;
+
+import com.ssafy14.a606.domain.chatbot.batch.ChatMicroBatcher;
+import com.ssafy14.a606.domain.chatbot.cache.ChatAnswerCache;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatBatchStatsDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatAnswerCacheStatsDto;
+import com.ssafy14.a606.domain.chatbot.service.ChatbotService;
+import com.ssafy14.a606.global.dto.SingleFlightStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/chatbot")
+@RequiredArgsConstructor
+public class ChatbotAdminController {
+
+    private final ChatAnswerCache chatAnswerCache;
+    private final ChatbotService chatbotService;
+    private final ChatMicroBatcher chatMicroBatcher;
+
+    // 답변 캐시 적중률 / 절약한 지연시간 조회
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ChatAnswerCacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(chatAnswerCache.getStats());
+    }
+
+    // 공고 제목 단위 답변 캐시 무효화
+    @DeleteMapping("/cache")
+    public ResponseEntity<Void> invalidateCache(@RequestParam String title) {
+        chatAnswerCache.invalidateTitle(title);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 마이크로 배치 현황 (평균 배치 크기, 전송 사유)
+    @GetMapping("/batch/stats")
+    public ResponseEntity<ChatBatchStatsDto> getBatchStats() {
+        return ResponseEntity.ok(chatMicroBatcher.getStats());
+    }
+
+    // 동시 동일 질문 합치기(single-flight) 현황
+    @GetMapping("/single-flight/stats")
+    public ResponseEntity<SingleFlightStatsDto> getSingleFlightStats() {
+        return ResponseEntity.ok(chatbotService.getSingleFlightStats());
+    }
+}
@@ -1,13 +1,17 @@
 package com.ssafy14.a606.domain.chatbot.controller;
 
 import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatStreamChunkDto;
 import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
 import com.ssafy14.a606.domain.chatbot.service.ChatbotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -21,4 +25,10 @@ public class ChatbotController {
     public Mono<ChatbotResponseDto> chat(@RequestBody ChatbotRequestDto requestDto) {
         return chatbotService.getResponse(requestDto);
     }
+
+    // 답변을 생성되는 대로 SSE 로 전달 (클라이언트가 끊으면 FastAPI 호출도 취소)
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatStreamChunkDto>> chatStream(@RequestBody ChatbotRequestDto requestDto) {
+        return chatbotService.streamResponse(requestDto);
+    }
 }
\ No newline at end of file
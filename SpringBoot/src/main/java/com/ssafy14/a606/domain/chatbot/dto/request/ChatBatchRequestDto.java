@@ -0,0 +1,14 @@
+package com.ssafy14.a606.domain.chatbot.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBatchRequestDto {
+    private List<ChatbotRequestDto> requests;
+}
@@ -0,0 +1,20 @@
+package com.ssafy14.a606.domain.chatbot.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChatAnswerCacheStatsDto {
+
+    private int localEntryCount;
+    private long localHitCount;
+    private long redisHitCount;
+    private long missCount;
+    private double hitRate;
+    private long redisErrorCount;
+    private long invalidationCount;
+    private long avgUpstreamLatencyMs;
+    // 캐시 적중 시 FastAPI 평균 응답시간만큼 아낀 것으로 추정
+    private long estimatedLatencySavedMs;
+}
@@ -0,0 +1,15 @@
+package com.ssafy14.a606.domain.chatbot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 요청 순서와 같은 순서의 답변 목록
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBatchResponseDto {
+    private List<ChatbotResponseDto> responses;
+}
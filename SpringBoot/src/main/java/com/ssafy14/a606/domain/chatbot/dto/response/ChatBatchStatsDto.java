@@ -0,0 +1,21 @@
+package com.ssafy14.a606.domain.chatbot.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChatBatchStatsDto {
+
+    private boolean enabled;
+    private long windowMs;
+    private int maxSize;
+    private int pending;
+    private long batchCount;
+    private long requestCount;
+    private double avgBatchSize;
+    // 크기 도달로 보낸 배치 / 대기 시간 만료로 보낸 배치
+    private long sizeFlushCount;
+    private long windowFlushCount;
+    private long failedBatchCount;
+}
@@ -0,0 +1,13 @@
+package com.ssafy14.a606.domain.chatbot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스트리밍 답변 조각 (SSE data)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatStreamChunkDto {
+    private String text;
+}
@@ -1,12 +1,20 @@
 package com.ssafy14.a606.domain.chatbot.dto.response;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class ChatbotResponseDto {
     private String message;
+
+    // FastAPI /chat/batch 항목 실패 (Gemini 오류 / DB 미연결) → message 는 오류 문구, 캐시하지 않음
+    // 받기만 하고 클라이언트 응답에는 내보내지 않는다
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private boolean error;
+
+    public ChatbotResponseDto(String message) {
+        this.message = message;
+    }
 }
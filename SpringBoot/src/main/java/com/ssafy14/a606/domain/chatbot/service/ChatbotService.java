@@ -2,8 +2,17 @@ package com.ssafy14.a606.domain.chatbot.service;
 
 import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
 import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatStreamChunkDto;
+import com.ssafy14.a606.global.dto.SingleFlightStatsDto;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ChatbotService {
     Mono<ChatbotResponseDto> getResponse(ChatbotRequestDto requestDto);
+
+    // SSE 스트리밍 답변 (event: delta / done / error)
+    Flux<ServerSentEvent<ChatStreamChunkDto>> streamResponse(ChatbotRequestDto requestDto);
+
+    SingleFlightStatsDto getSingleFlightStats();
 }
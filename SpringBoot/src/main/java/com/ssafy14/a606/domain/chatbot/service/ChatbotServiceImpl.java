@@ -1,27 +1,183 @@
 package com.ssafy14.a606.domain.chatbot.service;
 
+import com.ssafy14.a606.domain.chatbot.batch.ChatMicroBatcher;
+import com.ssafy14.a606.domain.chatbot.cache.ChatAnswerCache;
 import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
 import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import com.ssafy14.a606.global.fastapi.AdmissionLimiter;
+import com.ssafy14.a606.global.fastapi.AdmissionPriority;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import com.ssafy14.a606.domain.chatbot.util.ChatQuestionNormalizer;
+import com.ssafy14.a606.global.dto.SingleFlightStatsDto;
+import com.ssafy14.a606.global.util.SingleFlight;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatStreamChunkDto;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
 @Service
 public class ChatbotServiceImpl implements ChatbotService {
 
-    private final WebClient webClient;
+    // FastAPI 장애/혼잡 시 응답 (캐시하지 않도록 인스턴스로 구분)
+    private static final String FALLBACK_MESSAGE = "지금은 상담 요청이 많아 답변을 드리기 어렵습니다. 잠시 후 다시 시도해 주세요.";
+    private static final ChatbotResponseDto FALLBACK_RESPONSE = new ChatbotResponseDto(FALLBACK_MESSAGE);
+
+    private static final String EVENT_DELTA = "delta";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
+    private static final ParameterizedTypeReference<ServerSentEvent<ChatStreamChunkDto>> CHUNK_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final FastApiClient fastApiClient;
+    private final ChatAnswerCache chatAnswerCache;
+    private final ChatMicroBatcher chatMicroBatcher;
+    private final AdmissionLimiter admissionLimiter;
 
-    public ChatbotServiceImpl(WebClient.Builder webClientBuilder, @Value("${fastapi.url}") String fastApiUrl) {
-        this.webClient = webClientBuilder.baseUrl(fastApiUrl).build();
+    // 같은 공고에 같은 질문이 동시에 몰리면 /chat 호출 한 번으로 합침
+    private final SingleFlight<String, ChatbotResponseDto> singleFlight;
+
+    public ChatbotServiceImpl(FastApiClient fastApiClient,
+                              ChatAnswerCache chatAnswerCache,
+                              ChatMicroBatcher chatMicroBatcher,
+                              AdmissionLimiter admissionLimiter,
+                              @Value("${app.chatbot.single-flight.max-wait-ms:30000}") long maxWaitMs,
+                              @Value("${app.chatbot.single-flight.max-fan-out:100}") int maxFanOut) {
+        this.fastApiClient = fastApiClient;
+        this.chatAnswerCache = chatAnswerCache;
+        this.chatMicroBatcher = chatMicroBatcher;
+        this.admissionLimiter = admissionLimiter;
+        this.singleFlight = new SingleFlight<>(Duration.ofMillis(maxWaitMs), maxFanOut);
     }
 
     @Override
     public Mono<ChatbotResponseDto> getResponse(ChatbotRequestDto requestDto) {
-        return webClient.post()
-                .uri("/chat") // Assuming the FastAPI endpoint is /chat
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(ChatbotResponseDto.class);
+        AdmissionPriority priority = currentPriority();
+        return Mono.defer(() -> {
+            ChatAnswerCache.Lookup cached = chatAnswerCache.get(requestDto.getTitle(), requestDto.getMessage());
+            if (cached.hit()) {
+                return Mono.just(new ChatbotResponseDto(cached.answer()));
+            }
+
+            return singleFlight.execute(flightKey(requestDto), () -> requestAnswer(requestDto, priority, cached));
+        });
+    }
+
+    /**
+     * FastAPI /chat/stream 이벤트를 그대로 중계
+     * - 캐시에 답변이 있으면 한 번에 보내고 끝
+     * - done 이벤트까지 받고 error 이벤트가 없었던 답변만 캐시에 저장 (FastAPI 는 Gemini 실패/DB 미연결을 error 로 보냄)
+     * - 아무것도 보내기 전에 실패하면 fallback 문구, 중간에 실패하면 error 이벤트
+     * - 과부하로 진입이 거절되면 error 이벤트 + SSE retry 필드로 재시도 간격 안내
+     */
+    @Override
+    public Flux<ServerSentEvent<ChatStreamChunkDto>> streamResponse(ChatbotRequestDto requestDto) {
+        AdmissionPriority priority = currentPriority();
+        return Flux.defer(() -> {
+            ChatAnswerCache.Lookup cached = chatAnswerCache.get(requestDto.getTitle(), requestDto.getMessage());
+            if (cached.hit()) {
+                return Flux.just(event(EVENT_DELTA, cached.answer()), event(EVENT_DONE, null));
+            }
+
+            long startedAt = System.nanoTime();
+            StringBuilder answer = new StringBuilder();
+            AtomicBoolean upstreamError = new AtomicBoolean();
+            AtomicBoolean upstreamDone = new AtomicBoolean();
+
+            return admissionLimiter.admitMany(priority,
+                            () -> fastApiClient.stream(FastApiEndpoint.CHAT_STREAM, requestDto, CHUNK_EVENT_TYPE))
+                    .doOnNext(event -> {
+                        if (EVENT_ERROR.equals(event.event())) {
+                            upstreamError.set(true);
+                        } else if (EVENT_DONE.equals(event.event())) {
+                            upstreamDone.set(true);
+                        } else if (EVENT_DELTA.equals(event.event()) && event.data() != null && event.data().getText() != null) {
+                            answer.append(event.data().getText());
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        if (upstreamDone.get() && !upstreamError.get() && !answer.isEmpty()) {
+                            chatAnswerCache.put(requestDto.getTitle(), requestDto.getMessage(), cached,
+                                    answer.toString(), (System.nanoTime() - startedAt) / 1_000_000L);
+                        }
+                    })
+                    .onErrorResume(e -> {
+                        if (e instanceof ServiceOverloadedException overloaded) {
+                            return Flux.just(ServerSentEvent.<ChatStreamChunkDto>builder()
+                                    .event(EVENT_ERROR)
+                                    .retry(Duration.ofSeconds(overloaded.getRetryAfterSeconds()))
+                                    .data(new ChatStreamChunkDto(overloaded.getMessage()))
+                                    .build());
+                        }
+                        log.warn("Chat stream failed: {}", e.getMessage());
+                        if (answer.isEmpty()) {
+                            return Flux.just(event(EVENT_DELTA, FALLBACK_MESSAGE), event(EVENT_DONE, null));
+                        }
+                        return Flux.just(event(EVENT_ERROR, FALLBACK_MESSAGE));
+                    });
+        });
+    }
+
+    @Override
+    public SingleFlightStatsDto getSingleFlightStats() {
+        return singleFlight.getStats();
+    }
+
+    /**
+     * 마이크로 배처가 켜져 있으면 /chat/batch 로 모아서, 아니면 /chat 단건 호출
+     * - 진입 제어(AdmissionLimiter)를 통과해야 호출하고, 과부하 거절은 fallback 없이 503 으로 올려보낸다.
+     */
+    private Mono<ChatbotResponseDto> requestAnswer(ChatbotRequestDto requestDto, AdmissionPriority priority,
+                                                   ChatAnswerCache.Lookup cached) {
+        long startedAt = System.nanoTime();
+        Mono<ChatbotResponseDto> upstream = admissionLimiter.admit(priority, () -> chatMicroBatcher.isEnabled()
+                        ? chatMicroBatcher.submit(requestDto)
+                        : fastApiClient.post(FastApiEndpoint.CHAT, requestDto, ChatbotResponseDto.class))
+                // 배치 항목 실패(error=true)는 단건 /chat 의 5xx 와 똑같이 fallback (캐시하지 않음)
+                .map(response -> response.isError() ? FALLBACK_RESPONSE : response)
+                .onErrorResume(e -> e instanceof ServiceOverloadedException
+                        ? Mono.error(e)
+                        : Mono.just(FALLBACK_RESPONSE));
+
+        return upstream
+                .doOnNext(response -> {
+                    if (response != FALLBACK_RESPONSE) {
+                        chatAnswerCache.put(requestDto.getTitle(), requestDto.getMessage(), cached,
+                                response.getMessage(), (System.nanoTime() - startedAt) / 1_000_000L);
+                    }
+                });
+    }
+
+    private static ServerSentEvent<ChatStreamChunkDto> event(String name, String text) {
+        return ServerSentEvent.<ChatStreamChunkDto>builder()
+                .event(name)
+                .data(new ChatStreamChunkDto(text))
+                .build();
+    }
+
+    // 로그인 사용자의 질문을 비로그인보다 먼저 처리 (요청 스레드에서 판단)
+    private static AdmissionPriority currentPriority() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        return authenticated ? AdmissionPriority.USER : AdmissionPriority.ANONYMOUS;
+    }
+
+    // 답변 캐시와 같은 기준 (제목 + 정규화된 질문)
+    private String flightKey(ChatbotRequestDto requestDto) {
+        String title = requestDto.getTitle() == null ? "" : requestDto.getTitle().trim();
+        return title + '\n' + ChatQuestionNormalizer.normalize(requestDto.getMessage());
     }
 }
@@ -0,0 +1,101 @@
+package com.ssafy14.a606.domain.chatbot.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 챗봇 답변 Redis 저장소
+ * - 공고 제목별 해시 하나 (field: 정규화된 질문, value: 답변) → 제목 단위 무효화는 DEL 한 번
+ * - 제목별 세대(generation) 키: 무효화마다 1 씩 올린다. 조회 시점의 세대를 저장 때 다시 비교해서
+ *   무효화 이전에 시작된 저장이 지워진 답변을 되살리지 못하게 한다. (세대 키는 만료 없이 제목 수만큼 남는다)
+ * - 저장(한도 확인 + HSET + PEXPIRE + 세대 비교)과 무효화(DEL + INCR)는 각각 Lua 스크립트 한 번
+ * - 다른 인스턴스의 로컬 캐시는 INVALIDATE_CHANNEL 메시지로 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatAnswerStore {
+
+    private static final String KEY_PREFIX = "chat:answer:";
+    private static final String GENERATION_KEY_PREFIX = "chat:answer-gen:";
+    public static final String INVALIDATE_CHANNEL = "chat:answer:invalidate";
+
+    // KEYS: 답변 해시, 세대 키 / ARGV: 질문, 답변, TTL(ms), 제목당 최대 질문 수, 조회 시점 세대
+    // 반환: 1 저장, 0 질문 수 한도 초과, -1 조회 이후 무효화됨
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[5]) then
+                return -1
+            end
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0
+                    and redis.call('HLEN', KEYS[1]) >= tonumber(ARGV[4]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: 답변 해시, 세대 키 / 반환: 새 세대
+    private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            return redis.call('INCR', KEYS[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 조회 결과
+     * - answer: 없으면 null
+     * - generation: 조회 시점의 제목 세대 (저장 때 그대로 넘긴다)
+     */
+    public record Lookup(String answer, long generation) {
+    }
+
+    private String key(String title) {
+        return KEY_PREFIX + title;
+    }
+
+    private String generationKey(String title) {
+        return GENERATION_KEY_PREFIX + title;
+    }
+
+    // 답변과 세대를 파이프라인으로 한 번에 (왕복 1회)
+    public Lookup get(String title, String question) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hGet(bytes(key(title)), bytes(question));
+            connection.stringCommands().get(bytes(generationKey(title)));
+            return null;
+        });
+        String answer = (String) results.get(0);
+        String generation = (String) results.get(1);
+        return new Lookup(answer, generation == null ? 0L : Long.parseLong(generation));
+    }
+
+    /**
+     * 조회 시점 세대가 그대로일 때만 저장
+     * - 제목당 질문 수가 maxEntriesPerTitle 에 닿으면 새 질문은 저장하지 않음 (이미 있는 질문은 갱신)
+     * - @return 저장했으면 true
+     */
+    public boolean save(String title, String question, String answer, Duration ttl,
+                        long maxEntriesPerTitle, long generation) {
+        Long result = redisTemplate.execute(SAVE_SCRIPT, List.of(key(title), generationKey(title)),
+                question, answer, String.valueOf(ttl.toMillis()),
+                String.valueOf(maxEntriesPerTitle), String.valueOf(generation));
+        return result != null && result == 1L;
+    }
+
+    public void deleteTitle(String title) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, List.of(key(title), generationKey(title)));
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, title);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy14.a606.domain.chatbot.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 챗봇 질문 정규화 (답변 캐시 키)
+ * - 유니코드 정규화(NFKC) 후 소문자화, 공백/문장부호/기호 제거
+ * - "청약 자격이 뭔가요?" 와 "청약자격이 뭔가요" 는 같은 키
+ */
+public final class ChatQuestionNormalizer {
+
+    private ChatQuestionNormalizer() {
+    }
+
+    public static String normalize(String question) {
+        if (question == null) return "";
+        return Normalizer.normalize(question, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[\\p{P}\\p{S}\\s]+", "");
+    }
+}
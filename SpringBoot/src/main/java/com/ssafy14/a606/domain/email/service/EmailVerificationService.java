@@ -11,7 +11,7 @@ public interface EmailVerificationService {
     // 이메일 인증코드 검증
     EmailVerifyCodeResponseDto verifyCode(String email, String code);
 
-    // 이메일 인증 완료 상태 조회
+    // 이메일 인증 완료 상태 확인 (소비는 회원가입 커밋 이후)
     boolean isVerified(String email);
 
 }
@@ -2,17 +2,20 @@ package com.ssafy14.a606.domain.email.service;
 
 import com.ssafy14.a606.domain.email.dto.response.EmailSendCodeResponseDto;
 import com.ssafy14.a606.domain.email.dto.response.EmailVerifyCodeResponseDto;
-import com.ssafy14.a606.domain.email.store.EmailVerificationCodeStore;
-import com.ssafy14.a606.domain.email.store.EmailVerificationStatusStore;
+import com.ssafy14.a606.domain.email.store.EmailVerificationStore;
 import com.ssafy14.a606.domain.email.util.VerificationCodeGenerator;
+import com.ssafy14.a606.domain.user.event.UserSignedUpEvent;
 import com.ssafy14.a606.global.exceptions.ExpiredVerificationCodeException;
 import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import com.ssafy14.a606.global.exceptions.TooManyRequestsException;
 import com.ssafy14.a606.global.mail.EmailSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Duration;
 
@@ -23,13 +26,18 @@ import java.time.Duration;
 public class EmailVerificationServiceImpl implements EmailVerificationService {
 
     private final EmailSender emailSender;
-    private final EmailVerificationCodeStore codeStore;
+    private final EmailVerificationStore verificationStore;
     private final VerificationCodeGenerator codeGenerator;
-    private final EmailVerificationStatusStore statusStore;
 
     @Value("${app.email.dev-mode:true}")
     private boolean devMode;
 
+    @Value("${app.email.verification.resend-cooldown-ms:60000}")
+    private long resendCooldownMs;
+
+    @Value("${app.email.verification.max-attempts:5}")
+    private int maxAttempts;
+
     private static final Duration CODE_TTL = Duration.ofMinutes(5);
     private static final Duration VERIFIED_TTL = Duration.ofMinutes(30);
 
@@ -45,10 +53,13 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
         // 1) 인증코드 생성
         String code = codeGenerator.generate6Digit();
 
-        // 2) Redis 저장 (TTL 5분) - 재전송 시 덮어쓰기
-        codeStore.saveCode(email, code, CODE_TTL);
+        // 2) Redis 저장 (TTL 5분) - 재전송 시 덮어쓰기, 쿨다운 중이면 429
+        long remainingMs = verificationStore.issueCode(email, code, Duration.ofMillis(resendCooldownMs), CODE_TTL);
+        if (remainingMs > 0) {
+            throw new TooManyRequestsException("인증코드는 잠시 후 다시 요청할 수 있습니다.", (remainingMs + 999) / 1000);
+        }
 
-        // 3) 이메일 발송 (dev-mode면 콘솔 출력, 운영이면 EmailSender로 위임)
+        // 3) 이메일 발송 (dev-mode면 콘솔 출력, 운영이면 발송 대기열에 넣고 바로 반환)
         sendEmail(email, code);
 
         return EmailSendCodeResponseDto.builder()
@@ -61,32 +72,42 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
     @Transactional
     public EmailVerifyCodeResponseDto verifyCode(String email, String code) {
 
-        String saved = codeStore.getCode(email);
-
-        // 만료/없음 -> 410
-        if (saved == null) {
-            throw new ExpiredVerificationCodeException("인증코드가 만료되었습니다.");
-        }
-
-        // 불일치 -> 200 OK
-        if (!saved.equals(code)) {
-            return EmailVerifyCodeResponseDto.invalidCode();
-        }
-
-        // 일치 -> 코드 삭제 + verified 마킹(Redis에 저장)
-        codeStore.deleteCode(email);
-        statusStore.markVerified(email, VERIFIED_TTL);
-
-        return EmailVerifyCodeResponseDto.success();
+        // 비교 + 시도 횟수 + verified 마킹을 Redis 에서 한 번에
+        return switch (verificationStore.verify(email, code, maxAttempts, VERIFIED_TTL)) {
+            // 일치 -> 코드 삭제 + verified 마킹
+            case VERIFIED -> EmailVerifyCodeResponseDto.success();
+            // 불일치 -> 200 OK
+            case MISMATCH -> EmailVerifyCodeResponseDto.invalidCode();
+            // 만료/없음 -> 410
+            case EXPIRED -> throw new ExpiredVerificationCodeException("인증코드가 만료되었습니다.");
+            // 시도 횟수 초과 -> 429 (새 코드를 받아야 함)
+            case TOO_MANY_ATTEMPTS -> throw new TooManyRequestsException(
+                    "인증 시도 횟수를 초과했습니다. 인증코드를 다시 요청해 주세요.", (resendCooldownMs + 999) / 1000);
+        };
     }
 
     @Override
     public boolean isVerified(String email) {
-        return statusStore.isVerified(email);
+        return verificationStore.isVerified(email);
+    }
+
+    /**
+     * 가입이 커밋된 뒤에만 인증 완료 상태를 소비 (한 번 인증으로 한 번만 가입)
+     * - 소비에 실패해도 이메일은 이미 사용 중이라 재사용될 수 없고, 인증 상태는 TTL 로 사라진다
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        try {
+            verificationStore.consumeVerified(event.email());
+        } catch (Exception e) {
+            log.warn("Email verification consume failed. userId={}, reason={}", event.userId(), e.getMessage());
+        }
     }
 
     /**
      * 이메일 발송 (dev-mode면 콘솔 출력, 운영이면 EmailSender로 위임)
+     * - EmailSender 는 대기열(QueuedEmailSender)에 넣기만 하고, 실제 SMTP 전송은 MailDeliveryWorker 가 재시도까지 담당
      */
     private void sendEmail(String to, String code) {
         String subject = "[서울집사] 이메일 인증 코드";
@@ -119,9 +140,9 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
         try {
 //            emailSender.send(to, subject, content); // text/plain
             emailSender.sendHtml(to, subject, html);  // text/html
-            log.info("Email sent successfully to: {}", to);
+            log.info("Email queued for: {}", to);
         } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", to, e.getMessage(), e);
+            log.error("Failed to queue email for {}: {}", to, e.getMessage(), e);
             throw new RuntimeException("이메일 발송에 실패했습니다. 이메일 주소를 확인해주세요.");
         }
     }
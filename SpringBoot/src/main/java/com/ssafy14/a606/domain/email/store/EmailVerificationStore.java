@@ -0,0 +1,111 @@
+package com.ssafy14.a606.domain.email.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 이메일 인증 상태 저장소 (이메일당 Redis hash 하나)
+ * - email:verify:{email} → code, attempts, verified, sentAt
+ * - 발송/검증/가입 후 소비를 각각 Lua 스크립트 한 번으로 처리 (가입 시 확인은 HGET 한 번)
+ * - 재발송 쿨다운과 검증 시도 횟수 제한도 같은 스크립트 안에서 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailVerificationStore {
+
+    private static final String KEY_PREFIX = "email:verify:";
+
+    // ARGV: 코드, 현재 시각(ms), 쿨다운(ms), 코드 TTL(ms)
+    // 반환: 0 저장, 양수 = 쿨다운이 끝날 때까지 남은 ms
+    private static final DefaultRedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[2])
+            local sentAt = tonumber(redis.call('HGET', KEYS[1], 'sentAt') or '0')
+            local remaining = sentAt + tonumber(ARGV[3]) - now
+            if remaining > 0 then
+                return remaining
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0, 'verified', 0, 'sentAt', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 0
+            """, Long.class);
+
+    // ARGV: 입력 코드, 최대 시도 횟수, 인증 완료 유지 시간(ms)
+    // 반환: 1 인증 완료(이미 완료 포함), 0 불일치, -1 코드 없음/만료, -2 시도 횟수 초과
+    private static final DefaultRedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'code', 'attempts', 'verified')
+            if state[3] == '1' then
+                return 1
+            end
+            if not state[1] then
+                return -1
+            end
+            if tonumber(state[2] or '0') >= tonumber(ARGV[2]) then
+                return -2
+            end
+            if state[1] == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'verified', 1)
+                redis.call('HDEL', KEYS[1], 'code')
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                return 1
+            end
+            redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            return 0
+            """, Long.class);
+
+    // 인증 완료 상태면 지우면서 1 (한 번만 소비 가능), 아니면 0
+    private static final DefaultRedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'verified') == '1' then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    // 새 인증코드 저장 (쿨다운 중이면 저장하지 않고 남은 시간 반환)
+    public long issueCode(String email, String code, Duration cooldown, Duration codeTtl) {
+        Long remainingMs = redisTemplate.execute(ISSUE_SCRIPT, List.of(key(email)),
+                code, String.valueOf(System.currentTimeMillis()),
+                String.valueOf(cooldown.toMillis()), String.valueOf(codeTtl.toMillis()));
+        return remainingMs == null ? 0 : remainingMs;
+    }
+
+    public VerifyResult verify(String email, String code, int maxAttempts, Duration verifiedTtl) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(key(email)),
+                code, String.valueOf(maxAttempts), String.valueOf(verifiedTtl.toMillis()));
+        return VerifyResult.of(result == null ? -1 : result);
+    }
+
+    // 회원가입 전 인증 완료 상태 확인 (지우지 않음)
+    public boolean isVerified(String email) {
+        return "1".equals(redisTemplate.opsForHash().get(key(email), "verified"));
+    }
+
+    // 회원가입 커밋 후 인증 완료 상태 삭제
+    public boolean consumeVerified(String email) {
+        Long result = redisTemplate.execute(CONSUME_SCRIPT, List.of(key(email)));
+        return result != null && result == 1;
+    }
+
+    public enum VerifyResult {
+        VERIFIED, MISMATCH, EXPIRED, TOO_MANY_ATTEMPTS;
+
+        static VerifyResult of(long code) {
+            if (code == 1) return VERIFIED;
+            if (code == 0) return MISMATCH;
+            if (code == -2) return TOO_MANY_ATTEMPTS;
+            return EXPIRED;
+        }
+    }
+}
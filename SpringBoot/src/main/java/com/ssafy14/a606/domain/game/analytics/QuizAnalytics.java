@@ -0,0 +1,301 @@
+package com.ssafy14.a606.domain.game.analytics;
+
+import com.ssafy14.a606.domain.game.bank.QuizAnswerKey;
+import com.ssafy14.a606.domain.game.bank.QuizBank;
+import com.ssafy14.a606.domain.game.dto.response.QuizAnalyticsStatsDto;
+import com.ssafy14.a606.domain.game.dto.response.QuizOptionAnalyticsDto;
+import com.ssafy14.a606.domain.game.dto.response.QuizOptionResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionAnalyticsDto;
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+import com.ssafy14.a606.domain.game.entity.QuizOptionStat;
+import com.ssafy14.a606.domain.game.entity.QuizQuestionStat;
+import com.ssafy14.a606.domain.game.repository.QuizOptionStatRepository;
+import com.ssafy14.a606.domain.game.repository.QuizQuestionStatRepository;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퀴즈 문제별 응답 통계
+ * - 응답마다 메모리 카운터(LongAdder)만 올리고, flush-interval-ms 마다 증분을 모아 배치 upsert 한다.
+ * - 세션에서 받아들인 응답(문제당 한 번)만 기록한다 → 세션 없는 공개 채점 API 로는 가중치를 움직일 수 없다.
+ * - upsert 는 "기존값 + 증분" 이므로 여러 인스턴스가 동시에 반영해도 합계가 맞다. 반영 후 DB 누적값을 다시 읽는다.
+ * - 정답률로 적응형 출제 가중치를 계산해 둔다 (QuizQuestionSelector 가 사용)
+ */
+@Slf4j
+@Component
+public class QuizAnalytics {
+
+    private static final String UPSERT_QUESTION_SQL = """
+            INSERT INTO quiz_question_stats (question_id, attempts, correct_count, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE attempts = attempts + VALUES(attempts),
+                                    correct_count = correct_count + VALUES(correct_count),
+                                    updated_at = VALUES(updated_at)
+            """;
+
+    private static final String UPSERT_OPTION_SQL = """
+            INSERT INTO quiz_option_stats (option_id, question_id, picks, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE picks = picks + VALUES(picks),
+                                    updated_at = VALUES(updated_at)
+            """;
+
+    private final QuizBank quizBank;
+    private final QuizQuestionStatRepository questionStatRepository;
+    private final QuizOptionStatRepository optionStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final QuizAnalyticsProperties properties;
+
+    private final Map<Long, QuizQuestionCounters> counters = new ConcurrentHashMap<>();
+
+    // 문제 ID → 출제 가중치 (flush 때마다 다시 계산, 없는 문제는 1.0)
+    private volatile Map<Long, Double> weights = Map.of();
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private volatile LocalDateTime lastFlushAt;
+    private volatile int lastFlushRows;
+    private volatile long lastFlushMillis;
+
+    public QuizAnalytics(QuizBank quizBank,
+                         QuizQuestionStatRepository questionStatRepository,
+                         QuizOptionStatRepository optionStatRepository,
+                         JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         QuizAnalyticsProperties properties) {
+        this.quizBank = quizBank;
+        this.questionStatRepository = questionStatRepository;
+        this.optionStatRepository = optionStatRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            refreshFromDatabase();
+        } catch (Exception e) {
+            // 누적값 없이 시작해도 증분은 그대로 쌓이고, 다음 flush 후 다시 읽는다
+            log.warn("Failed to load quiz stats: {}", e.getMessage());
+        }
+    }
+
+    // 응답 1건 기록 (락 없음)
+    public void record(Long optionId, QuizAnswerKey answer) {
+        QuizQuestionCounters question = counters(answer.questionId());
+        question.pendingAttempts.increment();
+        if (answer.correct()) {
+            question.pendingCorrect.increment();
+        }
+        question.option(optionId).pendingPicks.increment();
+    }
+
+    public double weightOf(Long questionId) {
+        return weights.getOrDefault(questionId, 1.0);
+    }
+
+    @Scheduled(initialDelayString = "${app.game.quiz.analytics.flush-interval-ms:60000}",
+            fixedDelayString = "${app.game.quiz.analytics.flush-interval-ms:60000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Quiz stats flush failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduledFlush();
+    }
+
+    /**
+     * 쌓인 증분을 한 트랜잭션의 배치 upsert 두 번으로 반영
+     * - 증분은 sumThenReset 으로 떼어내면서 flushed 로 옮겨 두므로 조회 값은 반영 중에도 줄지 않는다.
+     * - 실패하면 떼어낸 증분을 되돌려 다음 주기에 다시 보낸다.
+     */
+    public synchronized void flush() {
+        long start = System.nanoTime();
+        List<Drained> drained = new ArrayList<>();
+        List<Object[]> questionRows = new ArrayList<>();
+        List<Object[]> optionRows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        counters.forEach((questionId, question) -> {
+            long attempts = question.pendingAttempts.sumThenReset();
+            long correct = question.pendingCorrect.sumThenReset();
+            if (attempts != 0 || correct != 0) {
+                question.flushedAttempts += attempts;
+                question.flushedCorrect += correct;
+                drained.add(new Drained(question, null, attempts, correct));
+                questionRows.add(new Object[]{questionId, attempts, correct, now});
+            }
+            question.options.forEach((optionId, option) -> {
+                long picks = option.pendingPicks.sumThenReset();
+                if (picks != 0) {
+                    option.flushedPicks += picks;
+                    drained.add(new Drained(question, option, picks, 0));
+                    optionRows.add(new Object[]{optionId, questionId, picks, now});
+                }
+            });
+        });
+
+        if (drained.isEmpty()) {
+            refreshFromDatabase();
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_QUESTION_SQL, questionRows);
+                jdbcTemplate.batchUpdate(UPSERT_OPTION_SQL, optionRows);
+            });
+        } catch (RuntimeException e) {
+            for (Drained d : drained) {
+                d.restore();
+            }
+            flushFailures.increment();
+            throw e;
+        }
+
+        flushes.increment();
+        lastFlushAt = LocalDateTime.now();
+        lastFlushRows = questionRows.size() + optionRows.size();
+
+        // 다른 인스턴스가 반영한 값까지 포함한 누적값으로 맞춘다
+        refreshFromDatabase();
+        lastFlushMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * 관리자 통계 (메모리 값, 퀴즈 은행 순서 기준)
+     * sort: attempts(응답 많은 순) / hardest(정답률 낮은 순) / easiest(정답률 높은 순)
+     */
+    public QuizAnalyticsStatsDto getStats(String sort, int limit) {
+        Comparator<QuizQuestionAnalyticsDto> order = switch (sort == null ? "attempts" : sort) {
+            case "attempts" -> Comparator.comparingLong(QuizQuestionAnalyticsDto::getAttempts).reversed();
+            case "hardest" -> Comparator.comparing(QuizQuestionAnalyticsDto::getAccuracy,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case "easiest" -> Comparator.comparing(QuizQuestionAnalyticsDto::getAccuracy,
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+            default -> throw new InvalidValueException("sort 는 attempts, hardest, easiest 중 하나여야 합니다.");
+        };
+
+        List<QuizQuestionAnalyticsDto> questions = new ArrayList<>();
+        long totalAttempts = 0;
+        for (QuizQuestionResponse question : quizBank.questions()) {
+            QuizQuestionCounters counter = counters.get(question.getQuestionId());
+            long attempts = counter == null ? 0 : counter.attempts();
+            long correct = counter == null ? 0 : counter.correct();
+            totalAttempts += attempts;
+
+            List<QuizOptionAnalyticsDto> options = new ArrayList<>(question.getOptions().size());
+            for (QuizOptionResponse option : question.getOptions()) {
+                QuizQuestionCounters.OptionCounter optionCounter =
+                        counter == null ? null : counter.options.get(option.getOptionId());
+                long picks = optionCounter == null ? 0 : optionCounter.picks();
+                options.add(QuizOptionAnalyticsDto.builder()
+                        .optionId(option.getOptionId())
+                        .text(option.getText())
+                        .correct(quizBank.answerOf(option.getOptionId()).map(QuizAnswerKey::correct).orElse(false))
+                        .picks(picks)
+                        .pickRate(attempts == 0 ? null : (double) picks / attempts)
+                        .build());
+            }
+
+            questions.add(QuizQuestionAnalyticsDto.builder()
+                    .questionId(question.getQuestionId())
+                    .question(question.getQuestion())
+                    .attempts(attempts)
+                    .correctCount(correct)
+                    .accuracy(attempts == 0 ? null : (double) correct / attempts)
+                    .weight(weightOf(question.getQuestionId()))
+                    .options(options)
+                    .build());
+        }
+        questions.sort(order);
+
+        return QuizAnalyticsStatsDto.builder()
+                .adaptive(properties.adaptive())
+                .trackedQuestions(counters.size())
+                .totalAttempts(totalAttempts)
+                .flushCount(flushes.sum())
+                .flushFailures(flushFailures.sum())
+                .lastFlushAt(lastFlushAt)
+                .lastFlushRows(lastFlushRows)
+                .lastFlushMillis(lastFlushMillis)
+                .questions(questions.subList(0, Math.min(Math.max(limit, 0), questions.size())))
+                .build();
+    }
+
+    private QuizQuestionCounters counters(Long questionId) {
+        QuizQuestionCounters counter = counters.get(questionId);
+        return counter != null ? counter : counters.computeIfAbsent(questionId, id -> new QuizQuestionCounters());
+    }
+
+    // flushed 값은 이 락 안에서만 쓴다 (flush 와 같은 락)
+    private synchronized void refreshFromDatabase() {
+        for (QuizQuestionStat stat : questionStatRepository.findAll()) {
+            QuizQuestionCounters counter = counters(stat.getQuestionId());
+            counter.flushedAttempts = stat.getAttempts();
+            counter.flushedCorrect = stat.getCorrectCount();
+        }
+        for (QuizOptionStat stat : optionStatRepository.findAll()) {
+            counters(stat.getQuestionId()).option(stat.getOptionId()).flushedPicks = stat.getPicks();
+        }
+        weights = computeWeights();
+    }
+
+    /**
+     * 정답률이 목표(target-accuracy)에 가까울수록 가중치 1, 멀어질수록 min-weight 까지 낮춘다.
+     * 응답이 적은 문제는 prior-attempts 만큼 목표 정답률을 섞어(베이즈 평활) 처음부터 한쪽으로 쏠리지 않게 한다.
+     */
+    private Map<Long, Double> computeWeights() {
+        double target = properties.targetAccuracy();
+        double prior = properties.priorAttempts();
+        double span = Math.max(target, 1 - target);
+
+        Map<Long, Double> computed = new HashMap<>();
+        counters.forEach((questionId, counter) -> {
+            double smoothed = (counter.correct() + prior * target) / (counter.attempts() + prior);
+            double weight = 1 - Math.abs(smoothed - target) / span;
+            computed.put(questionId, Math.max(properties.minWeight(), weight));
+        });
+        return Map.copyOf(computed);
+    }
+
+    private record Drained(QuizQuestionCounters question, QuizQuestionCounters.OptionCounter option,
+                           long first, long second) {
+
+        void restore() {
+            if (option == null) {
+                question.flushedAttempts -= first;
+                question.flushedCorrect -= second;
+                question.pendingAttempts.add(first);
+                question.pendingCorrect.add(second);
+            } else {
+                option.flushedPicks -= first;
+                option.pendingPicks.add(first);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy14.a606.domain.game.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 퀴즈 문제 통계/적응형 출제 설정 (app.game.quiz.analytics.*)
+ * - 값이 비어 있으면 기본값 사용
+ */
+@ConfigurationProperties(prefix = "app.game.quiz.analytics")
+public record QuizAnalyticsProperties(
+        long flushIntervalMs,
+        boolean adaptive,
+        double targetAccuracy,
+        double priorAttempts,
+        double minWeight
+) {
+
+    public QuizAnalyticsProperties {
+        if (flushIntervalMs <= 0) flushIntervalMs = 60000;
+        if (targetAccuracy <= 0 || targetAccuracy >= 1) targetAccuracy = 0.6;
+        if (priorAttempts <= 0) priorAttempts = 5;
+        if (minWeight <= 0 || minWeight > 1) minWeight = 0.2;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy14.a606.domain.game.analytics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문제 하나의 응답 카운터
+ * - 응답 경로는 LongAdder(셀 분산) 증가만 → 같은 문제에 동시 응답이 몰려도 CAS 경합이 한 곳에 몰리지 않는다
+ * - pending(LongAdder) 은 아직 DB 에 반영되지 않은 증분, flushed 는 마지막으로 DB 에서 읽은 누적값
+ * - flushed 는 flush 스레드만 쓴다
+ */
+final class QuizQuestionCounters {
+
+    final LongAdder pendingAttempts = new LongAdder();
+    final LongAdder pendingCorrect = new LongAdder();
+    final Map<Long, OptionCounter> options = new ConcurrentHashMap<>();
+
+    volatile long flushedAttempts;
+    volatile long flushedCorrect;
+
+    OptionCounter option(Long optionId) {
+        OptionCounter counter = options.get(optionId);
+        return counter != null ? counter : options.computeIfAbsent(optionId, id -> new OptionCounter());
+    }
+
+    long attempts() {
+        return flushedAttempts + pendingAttempts.sum();
+    }
+
+    long correct() {
+        return flushedCorrect + pendingCorrect.sum();
+    }
+
+    static final class OptionCounter {
+
+        final LongAdder pendingPicks = new LongAdder();
+        volatile long flushedPicks;
+
+        long picks() {
+            return flushedPicks + pendingPicks.sum();
+        }
+    }
+}
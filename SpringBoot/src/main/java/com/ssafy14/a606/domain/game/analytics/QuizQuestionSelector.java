@@ -0,0 +1,28 @@
+package com.ssafy14.a606.domain.game.analytics;
+
+import com.ssafy14.a606.domain.game.bank.QuizBank;
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 출제 문제 선택
+ * - 기본은 균등 추출, app.game.quiz.analytics.adaptive=true 면 정답률 기반 가중치로 추출
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizQuestionSelector {
+
+    private final QuizBank quizBank;
+    private final QuizAnalytics quizAnalytics;
+    private final QuizAnalyticsProperties properties;
+
+    public List<QuizQuestionResponse> select(int count) {
+        if (properties.adaptive()) {
+            return quizBank.sampleWeighted(count, quizAnalytics::weightOf);
+        }
+        return quizBank.sample(count);
+    }
+}
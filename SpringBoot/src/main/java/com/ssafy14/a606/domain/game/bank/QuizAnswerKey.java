@@ -0,0 +1,5 @@
+package com.ssafy14.a606.domain.game.bank;
+
+// 보기 하나를 골랐을 때의 채점 결과 (정답 여부, 정답 보기 문구, 해설)
+public record QuizAnswerKey(Long questionId, boolean correct, String correctText, String explanation) {
+}
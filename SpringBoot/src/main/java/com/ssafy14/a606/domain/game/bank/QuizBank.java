@@ -0,0 +1,133 @@
+package com.ssafy14.a606.domain.game.bank;
+
+import com.ssafy14.a606.domain.game.dto.response.QuizBankStatsDto;
+import com.ssafy14.a606.domain.game.dto.response.QuizOptionResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+import com.ssafy14.a606.domain.game.entity.QuizOption;
+import com.ssafy14.a606.domain.game.entity.QuizQuestion;
+import com.ssafy14.a606.domain.game.repository.QuizQuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 용어 퀴즈 인메모리 은행
+ * - 문제/보기/정답을 한 번의 fetch join 으로 읽어 불변 스냅샷을 만들고 참조만 교체한다.
+ * - 출제(랜덤 추출)와 채점은 스냅샷만 보므로 DB 왕복이 없다.
+ * - 퀴즈 데이터는 관리 API 없이 DB 에서 직접 바뀌므로 reload-interval-ms 마다 다시 읽는다. (즉시 반영은 관리자 API)
+ */
+@Slf4j
+@Component
+public class QuizBank {
+
+    private final QuizQuestionRepository quizQuestionRepository;
+
+    private volatile QuizBankSnapshot snapshot;
+
+    private final LongAdder reloads = new LongAdder();
+    private volatile long lastReloadMillis;
+
+    public QuizBank(QuizQuestionRepository quizQuestionRepository) {
+        this.quizQuestionRepository = quizQuestionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 실패하면 첫 요청에서 다시 시도
+            log.error("Failed to load quiz bank: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.game.quiz.reload-interval-ms:300000}",
+            fixedDelayString = "${app.game.quiz.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 실패 시 기존 스냅샷 유지
+            log.warn("Quiz bank reload failed: {}", e.getMessage());
+        }
+    }
+
+    // 보기까지 fetch join 으로 한 번에 읽으므로 트랜잭션 밖에서도 지연 로딩이 일어나지 않는다
+    public synchronized void reload() {
+        long start = System.nanoTime();
+
+        List<QuizQuestion> loaded = quizQuestionRepository.findAllWithOptions();
+        List<QuizQuestionResponse> questions = new ArrayList<>(loaded.size());
+        Map<Long, QuizAnswerKey> answers = new HashMap<>();
+
+        for (QuizQuestion question : loaded) {
+            List<QuizOptionResponse> options = question.getOptions().stream()
+                    .map(QuizOptionResponse::from)
+                    .toList();
+            questions.add(new QuizQuestionResponse(question.getId(), question.getQuestion(), options));
+
+            String correctText = question.getOptions().stream()
+                    .filter(QuizOption::isCorrect)
+                    .findFirst()
+                    .map(QuizOption::getOptionText)
+                    .orElse("정답 없음");
+            for (QuizOption option : question.getOptions()) {
+                answers.put(option.getId(), new QuizAnswerKey(
+                        question.getId(), option.isCorrect(), correctText, question.getExplanation()));
+            }
+        }
+
+        snapshot = new QuizBankSnapshot(List.copyOf(questions), Map.copyOf(answers), LocalDateTime.now());
+        reloads.increment();
+        lastReloadMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public List<QuizQuestionResponse> sample(int count) {
+        return current().sample(count);
+    }
+
+    // 문제 ID → 가중치 비례 추출 (적응형 출제)
+    public List<QuizQuestionResponse> sampleWeighted(int count, ToDoubleFunction<Long> weightOf) {
+        return current().sampleWeighted(count, weightOf);
+    }
+
+    public List<QuizQuestionResponse> questions() {
+        return current().questions();
+    }
+
+    public Optional<QuizAnswerKey> answerOf(Long optionId) {
+        return Optional.ofNullable(current().answerOf(optionId));
+    }
+
+    public QuizBankStatsDto getStats() {
+        QuizBankSnapshot current = snapshot;
+        return QuizBankStatsDto.builder()
+                .questionCount(current == null ? 0 : current.questionCount())
+                .optionCount(current == null ? 0 : current.optionCount())
+                .loadedAt(current == null ? null : current.loadedAt())
+                .reloadCount(reloads.sum())
+                .lastReloadMillis(lastReloadMillis)
+                .build();
+    }
+
+    // 기동 시 적재에 실패했으면 여기서 한 번 더
+    private QuizBankSnapshot current() {
+        QuizBankSnapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy14.a606.domain.game.bank;
+
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 퀴즈 은행 스냅샷 (불변)
+ * - 문제 응답 DTO 를 미리 만들어 두고, 보기 id → 정답 정보 표를 함께 들고 있다.
+ * - 한 번 만들어지면 수정하지 않으므로 읽기 쪽은 락 없이 공유한다.
+ */
+final class QuizBankSnapshot {
+
+    private final List<QuizQuestionResponse> questions;
+    private final Map<Long, QuizAnswerKey> answersByOptionId;
+    private final int optionCount;
+    private final LocalDateTime loadedAt;
+
+    QuizBankSnapshot(List<QuizQuestionResponse> questions,
+                     Map<Long, QuizAnswerKey> answersByOptionId,
+                     LocalDateTime loadedAt) {
+        this.questions = questions;
+        this.answersByOptionId = answersByOptionId;
+        this.optionCount = answersByOptionId.size();
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * 중복 없이 count 문제 추출 (부분 Fisher-Yates)
+     * - 앞에서부터 count 칸만 섞고 멈춘다. 바뀐 칸만 map 에 기록하므로 전체 문제 수와 무관하게 O(count)
+     */
+    List<QuizQuestionResponse> sample(int count) {
+        int n = questions.size();
+        int k = Math.min(count, n);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        Map<Integer, Integer> swapped = new HashMap<>(k * 2);
+        QuizQuestionResponse[] picked = new QuizQuestionResponse[k];
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int atJ = swapped.getOrDefault(j, j);
+            int atI = swapped.getOrDefault(i, i);
+            swapped.put(j, atI);
+            picked[i] = questions.get(atJ);
+        }
+        return List.of(picked);
+    }
+
+    /**
+     * 가중치 비례 비복원 추출 (Efraimidis-Spirakis)
+     * - 문제마다 key = ln(u) / w 를 뽑아 큰 순서로 count 개. 크기 count 의 min-heap 으로 O(n log count)
+     * - 가중치가 0 이하인 문제는 뽑지 않는다
+     */
+    List<QuizQuestionResponse> sampleWeighted(int count, ToDoubleFunction<Long> weightOf) {
+        int k = Math.min(count, questions.size());
+        if (k <= 0) {
+            return List.of();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        PriorityQueue<Keyed> heap = new PriorityQueue<>(k, (a, b) -> Double.compare(a.key, b.key));
+        for (QuizQuestionResponse question : questions) {
+            double weight = weightOf.applyAsDouble(question.getQuestionId());
+            if (!(weight > 0)) {
+                continue;
+            }
+            double key = Math.log(1.0 - random.nextDouble()) / weight;
+            if (heap.size() < k) {
+                heap.add(new Keyed(key, question));
+            } else if (key > heap.peek().key) {
+                heap.poll();
+                heap.add(new Keyed(key, question));
+            }
+        }
+
+        QuizQuestionResponse[] picked = new QuizQuestionResponse[heap.size()];
+        for (int i = picked.length - 1; i >= 0; i--) {
+            picked[i] = heap.poll().question;
+        }
+        return List.of(picked);
+    }
+
+    private record Keyed(double key, QuizQuestionResponse question) {
+    }
+
+    List<QuizQuestionResponse> questions() {
+        return questions;
+    }
+
+    QuizAnswerKey answerOf(Long optionId) {
+        return answersByOptionId.get(optionId);
+    }
+
+    int questionCount() {
+        return questions.size();
+    }
+
+    int optionCount() {
+        return optionCount;
+    }
+
+    LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy14.a606.domain.game.controller;
+
+import com.ssafy14.a606.domain.game.analytics.QuizAnalytics;
+import com.ssafy14.a606.domain.game.bank.QuizBank;
+import com.ssafy14.a606.domain.game.preference.PreferenceEngine;
+import com.ssafy14.a606.domain.game.dto.response.PreferenceStatsDto;
+import com.ssafy14.a606.domain.game.dto.response.QuizAnalyticsStatsDto;
+import com.ssafy14.a606.domain.game.dto.response.QuizBankStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/games")
+public class GameAdminController {
+
+    private final QuizBank quizBank;
+    private final QuizAnalytics quizAnalytics;
+    private final PreferenceEngine preferenceEngine;
+
+    // 퀴즈 은행 현황 (문제/보기 수, 마지막 적재 시각)
+    @GetMapping("/quiz/stats")
+    public ResponseEntity<QuizBankStatsDto> getQuizBankStats() {
+        return ResponseEntity.ok(quizBank.getStats());
+    }
+
+    // DB 에서 퀴즈 데이터를 고친 뒤 즉시 반영
+    @PostMapping("/quiz/reload")
+    public ResponseEntity<QuizBankStatsDto> reloadQuizBank() {
+        quizBank.reload();
+        return ResponseEntity.ok(quizBank.getStats());
+    }
+
+    // 문제별 응답 수/정답률/보기 선택 분포 (메모리 값, sort: attempts / hardest / easiest)
+    @GetMapping("/quiz/analytics")
+    public ResponseEntity<QuizAnalyticsStatsDto> getQuizAnalytics(
+            @RequestParam(defaultValue = "attempts") String sort,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(quizAnalytics.getStats(sort, limit));
+    }
+
+    // 쌓인 증분을 즉시 DB 에 반영
+    @PostMapping("/quiz/analytics/flush")
+    public ResponseEntity<QuizAnalyticsStatsDto> flushQuizAnalytics(
+            @RequestParam(defaultValue = "attempts") String sort,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        quizAnalytics.flush();
+        return ResponseEntity.ok(quizAnalytics.getStats(sort, limit));
+    }
+
+    // 주거 선호도 결과 분포 + 가중치 표 현황
+    @GetMapping("/preferences/stats")
+    public ResponseEntity<PreferenceStatsDto> getPreferenceStats() {
+        return ResponseEntity.ok(preferenceEngine.getStats());
+    }
+
+    // preference_weights 를 고친 뒤 즉시 반영
+    @PostMapping("/preferences/reload")
+    public ResponseEntity<PreferenceStatsDto> reloadPreferenceWeights() {
+        preferenceEngine.reload();
+        return ResponseEntity.ok(preferenceEngine.getStats());
+    }
+}
@@ -1,14 +1,24 @@
 package com.ssafy14.a606.domain.game.controller;
 
+import com.ssafy14.a606.domain.game.dto.request.PreferenceBatchRequest;
 import com.ssafy14.a606.domain.game.dto.request.PreferenceResultRequest;
 import com.ssafy14.a606.domain.game.dto.request.QuizAnswerRequest;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardPageResponse;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardRankResponse;
 import com.ssafy14.a606.domain.game.dto.response.PreferenceResultResponse;
 import com.ssafy14.a606.domain.game.dto.response.QuizAnswerResponse;
 import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizSessionAnswerResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizSessionResultResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizSessionStartResponse;
 import com.ssafy14.a606.domain.game.service.PreferenceService;
 import com.ssafy14.a606.domain.game.service.QuizService;
 
+import com.ssafy14.a606.domain.game.service.QuizSessionService;
+import com.ssafy14.a606.global.exceptions.AuthorizationException;
+import com.ssafy14.a606.global.security.user.CustomUserDetails;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,10 +29,13 @@ public class GameController {
 
     private final QuizService quizService;
     private final PreferenceService preferenceService;
+    private final QuizSessionService quizSessionService;
 
-    public GameController(QuizService quizService, PreferenceService preferenceService) {
+    public GameController(QuizService quizService, PreferenceService preferenceService,
+                          QuizSessionService quizSessionService) {
         this.quizService = quizService;
         this.preferenceService = preferenceService;
+        this.quizSessionService = quizSessionService;
     }
     /**
      * 용어 퀴즈 시작 -> 랜덤 10문제 제공
@@ -40,6 +53,66 @@ public class GameController {
         return ResponseEntity.ok(quizService.submitAnswer(request));
     }
 
+    /**
+     * 퀴즈 세션 시작 -> 세션 ID + 랜덤 10문제 (비로그인도 가능, 리더보드에는 미기록)
+     */
+    @PostMapping("/quiz/sessions")
+    public ResponseEntity<QuizSessionStartResponse> startQuizSession(
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        return ResponseEntity.ok(quizSessionService.start(userIdOf(principal)));
+    }
+
+    /**
+     * 퀴즈 세션 응답 제출 (서버 채점)
+     */
+    @PostMapping("/quiz/sessions/{sessionId}/answers")
+    public ResponseEntity<QuizSessionAnswerResponse> submitSessionAnswer(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @PathVariable String sessionId,
+            @RequestBody QuizAnswerRequest request
+    ) {
+        return ResponseEntity.ok(quizSessionService.answer(sessionId, userIdOf(principal), request));
+    }
+
+    /**
+     * 퀴즈 세션 종료 -> 최종 점수 (로그인 사용자는 리더보드 기록)
+     */
+    @PostMapping("/quiz/sessions/{sessionId}/finish")
+    public ResponseEntity<QuizSessionResultResponse> finishQuizSession(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @PathVariable String sessionId
+    ) {
+        return ResponseEntity.ok(quizSessionService.finish(sessionId, userIdOf(principal)));
+    }
+
+    /**
+     * 퀴즈 리더보드 (period: DAILY / WEEKLY / ALL_TIME)
+     */
+    @GetMapping("/quiz/leaderboard")
+    public ResponseEntity<LeaderboardPageResponse> getLeaderboard(
+            @RequestParam(defaultValue = "WEEKLY") String period,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(quizSessionService.getLeaderboard(period, page, size));
+    }
+
+    /**
+     * 퀴즈 리더보드 내 순위
+     */
+    @GetMapping("/quiz/leaderboard/me")
+    public ResponseEntity<LeaderboardRankResponse> getMyLeaderboardRank(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(defaultValue = "WEEKLY") String period
+    ) {
+        Long userId = userIdOf(principal);
+        if (userId == null) {
+            throw new AuthorizationException("로그인이 필요합니다.");
+        }
+        return ResponseEntity.ok(quizSessionService.getMyRank(period, userId));
+    }
+
     /**
      * 주거 선호도 결과 도출
      */
@@ -48,5 +121,15 @@ public class GameController {
         return ResponseEntity.ok(preferenceService.calculatePreferenceType(request));
     }
 
+    /**
+     * 주거 선호도 결과 일괄 도출 (최대 500건, 요청 순서대로)
+     */
+    @PostMapping("/preferences/results/batch")
+    public ResponseEntity<List<PreferenceResultResponse>> getPreferenceResults(@RequestBody PreferenceBatchRequest request) {
+        return ResponseEntity.ok(preferenceService.calculatePreferenceTypes(request));
+    }
 
+    private static Long userIdOf(CustomUserDetails principal) {
+        return principal == null ? null : principal.getUserId();
+    }
 }
@@ -1,8 +1,12 @@
 package com.ssafy14.a606.domain.game.dto.request;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class PreferenceAnswerRequest {
     private String questionKey;
     private String selectedOption;
@@ -0,0 +1,15 @@
+package com.ssafy14.a606.domain.game.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PreferenceBatchRequest {
+
+    private List<PreferenceResultRequest> requests;
+}
@@ -1,12 +1,16 @@
 package com.ssafy14.a606.domain.game.dto.request;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class PreferenceResultRequest {
 
     private List<PreferenceAnswerRequest> answers;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LeaderboardEntryResponse {
+
+    private long rank;
+    private String userName; // 가운데 글자 마스킹
+    private int score;
+    private long elapsedSeconds;
+}
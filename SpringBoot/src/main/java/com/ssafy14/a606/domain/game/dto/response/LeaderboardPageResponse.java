@@ -0,0 +1,17 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LeaderboardPageResponse {
+
+    private String period;
+    private int page;
+    private int size;
+    private long totalCount;
+    private List<LeaderboardEntryResponse> entries;
+}
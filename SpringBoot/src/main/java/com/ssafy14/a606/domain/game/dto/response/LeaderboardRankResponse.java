@@ -0,0 +1,15 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LeaderboardRankResponse {
+
+    private String period;
+    private Long rank; // 기록이 없으면 null
+    private Integer score;
+    private Long elapsedSeconds;
+    private long totalCount;
+}
@@ -10,12 +10,14 @@ import java.util.List;
 public class PreferenceResultResponse {
 
     private final String preferenceType;
+    private final String preferenceTypeCode; // 공고 피드 조회용 (GET /api/notices/feed?type=)
     private final String summary;
     private final List<String> recommendedCategories;
     private final String noticeTip;
 
     public PreferenceResultResponse(PreferenceType type) {
         this.preferenceType = type.getDisplayName();
+        this.preferenceTypeCode = type.name();
         this.summary = type.getSummary();
         this.recommendedCategories = type.getRecommendedCategories()
                 .stream()
@@ -0,0 +1,20 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class PreferenceStatsDto {
+
+    private long totalEvaluations;
+    private List<PreferenceTypeCountDto> distribution;
+
+    // 가중치 표 현황
+    private int overrideCount;
+    private LocalDateTime loadedAt;
+    private long reloadCount;
+}
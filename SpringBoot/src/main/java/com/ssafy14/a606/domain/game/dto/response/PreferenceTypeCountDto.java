@@ -0,0 +1,14 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PreferenceTypeCountDto {
+
+    private String type;
+    private String displayName;
+    private long count;
+    private double ratio;
+}
@@ -0,0 +1,25 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class QuizAnalyticsStatsDto {
+
+    private boolean adaptive;
+    private int trackedQuestions;
+    private long totalAttempts;
+
+    // DB 반영 현황
+    private long flushCount;
+    private long flushFailures;
+    private LocalDateTime lastFlushAt;
+    private int lastFlushRows;
+    private long lastFlushMillis;
+
+    private List<QuizQuestionAnalyticsDto> questions;
+}
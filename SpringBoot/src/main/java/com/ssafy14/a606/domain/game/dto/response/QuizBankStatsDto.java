@@ -0,0 +1,17 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class QuizBankStatsDto {
+
+    private int questionCount;
+    private int optionCount;
+    private LocalDateTime loadedAt;
+    private long reloadCount;
+    private long lastReloadMillis;
+}
@@ -0,0 +1,15 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QuizOptionAnalyticsDto {
+
+    private Long optionId;
+    private String text;
+    private boolean correct;
+    private long picks;
+    private Double pickRate;
+}
@@ -0,0 +1,19 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class QuizQuestionAnalyticsDto {
+
+    private Long questionId;
+    private String question;
+    private long attempts;
+    private long correctCount;
+    private Double accuracy; // 응답이 없으면 null
+    private double weight;   // 적응형 출제 가중치 (1.0 = 기본)
+    private List<QuizOptionAnalyticsDto> options;
+}
@@ -0,0 +1,20 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QuizSessionAnswerResponse {
+
+    @JsonProperty("isCorrect")
+    private boolean correct;
+    private String correctAnswer;
+    private String explanation;
+
+    // 서버에서 집계한 세션 누적 값
+    private int score;
+    private int answeredCount;
+    private int totalCount;
+}
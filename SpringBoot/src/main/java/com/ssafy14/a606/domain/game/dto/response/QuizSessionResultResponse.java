@@ -0,0 +1,17 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QuizSessionResultResponse {
+
+    private int score;
+    private int answeredCount;
+    private int totalCount;
+    private long elapsedSeconds;
+
+    // 로그인 사용자만 리더보드에 기록
+    private boolean ranked;
+}
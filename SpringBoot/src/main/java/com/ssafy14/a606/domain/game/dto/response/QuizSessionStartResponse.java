@@ -0,0 +1,15 @@
+package com.ssafy14.a606.domain.game.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class QuizSessionStartResponse {
+
+    private String sessionId;
+    private long expiresInSeconds;
+    private List<QuizQuestionResponse> questions;
+}
@@ -0,0 +1,30 @@
+package com.ssafy14.a606.domain.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주거 선호도 가중치 덮어쓰기
+ * - (질문, 선택지, 성향) 한 칸의 점수. 행이 없는 칸은 기본 가중치 사용, 기본 가중치를 끄려면 weight = 0
+ * - 키는 enum 이름 문자열 (알 수 없는 이름은 적재 시 무시, 같은 칸이 여러 행이면 id 가 큰 행)
+ */
+@Entity
+@Table(name = "preference_weights")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PreferenceWeight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String questionKey;
+
+    private String optionKey;
+
+    private String preferenceType;
+
+    private int weight;
+}
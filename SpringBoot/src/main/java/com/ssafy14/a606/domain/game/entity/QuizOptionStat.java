@@ -0,0 +1,27 @@
+package com.ssafy14.a606.domain.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보기별 누적 선택 수 (QuizAnalytics 가 주기적으로 증분 upsert)
+ */
+@Entity
+@Table(name = "quiz_option_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizOptionStat {
+
+    @Id
+    private Long optionId;
+
+    private Long questionId;
+
+    private long picks;
+
+    private LocalDateTime updatedAt;
+}
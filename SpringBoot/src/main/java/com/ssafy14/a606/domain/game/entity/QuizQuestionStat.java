@@ -0,0 +1,27 @@
+package com.ssafy14.a606.domain.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문제별 누적 응답 통계 (QuizAnalytics 가 주기적으로 증분 upsert)
+ */
+@Entity
+@Table(name = "quiz_question_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QuizQuestionStat {
+
+    @Id
+    private Long questionId;
+
+    private long attempts;
+
+    private long correctCount;
+
+    private LocalDateTime updatedAt;
+}
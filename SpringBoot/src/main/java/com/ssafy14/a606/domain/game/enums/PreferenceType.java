@@ -1,6 +1,7 @@
 package com.ssafy14.a606.domain.game.enums;
 
 import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
 import java.util.List;
 
 public enum PreferenceType {
@@ -101,4 +102,17 @@ public enum PreferenceType {
     public String getNoticeTip() {
         return noticeTip;
     }
+
+    public static PreferenceType from(String type) {
+        if (type == null) {
+            throw new InvalidValueException("선호도 유형은 필수입니다.");
+        }
+        try {
+            return PreferenceType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException(
+                    "유효하지 않은 선호도 유형입니다: " + type
+            );
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.ssafy14.a606.domain.game.leaderboard;
+
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+
+/**
+ * 퀴즈 리더보드 기간
+ * - 기간마다 Redis sorted set 하나 (일간/주간 키는 날짜가 바뀌면 새 키, 지난 키는 TTL 로 정리)
+ */
+public enum LeaderboardPeriod {
+
+    DAILY(Duration.ofDays(2)),
+    WEEKLY(Duration.ofDays(14)),
+    ALL_TIME(null);
+
+    private static final String KEY_PREFIX = "quiz:lb:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 기간이 끝난 뒤 키를 보관할 시간 (null 이면 만료 없음)
+    private final Duration retention;
+
+    LeaderboardPeriod(Duration retention) {
+        this.retention = retention;
+    }
+
+    public String key(LocalDate today) {
+        return switch (this) {
+            case DAILY -> KEY_PREFIX + "daily:" + today.format(DAY);
+            case WEEKLY -> KEY_PREFIX + "weekly:" + today.get(IsoFields.WEEK_BASED_YEAR)
+                    + "-W" + String.format("%02d", today.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case ALL_TIME -> KEY_PREFIX + "all";
+        };
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public static LeaderboardPeriod from(String period) {
+        if (period == null || period.isBlank()) {
+            return WEEKLY;
+        }
+        try {
+            return LeaderboardPeriod.valueOf(period.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException("유효하지 않은 리더보드 기간입니다: " + period);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ssafy14.a606.domain.game.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 퀴즈 리더보드 조회 (Redis sorted set, member = userId)
+ * - score = 점수 * 10000 + (9999 - 소요 초) → 점수가 같으면 빨리 끝낸 쪽이 위
+ * - 기록은 세션 종료 Lua 스크립트가 세션 상태와 함께 원자적으로 남긴다 (QuizSessionStore)
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizLeaderboard {
+
+    public static final long SCORE_BASE = 10_000L;
+    public static final long MAX_ELAPSED_SECONDS = SCORE_BASE - 1;
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 상위 N 페이지 (ZREVRANGE WITHSCORES 한 번)
+    public List<Ranked> top(LeaderboardPeriod period, LocalDate today, int page, int size) {
+        long start = (long) page * size;
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(period.key(today), start, start + size - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<Ranked> ranked = new ArrayList<>(tuples.size());
+        long rank = start + 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) {
+                continue;
+            }
+            ranked.add(new Ranked(rank++, Long.valueOf(tuple.getValue()), tuple.getScore()));
+        }
+        return ranked;
+    }
+
+    public long size(LeaderboardPeriod period, LocalDate today) {
+        Long size = redisTemplate.opsForZSet().zCard(period.key(today));
+        return size == null ? 0 : size;
+    }
+
+    // 내 순위 + 점수 + 참가자 수 (파이프라인으로 왕복 1회), 기록이 없으면 rank = null
+    public MyRank rankOf(LeaderboardPeriod period, LocalDate today, Long userId) {
+        String key = period.key(today);
+        String member = String.valueOf(userId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                ZSetOperations<String, String> zSet = operations.opsForZSet();
+                zSet.reverseRank(key, member);
+                zSet.score(key, member);
+                zSet.zCard(key);
+                return null;
+            }
+        });
+
+        Long rank = (Long) results.get(0);
+        Double score = (Double) results.get(1);
+        Long total = (Long) results.get(2);
+        return new MyRank(rank == null ? null : rank + 1, score, total == null ? 0 : total);
+    }
+
+    // FINISH_SCRIPT(QuizSessionStore) 가 Lua 로 같은 식을 계산한다 → 둘 중 하나를 바꾸면 같이 바꿀 것
+    public static double composite(int points, long elapsedSeconds) {
+        long clamped = Math.max(0, Math.min(MAX_ELAPSED_SECONDS, elapsedSeconds));
+        return (double) points * SCORE_BASE + (MAX_ELAPSED_SECONDS - clamped);
+    }
+
+    public static int points(double composite) {
+        return (int) ((long) composite / SCORE_BASE);
+    }
+
+    public static long elapsedSeconds(double composite) {
+        return MAX_ELAPSED_SECONDS - (long) composite % SCORE_BASE;
+    }
+
+    public record Ranked(long rank, Long userId, double composite) {
+    }
+
+    public record MyRank(Long rank, Double composite, long total) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.ssafy14.a606.domain.game.preference;
+
+import com.ssafy14.a606.domain.game.dto.request.PreferenceAnswerRequest;
+import com.ssafy14.a606.domain.game.dto.request.PreferenceResultRequest;
+import com.ssafy14.a606.domain.game.dto.response.PreferenceResultResponse;
+import com.ssafy14.a606.domain.game.dto.response.PreferenceStatsDto;
+import com.ssafy14.a606.domain.game.dto.response.PreferenceTypeCountDto;
+import com.ssafy14.a606.domain.game.entity.PreferenceWeight;
+import com.ssafy14.a606.domain.game.enums.PreferenceOption;
+import com.ssafy14.a606.domain.game.enums.PreferenceQuestionKey;
+import com.ssafy14.a606.domain.game.enums.PreferenceType;
+import com.ssafy14.a606.domain.game.repository.PreferenceWeightRepository;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주거 선호도 채점 엔진
+ * - 가중치는 PreferenceWeightMatrix(int[][]) 로 컴파일해 두고 참조만 교체 → DB 에서 고치면 재배포 없이 반영
+ * - 결과 응답은 성향별로 미리 만들어 둔 불변 객체를 돌려준다
+ * - 성향별 결과 분포는 LongAdder 로 메모리에서 집계
+ */
+@Slf4j
+@Component
+public class PreferenceEngine {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final PreferenceResultResponse[] RESPONSES = Arrays.stream(PreferenceWeightMatrix.TYPES)
+            .map(PreferenceResultResponse::new)
+            .toArray(PreferenceResultResponse[]::new);
+
+    private final PreferenceWeightRepository preferenceWeightRepository;
+
+    private volatile PreferenceWeightMatrix matrix = PreferenceWeightMatrix.defaults();
+    private volatile LocalDateTime loadedAt;
+
+    private final LongAdder[] distribution = new LongAdder[PreferenceWeightMatrix.TYPES.length];
+    private final LongAdder reloads = new LongAdder();
+
+    public PreferenceEngine(PreferenceWeightRepository preferenceWeightRepository) {
+        this.preferenceWeightRepository = preferenceWeightRepository;
+        for (int t = 0; t < distribution.length; t++) {
+            distribution[t] = new LongAdder();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        scheduledReload();
+    }
+
+    @Scheduled(initialDelayString = "${app.game.preference.reload-interval-ms:300000}",
+            fixedDelayString = "${app.game.preference.reload-interval-ms:300000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 실패 시 기존 가중치 유지
+            log.warn("Preference weight reload failed: {}", e.getMessage());
+        }
+    }
+
+    // 기본 가중치 위에 DB 행을 덮어써서 새 표를 만든다
+    public synchronized void reload() {
+        PreferenceWeightMatrix.Builder builder = PreferenceWeightMatrix.builder();
+        for (PreferenceWeight row : preferenceWeightRepository.findAllByOrderByIdAsc()) {
+            try {
+                builder.set(PreferenceQuestionKey.valueOf(row.getQuestionKey()),
+                        PreferenceOption.valueOf(row.getOptionKey()),
+                        PreferenceType.valueOf(row.getPreferenceType()),
+                        row.getWeight());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.warn("Skipping preference weight row {}: {}", row.getId(), e.getMessage());
+            }
+        }
+        matrix = builder.build();
+        loadedAt = LocalDateTime.now();
+        reloads.increment();
+    }
+
+    public PreferenceResultResponse evaluate(PreferenceResultRequest request) {
+        PreferenceType type = evaluate(matrix, request, new int[PreferenceWeightMatrix.TYPES.length]);
+        distribution[type.ordinal()].increment();
+        return RESPONSES[type.ordinal()];
+    }
+
+    // 같은 가중치 표와 점수 배열 하나로 전부 채점
+    public List<PreferenceResultResponse> evaluateBatch(List<PreferenceResultRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidValueException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 채점할 수 있습니다.");
+        }
+
+        PreferenceWeightMatrix current = matrix;
+        int[] scores = new int[PreferenceWeightMatrix.TYPES.length];
+        List<PreferenceResultResponse> results = new ArrayList<>(requests.size());
+        for (PreferenceResultRequest request : requests) {
+            PreferenceType type = evaluate(current, request, scores);
+            distribution[type.ordinal()].increment();
+            results.add(RESPONSES[type.ordinal()]);
+        }
+        return results;
+    }
+
+    public PreferenceStatsDto getStats() {
+        long[] counts = new long[distribution.length];
+        long total = 0;
+        for (int t = 0; t < counts.length; t++) {
+            counts[t] = distribution[t].sum();
+            total += counts[t];
+        }
+
+        List<PreferenceTypeCountDto> types = new ArrayList<>(counts.length);
+        for (int t = 0; t < counts.length; t++) {
+            PreferenceType type = PreferenceWeightMatrix.TYPES[t];
+            types.add(PreferenceTypeCountDto.builder()
+                    .type(type.name())
+                    .displayName(type.getDisplayName())
+                    .count(counts[t])
+                    .ratio(total == 0 ? 0 : (double) counts[t] / total)
+                    .build());
+        }
+
+        return PreferenceStatsDto.builder()
+                .totalEvaluations(total)
+                .distribution(types)
+                .overrideCount(matrix.getOverrides())
+                .loadedAt(loadedAt)
+                .reloadCount(reloads.sum())
+                .build();
+    }
+
+    public PreferenceWeightMatrix getMatrix() {
+        return matrix;
+    }
+
+    static PreferenceType evaluate(PreferenceWeightMatrix matrix, PreferenceResultRequest request, int[] scores) {
+        if (request == null || request.getAnswers() == null) {
+            throw new InvalidValueException("설문 응답이 비어 있습니다.");
+        }
+        Arrays.fill(scores, 0);
+        for (PreferenceAnswerRequest answer : request.getAnswers()) {
+            if (answer == null || answer.getQuestionKey() == null || answer.getSelectedOption() == null) {
+                throw new InvalidValueException("설문 질문 키와 선택지는 필수입니다.");
+            }
+            matrix.accumulate(PreferenceQuestionKey.from(answer.getQuestionKey()),
+                    PreferenceOption.from(answer.getSelectedOption()), scores);
+        }
+        return PreferenceWeightMatrix.resolve(scores);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ssafy14.a606.domain.game.preference;
+
+import com.ssafy14.a606.domain.game.enums.PreferenceOption;
+import com.ssafy14.a606.domain.game.enums.PreferenceQuestionKey;
+import com.ssafy14.a606.domain.game.enums.PreferenceType;
+
+import java.util.Arrays;
+
+/**
+ * 주거 선호도 가중치 표 (불변)
+ * - 행 = 질문 x 선택지 (question.ordinal * 선택지 수 + option.ordinal), 열 = PreferenceType.ordinal
+ * - 채점은 선택한 칸의 행을 점수 배열에 더하기만 한다 (박싱/맵 없음)
+ */
+public final class PreferenceWeightMatrix {
+
+    static final PreferenceType[] TYPES = PreferenceType.values();
+    private static final int OPTION_COUNT = PreferenceOption.values().length;
+    private static final int ROW_COUNT = PreferenceQuestionKey.values().length * OPTION_COUNT;
+
+    private final int[][] weights;
+    private final int overrides;
+
+    private PreferenceWeightMatrix(int[][] weights, int overrides) {
+        this.weights = weights;
+        this.overrides = overrides;
+    }
+
+    /**
+     * 기본 가중치 (기존 하드코딩 규칙과 같음)
+     */
+    public static PreferenceWeightMatrix defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        Builder builder = new Builder();
+        builder.set(PreferenceQuestionKey.COMMUTE_TIME, PreferenceOption.WITHIN_30_MIN, PreferenceType.STABLE_SEEKER, 2);
+        builder.set(PreferenceQuestionKey.COMMUTE_TIME, PreferenceOption.WITHIN_30_MIN, PreferenceType.LOCATION_PRIORITY, 1);
+        builder.set(PreferenceQuestionKey.COMMUTE_TIME, PreferenceOption.NO_LIMIT, PreferenceType.FLEXIBLE_MOVER, 2);
+
+        builder.set(PreferenceQuestionKey.HOUSING_COST, PreferenceOption.MINIMIZE_COST, PreferenceType.COST_CONSERVATIVE, 3);
+        builder.set(PreferenceQuestionKey.HOUSING_COST, PreferenceOption.FLEXIBLE_COST, PreferenceType.OPPORTUNITY_SEEKER, 2);
+
+        builder.set(PreferenceQuestionKey.LOAN_ATTITUDE, PreferenceOption.AVOID_LOAN, PreferenceType.STABLE_SEEKER, 2);
+        builder.set(PreferenceQuestionKey.LOAN_ATTITUDE, PreferenceOption.ACTIVE_LOAN, PreferenceType.OPPORTUNITY_SEEKER, 2);
+
+        builder.set(PreferenceQuestionKey.STAY_DURATION, PreferenceOption.LONG_TERM, PreferenceType.STABLE_SEEKER, 2);
+        builder.set(PreferenceQuestionKey.STAY_DURATION, PreferenceOption.SHORT_TERM, PreferenceType.FLEXIBLE_MOVER, 2);
+
+        builder.set(PreferenceQuestionKey.RELOCATION_FLEX, PreferenceOption.AVOID_MOVE, PreferenceType.STABLE_SEEKER, 1);
+        builder.set(PreferenceQuestionKey.RELOCATION_FLEX, PreferenceOption.FLEXIBLE_MOVE, PreferenceType.FLEXIBLE_MOVER, 2);
+
+        builder.set(PreferenceQuestionKey.SACRIFICE_PRIORITY, PreferenceOption.SACRIFICE_COST, PreferenceType.OPPORTUNITY_SEEKER, 1);
+        builder.set(PreferenceQuestionKey.SACRIFICE_PRIORITY, PreferenceOption.SACRIFICE_LOCATION, PreferenceType.COST_CONSERVATIVE, 1);
+        builder.overrides = 0;
+        return builder;
+    }
+
+    // 선택한 칸의 가중치를 scores 에 더한다 (scores 길이 = 성향 수)
+    void accumulate(PreferenceQuestionKey question, PreferenceOption option, int[] scores) {
+        int[] row = weights[question.ordinal() * OPTION_COUNT + option.ordinal()];
+        for (int t = 0; t < row.length; t++) {
+            scores[t] += row[t];
+        }
+    }
+
+    /**
+     * 최고 점수 성향 (최고 점수 동점이면 BALANCE_SEEKER)
+     */
+    static PreferenceType resolve(int[] scores) {
+        int best = 0;
+        int ties = 1;
+        for (int t = 1; t < scores.length; t++) {
+            if (scores[t] > scores[best]) {
+                best = t;
+                ties = 1;
+            } else if (scores[t] == scores[best]) {
+                ties++;
+            }
+        }
+        return ties > 1 ? PreferenceType.BALANCE_SEEKER : TYPES[best];
+    }
+
+    public int weight(PreferenceQuestionKey question, PreferenceOption option, PreferenceType type) {
+        return weights[question.ordinal() * OPTION_COUNT + option.ordinal()][type.ordinal()];
+    }
+
+    // 기본값에서 바뀐 칸 수
+    public int getOverrides() {
+        return overrides;
+    }
+
+    public static final class Builder {
+
+        private final int[][] weights = new int[ROW_COUNT][TYPES.length];
+        private int overrides;
+
+        private Builder() {
+        }
+
+        public Builder set(PreferenceQuestionKey question, PreferenceOption option, PreferenceType type, int weight) {
+            weights[question.ordinal() * OPTION_COUNT + option.ordinal()][type.ordinal()] = weight;
+            overrides++;
+            return this;
+        }
+
+        public PreferenceWeightMatrix build() {
+            int[][] copy = new int[ROW_COUNT][];
+            for (int r = 0; r < ROW_COUNT; r++) {
+                copy[r] = Arrays.copyOf(weights[r], TYPES.length);
+            }
+            return new PreferenceWeightMatrix(copy, overrides);
+        }
+    }
+}
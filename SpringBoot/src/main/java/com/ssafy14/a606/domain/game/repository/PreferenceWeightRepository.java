@@ -0,0 +1,11 @@
+package com.ssafy14.a606.domain.game.repository;
+
+import com.ssafy14.a606.domain.game.entity.PreferenceWeight;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PreferenceWeightRepository extends JpaRepository<PreferenceWeight, Long> {
+
+    List<PreferenceWeight> findAllByOrderByIdAsc();
+}
@@ -8,11 +8,13 @@ import java.util.List;
 
 public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long> {
     /**
-     * 용어 퀴즈 랜덤 10문제 조회
+     * 퀴즈 은행 적재용 - 문제와 보기를 한 번에 조회
      */
-    @Query(
-            value = "SELECT * FROM quiz_questions ORDER BY RAND() LIMIT 10",
-            nativeQuery = true
-    )
-    List<QuizQuestion> findRandom10Questions();
+    @Query("""
+            select distinct q
+            from QuizQuestion q
+            left join fetch q.options
+            order by q.id
+            """)
+    List<QuizQuestion> findAllWithOptions();
 }
@@ -0,0 +1,7 @@
+package com.ssafy14.a606.domain.game.repository;
+
+import com.ssafy14.a606.domain.game.entity.QuizQuestionStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface QuizQuestionStatRepository extends JpaRepository<QuizQuestionStat, Long> {
+}
@@ -1,73 +1,54 @@
 package com.ssafy14.a606.domain.game.service;
 
+import com.ssafy14.a606.domain.game.analytics.QuizQuestionSelector;
+import com.ssafy14.a606.domain.game.bank.QuizAnswerKey;
+import com.ssafy14.a606.domain.game.bank.QuizBank;
 import com.ssafy14.a606.domain.game.dto.request.QuizAnswerRequest;
 import com.ssafy14.a606.domain.game.dto.response.QuizAnswerResponse;
-import com.ssafy14.a606.domain.game.entity.QuizOption;
-import com.ssafy14.a606.domain.game.entity.QuizQuestion;
-import com.ssafy14.a606.domain.game.repository.QuizOptionRepository;
-import com.ssafy14.a606.domain.game.repository.QuizQuestionRepository;
 import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
 
 import com.ssafy14.a606.global.exceptions.InvalidValueException;
-import com.ssafy14.a606.global.exceptions.NotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
-@Transactional(readOnly = true)
 public class QuizService {
 
-    private final QuizQuestionRepository quizQuestionRepository;
-    private final QuizOptionRepository quizOptionRepository;
+    private static final int QUESTIONS_PER_QUIZ = 10;
 
-    public QuizService(
-            QuizQuestionRepository quizQuestionRepository,
-            QuizOptionRepository quizOptionRepository
-    ) {
-        this.quizQuestionRepository = quizQuestionRepository;
-        this.quizOptionRepository = quizOptionRepository;
+    private final QuizBank quizBank;
+    private final QuizQuestionSelector questionSelector;
+
+    public QuizService(QuizBank quizBank, QuizQuestionSelector questionSelector) {
+        this.quizBank = quizBank;
+        this.questionSelector = questionSelector;
     }
 
     /**
-     * 퀴즈 시작
+     * 퀴즈 시작 (인메모리 퀴즈 은행에서 랜덤 10문제, 적응형이면 정답률 가중)
      */
     public List<QuizQuestionResponse> getRandomQuizQuestions() {
-        return quizQuestionRepository.findRandom10Questions()
-                .stream()
-                .map(QuizQuestionResponse::from)
-                .toList();
+        return questionSelector.select(QUESTIONS_PER_QUIZ);
     }
 
     /**
-     * 정답 제출
+     * 정답 제출 (보기 id → 채점 결과 표 조회)
+     * - 세션 없이 같은 보기를 몇 번이든 보낼 수 있으므로 통계에는 남기지 않는다 (세션 응답만 QuizSessionService 에서 기록)
      */
-    @Transactional
     public QuizAnswerResponse submitAnswer(QuizAnswerRequest request) {
 
-        QuizOption option = quizOptionRepository.findById(request.getSelectedOptionId())
-                .orElseThrow(() -> new InvalidValueException("유효하지 않은 보기입니다."));
-
-        QuizQuestion question = option.getQuestion();
+        if (request.getSelectedOptionId() == null) {
+            throw new InvalidValueException("유효하지 않은 보기입니다.");
+        }
 
-        boolean isCorrect = option.isCorrect();
+        QuizAnswerKey answer = quizBank.answerOf(request.getSelectedOptionId())
+                .orElseThrow(() -> new InvalidValueException("유효하지 않은 보기입니다."));
 
         return new QuizAnswerResponse(
-                isCorrect,
-                getCorrectAnswer(question),
-                question.getExplanation()
+                answer.correct(),
+                answer.correctText(),
+                answer.explanation()
         );
     }
-
-    private String getCorrectAnswer(QuizQuestion question) {
-        return question.getOptions().stream()
-                .filter(QuizOption::isCorrect)
-                .findFirst()
-                .map(QuizOption::getOptionText)
-                .orElse("정답 없음");
-    }
 }
-
-
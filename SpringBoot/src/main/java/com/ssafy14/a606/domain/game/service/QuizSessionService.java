@@ -0,0 +1,224 @@
+package com.ssafy14.a606.domain.game.service;
+
+import com.ssafy14.a606.domain.game.analytics.QuizAnalytics;
+import com.ssafy14.a606.domain.game.analytics.QuizQuestionSelector;
+import com.ssafy14.a606.domain.game.bank.QuizAnswerKey;
+import com.ssafy14.a606.domain.game.bank.QuizBank;
+import com.ssafy14.a606.domain.game.dto.request.QuizAnswerRequest;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardEntryResponse;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardPageResponse;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardRankResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizSessionAnswerResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizSessionResultResponse;
+import com.ssafy14.a606.domain.game.dto.response.QuizSessionStartResponse;
+import com.ssafy14.a606.domain.game.leaderboard.LeaderboardPeriod;
+import com.ssafy14.a606.domain.game.leaderboard.QuizLeaderboard;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore;
+import com.ssafy14.a606.domain.user.entity.User;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import com.ssafy14.a606.global.exceptions.AuthorizationException;
+import com.ssafy14.a606.global.exceptions.DuplicateValueException;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import com.ssafy14.a606.global.exceptions.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 세션 + 리더보드
+ * - 채점은 서버에서 (정답 표는 QuizBank 메모리, 세션 상태는 Redis hash)
+ * - 세션 종료 시 일간/주간/전체 리더보드에 기간 내 최고 기록을 남긴다
+ */
+@Service
+public class QuizSessionService {
+
+    private static final int QUESTIONS_PER_QUIZ = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String GUEST = "";
+
+    private final QuizBank quizBank;
+    private final QuizQuestionSelector questionSelector;
+    private final QuizAnalytics quizAnalytics;
+    private final QuizSessionStore sessionStore;
+    private final QuizLeaderboard leaderboard;
+    private final UserRepository userRepository;
+    private final Duration sessionTtl;
+    private final Duration finishedRetention;
+
+    public QuizSessionService(QuizBank quizBank,
+                              QuizQuestionSelector questionSelector,
+                              QuizAnalytics quizAnalytics,
+                              QuizSessionStore sessionStore,
+                              QuizLeaderboard leaderboard,
+                              UserRepository userRepository,
+                              @Value("${app.game.quiz.session-ttl-ms:1800000}") long sessionTtlMs,
+                              @Value("${app.game.quiz.finished-retention-ms:300000}") long finishedRetentionMs) {
+        this.quizBank = quizBank;
+        this.questionSelector = questionSelector;
+        this.quizAnalytics = quizAnalytics;
+        this.sessionStore = sessionStore;
+        this.leaderboard = leaderboard;
+        this.userRepository = userRepository;
+        this.sessionTtl = Duration.ofMillis(sessionTtlMs);
+        this.finishedRetention = Duration.ofMillis(finishedRetentionMs);
+    }
+
+    /**
+     * 세션 시작 (출제한 문제 ID 를 세션에 기록)
+     */
+    public QuizSessionStartResponse start(Long userId) {
+        List<QuizQuestionResponse> questions = questionSelector.select(QUESTIONS_PER_QUIZ);
+        List<Long> questionIds = questions.stream().map(QuizQuestionResponse::getQuestionId).toList();
+
+        String sessionId = sessionStore.start(owner(userId), questionIds, sessionTtl);
+
+        return QuizSessionStartResponse.builder()
+                .sessionId(sessionId)
+                .expiresInSeconds(sessionTtl.toSeconds())
+                .questions(questions)
+                .build();
+    }
+
+    /**
+     * 응답 채점 (정답 확인은 메모리, 세션 갱신은 Redis 왕복 1회)
+     */
+    public QuizSessionAnswerResponse answer(String sessionId, Long userId, QuizAnswerRequest request) {
+        if (request.getQuestionId() == null || request.getSelectedOptionId() == null) {
+            throw new InvalidValueException("유효하지 않은 보기입니다.");
+        }
+
+        QuizAnswerKey answer = quizBank.answerOf(request.getSelectedOptionId())
+                .filter(key -> key.questionId().equals(request.getQuestionId()))
+                .orElseThrow(() -> new InvalidValueException("유효하지 않은 보기입니다."));
+
+        QuizSessionStore.AnswerResult result =
+                sessionStore.answer(sessionId, owner(userId), request.getQuestionId(), answer.correct());
+        check(result.status());
+        // 세션에서 받아들인 응답만 통계에 (중복 응답 제외)
+        quizAnalytics.record(request.getSelectedOptionId(), answer);
+
+        return QuizSessionAnswerResponse.builder()
+                .correct(answer.correct())
+                .correctAnswer(answer.correctText())
+                .explanation(answer.explanation())
+                .score(result.score())
+                .answeredCount(result.answered())
+                .totalCount(result.total())
+                .build();
+    }
+
+    /**
+     * 세션 종료 (로그인 사용자면 리더보드 기록)
+     */
+    public QuizSessionResultResponse finish(String sessionId, Long userId) {
+        LocalDate today = LocalDate.now(ZONE);
+        List<String> keys = new ArrayList<>();
+        List<Long> ttls = new ArrayList<>();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            keys.add(period.key(today));
+            ttls.add(period.getRetention() == null ? 0L : period.getRetention().toSeconds());
+        }
+
+        QuizSessionStore.FinishResult result =
+                sessionStore.finish(sessionId, owner(userId), finishedRetention, keys, ttls);
+        check(result.status());
+
+        return QuizSessionResultResponse.builder()
+                .score(result.score())
+                .answeredCount(result.answered())
+                .totalCount(result.total())
+                .elapsedSeconds(result.elapsedSeconds())
+                .ranked(userId != null)
+                .build();
+    }
+
+    /**
+     * 리더보드 상위 N (이름은 한 번의 IN 조회)
+     */
+    public LeaderboardPageResponse getLeaderboard(String periodValue, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidValueException("page 는 0 이상, size 는 1~" + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        LeaderboardPeriod period = LeaderboardPeriod.from(periodValue);
+        LocalDate today = LocalDate.now(ZONE);
+
+        List<QuizLeaderboard.Ranked> ranked = leaderboard.top(period, today, page, size);
+        Map<Long, String> names = userRepository.findAllById(
+                        ranked.stream().map(QuizLeaderboard.Ranked::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getUserName, (a, b) -> a));
+
+        List<LeaderboardEntryResponse> entries = ranked.stream()
+                .map(entry -> LeaderboardEntryResponse.builder()
+                        .rank(entry.rank())
+                        .userName(maskName(names.get(entry.userId())))
+                        .score(QuizLeaderboard.points(entry.composite()))
+                        .elapsedSeconds(QuizLeaderboard.elapsedSeconds(entry.composite()))
+                        .build())
+                .toList();
+
+        return LeaderboardPageResponse.builder()
+                .period(period.name())
+                .page(page)
+                .size(size)
+                .totalCount(leaderboard.size(period, today))
+                .entries(entries)
+                .build();
+    }
+
+    /**
+     * 내 순위
+     */
+    public LeaderboardRankResponse getMyRank(String periodValue, Long userId) {
+        LeaderboardPeriod period = LeaderboardPeriod.from(periodValue);
+        QuizLeaderboard.MyRank myRank = leaderboard.rankOf(period, LocalDate.now(ZONE), userId);
+        Double composite = myRank.composite();
+
+        return LeaderboardRankResponse.builder()
+                .period(period.name())
+                .rank(myRank.rank())
+                .score(composite == null ? null : QuizLeaderboard.points(composite))
+                .elapsedSeconds(composite == null ? null : QuizLeaderboard.elapsedSeconds(composite))
+                .totalCount(myRank.total())
+                .build();
+    }
+
+    private static String owner(Long userId) {
+        return userId == null ? GUEST : String.valueOf(userId);
+    }
+
+    private static void check(QuizSessionStore.Status status) {
+        switch (status) {
+            case OK -> {
+            }
+            case NOT_FOUND -> throw new NotFoundException("퀴즈 세션이 없거나 만료되었습니다.");
+            case NOT_OWNER -> throw new AuthorizationException("다른 사용자의 퀴즈 세션입니다.");
+            case NOT_IN_SESSION -> throw new InvalidValueException("이 세션에서 출제되지 않은 문제입니다.");
+            case ALREADY_ANSWERED -> throw new DuplicateValueException("이미 응답한 문제입니다.");
+            case FINISHED -> throw new DuplicateValueException("이미 종료된 퀴즈 세션입니다.");
+        }
+    }
+
+    // 홍길동 → 홍*동, 김철 → 김*, 탈퇴 등으로 이름이 없으면 "알 수 없음"
+    static String maskName(String name) {
+        if (name == null || name.isBlank()) {
+            return "알 수 없음";
+        }
+        if (name.length() == 1) {
+            return name;
+        }
+        if (name.length() == 2) {
+            return name.charAt(0) + "*";
+        }
+        return name.charAt(0) + "*".repeat(name.length() - 2) + name.charAt(name.length() - 1);
+    }
+}
@@ -0,0 +1,179 @@
+package com.ssafy14.a606.domain.game.session;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 퀴즈 세션 저장소 (세션당 Redis hash 하나)
+ * - quiz:session:{sessionId} → owner, startedAt, total, answered, score, finished, q:{questionId}
+ * - q:{questionId} 는 0(미응답) / c(정답) / w(오답) → 출제되지 않은 문제·중복 응답을 서버에서 막는다
+ * - 시작/응답/종료를 각각 Lua 스크립트 한 번으로 처리 → 응답 1건당 Redis 왕복 1회
+ * - owner 는 로그인 사용자 ID, 비로그인이면 빈 문자열 (리더보드에는 남지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizSessionStore {
+
+    private static final String KEY_PREFIX = "quiz:session:";
+
+    // ARGV: owner, 시작 시각(ms), TTL(ms), 문제 ID...
+    private static final DefaultRedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'owner', ARGV[1], 'startedAt', ARGV[2],
+                    'total', #ARGV - 3, 'answered', 0, 'score', 0)
+            for i = 4, #ARGV do
+                redis.call('HSET', KEYS[1], 'q:' .. ARGV[i], '0')
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // ARGV: owner, 문제 ID, 정답 여부(1/0)
+    // 반환: {1, score, answered, total} / {-1} 세션 없음 / {-2} 소유자 불일치 / {-3} 출제되지 않은 문제
+    //      {-4} 이미 응답한 문제 / {-5} 종료된 세션
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ANSWER_SCRIPT = new DefaultRedisScript<>("""
+            local field = 'q:' .. ARGV[2]
+            local state = redis.call('HMGET', KEYS[1], 'owner', 'finished', field, 'total')
+            if not state[1] then
+                return {-1}
+            end
+            if state[1] ~= ARGV[1] then
+                return {-2}
+            end
+            if state[2] then
+                return {-5}
+            end
+            if not state[3] then
+                return {-3}
+            end
+            if state[3] ~= '0' then
+                return {-4}
+            end
+            local correct = tonumber(ARGV[3])
+            redis.call('HSET', KEYS[1], field, correct == 1 and 'c' or 'w')
+            local score = redis.call('HINCRBY', KEYS[1], 'score', correct)
+            local answered = redis.call('HINCRBY', KEYS[1], 'answered', 1)
+            return {1, score, answered, tonumber(state[4])}
+            """, List.class);
+
+    // KEYS: 세션, 리더보드... / ARGV: owner, 현재 시각(ms), 종료 후 세션 보관(ms), 리더보드별 TTL(초, 0 이면 만료 없음)...
+    // 반환: {1, score, answered, total, 소요 초} / {-1} / {-2} / {-5}
+    // ZADD GT(6.2+) 대신 ZSCORE 비교 → 기간 내 최고 기록만 남긴다
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'owner', 'finished', 'score', 'answered', 'total', 'startedAt')
+            if not state[1] then
+                return {-1}
+            end
+            if state[1] ~= ARGV[1] then
+                return {-2}
+            end
+            if state[2] then
+                return {-5}
+            end
+            redis.call('HSET', KEYS[1], 'finished', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+
+            local score = tonumber(state[3])
+            local elapsed = math.floor((tonumber(ARGV[2]) - tonumber(state[6])) / 1000)
+            if elapsed < 0 then elapsed = 0 end
+            if elapsed > 9999 then elapsed = 9999 end
+
+            if ARGV[1] ~= '' then
+                local composite = score * 10000 + (9999 - elapsed)
+                for i = 2, #KEYS do
+                    local current = redis.call('ZSCORE', KEYS[i], ARGV[1])
+                    if not current or tonumber(current) < composite then
+                        redis.call('ZADD', KEYS[i], composite, ARGV[1])
+                    end
+                    local ttl = tonumber(ARGV[i + 2])
+                    if ttl > 0 then
+                        redis.call('EXPIRE', KEYS[i], ttl)
+                    end
+                end
+            end
+            return {1, score, tonumber(state[4]), tonumber(state[5]), elapsed}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static String key(String sessionId) {
+        return KEY_PREFIX + sessionId;
+    }
+
+    public String start(String owner, List<Long> questionIds, Duration ttl) {
+        String sessionId = UUID.randomUUID().toString();
+        List<String> args = new ArrayList<>(questionIds.size() + 3);
+        args.add(owner);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(ttl.toMillis()));
+        for (Long questionId : questionIds) {
+            args.add(String.valueOf(questionId));
+        }
+        redisTemplate.execute(START_SCRIPT, List.of(key(sessionId)), args.toArray());
+        return sessionId;
+    }
+
+    public AnswerResult answer(String sessionId, String owner, Long questionId, boolean correct) {
+        @SuppressWarnings("unchecked")
+        List<Long> result = redisTemplate.execute(ANSWER_SCRIPT, List.of(key(sessionId)),
+                owner, String.valueOf(questionId), correct ? "1" : "0");
+        Status status = Status.of(result);
+        if (status != Status.OK) {
+            return new AnswerResult(status, 0, 0, 0);
+        }
+        return new AnswerResult(status, result.get(1).intValue(), result.get(2).intValue(), result.get(3).intValue());
+    }
+
+    // leaderboardKeys 와 leaderboardTtlSeconds 는 같은 순서
+    public FinishResult finish(String sessionId, String owner, Duration finishedRetention,
+                               List<String> leaderboardKeys, List<Long> leaderboardTtlSeconds) {
+        List<String> keys = new ArrayList<>(leaderboardKeys.size() + 1);
+        keys.add(key(sessionId));
+        keys.addAll(leaderboardKeys);
+
+        List<String> args = new ArrayList<>(leaderboardTtlSeconds.size() + 3);
+        args.add(owner);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(finishedRetention.toMillis()));
+        for (Long ttl : leaderboardTtlSeconds) {
+            args.add(String.valueOf(ttl));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Long> result = redisTemplate.execute(FINISH_SCRIPT, keys, args.toArray());
+        Status status = Status.of(result);
+        if (status != Status.OK) {
+            return new FinishResult(status, 0, 0, 0, 0);
+        }
+        return new FinishResult(status, result.get(1).intValue(), result.get(2).intValue(),
+                result.get(3).intValue(), result.get(4));
+    }
+
+    public enum Status {
+        OK, NOT_FOUND, NOT_OWNER, NOT_IN_SESSION, ALREADY_ANSWERED, FINISHED;
+
+        static Status of(List<Long> result) {
+            long code = result == null || result.isEmpty() ? -1 : result.get(0);
+            if (code == 1) return OK;
+            if (code == -2) return NOT_OWNER;
+            if (code == -3) return NOT_IN_SESSION;
+            if (code == -4) return ALREADY_ANSWERED;
+            if (code == -5) return FINISHED;
+            return NOT_FOUND;
+        }
+    }
+
+    public record AnswerResult(Status status, int score, int answered, int total) {
+    }
+
+    public record FinishResult(Status status, int score, int answered, int total, long elapsedSeconds) {
+    }
+}
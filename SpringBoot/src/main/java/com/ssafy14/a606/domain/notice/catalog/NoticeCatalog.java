@@ -0,0 +1,215 @@
+package com.ssafy14.a606.domain.notice.catalog;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeCatalogStatsDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.paging.NoticeCursor;
+import com.ssafy14.a606.domain.notice.paging.NoticeSortType;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고 읽기 전용 인메모리 카탈로그
+ * - 공고는 관리자 API/요약 워커로만 바뀌므로, 커밋 이후 그 공고 한 건만 다시 읽어 새 스냅샷으로 참조를 교체한다 (copy-on-write).
+ * - 전체 적재는 기동 시(또는 한 건 반영 실패 시)에만 하고, 최근 추가순 id keyset 페이지로 읽다가 예산을 넘으면 멈춘다.
+ * - 공개 조회(목록/상세)는 volatile 참조를 읽기만 하므로 락도 DB 왕복도 없다.
+ * - 메모리 예산(app.notice.catalog.max-bytes)을 넘으면 예산만큼만 담고,
+ *   이 경우 목록 조회는 DB keyset 쿼리로, 상세 조회는 없는 id 만 DB로 넘어간다.
+ */
+@Slf4j
+@Component
+public class NoticeCatalog {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final NoticeRepository noticeRepository;
+    private final long maxBytes;
+
+    private volatile NoticeSnapshot snapshot = NoticeSnapshot.empty();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder incrementalUpdates = new LongAdder();
+    private volatile long lastRebuildMillis;
+
+    public NoticeCatalog(NoticeRepository noticeRepository,
+                         @Value("${app.notice.catalog.max-bytes:67108864}") long maxBytes) {
+        this.noticeRepository = noticeRepository;
+        this.maxBytes = maxBytes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 로딩 실패 시 빈(불완전) 스냅샷 유지 → 모든 조회가 DB로 넘어감
+            log.error("Failed to load notice catalog: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        try {
+            apply(event.noticeId());
+        } catch (Exception e) {
+            // 한 건 반영에 실패하면 전체를 다시 만든다
+            log.warn("Notice catalog update failed for {}: {}", event.noticeId(), e.getMessage());
+            refresh();
+        }
+    }
+
+    /**
+     * 공고 한 건 반영 (생성/수정/삭제/요약 갱신 공통)
+     * - 지워졌으면 빼고, 있으면 그 공고만 다시 읽어 바꿔 끼운다.
+     */
+    synchronized void apply(Long noticeId) {
+        NoticeSnapshot current = snapshot;
+        snapshot = noticeRepository.findById(noticeId)
+                .map(NoticeResponseDto::new)
+                .map(notice -> current.with(notice, maxBytes))
+                .orElseGet(() -> current.without(noticeId));
+        incrementalUpdates.increment();
+    }
+
+    /**
+     * 전체 스냅샷 재생성
+     * - 쓰기끼리만 직렬화 (오래된 스냅샷이 최신 스냅샷을 덮어쓰지 않도록)
+     * - 예산을 넘는 순간 남은 페이지는 읽지 않는다.
+     */
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+
+        Map<Long, NoticeResponseDto> byId = new HashMap<>();
+        List<NoticeListItemDto> byRegDate = new ArrayList<>();
+        List<NoticeListItemDto> byEndDate = new ArrayList<>();
+        long bytes = 0L;
+        boolean complete = true;
+
+        long beforeId = Long.MAX_VALUE;
+        while (true) {
+            List<NoticeResponseDto> page = noticeRepository.findCatalogPageBefore(
+                    beforeId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (NoticeResponseDto notice : page) {
+                long estimated = NoticeSnapshot.estimateBytes(notice);
+                if (bytes + estimated > maxBytes) {
+                    complete = false;
+                    break;
+                }
+                bytes += estimated;
+
+                byId.put(notice.getId(), notice);
+                NoticeListItemDto item = NoticeSnapshot.toItem(notice);
+                byRegDate.add(item);
+                byEndDate.add(item);
+            }
+            if (!complete || page.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            beforeId = page.get(page.size() - 1).getId();
+        }
+
+        byRegDate.sort(NoticeSnapshot.REG_DATE_ORDER);
+        byEndDate.sort(NoticeSnapshot.END_DATE_ORDER);
+
+        snapshot = new NoticeSnapshot(
+                Map.copyOf(byId),
+                List.copyOf(byRegDate),
+                List.copyOf(byEndDate),
+                complete,
+                bytes,
+                LocalDateTime.now()
+        );
+
+        rebuilds.increment();
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+
+        if (!complete) {
+            log.warn("Notice catalog exceeded memory budget ({} bytes). loaded={}",
+                    maxBytes, byId.size());
+        }
+    }
+
+    /**
+     * 상세 조회
+     * - Optional.empty() 는 "카탈로그로 판단할 수 없음" → 호출 측에서 DB 조회
+     * - 완전한 스냅샷에 없는 id 는 존재하지 않는 공고로 확정
+     */
+    public Optional<NoticeResponseDto> find(Long noticeId) {
+        NoticeSnapshot current = snapshot;
+        NoticeResponseDto found = current.get(noticeId);
+        if (found != null) {
+            hits.increment();
+            return Optional.of(found);
+        }
+        if (current.isComplete()) {
+            hits.increment();
+            throw new InvalidValueException(
+                    "해당 공고를 찾을 수 없습니다. notice Id:" + noticeId);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 목록 조회 (NoticeRepository keyset 쿼리와 같은 계약: 최대 limit 건)
+     * - 스냅샷이 불완전하면 Optional.empty() → 호출 측에서 DB 조회
+     */
+    public Optional<List<NoticeListItemDto>> page(NoticeCategory category,
+                                                  LocalDate openOn,
+                                                  LocalDate closedBefore,
+                                                  NoticeSortType sort,
+                                                  NoticeCursor cursor,
+                                                  int limit) {
+        NoticeSnapshot current = snapshot;
+        if (!current.isComplete()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(current.page(category, openOn, closedBefore, sort, cursor, limit));
+    }
+
+    public NoticeCatalogStatsDto getStats() {
+        NoticeSnapshot current = snapshot;
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        return NoticeCatalogStatsDto.builder()
+                .size(current.size())
+                .complete(current.isComplete())
+                .estimatedBytes(current.getEstimatedBytes())
+                .maxBytes(maxBytes)
+                .builtAt(current.getBuiltAt())
+                .rebuildCount(rebuilds.sum())
+                .incrementalUpdateCount(incrementalUpdates.sum())
+                .lastRebuildMillis(lastRebuildMillis)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRate(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.ssafy14.a606.domain.notice.catalog;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.paging.NoticeCursor;
+import com.ssafy14.a606.domain.notice.paging.NoticeSortType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공고 카탈로그 스냅샷 (불변)
+ * - 한 번 만들어지면 절대 수정하지 않으므로 읽기 쪽은 락 없이 공유한다.
+ * - 공고 한 건 변경은 with/without 으로 새 스냅샷을 만든다 (DB 는 그 공고만 읽음).
+ * - complete=false 이면 메모리 예산을 넘어 일부 공고만 담긴 상태 → 목록 조회는 DB로 넘긴다.
+ */
+final class NoticeSnapshot {
+
+    // 날짜가 없는 공고는 NoticeSortType 의 대체 날짜로 정렬 (DB 쿼리와 같은 순서)
+    static final Comparator<NoticeListItemDto> REG_DATE_ORDER =
+            Comparator.comparing(NoticeSortType.REG_DATE::keyOf, Comparator.reverseOrder())
+                    .thenComparing(NoticeListItemDto::getId, Comparator.reverseOrder());
+
+    static final Comparator<NoticeListItemDto> END_DATE_ORDER =
+            Comparator.comparing(NoticeSortType.END_DATE::keyOf)
+                    .thenComparing(NoticeListItemDto::getId);
+
+    // 문자열 외 DTO 두 개 + 맵/리스트 엔트리 대략치
+    private static final long PER_NOTICE_OVERHEAD_BYTES = 400L;
+
+    private final Map<Long, NoticeResponseDto> byId;
+    private final List<NoticeListItemDto> byRegDate;
+    private final List<NoticeListItemDto> byEndDate;
+    private final boolean complete;
+    private final long estimatedBytes;
+    private final LocalDateTime builtAt;
+
+    NoticeSnapshot(Map<Long, NoticeResponseDto> byId,
+                   List<NoticeListItemDto> byRegDate,
+                   List<NoticeListItemDto> byEndDate,
+                   boolean complete,
+                   long estimatedBytes,
+                   LocalDateTime builtAt) {
+        this.byId = byId;
+        this.byRegDate = byRegDate;
+        this.byEndDate = byEndDate;
+        this.complete = complete;
+        this.estimatedBytes = estimatedBytes;
+        this.builtAt = builtAt;
+    }
+
+    static NoticeSnapshot empty() {
+        return new NoticeSnapshot(Map.of(), List.of(), List.of(), false, 0L, null);
+    }
+
+    NoticeResponseDto get(Long noticeId) {
+        return byId.get(noticeId);
+    }
+
+    /**
+     * 공고 한 건을 넣거나 바꾼 새 스냅샷
+     * - 예산을 넘으면 그 공고는 담지 않고 불완전 스냅샷으로 바꾼다 (목록/해당 상세는 DB로).
+     */
+    NoticeSnapshot with(NoticeResponseDto notice, long maxBytes) {
+        NoticeSnapshot base = without(notice.getId());
+        long bytes = base.estimatedBytes + estimateBytes(notice);
+        if (bytes > maxBytes) {
+            return new NoticeSnapshot(base.byId, base.byRegDate, base.byEndDate, false,
+                    base.estimatedBytes, LocalDateTime.now());
+        }
+
+        Map<Long, NoticeResponseDto> nextById = new HashMap<>(base.byId);
+        nextById.put(notice.getId(), notice);
+        NoticeListItemDto item = toItem(notice);
+
+        return new NoticeSnapshot(
+                Map.copyOf(nextById),
+                inserted(base.byRegDate, item, REG_DATE_ORDER),
+                inserted(base.byEndDate, item, END_DATE_ORDER),
+                base.complete,
+                bytes,
+                LocalDateTime.now()
+        );
+    }
+
+    // 없으면 this 그대로
+    NoticeSnapshot without(Long noticeId) {
+        NoticeResponseDto previous = byId.get(noticeId);
+        if (previous == null) {
+            return this;
+        }
+        Map<Long, NoticeResponseDto> nextById = new HashMap<>(byId);
+        nextById.remove(noticeId);
+
+        return new NoticeSnapshot(
+                Map.copyOf(nextById),
+                removed(byRegDate, noticeId),
+                removed(byEndDate, noticeId),
+                complete,
+                estimatedBytes - estimateBytes(previous),
+                LocalDateTime.now()
+        );
+    }
+
+    static long estimateBytes(NoticeResponseDto notice) {
+        long chars = length(notice.getTitle())
+                + length(notice.getSummary())
+                + length(notice.getPdfUrl())
+                + length(notice.getOriginUrl());
+        return PER_NOTICE_OVERHEAD_BYTES + chars * 2;
+    }
+
+    static NoticeListItemDto toItem(NoticeResponseDto notice) {
+        return new NoticeListItemDto(notice.getId(), notice.getTitle(), notice.getCategory(), notice.getRegDate(),
+                notice.getStartDate(), notice.getEndDate(), notice.getPdfUrl(), notice.getOriginUrl());
+    }
+
+    private static List<NoticeListItemDto> inserted(List<NoticeListItemDto> source,
+                                                    NoticeListItemDto item,
+                                                    Comparator<NoticeListItemDto> order) {
+        List<NoticeListItemDto> next = new ArrayList<>(source.size() + 1);
+        next.addAll(source);
+        next.add(firstAfter(source, order, item), item);
+        return List.copyOf(next);
+    }
+
+    private static List<NoticeListItemDto> removed(List<NoticeListItemDto> source, Long noticeId) {
+        List<NoticeListItemDto> next = new ArrayList<>(source.size());
+        for (NoticeListItemDto row : source) {
+            if (!row.getId().equals(noticeId)) {
+                next.add(row);
+            }
+        }
+        return List.copyOf(next);
+    }
+
+    private static int length(String s) {
+        return (s == null) ? 0 : s.length();
+    }
+
+    /**
+     * NoticeRepository 의 keyset 쿼리와 같은 규칙으로 최대 limit 건을 반환
+     * - 정렬된 리스트에서 커서 위치를 이분 탐색한 뒤 필터를 통과하는 행만 모은다.
+     */
+    List<NoticeListItemDto> page(NoticeCategory category,
+                                 LocalDate openOn,
+                                 LocalDate closedBefore,
+                                 NoticeSortType sort,
+                                 NoticeCursor cursor,
+                                 int limit) {
+
+        List<NoticeListItemDto> source = (sort == NoticeSortType.REG_DATE) ? byRegDate : byEndDate;
+        Comparator<NoticeListItemDto> order = (sort == NoticeSortType.REG_DATE) ? REG_DATE_ORDER : END_DATE_ORDER;
+
+        int from = (cursor == null) ? 0 : firstAfter(source, order, probe(sort, cursor));
+
+        List<NoticeListItemDto> result = new ArrayList<>(Math.min(limit, source.size()));
+        for (int i = from; i < source.size() && result.size() < limit; i++) {
+            NoticeListItemDto row = source.get(i);
+            if (category != null && row.getCategory() != category) continue;
+            if (openOn != null && (row.getEndDate() == null || row.getEndDate().isBefore(openOn))) continue;
+            if (closedBefore != null && (row.getEndDate() == null || !row.getEndDate().isBefore(closedBefore))) continue;
+            result.add(row);
+        }
+        return result;
+    }
+
+    // 정렬 순서상 probe 보다 뒤에 오는 첫 인덱스
+    private static int firstAfter(List<NoticeListItemDto> source,
+                                  Comparator<NoticeListItemDto> order,
+                                  NoticeListItemDto probe) {
+        int lo = 0;
+        int hi = source.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (order.compare(source.get(mid), probe) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static NoticeListItemDto probe(NoticeSortType sort, NoticeCursor cursor) {
+        LocalDate regDate = (sort == NoticeSortType.REG_DATE) ? cursor.date() : null;
+        LocalDate endDate = (sort == NoticeSortType.END_DATE) ? cursor.date() : null;
+        return new NoticeListItemDto(cursor.id(), null, null, regDate, null, endDate, null, null);
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+}
@@ -1,19 +1,43 @@
 package com.ssafy14.a606.domain.notice.controller;
 
+import com.ssafy14.a606.domain.notice.catalog.NoticeCatalog;
+import com.ssafy14.a606.domain.notice.dto.request.NoticeEligibilityRequestDto;
 import com.ssafy14.a606.domain.notice.dto.request.NoticeRequestDto;
-import com.ssafy14.a606.domain.notice.dto.response.NoticeListResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.EligibleUserPageResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeCatalogStatsDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeEligibilityStatsDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeFeedStatsDto;
 import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeSearchStatsDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeSummaryStatusDto;
+import com.ssafy14.a606.domain.notice.dto.response.SummaryCacheStatsDto;
+import com.ssafy14.a606.domain.notice.eligibility.NoticeEligibilityIndex;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
+import com.ssafy14.a606.domain.notice.feed.NoticeFeedIndex;
+import com.ssafy14.a606.domain.notice.search.NoticeSearchIndex;
 import com.ssafy14.a606.domain.notice.service.NoticeService;
+import com.ssafy14.a606.domain.notice.service.NoticeSummaryCacheService;
+import com.ssafy14.a606.domain.notice.service.NoticeSummaryService;
+import com.ssafy14.a606.domain.notice.service.NoticeTargetingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin/notices")
 @RequiredArgsConstructor
 public class NoticeAdminController {
 
     private final NoticeService noticeService;
+    private final NoticeCatalog noticeCatalog;
+    private final NoticeFeedIndex noticeFeedIndex;
+    private final NoticeEligibilityIndex noticeEligibilityIndex;
+    private final NoticeSearchIndex noticeSearchIndex;
+    private final NoticeSummaryService noticeSummaryService;
+    private final NoticeTargetingService noticeTargetingService;
+    private final NoticeSummaryCacheService summaryCacheService;
 
     @PostMapping
     public ResponseEntity<NoticeResponseDto> createNotice(@RequestBody NoticeRequestDto noticeRequestDto) {
@@ -30,4 +54,105 @@ public class NoticeAdminController {
         noticeService.deleteNotice(noticeId);
         return ResponseEntity.noContent().build();
     }
+
+    // 인메모리 공고 카탈로그 상태/적중률 조회
+    @GetMapping("/catalog/stats")
+    public ResponseEntity<NoticeCatalogStatsDto> getCatalogStats() {
+        return ResponseEntity.ok(noticeCatalog.getStats());
+    }
+
+    // 선호도 피드용 카테고리별 상위 N 목록 상태
+    @GetMapping("/feed/stats")
+    public ResponseEntity<NoticeFeedStatsDto> getFeedStats() {
+        return ResponseEntity.ok(noticeFeedIndex.getStats());
+    }
+
+    // 카테고리별 상위 N 목록 전체 재생성
+    @PostMapping("/feed/rebuild")
+    public ResponseEntity<NoticeFeedStatsDto> rebuildFeed() {
+        noticeFeedIndex.rebuild();
+        return ResponseEntity.ok(noticeFeedIndex.getStats());
+    }
+
+    // 신청 자격 색인 상태
+    @GetMapping("/eligibility/stats")
+    public ResponseEntity<NoticeEligibilityStatsDto> getEligibilityStats() {
+        return ResponseEntity.ok(noticeEligibilityIndex.getStats());
+    }
+
+    // 신청 자격 색인 전체 재생성
+    @PostMapping("/eligibility/rebuild")
+    public ResponseEntity<NoticeEligibilityStatsDto> rebuildEligibility() {
+        noticeEligibilityIndex.rebuild();
+        return ResponseEntity.ok(noticeEligibilityIndex.getStats());
+    }
+
+    // 검색 색인 상태 (문서/용어/포스팅 수, 마지막 검색 시간)
+    @GetMapping("/search/stats")
+    public ResponseEntity<NoticeSearchStatsDto> getSearchStats() {
+        return ResponseEntity.ok(noticeSearchIndex.getStats());
+    }
+
+    // 검색 색인 전체 재생성
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<NoticeSearchStatsDto> rebuildSearch() {
+        noticeSearchIndex.rebuild();
+        return ResponseEntity.ok(noticeSearchIndex.getStats());
+    }
+
+    // 공고 자격 기준을 만족하는 사용자 수 + ID 페이지 (예: ?cursor=1200&size=500)
+    @GetMapping("/{id}/eligible-users")
+    public ResponseEntity<EligibleUserPageResponseDto> getEligibleUsers(
+            @PathVariable("id") Long noticeId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(noticeTargetingService.getEligibleUsers(noticeId, cursor, size));
+    }
+
+    // 공고 등록 전 자격 기준 미리보기
+    @PostMapping("/eligible-users/preview")
+    public ResponseEntity<EligibleUserPageResponseDto> previewEligibleUsers(
+            @RequestBody NoticeEligibilityRequestDto request,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(noticeTargetingService.previewEligibleUsers(request, cursor, size));
+    }
+
+    // 요약 상태별 공고 조회 (PENDING: 대기/재시도 중, FAILED: 재시도 한도 초과)
+    @GetMapping("/summaries")
+    public ResponseEntity<List<NoticeSummaryStatusDto>> getSummaryStatuses(
+            @RequestParam(defaultValue = "PENDING") SummaryStatus status
+    ) {
+        return ResponseEntity.ok(noticeSummaryService.getSummaryStatuses(status));
+    }
+
+    // 요약 재시도 (FAILED → PENDING)
+    @PostMapping("/{id}/summary/retry")
+    public ResponseEntity<NoticeSummaryStatusDto> retrySummary(@PathVariable("id") Long noticeId) {
+        return ResponseEntity.ok(noticeSummaryService.retry(noticeId));
+    }
+
+    // 요약 캐시 적중률 조회
+    @GetMapping("/summary-cache/stats")
+    public ResponseEntity<SummaryCacheStatsDto> getSummaryCacheStats() {
+        return ResponseEntity.ok(summaryCacheService.getStats());
+    }
+
+    // 요약 캐시 무효화 (입력 해시)
+    @DeleteMapping("/summary-cache/{hash}")
+    public ResponseEntity<Void> invalidateSummaryCache(@PathVariable("hash") String inputHash) {
+        return summaryCacheService.invalidate(inputHash)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    // 요약 캐시 무효화 (공고 제목)
+    @DeleteMapping("/summary-cache")
+    public ResponseEntity<Void> invalidateSummaryCacheByTitle(@RequestParam String title) {
+        return summaryCacheService.invalidateByTitle(title)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
 }
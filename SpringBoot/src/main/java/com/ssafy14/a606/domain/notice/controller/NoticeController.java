@@ -1,11 +1,18 @@
 package com.ssafy14.a606.domain.notice.controller;
 
-import com.ssafy14.a606.domain.notice.dto.request.NoticeRequestDto;
+import com.ssafy14.a606.domain.notice.dto.request.NoticeListRequestDto;
+import com.ssafy14.a606.domain.notice.dto.request.NoticeSearchRequestDto;
+import com.ssafy14.a606.domain.notice.dto.response.EligibleNoticeResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeFeedResponseDto;
 import com.ssafy14.a606.domain.notice.dto.response.NoticeListResponseDto;
 import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeSearchResponseDto;
+import com.ssafy14.a606.domain.notice.service.NoticeSearchService;
 import com.ssafy14.a606.domain.notice.service.NoticeService;
+import com.ssafy14.a606.global.security.user.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -14,10 +21,36 @@ import org.springframework.web.bind.annotation.*;
 public class NoticeController {
 
     private final NoticeService noticeService;
+    private final NoticeSearchService noticeSearchService;
 
     @GetMapping
-    public ResponseEntity<NoticeListResponseDto> getNoticeList() {
-        return ResponseEntity.ok(noticeService.getNoticeList());
+    public ResponseEntity<NoticeListResponseDto> getNoticeList(@ModelAttribute NoticeListRequestDto request) {
+        return ResponseEntity.ok(noticeService.getNoticeList(request));
+    }
+
+    // 제목/요약 검색, 관련도순 (예: ?q=청년 매입임대&category=YOUTH_RESIDENCE&status=OPEN&page=0&size=20)
+    @GetMapping("/search")
+    public ResponseEntity<NoticeSearchResponseDto> searchNotices(@ModelAttribute NoticeSearchRequestDto request) {
+        return ResponseEntity.ok(noticeSearchService.search(request));
+    }
+
+    // 선호도 유형별 추천 공고 (예: ?type=STABLE_SEEKER&size=20)
+    @GetMapping("/feed")
+    public ResponseEntity<NoticeFeedResponseDto> getNoticeFeed(
+            @RequestParam String type,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(noticeService.getNoticeFeed(type, size));
+    }
+
+    // 내 정보로 신청 가능한 공고 (예: ?size=20&includeUnspecified=true)
+    @GetMapping("/eligible")
+    public ResponseEntity<EligibleNoticeResponseDto> getEligibleNotices(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeUnspecified
+    ) {
+        return ResponseEntity.ok(noticeService.getEligibleNotices(principal.getUserId(), size, includeUnspecified));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,23 @@
+package com.ssafy14.a606.domain.notice.dto.request;
+
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 공고 신청 자격 기준 입력 (비워 둔 항목은 제한 없음)
+ */
+@Getter
+@Setter
+public class NoticeEligibilityRequestDto {
+
+    private Long maxIncome;
+    private Long maxAsset;
+    private List<TargetType> targetTypes;
+    private List<MarriageStatus> marriageStatuses;
+    private Integer minChildCount;
+    private Boolean requireNoHouse;
+}
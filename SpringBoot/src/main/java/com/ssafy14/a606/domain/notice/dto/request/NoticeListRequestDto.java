@@ -0,0 +1,27 @@
+package com.ssafy14.a606.domain.notice.dto.request;
+
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.paging.NoticeSortType;
+import com.ssafy14.a606.domain.notice.paging.NoticeStatusFilter;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class NoticeListRequestDto {
+
+    // 카테고리 필터 (없으면 전체)
+    private NoticeCategory category;
+
+    // 마감 여부 필터 (없으면 ALL)
+    private NoticeStatusFilter status;
+
+    // 정렬 기준 (없으면 REG_DATE)
+    private NoticeSortType sort;
+
+    // 이전 응답의 nextCursor (첫 페이지는 비움)
+    private String cursor;
+
+    // 페이지 크기 (기본 20, 최대 100)
+    private Integer size;
+}
@@ -18,4 +18,7 @@ public class NoticeRequestDto {
     private String pdfUrl;
     private String originUrl;
     private String summary;
+
+    // 신청 자격 기준 (수정 시 null 이면 기존 기준 유지)
+    private NoticeEligibilityRequestDto eligibility;
 }
@@ -0,0 +1,34 @@
+package com.ssafy14.a606.domain.notice.dto.request;
+
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.paging.NoticeStatusFilter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class NoticeSearchRequestDto {
+
+    // 검색어 (2자 이상)
+    private String q;
+
+    // 카테고리 필터 (없으면 전체)
+    private NoticeCategory category;
+
+    // 마감 여부 필터 (없으면 ALL)
+    private NoticeStatusFilter status;
+
+    // 등록일 범위 (양 끝 포함, 없으면 제한 없음)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate regFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate regTo;
+
+    // 0부터 시작하는 페이지 번호 / 페이지 크기 (기본 20, 최대 50)
+    private Integer page;
+    private Integer size;
+}
@@ -0,0 +1,20 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 내 정보로 신청 가능한 공고 (마감 전, 마감 임박순)
+ */
+@Getter
+@Builder
+public class EligibleNoticeResponseDto {
+
+    private int totalCount;
+    private List<NoticeListItemDto> items;
+
+    // 비어 있어 해당 기준이 있는 공고를 걸러낸 내 정보 항목 (예: income)
+    private List<String> missingFields;
+}
@@ -0,0 +1,19 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 공고 자격 기준을 만족하는 사용자 (알림/타게팅 대상)
+ * - userIds 는 ID 오름차순, nextCursor 가 null 이면 마지막 페이지
+ */
+@Getter
+@Builder
+public class EligibleUserPageResponseDto {
+
+    private int totalCount;
+    private List<Long> userIds;
+    private Long nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class NoticeCatalogStatsDto {
+
+    // 스냅샷에 담긴 공고 수
+    private int size;
+
+    // 메모리 예산 안에 전체 공고가 다 들어갔는지 여부
+    private boolean complete;
+
+    private long estimatedBytes;
+    private long maxBytes;
+    private LocalDateTime builtAt;
+
+    private long rebuildCount;
+    // 공고 한 건씩 반영한 횟수 (전체 재생성 없이)
+    private long incrementalUpdateCount;
+    private long lastRebuildMillis;
+
+    // 카탈로그로 응답한 조회 수 / DB로 넘어간 조회 수
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+}
@@ -0,0 +1,21 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class NoticeEligibilityStatsDto {
+
+    // 색인에 올라간 마감 전 공고 수
+    private int noticeCount;
+
+    // 그중 자격 기준이 등록된 공고 수
+    private int specifiedCount;
+
+    private LocalDateTime builtAt;
+    private long rebuildCount;
+    private long matchCount;
+}
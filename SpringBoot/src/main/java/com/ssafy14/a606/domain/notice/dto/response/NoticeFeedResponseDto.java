@@ -0,0 +1,19 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 선호도 유형별 공고 피드 (추천 카테고리의 마감 전 공고, 마감 임박순)
+ */
+@Getter
+@Builder
+public class NoticeFeedResponseDto {
+
+    private String type;
+    private String displayName;
+    private List<String> recommendedCategories;
+    private List<NoticeListItemDto> items;
+}
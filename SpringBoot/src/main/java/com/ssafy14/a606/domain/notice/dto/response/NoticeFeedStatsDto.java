@@ -0,0 +1,26 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class NoticeFeedStatsDto {
+
+    private int topN;
+
+    // 카테고리별 보관 중인 공고 수
+    private Map<String, Integer> categorySizes;
+
+    // 상위 N 밖에 공고가 더 있는 카테고리
+    private List<String> truncatedCategories;
+
+    private LocalDateTime builtAt;
+    private long rebuildCount;
+    private long incrementalUpdateCount;
+    private long refillCount;
+}
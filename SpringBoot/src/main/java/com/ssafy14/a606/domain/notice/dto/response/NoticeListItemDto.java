@@ -0,0 +1,35 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 공고 목록용 응답
+ * - 요약본(@Lob summary)은 상세 조회에서만 내려준다.
+ */
+@Getter
+public class NoticeListItemDto {
+
+    private Long id;
+    private String title;
+    private NoticeCategory category;
+    private LocalDate regDate;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String pdfUrl;
+    private String originUrl;
+
+    public NoticeListItemDto(Long id, String title, NoticeCategory category, LocalDate regDate,
+                             LocalDate startDate, LocalDate endDate, String pdfUrl, String originUrl) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.regDate = regDate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.pdfUrl = pdfUrl;
+        this.originUrl = originUrl;
+    }
+}
@@ -7,9 +7,16 @@ import java.util.List;
 @Getter
 public class NoticeListResponseDto {
 
-    private List<NoticeResponseDto> notices;
+    private List<NoticeListItemDto> notices;
 
-    public NoticeListResponseDto(List<NoticeResponseDto> notices) {
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    public NoticeListResponseDto(List<NoticeListItemDto> notices, String nextCursor, boolean hasNext) {
         this.notices = notices;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
     }
 }
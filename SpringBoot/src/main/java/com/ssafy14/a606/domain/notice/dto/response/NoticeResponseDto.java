@@ -2,6 +2,7 @@ package com.ssafy14.a606.domain.notice.dto.response;
 
 import com.ssafy14.a606.domain.notice.entity.Notice;
 import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
 import lombok.Getter;
 
 import java.time.LocalDate;
@@ -19,6 +20,7 @@ public class NoticeResponseDto {
     private String pdfUrl;
     private String originUrl;
     private String summary;
+    private SummaryStatus summaryStatus;
 
     public  NoticeResponseDto(Notice notice) {
         this.id = notice.getId();
@@ -30,5 +32,22 @@ public class NoticeResponseDto {
         this.pdfUrl = notice.getPdfUrl();
         this.originUrl = notice.getOriginUrl();
         this.summary = notice.getSummary();
+        this.summaryStatus = notice.getSummaryStatus();
+    }
+
+    // JPQL 생성자 projection 용 (NoticeRepository.findCatalogPageBefore)
+    public NoticeResponseDto(Long id, String title, NoticeCategory category, LocalDate regDate,
+                             LocalDate startDate, LocalDate endDate, String pdfUrl, String originUrl,
+                             String summary, SummaryStatus summaryStatus) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.regDate = regDate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.pdfUrl = pdfUrl;
+        this.originUrl = originUrl;
+        this.summary = summary;
+        this.summaryStatus = summaryStatus;
     }
 }
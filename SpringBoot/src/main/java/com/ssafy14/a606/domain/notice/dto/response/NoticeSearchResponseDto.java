@@ -0,0 +1,20 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 공고 검색 결과 (관련도순)
+ */
+@Getter
+@Builder
+public class NoticeSearchResponseDto {
+
+    private String query;
+    private int totalCount;
+    private int page;
+    private int size;
+    private List<NoticeListItemDto> items;
+}
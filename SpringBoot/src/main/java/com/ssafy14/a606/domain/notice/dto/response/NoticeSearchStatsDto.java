@@ -0,0 +1,30 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class NoticeSearchStatsDto {
+
+    // 기동 후 첫 적재가 끝났는지
+    private boolean ready;
+
+    private int documentCount;
+
+    // 수정/삭제로 지워졌지만 아직 압축되지 않은 문서 수
+    private int deletedDocumentCount;
+
+    private int termCount;
+    private long postingCount;
+
+    private LocalDateTime builtAt;
+    private long rebuildCount;
+    private long lastRebuildMillis;
+    private long compactionCount;
+    private long incrementalUpdateCount;
+    private long queryCount;
+    private long lastQueryMicros;
+}
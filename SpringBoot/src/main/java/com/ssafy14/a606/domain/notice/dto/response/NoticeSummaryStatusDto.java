@@ -0,0 +1,27 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class NoticeSummaryStatusDto {
+
+    private Long id;
+    private String title;
+    private SummaryStatus summaryStatus;
+    private int summaryAttempts;
+    private String summaryError;
+    private LocalDateTime summaryNextAttemptAt;
+
+    public NoticeSummaryStatusDto(Notice notice) {
+        this.id = notice.getId();
+        this.title = notice.getTitle();
+        this.summaryStatus = notice.getSummaryStatus();
+        this.summaryAttempts = notice.getSummaryAttempts();
+        this.summaryError = notice.getSummaryError();
+        this.summaryNextAttemptAt = notice.getSummaryNextAttemptAt();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy14.a606.domain.notice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SummaryCacheStatsDto {
+
+    private long entryCount;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long storeCount;
+    private long invalidationCount;
+}
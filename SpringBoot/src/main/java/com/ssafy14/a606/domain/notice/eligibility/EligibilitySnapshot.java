@@ -0,0 +1,285 @@
+package com.ssafy14.a606.domain.notice.eligibility;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.user.entity.HouseOwn;
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 자격 색인 (불변)
+ * - 공고 위치 = 마감 임박순 (end_date, id) 순번 → 비트를 앞에서부터 읽으면 그대로 마감 임박순
+ * - 대상 유형 / 결혼 여부: 값마다 허용 공고 비트셋 (제한 없는 공고는 모든 값에 켜 둔다)
+ * - 소득 / 자산: 상한이 있는 공고만 상한 오름차순으로 정렬 → 이분 탐색으로 상한 미만 구간을 찾아 비트를 끈다
+ * - 최소 자녀 수: 부호를 뒤집어 같은 상한 구조에 넣는다 (min <= count ⇔ -min >= -count)
+ * - 사용자 값이 비어 있으면 그 항목에 제한이 없는 공고만 남긴다
+ */
+@Slf4j
+final class EligibilitySnapshot {
+
+    private static final TargetType[] TARGET_TYPES = TargetType.values();
+    private static final MarriageStatus[] MARRIAGE_STATUSES = MarriageStatus.values();
+
+    static final EligibilitySnapshot EMPTY = build(List.of());
+
+    private final NoticeListItemDto[] items;
+    private final BitSet all;
+    private final BitSet specified;
+    private final BitSet[] byTargetType;
+    private final BitSet targetTypeOpen;
+    private final BitSet[] byMarriageStatus;
+    private final BitSet marriageStatusOpen;
+    private final BitSet houseOpen;
+    private final Ceiling income;
+    private final Ceiling asset;
+    private final Ceiling negChildCount;
+
+    private EligibilitySnapshot(NoticeListItemDto[] items, BitSet specified,
+                                BitSet[] byTargetType, BitSet targetTypeOpen,
+                                BitSet[] byMarriageStatus, BitSet marriageStatusOpen,
+                                BitSet houseOpen, Ceiling income, Ceiling asset, Ceiling negChildCount) {
+        this.items = items;
+        this.all = new BitSet(items.length);
+        this.all.set(0, items.length);
+        this.specified = specified;
+        this.byTargetType = byTargetType;
+        this.targetTypeOpen = targetTypeOpen;
+        this.byMarriageStatus = byMarriageStatus;
+        this.marriageStatusOpen = marriageStatusOpen;
+        this.houseOpen = houseOpen;
+        this.income = income;
+        this.asset = asset;
+        this.negChildCount = negChildCount;
+    }
+
+    /**
+     * rows 는 마감 임박순으로 정렬되어 있어야 한다
+     */
+    static EligibilitySnapshot build(List<NoticeEligibilityRow> rows) {
+        int n = rows.size();
+        NoticeListItemDto[] items = new NoticeListItemDto[n];
+        BitSet specified = new BitSet(n);
+        BitSet[] byTargetType = newBitSets(TARGET_TYPES.length, n);
+        BitSet targetTypeOpen = new BitSet(n);
+        BitSet[] byMarriageStatus = newBitSets(MARRIAGE_STATUSES.length, n);
+        BitSet marriageStatusOpen = new BitSet(n);
+        BitSet houseOpen = new BitSet(n);
+        Ceiling.Builder income = new Ceiling.Builder(n);
+        Ceiling.Builder asset = new Ceiling.Builder(n);
+        Ceiling.Builder negChildCount = new Ceiling.Builder(n);
+
+        for (int pos = 0; pos < n; pos++) {
+            NoticeEligibilityRow row = rows.get(pos);
+            items[pos] = new NoticeListItemDto(row.id(), row.title(), row.category(), row.regDate(),
+                    row.startDate(), row.endDate(), row.pdfUrl(), row.originUrl());
+            if (row.criteriaId() != null) {
+                specified.set(pos);
+            }
+
+            boolean[] targets = parse(row.id(), row.targetTypes(), TARGET_TYPES);
+            if (targets == null) {
+                targetTypeOpen.set(pos);
+            }
+            for (int v = 0; v < TARGET_TYPES.length; v++) {
+                if (targets == null || targets[v]) {
+                    byTargetType[v].set(pos);
+                }
+            }
+
+            boolean[] statuses = parse(row.id(), row.marriageStatuses(), MARRIAGE_STATUSES);
+            if (statuses == null) {
+                marriageStatusOpen.set(pos);
+            }
+            for (int v = 0; v < MARRIAGE_STATUSES.length; v++) {
+                if (statuses == null || statuses[v]) {
+                    byMarriageStatus[v].set(pos);
+                }
+            }
+
+            if (!Boolean.TRUE.equals(row.requireNoHouse())) {
+                houseOpen.set(pos);
+            }
+            income.add(pos, row.maxIncome());
+            asset.add(pos, row.maxAsset());
+            negChildCount.add(pos, row.minChildCount() == null ? null : -(long) row.minChildCount());
+        }
+
+        return new EligibilitySnapshot(items, specified, byTargetType, targetTypeOpen,
+                byMarriageStatus, marriageStatusOpen, houseOpen, income.build(), asset.build(),
+                negChildCount.build());
+    }
+
+    /**
+     * 자격을 만족하는 공고 위치 (includeUnspecified 면 기준 미등록 공고도 포함)
+     */
+    BitSet match(Applicant applicant, boolean includeUnspecified) {
+        BitSet result = (BitSet) (includeUnspecified ? all : specified).clone();
+
+        TargetType targetType = applicant.targetType();
+        result.and(targetType == null ? targetTypeOpen : byTargetType[targetType.ordinal()]);
+
+        MarriageStatus marriageStatus = applicant.marriageStatus();
+        result.and(marriageStatus == null ? marriageStatusOpen : byMarriageStatus[marriageStatus.ordinal()]);
+
+        if (applicant.houseOwn() != HouseOwn.NO) {
+            result.and(houseOpen);
+        }
+        income.exclude(result, applicant.income());
+        asset.exclude(result, applicant.asset());
+        negChildCount.exclude(result, applicant.childCount() == null ? null : -(long) applicant.childCount());
+        return result;
+    }
+
+    // 마감된 공고는 건너뛰고 앞에서부터 최대 limit 건, 전체 건수는 total 에
+    List<NoticeListItemDto> collect(BitSet matched, LocalDate today, int limit, int[] total) {
+        List<NoticeListItemDto> result = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        int count = 0;
+        for (int pos = matched.nextSetBit(0); pos >= 0; pos = matched.nextSetBit(pos + 1)) {
+            NoticeListItemDto item = items[pos];
+            if (item.getEndDate().isBefore(today)) {
+                continue;
+            }
+            if (result.size() < limit) {
+                result.add(item);
+            }
+            count++;
+        }
+        total[0] = count;
+        return result;
+    }
+
+    int size() {
+        return items.length;
+    }
+
+    int specifiedCount() {
+        return specified.cardinality();
+    }
+
+    private static BitSet[] newBitSets(int count, int bits) {
+        BitSet[] sets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            sets[i] = new BitSet(bits);
+        }
+        return sets;
+    }
+
+    // "YOUTH,NEWLYWED" → 허용 여부 배열, 비어 있으면 null (제한 없음)
+    private static <E extends Enum<E>> boolean[] parse(Long noticeId, String csv, E[] values) {
+        if (csv == null || csv.isBlank()) {
+            return null;
+        }
+        boolean[] allowed = new boolean[values.length];
+        boolean any = false;
+        for (String token : csv.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            E value = find(values, name);
+            if (value == null) {
+                log.warn("Unknown eligibility value '{}' on notice {}", name, noticeId);
+                continue;
+            }
+            allowed[value.ordinal()] = true;
+            any = true;
+        }
+        return any ? allowed : null;
+    }
+
+    private static <E extends Enum<E>> E find(E[] values, String name) {
+        for (E value : values) {
+            if (value.name().equals(name)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 판정에 쓰는 사용자 정보
+     */
+    record Applicant(TargetType targetType, MarriageStatus marriageStatus, HouseOwn houseOwn,
+                     Long income, Long asset, Integer childCount) {
+    }
+
+    /**
+     * 상한이 있는 공고만 (상한 오름차순, 공고 위치)
+     */
+    static final class Ceiling {
+
+        private final long[] limits;
+        private final int[] positions;
+
+        private Ceiling(long[] limits, int[] positions) {
+            this.limits = limits;
+            this.positions = positions;
+        }
+
+        // 상한 < value 인 공고를 끈다, value 가 null 이면 상한 있는 공고 전부를 끈다
+        void exclude(BitSet result, Long value) {
+            int end = value == null ? limits.length : lowerBound(value);
+            for (int i = 0; i < end; i++) {
+                result.clear(positions[i]);
+            }
+        }
+
+        // limits[i] >= value 인 첫 i
+        private int lowerBound(long value) {
+            int lo = 0;
+            int hi = limits.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (limits[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        static final class Builder {
+
+            private final long[] limits;
+            private final int[] positions;
+            private int size;
+
+            Builder(int capacity) {
+                this.limits = new long[capacity];
+                this.positions = new int[capacity];
+            }
+
+            void add(int position, Long limit) {
+                if (limit == null) {
+                    return;
+                }
+                limits[size] = limit;
+                positions[size] = position;
+                size++;
+            }
+
+            Ceiling build() {
+                Integer[] order = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (a, b) -> Long.compare(limits[a], limits[b]));
+
+                long[] sortedLimits = new long[size];
+                int[] sortedPositions = new int[size];
+                for (int i = 0; i < size; i++) {
+                    sortedLimits[i] = limits[order[i]];
+                    sortedPositions[i] = positions[order[i]];
+                }
+                return new Ceiling(sortedLimits, sortedPositions);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy14.a606.domain.notice.eligibility;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeEligibilityStatsDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.repository.NoticeEligibilityRepository;
+import com.ssafy14.a606.domain.user.entity.UserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고 신청 자격 색인
+ * - 마감 전 공고와 자격 기준을 EligibilitySnapshot(비트셋 + 정렬된 상한 배열)으로 컴파일해 두고 참조만 교체
+ * - 판정은 비트셋 AND 와 이분 탐색뿐이라 요청마다 공고 쪽 SQL 이 없다
+ * - 공고 생성/수정/삭제 커밋 후, 그리고 매일 0시(마감 공고 제거)에 전체를 다시 만든다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeEligibilityIndex {
+
+    private final NoticeEligibilityRepository noticeEligibilityRepository;
+
+    private volatile EligibilitySnapshot snapshot = EligibilitySnapshot.EMPTY;
+    private volatile LocalDateTime builtAt;
+
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build notice eligibility index: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.notice.eligibility.rebuild-cron:10 0 0 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Notice eligibility rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        snapshot = EligibilitySnapshot.build(noticeEligibilityRepository.findOpenWithCriteria(LocalDate.now()));
+        rebuilds.increment();
+        builtAt = LocalDateTime.now();
+    }
+
+    // 공고 위치가 마감일 순서에 묶여 있어 한 건만 끼워 넣기보다 다시 만든다 (공고 쓰기는 관리자만)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.type() == NoticeChangedEvent.ChangeType.SUMMARY_UPDATED) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 실패 시 기존 색인 유지, 0시 재생성 때 맞춰진다
+            log.warn("Notice eligibility update failed for {}: {}", event.noticeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 정보로 신청 가능한 마감 전 공고 (마감 임박순, 최대 limit 건)
+     */
+    public Result match(UserDetails details, boolean includeUnspecified, int limit) {
+        EligibilitySnapshot current = snapshot;
+        EligibilitySnapshot.Applicant applicant = new EligibilitySnapshot.Applicant(details.getTargetType(),
+                details.getMarriageStatus(), details.getHouseOwn(), details.getIncome(), details.getAsset(),
+                details.getChildCount());
+
+        BitSet matched = current.match(applicant, includeUnspecified);
+        int[] total = new int[1];
+        List<NoticeListItemDto> items = current.collect(matched, LocalDate.now(), limit, total);
+        matches.increment();
+        return new Result(total[0], items);
+    }
+
+    public NoticeEligibilityStatsDto getStats() {
+        EligibilitySnapshot current = snapshot;
+        return NoticeEligibilityStatsDto.builder()
+                .noticeCount(current.size())
+                .specifiedCount(current.specifiedCount())
+                .builtAt(builtAt)
+                .rebuildCount(rebuilds.sum())
+                .matchCount(matches.sum())
+                .build();
+    }
+
+    public record Result(int totalCount, List<NoticeListItemDto> items) {
+    }
+}
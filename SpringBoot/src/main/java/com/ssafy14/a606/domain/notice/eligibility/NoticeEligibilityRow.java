@@ -0,0 +1,28 @@
+package com.ssafy14.a606.domain.notice.eligibility;
+
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+
+import java.time.LocalDate;
+
+/**
+ * 자격 색인 적재용 행 (마감 전 공고 + 자격 기준 left join)
+ * - criteriaId 가 null 이면 기준이 등록되지 않은 공고
+ */
+public record NoticeEligibilityRow(
+        Long id,
+        String title,
+        NoticeCategory category,
+        LocalDate regDate,
+        LocalDate startDate,
+        LocalDate endDate,
+        String pdfUrl,
+        String originUrl,
+        Long criteriaId,
+        Long maxIncome,
+        Long maxAsset,
+        String targetTypes,
+        String marriageStatuses,
+        Integer minChildCount,
+        Boolean requireNoHouse
+) {
+}
@@ -7,13 +7,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "notices")
+@Table(
+        name = "notices",
+        indexes = {
+                @Index(name = "idx_notice_period", columnList = "start_date, end_date"),
+                // 목록 keyset 페이지네이션용 (정렬 키, id)
+                @Index(name = "idx_notice_end_date_id", columnList = "end_date, id"),
+                @Index(name = "idx_notice_reg_date_id", columnList = "reg_date, id"),
+                // 요약 워커 폴링용 (상태, 다음 시도 시각)
+                @Index(name = "idx_notice_summary_due", columnList = "summary_status, summary_next_attempt_at")
+        }
+)
 public class Notice {
 
     @Id
@@ -48,6 +59,25 @@ public class Notice {
     @Lob
     private String summary;
 
+    // 요약 상태 (null 이면 비동기 요약 도입 이전에 저장된 공고)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SummaryStatus summaryStatus;
+
+    // 요약 시도 횟수
+    private int summaryAttempts;
+
+    // 마지막 요약 실패 사유
+    @Column(length = 500)
+    private String summaryError;
+
+    // 다음 요약 시도 시각 (PENDING 일 때만 사용)
+    private LocalDateTime summaryNextAttemptAt;
+
+    // 현재 요약의 입력 해시 (SummaryInputHasher, 요약 캐시 키)
+    @Column(length = 64)
+    private String summaryInputHash;
+
 
     // 생성자 빌더
     @Builder
@@ -62,7 +92,8 @@ public class Notice {
         this.summary =  summary;
     }
 
-    public void update(String title, NoticeCategory category, LocalDate regDate, LocalDate startDate, LocalDate endDate, String pdfUrl, String originUrl, String summary) {
+    // 요약은 입력 해시 비교가 필요하므로 NoticeService 에서 별도로 반영
+    public void update(String title, NoticeCategory category, LocalDate regDate, LocalDate startDate, LocalDate endDate, String pdfUrl, String originUrl) {
         this.title = title;
         this.category = category;
         this.regDate = regDate;
@@ -70,7 +101,41 @@ public class Notice {
         this.endDate = endDate;
         this.originUrl=originUrl;
         this.pdfUrl = pdfUrl;
+    }
+
+    // 요약 대기 상태로 전환 (신규 생성 / 관리자 재시도 / 입력 변경)
+    public void requestSummary(String inputHash) {
+        this.summaryInputHash = inputHash;
+        this.summaryStatus = SummaryStatus.PENDING;
+        this.summaryAttempts = 0;
+        this.summaryError = null;
+        this.summaryNextAttemptAt = LocalDateTime.now();
+    }
+
+    public void completeSummary(String summary, String inputHash) {
         this.summary = summary;
+        this.summaryInputHash = inputHash;
+        this.summaryStatus = SummaryStatus.COMPLETED;
+        this.summaryError = null;
+        this.summaryNextAttemptAt = null;
+    }
+
+    // 입력 해시만 기록 (해시 도입 이전 공고의 요약을 그대로 유지할 때)
+    public void markSummaryInput(String inputHash) {
+        this.summaryInputHash = inputHash;
+    }
+
+    /**
+     * 요약 실패 기록
+     * - nextAttemptAt 이 null 이면 재시도 한도 초과 → FAILED
+     */
+    public void failSummaryAttempt(String error, LocalDateTime nextAttemptAt) {
+        this.summaryAttempts++;
+        this.summaryError = error;
+        this.summaryNextAttemptAt = nextAttemptAt;
+        if (nextAttemptAt == null) {
+            this.summaryStatus = SummaryStatus.FAILED;
+        }
     }
 
     @Override
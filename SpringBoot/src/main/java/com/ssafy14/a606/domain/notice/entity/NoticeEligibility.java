@@ -0,0 +1,89 @@
+package com.ssafy14.a606.domain.notice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 공고 신청 자격 기준 (공고 1:1, PK = notice_id)
+ * - null / 빈 값인 항목은 제한 없음
+ * - 대상 유형 / 결혼 여부는 허용 값 목록을 콤마로 이어 저장한다 (예: "YOUTH,NEWLYWED")
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_eligibility")
+public class NoticeEligibility {
+
+    @Id
+    @Column(name = "notice_id")
+    private Long noticeId;
+
+    // 소득 상한 (원 단위, 이하면 자격)
+    @Column(name = "max_income")
+    private Long maxIncome;
+
+    // 자산 상한 (원 단위, 이하면 자격)
+    @Column(name = "max_asset")
+    private Long maxAsset;
+
+    // 허용 대상 유형 (TargetType 이름 목록)
+    @Column(name = "target_types", length = 100)
+    private String targetTypes;
+
+    // 허용 결혼 여부 (MarriageStatus 이름 목록)
+    @Column(name = "marriage_statuses", length = 100)
+    private String marriageStatuses;
+
+    // 최소 자녀 수 (다자녀 등)
+    @Column(name = "min_child_count")
+    private Integer minChildCount;
+
+    // 무주택자만 신청 가능
+    @Column(name = "require_no_house", nullable = false)
+    private boolean requireNoHouse;
+
+    public NoticeEligibility(Long noticeId) {
+        this.noticeId = noticeId;
+    }
+
+    public void update(Long maxIncome, Long maxAsset, String targetTypes, String marriageStatuses,
+                       Integer minChildCount, boolean requireNoHouse) {
+        this.maxIncome = maxIncome;
+        this.maxAsset = maxAsset;
+        this.targetTypes = targetTypes;
+        this.marriageStatuses = marriageStatuses;
+        this.minChildCount = minChildCount;
+        this.requireNoHouse = requireNoHouse;
+    }
+
+    // 저장된 이름 목록 → 허용 값 집합 (알 수 없는 이름은 무시, 비어 있으면 제한 없음)
+    public Set<TargetType> targetTypeSet() {
+        return parse(targetTypes, TargetType.class);
+    }
+
+    public Set<MarriageStatus> marriageStatusSet() {
+        return parse(marriageStatuses, MarriageStatus.class);
+    }
+
+    private static <E extends Enum<E>> Set<E> parse(String csv, Class<E> type) {
+        EnumSet<E> values = EnumSet.noneOf(type);
+        if (csv == null) {
+            return values;
+        }
+        for (String token : csv.split(",")) {
+            for (E value : type.getEnumConstants()) {
+                if (value.name().equals(token.trim())) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+}
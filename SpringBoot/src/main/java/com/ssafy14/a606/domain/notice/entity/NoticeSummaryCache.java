@@ -0,0 +1,37 @@
+package com.ssafy14.a606.domain.notice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요약 캐시 (content-addressed)
+ * - 키: 요약 입력(정규화된 제목)의 SHA-256
+ * - 같은 입력으로 다시 요약을 요청하면 FastAPI 를 호출하지 않고 이 값을 재사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notice_summary_cache")
+public class NoticeSummaryCache {
+
+    @Id
+    @Column(name = "input_hash", length = 64)
+    private String inputHash;
+
+    @Lob
+    @Column(nullable = false)
+    private String summary;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public NoticeSummaryCache(String inputHash, String summary) {
+        this.inputHash = inputHash;
+        this.summary = summary;
+        this.createdAt = LocalDateTime.now();
+    }
+}
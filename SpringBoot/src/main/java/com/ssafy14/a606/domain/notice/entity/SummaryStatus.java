@@ -0,0 +1,7 @@
+package com.ssafy14.a606.domain.notice.entity;
+
+public enum SummaryStatus {
+    PENDING,    // 요약 대기 (재시도 대기 포함)
+    COMPLETED,  // 요약 완료
+    FAILED      // 재시도 한도 초과 (dead-letter)
+}
@@ -0,0 +1,20 @@
+package com.ssafy14.a606.domain.notice.event;
+
+/**
+ * 공고 생성/수정/삭제 이벤트
+ * - NoticeService 쓰기 메서드에서 발행하고, 인메모리 구조들은 커밋 이후(AFTER_COMMIT)에 반영한다.
+ * - previousTitle: 수정/삭제 직전 제목 (제목 기준 캐시 무효화용, 그 외에는 null)
+ */
+public record NoticeChangedEvent(Long noticeId, ChangeType type, String previousTitle) {
+
+    public NoticeChangedEvent(Long noticeId, ChangeType type) {
+        this(noticeId, type, null);
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        SUMMARY_UPDATED  // 비동기 요약 결과 반영 (본문 필드는 그대로)
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy14.a606.domain.notice.event;
+
+/**
+ * 공고 요약 요청 이벤트
+ * - 커밋 이후 NoticeSummaryWorker 가 바로 작업을 시작하도록 알리는 용도
+ * - 이벤트를 놓치더라도 PENDING 상태는 DB에 남아 있으므로 주기 폴링이 다시 집어간다.
+ */
+public record NoticeSummaryRequestedEvent(Long noticeId) {
+}
@@ -0,0 +1,280 @@
+package com.ssafy14.a606.domain.notice.feed;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeFeedStatsDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카테고리별 마감 임박 공고 상위 N 목록
+ * - 카테고리마다 마감 전 공고를 (end_date, id) 순으로 최대 N 개만 들고 있는 불변 배열. 쓰기는 새 배열로 교체한다.
+ * - 공고 생성/수정/삭제 커밋 후 해당 공고 한 건만 반영한다. N 개를 넘게 가진 카테고리(truncated)에서
+ *   항목이 빠지면 그 카테고리만 DB 에서 다시 채운다.
+ * - 피드 조회는 추천 카테고리 목록들의 k-way merge (힙 크기 = 카테고리 수)
+ * - 날짜가 지나 마감된 항목은 조회 시 건너뛰고, 매일 0시에 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class NoticeFeedIndex {
+
+    private static final Comparator<NoticeListItemDto> END_DATE_ORDER =
+            Comparator.comparing(NoticeListItemDto::getEndDate)
+                    .thenComparing(NoticeListItemDto::getId);
+
+    private static final NoticeCategory[] CATEGORIES = NoticeCategory.values();
+
+    private final NoticeRepository noticeRepository;
+    private final int topN;
+
+    private final AtomicReferenceArray<CategoryTop> tops = new AtomicReferenceArray<>(CATEGORIES.length);
+
+    private final LongAdder incrementalUpdates = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private volatile LocalDateTime builtAt;
+
+    public NoticeFeedIndex(NoticeRepository noticeRepository,
+                           @Value("${app.notice.feed.top-n:50}") int topN) {
+        this.noticeRepository = noticeRepository;
+        this.topN = Math.max(1, topN);
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            tops.set(c, CategoryTop.EMPTY);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build notice feed index: {}", e.getMessage(), e);
+        }
+    }
+
+    // 날짜가 바뀌면 마감된 공고가 빠진 자리를 다시 채운다
+    @Scheduled(cron = "${app.notice.feed.rebuild-cron:5 0 0 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Notice feed rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        LocalDate today = LocalDate.now();
+        for (NoticeCategory category : CATEGORIES) {
+            tops.set(category.ordinal(), load(category, today));
+        }
+        rebuilds.increment();
+        builtAt = LocalDateTime.now();
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.type() == NoticeChangedEvent.ChangeType.SUMMARY_UPDATED) {
+            return;
+        }
+        try {
+            apply(event.noticeId());
+        } catch (Exception e) {
+            // 한 건 반영에 실패하면 전체를 다시 만든다
+            log.warn("Notice feed update failed for {}: {}", event.noticeId(), e.getMessage());
+            rebuild();
+        }
+    }
+
+    /**
+     * 공고 한 건 반영 (생성/수정/삭제 공통)
+     * - 모든 카테고리에서 id 를 빼고(카테고리가 바뀌었을 수 있음), 마감 전이면 새 카테고리에 끼워 넣는다.
+     */
+    synchronized void apply(Long noticeId) {
+        LocalDate today = LocalDate.now();
+        NoticeListItemDto item = noticeRepository.findById(noticeId)
+                .filter(notice -> notice.getEndDate() != null && !notice.getEndDate().isBefore(today))
+                .map(NoticeFeedIndex::toItem)
+                .orElse(null);
+
+        for (NoticeCategory category : CATEGORIES) {
+            CategoryTop current = tops.get(category.ordinal());
+            CategoryTop next = current.without(noticeId);
+            if (item != null && item.getCategory() == category) {
+                next = next.with(item, topN);
+            }
+            if (next == current) {
+                continue;
+            }
+            // 잘린 목록에서 빠지기만 했으면 N 번째 다음 공고를 알 수 없으므로 다시 읽는다
+            if (current.truncated() && next.items().length < topN) {
+                next = load(category, today);
+                refills.increment();
+            }
+            tops.set(category.ordinal(), next);
+        }
+        incrementalUpdates.increment();
+    }
+
+    /**
+     * 여러 카테고리의 마감 전 공고를 마감 임박순으로 최대 limit 건 (limit 는 top-n 이하로 잘린다)
+     */
+    public List<NoticeListItemDto> feed(Collection<NoticeCategory> categories, int limit) {
+        LocalDate today = LocalDate.now();
+        int max = Math.min(limit, topN);
+
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, categories.size()),
+                (a, b) -> END_DATE_ORDER.compare(a.head(), b.head()));
+        for (NoticeCategory category : categories) {
+            Cursor cursor = new Cursor(tops.get(category.ordinal()).items(), today);
+            if (cursor.hasNext()) {
+                heap.add(cursor);
+            }
+        }
+
+        List<NoticeListItemDto> result = new ArrayList<>(max);
+        while (!heap.isEmpty() && result.size() < max) {
+            Cursor cursor = heap.poll();
+            result.add(cursor.head());
+            cursor.advance();
+            if (cursor.hasNext()) {
+                heap.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public NoticeFeedStatsDto getStats() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        List<String> truncated = new ArrayList<>();
+        for (NoticeCategory category : CATEGORIES) {
+            CategoryTop top = tops.get(category.ordinal());
+            sizes.put(category.name(), top.items().length);
+            if (top.truncated()) {
+                truncated.add(category.name());
+            }
+        }
+        return NoticeFeedStatsDto.builder()
+                .topN(topN)
+                .categorySizes(sizes)
+                .truncatedCategories(truncated)
+                .builtAt(builtAt)
+                .rebuildCount(rebuilds.sum())
+                .incrementalUpdateCount(incrementalUpdates.sum())
+                .refillCount(refills.sum())
+                .build();
+    }
+
+    // N+1 건을 읽어 N 개를 넘는지(truncated) 함께 판단
+    private CategoryTop load(NoticeCategory category, LocalDate today) {
+        List<NoticeListItemDto> rows = noticeRepository.findPageOrderByEndDate(
+                category, today, null, null, null, PageRequest.of(0, topN + 1));
+        boolean truncated = rows.size() > topN;
+        List<NoticeListItemDto> kept = truncated ? rows.subList(0, topN) : rows;
+        return new CategoryTop(kept.toArray(NoticeListItemDto[]::new), truncated);
+    }
+
+    private static NoticeListItemDto toItem(Notice notice) {
+        return new NoticeListItemDto(notice.getId(), notice.getTitle(), notice.getCategory(), notice.getRegDate(),
+                notice.getStartDate(), notice.getEndDate(), notice.getPdfUrl(), notice.getOriginUrl());
+    }
+
+    /**
+     * 카테고리 하나의 상위 N (불변)
+     * - truncated: DB 에 N 번째보다 뒤의 마감 전 공고가 더 있을 수 있음
+     */
+    record CategoryTop(NoticeListItemDto[] items, boolean truncated) {
+
+        static final CategoryTop EMPTY = new CategoryTop(new NoticeListItemDto[0], false);
+
+        // 없으면 this 그대로
+        CategoryTop without(Long noticeId) {
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].getId().equals(noticeId)) {
+                    NoticeListItemDto[] next = new NoticeListItemDto[items.length - 1];
+                    System.arraycopy(items, 0, next, 0, i);
+                    System.arraycopy(items, i + 1, next, i, items.length - i - 1);
+                    return new CategoryTop(next, truncated);
+                }
+            }
+            return this;
+        }
+
+        // 정렬 위치에 삽입, N 개를 넘으면 마지막을 버리고 truncated
+        CategoryTop with(NoticeListItemDto item, int topN) {
+            int pos = 0;
+            while (pos < items.length && END_DATE_ORDER.compare(items[pos], item) < 0) {
+                pos++;
+            }
+            if (pos >= topN) {
+                return truncated ? this : new CategoryTop(items, true);
+            }
+            int size = Math.min(items.length + 1, topN);
+            NoticeListItemDto[] next = new NoticeListItemDto[size];
+            System.arraycopy(items, 0, next, 0, pos);
+            next[pos] = item;
+            System.arraycopy(items, pos, next, pos + 1, size - pos - 1);
+            return new CategoryTop(next, truncated || items.length + 1 > topN);
+        }
+    }
+
+    // 마감된 항목을 건너뛰며 배열 하나를 앞에서부터 읽는다
+    private static final class Cursor {
+
+        private final NoticeListItemDto[] items;
+        private final LocalDate today;
+        private int index;
+
+        Cursor(NoticeListItemDto[] items, LocalDate today) {
+            this.items = items;
+            this.today = today;
+            skipClosed();
+        }
+
+        boolean hasNext() {
+            return index < items.length;
+        }
+
+        NoticeListItemDto head() {
+            return items[index];
+        }
+
+        void advance() {
+            index++;
+            skipClosed();
+        }
+
+        private void skipClosed() {
+            while (index < items.length && items[index].getEndDate().isBefore(today)) {
+                index++;
+            }
+        }
+    }
+}
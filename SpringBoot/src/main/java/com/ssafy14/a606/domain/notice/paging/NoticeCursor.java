@@ -0,0 +1,50 @@
+package com.ssafy14.a606.domain.notice.paging;
+
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 공고 목록 keyset 페이지네이션 커서
+ * - (정렬 키 날짜, id) 쌍을 "정렬기준|날짜|id" 형태로 묶어 Base64URL로 인코딩
+ * - 클라이언트는 값을 해석하지 않고 그대로 다음 요청에 넘겨주기만 하면 된다.
+ */
+public record NoticeCursor(NoticeSortType sort, LocalDate date, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    // 날짜 없는 공고 구간(목록 맨 뒤)에 들어선 커서
+    public boolean inUndatedTail() {
+        return sort.undatedKey().equals(date);
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + date + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 복원
+     * - 커서가 없으면 null (첫 페이지)
+     * - 다른 정렬 기준으로 만들어진 커서이거나 형식이 깨진 경우 400
+     */
+    public static NoticeCursor decode(String cursor, NoticeSortType sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new InvalidValueException("유효하지 않은 커서입니다.");
+            }
+            return new NoticeCursor(sort, LocalDate.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new InvalidValueException("유효하지 않은 커서입니다.");
+        }
+    }
+}
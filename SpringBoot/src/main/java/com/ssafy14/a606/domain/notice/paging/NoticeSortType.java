@@ -0,0 +1,32 @@
+package com.ssafy14.a606.domain.notice.paging;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+
+import java.time.LocalDate;
+
+/**
+ * 공고 목록 정렬 기준
+ * - REG_DATE : 등록일 최신순 (reg_date desc, id desc)
+ * - END_DATE : 마감 임박순 (end_date asc, id asc)
+ * - 날짜가 비어 있는 공고는 맨 뒤 (대체 날짜로 정렬). DB 에서는 날짜 있는 구간을 다 읽은 뒤
+ *   날짜 없는 구간을 id 순으로 이어 읽고, 커서의 대체 날짜가 "날짜 없는 구간" 표시가 된다
+ */
+public enum NoticeSortType {
+    REG_DATE,
+    END_DATE;
+
+    public static final LocalDate NULL_REG_DATE = LocalDate.of(1900, 1, 1);
+    public static final LocalDate NULL_END_DATE = LocalDate.of(9999, 12, 31);
+
+    public LocalDate undatedKey() {
+        return this == REG_DATE ? NULL_REG_DATE : NULL_END_DATE;
+    }
+
+    // 커서에 담는 정렬 키 (날짜가 없으면 대체 날짜)
+    public LocalDate keyOf(NoticeListItemDto item) {
+        if (this == REG_DATE) {
+            return item.getRegDate() != null ? item.getRegDate() : NULL_REG_DATE;
+        }
+        return item.getEndDate() != null ? item.getEndDate() : NULL_END_DATE;
+    }
+}
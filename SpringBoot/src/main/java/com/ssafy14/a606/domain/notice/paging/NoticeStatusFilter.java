@@ -0,0 +1,13 @@
+package com.ssafy14.a606.domain.notice.paging;
+
+/**
+ * 공고 목록 마감 여부 필터
+ * - ALL    : 전체
+ * - OPEN   : 마감 전 (end_date >= 오늘)
+ * - CLOSED : 마감 (end_date < 오늘)
+ */
+public enum NoticeStatusFilter {
+    ALL,
+    OPEN,
+    CLOSED
+}
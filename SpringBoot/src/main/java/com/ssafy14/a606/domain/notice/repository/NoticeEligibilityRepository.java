@@ -0,0 +1,29 @@
+package com.ssafy14.a606.domain.notice.repository;
+
+import com.ssafy14.a606.domain.notice.eligibility.NoticeEligibilityRow;
+import com.ssafy14.a606.domain.notice.entity.NoticeEligibility;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface NoticeEligibilityRepository extends JpaRepository<NoticeEligibility, Long> {
+
+    /**
+     * 마감 전 공고와 자격 기준을 마감 임박순 (end_date, id) 으로 한 번에 조회
+     * - summary(@Lob)는 조회하지 않음
+     */
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.eligibility.NoticeEligibilityRow(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl,
+                e.noticeId, e.maxIncome, e.maxAsset, e.targetTypes, e.marriageStatuses, e.minChildCount,
+                e.requireNoHouse)
+            from Notice n
+            left join NoticeEligibility e on e.noticeId = n.id
+            where n.endDate >= :today
+            order by n.endDate asc, n.id asc
+            """)
+    List<NoticeEligibilityRow> findOpenWithCriteria(@Param("today") LocalDate today);
+}
@@ -1,7 +1,164 @@
 package com.ssafy14.a606.domain.notice.repository;
 
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
 import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
+import com.ssafy14.a606.domain.notice.search.NoticeSearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
+
+    /**
+     * 등록일 최신순 keyset 페이지 조회 (reg_date desc, id desc) - 등록일이 있는 공고만
+     * - cursorDate/cursorId 가 null 이면 첫 페이지
+     * - 정렬/커서 조건을 컬럼 그대로 두어 idx_notice_reg_date_id 로 filesort 없이 읽는다
+     * - 등록일이 없는 공고는 이 구간이 끝난 뒤 findUndatedPageOrderByRegDate 로 이어서 (NoticeService)
+     * - summary(@Lob)는 조회하지 않음
+     */
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl)
+            from Notice n
+            where n.regDate is not null
+              and (:category is null or n.category = :category)
+              and (:openOn is null or n.endDate >= :openOn)
+              and (:closedBefore is null or n.endDate < :closedBefore)
+              and (:cursorDate is null
+                   or n.regDate < :cursorDate
+                   or (n.regDate = :cursorDate and n.id < :cursorId))
+            order by n.regDate desc, n.id desc
+            """)
+    List<NoticeListItemDto> findPageOrderByRegDate(
+            @Param("category") NoticeCategory category,
+            @Param("openOn") LocalDate openOn,
+            @Param("closedBefore") LocalDate closedBefore,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 등록일이 없는 공고 (목록 맨 뒤 구간, id desc)
+     * - cursorId 가 null 이면 이 구간의 첫 페이지
+     */
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl)
+            from Notice n
+            where n.regDate is null
+              and (:category is null or n.category = :category)
+              and (:openOn is null or n.endDate >= :openOn)
+              and (:closedBefore is null or n.endDate < :closedBefore)
+              and (:cursorId is null or n.id < :cursorId)
+            order by n.id desc
+            """)
+    List<NoticeListItemDto> findUndatedPageOrderByRegDate(
+            @Param("category") NoticeCategory category,
+            @Param("openOn") LocalDate openOn,
+            @Param("closedBefore") LocalDate closedBefore,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 마감 임박순 keyset 페이지 조회 (end_date asc, id asc) - 마감일이 있는 공고만
+     * - idx_notice_end_date_id 사용, 마감일이 없는 공고는 findUndatedPageOrderByEndDate 로 이어서
+     */
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl)
+            from Notice n
+            where n.endDate is not null
+              and (:category is null or n.category = :category)
+              and (:openOn is null or n.endDate >= :openOn)
+              and (:closedBefore is null or n.endDate < :closedBefore)
+              and (:cursorDate is null
+                   or n.endDate > :cursorDate
+                   or (n.endDate = :cursorDate and n.id > :cursorId))
+            order by n.endDate asc, n.id asc
+            """)
+    List<NoticeListItemDto> findPageOrderByEndDate(
+            @Param("category") NoticeCategory category,
+            @Param("openOn") LocalDate openOn,
+            @Param("closedBefore") LocalDate closedBefore,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 마감일이 없는 공고 (목록 맨 뒤 구간, id asc)
+     * - 마감 여부 필터(openOn/closedBefore)가 있으면 해당 없음 → 호출하지 않는다
+     */
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl)
+            from Notice n
+            where n.endDate is null
+              and (:category is null or n.category = :category)
+              and (:cursorId is null or n.id > :cursorId)
+            order by n.id asc
+            """)
+    List<NoticeListItemDto> findUndatedPageOrderByEndDate(
+            @Param("category") NoticeCategory category,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 요약 시도 시각이 도래한 PENDING 공고 id (오래 기다린 순)
+     */
+    @Query("""
+            select n.id
+            from Notice n
+            where n.summaryStatus = com.ssafy14.a606.domain.notice.entity.SummaryStatus.PENDING
+              and n.summaryNextAttemptAt <= :now
+            order by n.summaryNextAttemptAt asc
+            """)
+    List<Long> findDueSummaryIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 관리자용 요약 상태별 조회
+    List<Notice> findBySummaryStatusOrderByIdAsc(SummaryStatus summaryStatus);
+
+    // 예전 FastAPI 오류 문구로 완료 처리된 공고 (다시 요약 대기로 돌리기 위해)
+    List<Notice> findBySummaryStatusAndSummaryStartingWith(SummaryStatus summaryStatus, String prefix);
+
+    // 검색 색인 적재용 (id keyset 페이지)
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.search.NoticeSearchDocument(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl, n.summary)
+            from Notice n
+            where n.id > :lastId
+            order by n.id asc
+            """)
+    List<NoticeSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.search.NoticeSearchDocument(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl, n.summary)
+            from Notice n
+            where n.id = :id
+            """)
+    Optional<NoticeSearchDocument> findSearchDocument(@Param("id") Long id);
+
+    // 인메모리 카탈로그 적재용 (최근 추가순 id keyset 페이지, 엔티티를 영속성 컨텍스트에 쌓지 않는다)
+    @Query("""
+            select new com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto(
+                n.id, n.title, n.category, n.regDate, n.startDate, n.endDate, n.pdfUrl, n.originUrl,
+                n.summary, n.summaryStatus)
+            from Notice n
+            where n.id < :beforeId
+            order by n.id desc
+            """)
+    List<NoticeResponseDto> findCatalogPageBefore(@Param("beforeId") Long beforeId, Pageable pageable);
 }
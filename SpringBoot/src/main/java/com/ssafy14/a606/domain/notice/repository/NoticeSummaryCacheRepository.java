@@ -0,0 +1,10 @@
+package com.ssafy14.a606.domain.notice.repository;
+
+import com.ssafy14.a606.domain.notice.entity.NoticeSummaryCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NoticeSummaryCacheRepository extends JpaRepository<NoticeSummaryCache, String> {
+
+    // 예전 FastAPI 오류 문구가 요약으로 저장된 항목 정리용
+    long deleteBySummaryStartingWith(String prefix);
+}
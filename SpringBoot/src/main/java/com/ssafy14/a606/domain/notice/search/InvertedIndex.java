@@ -0,0 +1,328 @@
+package com.ssafy14.a606.domain.notice.search;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+/**
+ * 공고 n-gram 역색인 (NoticeSearchIndex 의 락 안에서만 사용 - 쓰기는 단독, 검색은 여러 스레드가 동시에)
+ * - 문서 번호 = 추가 순서. 포스팅은 용어마다 (문서 번호[], 빈도[]) 원시 배열이라 문서 번호 오름차순으로 쌓인다
+ * - 2-gram: 제목(가중치 TITLE_WEIGHT) + 요약본(앞 maxSummaryChars 글자) → 후보 선정과 BM25 점수
+ * - 3-gram: 제목만 → 연속으로 맞은 제목에 가산점 (요약본까지 넣으면 메모리가 두 배가 된다)
+ * - 수정/삭제는 문서를 지우고(items[doc] = null) 새 번호로 다시 넣는다. 지워진 번호는 compact() 때 정리
+ * - df 는 지워진 문서를 포함한 포스팅 길이로 근사한다 (compact 전까지의 오차)
+ * - 검색용 점수/적중 배열은 풀에서 빌려 쓰고 건드린 칸만 되돌린다 → 검색마다 문서 수만큼 할당하지 않음
+ *   (풀 크기 = 동시에 진행된 검색 수의 최댓값)
+ */
+final class InvertedIndex {
+
+    static final int TITLE_WEIGHT = 3;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final int maxSummaryChars;
+    private final Map<String, Posting> bigrams;
+    private final Map<String, Posting> trigrams;
+    private final Map<Long, Integer> docOf;
+    private final Queue<Scratch> scratches = new ConcurrentLinkedQueue<>();
+
+    private NoticeListItemDto[] items;
+    private int[] lengths;
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+    private long postingCount;
+
+    InvertedIndex(int capacity, int maxSummaryChars) {
+        int docs = Math.max(16, capacity);
+        this.maxSummaryChars = maxSummaryChars;
+        this.bigrams = new HashMap<>();
+        this.trigrams = new HashMap<>();
+        this.docOf = new HashMap<>(docs * 4 / 3 + 1);
+        this.items = new NoticeListItemDto[docs];
+        this.lengths = new int[docs];
+    }
+
+    // 같은 공고가 있으면 지우고 새로 넣는다
+    void put(NoticeSearchDocument document) {
+        remove(document.id());
+
+        Map<String, int[]> bigramFreqs = new HashMap<>();
+        Map<String, int[]> trigramFreqs = new HashMap<>();
+        String title = NgramTokenizer.normalize(document.title() == null ? "" : document.title());
+        NgramTokenizer.forEachGram(title, 2, gram -> bigramFreqs.computeIfAbsent(gram, k -> new int[1])[0] += TITLE_WEIGHT);
+        NgramTokenizer.forEachGram(title, 3, gram -> trigramFreqs.computeIfAbsent(gram, k -> new int[1])[0] += TITLE_WEIGHT);
+        if (document.summary() != null) {
+            String summary = document.summary();
+            if (summary.length() > maxSummaryChars) {
+                summary = summary.substring(0, maxSummaryChars);
+            }
+            NgramTokenizer.forEachGram(NgramTokenizer.normalize(summary), 2,
+                    gram -> bigramFreqs.computeIfAbsent(gram, k -> new int[1])[0]++);
+        }
+
+        if (docCount == items.length) {
+            items = Arrays.copyOf(items, docCount * 2);
+            lengths = Arrays.copyOf(lengths, docCount * 2);
+        }
+        int doc = docCount++;
+        int length = 0;
+        for (Map.Entry<String, int[]> entry : bigramFreqs.entrySet()) {
+            bigrams.computeIfAbsent(entry.getKey(), k -> new Posting()).add(doc, entry.getValue()[0]);
+            length += entry.getValue()[0];
+        }
+        for (Map.Entry<String, int[]> entry : trigramFreqs.entrySet()) {
+            trigrams.computeIfAbsent(entry.getKey(), k -> new Posting()).add(doc, entry.getValue()[0]);
+        }
+
+        items[doc] = document.toItem();
+        lengths[doc] = length;
+        docOf.put(document.id(), doc);
+        liveCount++;
+        liveLength += length;
+        postingCount += bigramFreqs.size() + trigramFreqs.size();
+    }
+
+    boolean remove(Long noticeId) {
+        Integer doc = docOf.remove(noticeId);
+        if (doc == null) {
+            return false;
+        }
+        items[doc] = null;
+        liveCount--;
+        liveLength -= lengths[doc];
+        return true;
+    }
+
+    /**
+     * BM25 검색
+     * - 검색어 2-gram 중 minShouldMatch 비율 이상이 맞은 공고만 후보 (최소 1개)
+     * - filter 를 통과한 후보 수가 totalCount, 점수 내림차순(동점이면 최신 공고 먼저)으로 [offset, offset + limit)
+     */
+    Result search(Collection<String> queryBigrams, Collection<String> queryTrigrams,
+                  Predicate<NoticeListItemDto> filter, double minShouldMatch, int offset, int limit) {
+        if (liveCount == 0 || queryBigrams.isEmpty()) {
+            return new Result(0, List.of());
+        }
+        float avgLength = (float) liveLength / liveCount;
+        Scratch scratch = borrowScratch();
+        try {
+            float[] scores = scratch.scores;
+            int[] hits = scratch.hits;
+
+            for (String term : queryBigrams) {
+                Posting posting = bigrams.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                float idf = idf(posting.size);
+                for (int i = 0; i < posting.size; i++) {
+                    int doc = posting.docs[i];
+                    if (items[doc] == null) {
+                        continue;
+                    }
+                    if (hits[doc]++ == 0) {
+                        scratch.touch(doc);
+                    }
+                    scores[doc] += bm25(idf, posting.freqs[i], lengths[doc], avgLength);
+                }
+            }
+            for (String term : queryTrigrams) {
+                Posting posting = trigrams.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                float idf = idf(posting.size);
+                for (int i = 0; i < posting.size; i++) {
+                    int doc = posting.docs[i];
+                    // 3-gram 이 맞으면 그 안의 2-gram 도 맞았으므로 이미 후보
+                    if (hits[doc] > 0 && items[doc] != null) {
+                        scores[doc] += bm25(idf, posting.freqs[i], lengths[doc], avgLength);
+                    }
+                }
+            }
+
+            int required = Math.max(1, (int) Math.ceil(queryBigrams.size() * minShouldMatch));
+            int keep = offset + limit;
+            Comparator<Integer> worstFirst = (a, b) -> {
+                int byScore = Float.compare(scores[a], scores[b]);
+                return byScore != 0 ? byScore : Long.compare(items[a].getId(), items[b].getId());
+            };
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, keep), worstFirst);
+            int total = 0;
+            for (int t = 0; t < scratch.touchedCount; t++) {
+                int doc = scratch.touched[t];
+                if (hits[doc] < required || !filter.test(items[doc])) {
+                    continue;
+                }
+                total++;
+                if (top.size() < keep) {
+                    top.add(doc);
+                } else if (keep > 0 && worstFirst.compare(doc, top.peek()) > 0) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+
+            List<NoticeListItemDto> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ranked.add(items[top.poll()]);
+            }
+            Collections.reverse(ranked);
+            List<NoticeListItemDto> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+            return new Result(total, page);
+        } finally {
+            scratch.clear();
+            scratches.offer(scratch);
+        }
+    }
+
+    /**
+     * 지워진 문서를 뺀 새 색인 (문서 번호를 다시 매기고 포스팅을 걸러 복사, 원문 없이 가능)
+     */
+    InvertedIndex compact() {
+        InvertedIndex next = new InvertedIndex(liveCount, maxSummaryChars);
+        int[] remap = new int[docCount];
+        for (int doc = 0; doc < docCount; doc++) {
+            if (items[doc] == null) {
+                remap[doc] = -1;
+                continue;
+            }
+            int target = next.docCount++;
+            remap[doc] = target;
+            next.items[target] = items[doc];
+            next.lengths[target] = lengths[doc];
+            next.docOf.put(items[doc].getId(), target);
+        }
+        next.liveCount = liveCount;
+        next.liveLength = liveLength;
+        next.postingCount = copyPostings(bigrams, next.bigrams, remap) + copyPostings(trigrams, next.trigrams, remap);
+        return next;
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    int termCount() {
+        return bigrams.size() + trigrams.size();
+    }
+
+    // 지워진 문서를 포함한 포스팅 항목 수
+    long postingCount() {
+        return postingCount;
+    }
+
+    // 검색 중에는 쓰기가 없으므로 docCount 가 바뀌지 않는다 (작으면 새로 만들고, 이전 배열은 버림)
+    private Scratch borrowScratch() {
+        Scratch scratch = scratches.poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        scratch.ensureCapacity(docCount);
+        return scratch;
+    }
+
+    private float idf(int postingSize) {
+        int df = Math.min(postingSize, liveCount);
+        return (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+    }
+
+    private static float bm25(float idf, int freq, int length, float avgLength) {
+        return idf * (freq * (K1 + 1)) / (freq + K1 * (1 - B + B * length / avgLength));
+    }
+
+    private static long copyPostings(Map<String, Posting> source, Map<String, Posting> target, int[] remap) {
+        long copied = 0;
+        for (Map.Entry<String, Posting> entry : source.entrySet()) {
+            Posting from = entry.getValue();
+            Posting to = new Posting();
+            for (int i = 0; i < from.size; i++) {
+                int doc = remap[from.docs[i]];
+                if (doc >= 0) {
+                    to.add(doc, from.freqs[i]);
+                }
+            }
+            if (to.size > 0) {
+                to.trim();
+                target.put(entry.getKey(), to);
+                copied += to.size;
+            }
+        }
+        return copied;
+    }
+
+    record Result(int totalCount, List<NoticeListItemDto> items) {
+    }
+
+    // 검색 한 번의 문서별 점수/적중 수 + 건드린 문서 목록 (clear 후에는 모두 0)
+    private static final class Scratch {
+
+        private float[] scores = new float[0];
+        private int[] hits = new int[0];
+        private int[] touched = new int[64];
+        private int touchedCount;
+
+        void ensureCapacity(int docs) {
+            if (scores.length < docs) {
+                int size = Math.max(docs, scores.length * 2);
+                scores = new float[size];
+                hits = new int[size];
+            }
+        }
+
+        void touch(int doc) {
+            if (touchedCount == touched.length) {
+                touched = Arrays.copyOf(touched, touchedCount * 2);
+            }
+            touched[touchedCount++] = doc;
+        }
+
+        void clear() {
+            for (int t = 0; t < touchedCount; t++) {
+                scores[touched[t]] = 0f;
+                hits[touched[t]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    // 용어 하나의 포스팅 (문서 번호 오름차순)
+    private static final class Posting {
+
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void trim() {
+            docs = Arrays.copyOf(docs, size);
+            freqs = Arrays.copyOf(freqs, size);
+        }
+    }
+}
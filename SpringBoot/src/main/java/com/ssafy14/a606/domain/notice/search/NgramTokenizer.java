@@ -0,0 +1,47 @@
+package com.ssafy14.a606.domain.notice.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 문자 n-gram 토크나이저 (형태소 분석 없이 한국어 부분 일치)
+ * - NFKC 정규화 + 소문자 → 글자/숫자가 이어진 구간마다 연속 n 글자를 잘라 낸다 (구간을 넘는 n-gram 없음)
+ * - "청년주택" → 2-gram: 청년, 년주, 주택 / 3-gram: 청년주, 년주택
+ * - 한 글자 구간은 만들지 않는다 (검색어는 2자 이상)
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화된 text 의 n-gram 을 순서대로 (중복 포함)
+    public static void forEachGram(String normalized, int n, Consumer<String> consumer) {
+        int length = normalized.length();
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean inRun = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inRun && runStart < 0) {
+                runStart = i;
+            } else if (!inRun && runStart >= 0) {
+                for (int start = runStart; start + n <= i; start++) {
+                    consumer.accept(normalized.substring(start, start + n));
+                }
+                runStart = -1;
+            }
+        }
+    }
+
+    // 검색어용 (중복 제거, 등장 순서 유지)
+    public static Set<String> uniqueGrams(String normalized, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        forEachGram(normalized, n, grams::add);
+        return grams;
+    }
+}
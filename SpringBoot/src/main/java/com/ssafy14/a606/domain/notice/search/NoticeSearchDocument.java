@@ -0,0 +1,16 @@
+package com.ssafy14.a606.domain.notice.search;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+
+import java.time.LocalDate;
+
+// 검색 색인 적재용 projection (목록 필드 + 요약본)
+public record NoticeSearchDocument(Long id, String title, NoticeCategory category, LocalDate regDate,
+                                   LocalDate startDate, LocalDate endDate, String pdfUrl, String originUrl,
+                                   String summary) {
+
+    NoticeListItemDto toItem() {
+        return new NoticeListItemDto(id, title, category, regDate, startDate, endDate, pdfUrl, originUrl);
+    }
+}
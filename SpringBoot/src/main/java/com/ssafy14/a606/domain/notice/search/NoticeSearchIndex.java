@@ -0,0 +1,199 @@
+package com.ssafy14.a606.domain.notice.search;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeSearchStatsDto;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 공고 전문 검색 색인 (제목 + 요약본, 문자 n-gram + BM25)
+ * - 기동 시 id keyset 페이지로 전체를 읽어 새 InvertedIndex 를 만든 뒤 교체한다
+ * - 공고 생성/수정/삭제/요약 반영 커밋 후 그 공고 한 건만 다시 읽어 반영 (재구성 중 바뀐 공고는 교체 직후 다시 읽음)
+ * - 지워진 문서가 compact-ratio 를 넘으면 메모리 안에서 압축 (DB 를 다시 읽지 않음)
+ * - 검색은 읽기 락, 반영/교체는 쓰기 락
+ */
+@Slf4j
+@Component
+public class NoticeSearchIndex {
+
+    private final NoticeRepository noticeRepository;
+    private final int pageSize;
+    private final int maxSummaryChars;
+    private final double minShouldMatch;
+    private final double compactRatio;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index;
+
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private final ConcurrentLinkedQueue<Long> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private volatile LocalDateTime builtAt;
+    private volatile long lastRebuildMillis;
+    private volatile long lastQueryMicros;
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+    private final LongAdder incrementalUpdates = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    public NoticeSearchIndex(NoticeRepository noticeRepository,
+                             @Value("${app.notice.search.page-size:1000}") int pageSize,
+                             @Value("${app.notice.search.max-summary-chars:2000}") int maxSummaryChars,
+                             @Value("${app.notice.search.min-should-match:0.6}") double minShouldMatch,
+                             @Value("${app.notice.search.compact-ratio:0.25}") double compactRatio) {
+        this.noticeRepository = noticeRepository;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxSummaryChars = Math.max(0, maxSummaryChars);
+        this.minShouldMatch = Math.min(1.0, Math.max(0.0, minShouldMatch));
+        this.compactRatio = compactRatio;
+        this.index = new InvertedIndex(0, this.maxSummaryChars);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build notice search index: {}", e.getMessage(), e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        InvertedIndex next;
+        try {
+            next = new InvertedIndex((int) Math.min(Integer.MAX_VALUE / 2, noticeRepository.count()), maxSummaryChars);
+            Long lastId = 0L;
+            List<NoticeSearchDocument> page;
+            do {
+                page = noticeRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, pageSize));
+                for (NoticeSearchDocument document : page) {
+                    next.put(document);
+                    lastId = document.id();
+                }
+            } while (page.size() == pageSize);
+
+            lock.writeLock().lock();
+            try {
+                index = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+
+        Long noticeId;
+        while ((noticeId = changedDuringRebuild.poll()) != null) {
+            refresh(noticeId);
+        }
+
+        ready = true;
+        builtAt = LocalDateTime.now();
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        rebuilds.increment();
+        log.info("Notice search index built. docs={}, terms={}, postings={}, {}ms",
+                next.liveCount(), next.termCount(), next.postingCount(), lastRebuildMillis);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.noticeId());
+        }
+        try {
+            refresh(event.noticeId());
+        } catch (Exception e) {
+            log.warn("Notice search update failed for {}: {}", event.noticeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * query: 정규화 전 검색어, filter: 카테고리/날짜 조건
+     */
+    public Result search(String query, Predicate<NoticeListItemDto> filter, int offset, int limit) {
+        long start = System.nanoTime();
+        String normalized = NgramTokenizer.normalize(query);
+        Set<String> bigrams = NgramTokenizer.uniqueGrams(normalized, 2);
+        Set<String> trigrams = NgramTokenizer.uniqueGrams(normalized, 3);
+
+        lock.readLock().lock();
+        try {
+            InvertedIndex.Result result = index.search(bigrams, trigrams, filter, minShouldMatch, offset, limit);
+            return new Result(result.totalCount(), result.items());
+        } finally {
+            lock.readLock().unlock();
+            queries.increment();
+            lastQueryMicros = (System.nanoTime() - start) / 1_000;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public NoticeSearchStatsDto getStats() {
+        lock.readLock().lock();
+        try {
+            return NoticeSearchStatsDto.builder()
+                    .ready(ready)
+                    .documentCount(index.liveCount())
+                    .deletedDocumentCount(index.docCount() - index.liveCount())
+                    .termCount(index.termCount())
+                    .postingCount(index.postingCount())
+                    .builtAt(builtAt)
+                    .rebuildCount(rebuilds.sum())
+                    .lastRebuildMillis(lastRebuildMillis)
+                    .compactionCount(compactions.sum())
+                    .incrementalUpdateCount(incrementalUpdates.sum())
+                    .queryCount(queries.sum())
+                    .lastQueryMicros(lastQueryMicros)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Result(int totalCount, List<NoticeListItemDto> items) {
+    }
+
+    private void refresh(Long noticeId) {
+        NoticeSearchDocument document = noticeRepository.findSearchDocument(noticeId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (document == null) {
+                index.remove(noticeId);
+            } else {
+                index.put(document);
+            }
+            int deleted = index.docCount() - index.liveCount();
+            if (deleted > 0 && deleted >= index.docCount() * compactRatio) {
+                index = index.compact();
+                compactions.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        incrementalUpdates.increment();
+    }
+}
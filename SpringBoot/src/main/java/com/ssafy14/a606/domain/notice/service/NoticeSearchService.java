@@ -0,0 +1,88 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.request.NoticeSearchRequestDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeSearchResponseDto;
+import com.ssafy14.a606.domain.notice.paging.NoticeStatusFilter;
+import com.ssafy14.a606.domain.notice.search.NgramTokenizer;
+import com.ssafy14.a606.domain.notice.search.NoticeSearchIndex;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+/**
+ * 공고 검색 (제목 + 요약본)
+ * - 검색 색인에서만 찾으므로 DB 를 거치지 않는다 (트랜잭션 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class NoticeSearchService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    // 관련도 하위 페이지까지 깊게 넘기지 않도록 (offset + size 상한)
+    private static final int MAX_RESULT_WINDOW = 1000;
+
+    private final NoticeSearchIndex noticeSearchIndex;
+
+    public NoticeSearchResponseDto search(NoticeSearchRequestDto request) {
+        String query = request.getQ() == null ? "" : request.getQ().strip();
+        if (query.length() < MIN_QUERY_LENGTH || query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidValueException("검색어는 " + MIN_QUERY_LENGTH + "자 이상 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        // "청 년" 처럼 한 글자씩 떨어진 검색어는 2-gram 이 없어 무엇과도 맞지 않는다 → 빈 결과 대신 400
+        if (NgramTokenizer.uniqueGrams(NgramTokenizer.normalize(query), 2).isEmpty()) {
+            throw new InvalidValueException("검색어에는 글자나 숫자가 " + MIN_QUERY_LENGTH + "자 이상 이어진 단어가 있어야 합니다.");
+        }
+        int page = request.getPage() == null ? 0 : request.getPage();
+        int size = request.getSize() == null ? DEFAULT_PAGE_SIZE : request.getSize();
+        if (page < 0 || size < 1) {
+            throw new InvalidValueException("page는 0 이상, size는 1 이상이어야 합니다.");
+        }
+        size = Math.min(size, MAX_PAGE_SIZE);
+        if ((long) page * size + size > MAX_RESULT_WINDOW) {
+            throw new InvalidValueException("검색 결과는 앞 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+        if (request.getRegFrom() != null && request.getRegTo() != null && request.getRegFrom().isAfter(request.getRegTo())) {
+            throw new InvalidValueException("regFrom은 regTo보다 늦을 수 없습니다.");
+        }
+        if (!noticeSearchIndex.isReady()) {
+            throw new ServiceOverloadedException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.", 5);
+        }
+
+        NoticeSearchIndex.Result result = noticeSearchIndex.search(query, filterOf(request), page * size, size);
+        return NoticeSearchResponseDto.builder()
+                .query(query)
+                .totalCount(result.totalCount())
+                .page(page)
+                .size(size)
+                .items(result.items())
+                .build();
+    }
+
+    private static Predicate<NoticeListItemDto> filterOf(NoticeSearchRequestDto request) {
+        LocalDate today = LocalDate.now();
+        NoticeStatusFilter status = request.getStatus() == null ? NoticeStatusFilter.ALL : request.getStatus();
+        return item -> {
+            if (request.getCategory() != null && item.getCategory() != request.getCategory()) {
+                return false;
+            }
+            if (status == NoticeStatusFilter.OPEN && (item.getEndDate() == null || item.getEndDate().isBefore(today))) {
+                return false;
+            }
+            if (status == NoticeStatusFilter.CLOSED && (item.getEndDate() == null || !item.getEndDate().isBefore(today))) {
+                return false;
+            }
+            if (request.getRegFrom() != null && (item.getRegDate() == null || item.getRegDate().isBefore(request.getRegFrom()))) {
+                return false;
+            }
+            return request.getRegTo() == null || item.getRegDate() != null && !item.getRegDate().isAfter(request.getRegTo());
+        };
+    }
+}
@@ -1,65 +1,163 @@
 package com.ssafy14.a606.domain.notice.service;
 
-import com.ssafy14.a606.domain.notice.dto.request.SummaryRequestDto;
-import com.ssafy14.a606.domain.notice.dto.response.SummaryResponseDto;
+import com.ssafy14.a606.domain.game.enums.PreferenceType;
+import com.ssafy14.a606.domain.notice.catalog.NoticeCatalog;
+import com.ssafy14.a606.domain.notice.dto.request.NoticeEligibilityRequestDto;
+import com.ssafy14.a606.domain.notice.dto.request.NoticeListRequestDto;
 import com.ssafy14.a606.domain.notice.dto.request.NoticeRequestDto;
+import com.ssafy14.a606.domain.notice.dto.response.EligibleNoticeResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeFeedResponseDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
 import com.ssafy14.a606.domain.notice.dto.response.NoticeListResponseDto;
 import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.eligibility.NoticeEligibilityIndex;
 import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.entity.NoticeEligibility;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.event.NoticeSummaryRequestedEvent;
+import com.ssafy14.a606.domain.notice.feed.NoticeFeedIndex;
+import com.ssafy14.a606.domain.notice.paging.NoticeCursor;
+import com.ssafy14.a606.domain.notice.paging.NoticeSortType;
+import com.ssafy14.a606.domain.notice.paging.NoticeStatusFilter;
+import com.ssafy14.a606.domain.notice.repository.NoticeEligibilityRepository;
 import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.domain.notice.util.SummaryInputHasher;
+import com.ssafy14.a606.domain.user.entity.UserDetails;
+import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
 import com.ssafy14.a606.global.exceptions.InvalidValueException;
-import org.springframework.beans.factory.annotation.Value;
+import com.ssafy14.a606.global.exceptions.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class NoticeService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NoticeRepository noticeRepository;
-    private final WebClient webClient;
+    private final NoticeCatalog noticeCatalog;
+    private final NoticeFeedIndex noticeFeedIndex;
+    private final NoticeEligibilityIndex noticeEligibilityIndex;
+    private final NoticeEligibilityRepository noticeEligibilityRepository;
+    private final UserDetailsRepository userDetailsRepository;
+    private final NoticeSummaryCacheService summaryCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public NoticeService(NoticeRepository noticeRepository, WebClient.Builder webClientBuilder, @Value("${fastapi.url}") String fastApiUrl) {
+    public NoticeService(NoticeRepository noticeRepository,
+                         NoticeCatalog noticeCatalog,
+                         NoticeFeedIndex noticeFeedIndex,
+                         NoticeEligibilityIndex noticeEligibilityIndex,
+                         NoticeEligibilityRepository noticeEligibilityRepository,
+                         UserDetailsRepository userDetailsRepository,
+                         NoticeSummaryCacheService summaryCacheService,
+                         ApplicationEventPublisher eventPublisher) {
         this.noticeRepository = noticeRepository;
-        this.webClient = webClientBuilder.baseUrl(fastApiUrl).build();
+        this.noticeCatalog = noticeCatalog;
+        this.noticeFeedIndex = noticeFeedIndex;
+        this.noticeEligibilityIndex = noticeEligibilityIndex;
+        this.noticeEligibilityRepository = noticeEligibilityRepository;
+        this.userDetailsRepository = userDetailsRepository;
+        this.summaryCacheService = summaryCacheService;
+        this.eventPublisher = eventPublisher;
     }
 
-    //전체 공고 조회
-    public NoticeListResponseDto getNoticeList() {
-        List<Notice> notices = noticeRepository.findAll();
-        List<NoticeResponseDto> noticeResponseDtos = notices.stream()
-                .map(NoticeResponseDto::new)
-                .collect(Collectors.toList());
-        return new NoticeListResponseDto(noticeResponseDtos);
+    //공고 목록 조회 (keyset 페이지네이션)
+    // 카탈로그가 응답하면 트랜잭션(커넥션)을 열 필요가 없으므로 NOT_SUPPORTED
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NoticeListResponseDto getNoticeList(NoticeListRequestDto request) {
+        NoticeSortType sort = (request.getSort() != null) ? request.getSort() : NoticeSortType.REG_DATE;
+        NoticeStatusFilter status = (request.getStatus() != null) ? request.getStatus() : NoticeStatusFilter.ALL;
+        int size = normalizeSize(request.getSize());
+
+        NoticeCursor cursor = NoticeCursor.decode(request.getCursor(), sort);
+
+        LocalDate today = LocalDate.now();
+        LocalDate openOn = (status == NoticeStatusFilter.OPEN) ? today : null;
+        LocalDate closedBefore = (status == NoticeStatusFilter.CLOSED) ? today : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회 (count 쿼리 없음)
+        // 인메모리 카탈로그 우선, 카탈로그가 불완전하면 DB keyset 쿼리
+        List<NoticeListItemDto> rows = noticeCatalog
+                .page(request.getCategory(), openOn, closedBefore, sort, cursor, size + 1)
+                .orElseGet(() -> findPageFromDb(request.getCategory(), openOn, closedBefore, sort, cursor, size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<NoticeListItemDto> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            NoticeListItemDto last = page.get(page.size() - 1);
+            nextCursor = new NoticeCursor(sort, sort.keyOf(last), last.getId()).encode();
+        }
+
+        return new NoticeListResponseDto(page, nextCursor, hasNext);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NoticeResponseDto getNotice(Long noticeId) {
-        Notice notice = noticeRepository.findById(noticeId)
-                .orElseThrow(() -> new InvalidValueException("해당 공고를 찾을 수 없습니다. notice Id:" + noticeId));
-        return new NoticeResponseDto(notice);
+        return noticeCatalog.find(noticeId).orElseGet(() -> {
+            Notice notice = noticeRepository.findById(noticeId)
+                    .orElseThrow(() -> new InvalidValueException("해당 공고를 찾을 수 없습니다. notice Id:" + noticeId));
+            return new NoticeResponseDto(notice);
+        });
     }
 
-    @Transactional
-    public NoticeResponseDto createNotice(NoticeRequestDto noticeRequestDto) {
-        // 1. FastAPI에 요약 요청 보내기
-        SummaryRequestDto summaryRequest = new SummaryRequestDto(noticeRequestDto.getTitle());
+    // 선호도 유형별 공고 피드 (추천 카테고리의 마감 전 공고, 마감 임박순)
+    // 카테고리별 상위 N 목록을 병합만 하므로 DB 를 거치지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public NoticeFeedResponseDto getNoticeFeed(String typeValue, Integer size) {
+        PreferenceType type = PreferenceType.from(typeValue);
+        int limit = Math.min(normalizeSize(size), noticeFeedIndex.getTopN());
+
+        return NoticeFeedResponseDto.builder()
+                .type(type.name())
+                .displayName(type.getDisplayName())
+                .recommendedCategories(type.getRecommendedCategories().stream().map(Enum::name).toList())
+                .items(noticeFeedIndex.feed(type.getRecommendedCategories(), limit))
+                .build();
+    }
+
+    // 내 정보(user_details)로 신청 가능한 마감 전 공고 (마감 임박순)
+    // 공고 쪽은 자격 색인에서 판정하므로 SQL 은 사용자 정보 조회 한 번뿐
+    public EligibleNoticeResponseDto getEligibleNotices(Long userId, Integer size, boolean includeUnspecified) {
+        UserDetails details = userDetailsRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("추가 정보를 먼저 입력해주세요."));
 
-        SummaryResponseDto summaryResponse = webClient.post()
-                .uri("/summary")
-                .bodyValue(summaryRequest)
-                .retrieve()
-                .bodyToMono(SummaryResponseDto.class)
-                .block(); // 비동기 결과를 동기적으로 기다림
+        NoticeEligibilityIndex.Result result =
+                noticeEligibilityIndex.match(details, includeUnspecified, normalizeSize(size));
 
-        String summary = (summaryResponse != null && summaryResponse.getSummary() != null)
-                ? summaryResponse.getSummary()
-                : "요약 생성에 실패했습니다.";
+        List<String> missing = new ArrayList<>();
+        if (details.getTargetType() == null) missing.add("targetType");
+        if (details.getMarriageStatus() == null) missing.add("marriageStatus");
+        if (details.getHouseOwn() == null) missing.add("houseOwn");
+        if (details.getIncome() == null) missing.add("income");
+        if (details.getAsset() == null) missing.add("asset");
+        if (details.getChildCount() == null) missing.add("childCount");
 
-        // 2. 받은 요약본과 함께 Notice 엔티티 생성
+        return EligibleNoticeResponseDto.builder()
+                .totalCount(result.totalCount())
+                .items(result.items())
+                .missingFields(missing)
+                .build();
+    }
+
+    // 요약 캐시에 같은 입력의 요약이 있으면 바로 사용하고,
+    // 없으면 NoticeSummaryWorker 가 커밋 이후 비동기로 채운다 (PENDING 으로 즉시 저장)
+    @Transactional
+    public NoticeResponseDto createNotice(NoticeRequestDto noticeRequestDto) {
         Notice notice = Notice.builder()
                 .title(noticeRequestDto.getTitle())
                 .category(noticeRequestDto.getCategory())
@@ -68,9 +166,21 @@ public class NoticeService {
                 .endDate(noticeRequestDto.getEndDate())
                 .pdfUrl(noticeRequestDto.getPdfUrl())
                 .originUrl(noticeRequestDto.getOriginUrl())
-                .summary(summary) // FastAPI에서 받은 요약본 사용
                 .build();
+        String inputHash = SummaryInputHasher.hash(notice.getTitle());
+        Optional<String> cached = summaryCacheService.find(inputHash);
+        if (cached.isPresent()) {
+            notice.completeSummary(cached.get(), inputHash);
+        } else {
+            notice.requestSummary(inputHash);
+        }
         noticeRepository.save(notice);
+        applyEligibility(notice.getId(), noticeRequestDto.getEligibility());
+
+        eventPublisher.publishEvent(new NoticeChangedEvent(notice.getId(), NoticeChangedEvent.ChangeType.CREATED));
+        if (cached.isEmpty()) {
+            eventPublisher.publishEvent(new NoticeSummaryRequestedEvent(notice.getId()));
+        }
         return new NoticeResponseDto(notice);
     }
 
@@ -81,7 +191,8 @@ public class NoticeService {
     public NoticeResponseDto updateNotice(Long noticeId, NoticeRequestDto noticeRequestDto) {
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new InvalidValueException("해당 공고를 찾을 수 없습니다. Id:" + noticeId));
-        
+        String previousTitle = notice.getTitle();
+
         notice.update(
                 noticeRequestDto.getTitle(),
                 noticeRequestDto.getCategory(),
@@ -89,15 +200,146 @@ public class NoticeService {
                 noticeRequestDto.getStartDate(),
                 noticeRequestDto.getEndDate(),
                 noticeRequestDto.getPdfUrl(),
-                noticeRequestDto.getOriginUrl(),
-                noticeRequestDto.getSummary()
+                noticeRequestDto.getOriginUrl()
         );
+        applySummary(notice, noticeRequestDto.getSummary());
+        applyEligibility(noticeId, noticeRequestDto.getEligibility());
 
+        eventPublisher.publishEvent(
+                new NoticeChangedEvent(noticeId, NoticeChangedEvent.ChangeType.UPDATED, previousTitle));
         return new NoticeResponseDto(notice);
     }
 
     @Transactional
     public void deleteNotice(Long noticeId) {
+        String previousTitle = noticeRepository.findById(noticeId)
+                .map(Notice::getTitle)
+                .orElse(null);
+        noticeEligibilityRepository.deleteById(noticeId);
         noticeRepository.deleteById(noticeId);
+        eventPublisher.publishEvent(
+                new NoticeChangedEvent(noticeId, NoticeChangedEvent.ChangeType.DELETED, previousTitle));
+    }
+
+    /**
+     * 수정 시 요약 반영
+     * - 관리자가 요약을 직접 바꿨으면 그 값을 사용
+     * - 그 외에는 요약 입력 해시가 바뀐 경우에만 재요약 (캐시 적중 시 즉시 반영)
+     */
+    private void applySummary(Notice notice, String requestedSummary) {
+        String inputHash = SummaryInputHasher.hash(notice.getTitle());
+
+        // 수정 화면은 기존 요약을 그대로 보내므로, 기존 값과 다를 때만 수동 입력으로 본다
+        boolean manual = requestedSummary != null
+                && !requestedSummary.isBlank()
+                && !requestedSummary.equals(notice.getSummary());
+        if (manual) {
+            notice.completeSummary(requestedSummary, inputHash);
+            return;
+        }
+
+        if (inputHash.equals(notice.getSummaryInputHash())) {
+            return;
+        }
+        // 해시 도입 이전 공고: 요약이 있으면 현재 입력의 요약으로 보고 해시만 기록
+        if (notice.getSummaryInputHash() == null && notice.getSummary() != null) {
+            notice.markSummaryInput(inputHash);
+            return;
+        }
+
+        Optional<String> cached = summaryCacheService.find(inputHash);
+        if (cached.isPresent()) {
+            notice.completeSummary(cached.get(), inputHash);
+        } else {
+            notice.requestSummary(inputHash);
+            eventPublisher.publishEvent(new NoticeSummaryRequestedEvent(notice.getId()));
+        }
+    }
+
+    /**
+     * 신청 자격 기준 저장
+     * - null 이면 기존 기준 유지, 모든 항목이 비어 있으면 기준 삭제 (제한 없음과 미등록을 구분)
+     */
+    private void applyEligibility(Long noticeId, NoticeEligibilityRequestDto request) {
+        if (request == null) {
+            return;
+        }
+        if (request.getMaxIncome() != null && request.getMaxIncome() < 0
+                || request.getMaxAsset() != null && request.getMaxAsset() < 0
+                || request.getMinChildCount() != null && request.getMinChildCount() < 0) {
+            throw new InvalidValueException("소득/자산 상한과 최소 자녀 수는 0 이상이어야 합니다.");
+        }
+
+        String targetTypes = joinNames(request.getTargetTypes());
+        String marriageStatuses = joinNames(request.getMarriageStatuses());
+        boolean requireNoHouse = Boolean.TRUE.equals(request.getRequireNoHouse());
+        if (request.getMaxIncome() == null && request.getMaxAsset() == null
+                && targetTypes == null && marriageStatuses == null
+                && request.getMinChildCount() == null && !requireNoHouse) {
+            noticeEligibilityRepository.deleteById(noticeId);
+            return;
+        }
+
+        NoticeEligibility eligibility = noticeEligibilityRepository.findById(noticeId)
+                .orElseGet(() -> new NoticeEligibility(noticeId));
+        eligibility.update(request.getMaxIncome(), request.getMaxAsset(), targetTypes, marriageStatuses,
+                request.getMinChildCount(), requireNoHouse);
+        noticeEligibilityRepository.save(eligibility);
+    }
+
+    private static String joinNames(List<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(Enum::name)
+                .distinct()
+                .collect(Collectors.joining(","));
+    }
+
+    private List<NoticeListItemDto> findPageFromDb(NoticeCategory category,
+                                                   LocalDate openOn,
+                                                   LocalDate closedBefore,
+                                                   NoticeSortType sort,
+                                                   NoticeCursor cursor,
+                                                   int limit) {
+        Long cursorId = (cursor != null) ? cursor.id() : null;
+        List<NoticeListItemDto> rows = new ArrayList<>(limit);
+
+        // 1) 날짜가 있는 구간 (정렬 컬럼 인덱스로 keyset)
+        if (cursor == null || !cursor.inUndatedTail()) {
+            LocalDate cursorDate = (cursor != null) ? cursor.date() : null;
+            PageRequest pageRequest = PageRequest.of(0, limit);
+            rows.addAll(switch (sort) {
+                case REG_DATE -> noticeRepository.findPageOrderByRegDate(
+                        category, openOn, closedBefore, cursorDate, cursorId, pageRequest);
+                case END_DATE -> noticeRepository.findPageOrderByEndDate(
+                        category, openOn, closedBefore, cursorDate, cursorId, pageRequest);
+            });
+            if (rows.size() >= limit) {
+                return rows;
+            }
+            cursorId = null;
+        }
+
+        // 2) 날짜가 없는 구간 (id 순), 마감 여부 필터가 있으면 마감일 없는 공고는 해당 없음
+        PageRequest rest = PageRequest.of(0, limit - rows.size());
+        switch (sort) {
+            case REG_DATE -> rows.addAll(noticeRepository.findUndatedPageOrderByRegDate(
+                    category, openOn, closedBefore, cursorId, rest));
+            case END_DATE -> {
+                if (openOn == null && closedBefore == null) {
+                    rows.addAll(noticeRepository.findUndatedPageOrderByEndDate(category, cursorId, rest));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private int normalizeSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        if (size < 1) throw new InvalidValueException("size는 1 이상이어야 합니다.");
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 }
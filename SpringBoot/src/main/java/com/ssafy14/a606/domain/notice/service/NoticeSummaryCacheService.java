@@ -0,0 +1,117 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.response.SummaryCacheStatsDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeSummaryCache;
+import com.ssafy14.a606.domain.notice.repository.NoticeSummaryCacheRepository;
+import com.ssafy14.a606.domain.notice.util.SummaryErrorText;
+import com.ssafy14.a606.domain.notice.util.SummaryInputHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요약 캐시 (MySQL notice_summary_cache)
+ * - FastAPI /summary 호출 전에 항상 먼저 조회한다.
+ * - 정상 응답으로 받은 요약만 저장하고, 예전에 저장된 오류 문구 항목은 기동 시 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoticeSummaryCacheService {
+
+    private final NoticeSummaryCacheRepository summaryCacheRepository;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    // 예전에 저장된 오류 문구는 없는 것으로 본다 (기동 시 정리되기 전이라도 다시 요약하도록)
+    public Optional<String> find(String inputHash) {
+        Optional<String> summary = summaryCacheRepository.findById(inputHash)
+                .map(NoticeSummaryCache::getSummary)
+                .filter(cached -> !SummaryErrorText.isErrorText(cached));
+
+        if (summary.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return summary;
+    }
+
+    // 정상 응답으로 받은 요약만 저장 (오류 문구가 섞여 들어와도 캐시하지 않음)
+    @Transactional
+    public void store(String inputHash, String summary) {
+        if (summary == null || summary.isBlank() || SummaryErrorText.isErrorText(summary)) {
+            return;
+        }
+        if (summaryCacheRepository.existsById(inputHash)) {
+            return;
+        }
+        try {
+            summaryCacheRepository.saveAndFlush(new NoticeSummaryCache(inputHash, summary));
+            stores.increment();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 입력을 동시에 요약한 경우 → 먼저 저장된 값 유지
+            log.debug("Summary cache entry already exists. hash={}", inputHash);
+        }
+    }
+
+    /**
+     * FastAPI 가 오류를 200 본문으로 보내던 시절에 저장된 항목 삭제
+     * - 남겨 두면 같은 제목의 요약 요청이 계속 오류 문구를 재사용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void purgeErrorEntries() {
+        long deleted = 0;
+        for (String prefix : SummaryErrorText.prefixes()) {
+            deleted += summaryCacheRepository.deleteBySummaryStartingWith(prefix);
+        }
+        if (deleted > 0) {
+            invalidations.add(deleted);
+            log.info("Purged {} summary cache entries holding FastAPI error text", deleted);
+        }
+    }
+
+    // 관리자: 해시로 무효화
+    @Transactional
+    public boolean invalidate(String inputHash) {
+        if (!summaryCacheRepository.existsById(inputHash)) {
+            return false;
+        }
+        summaryCacheRepository.deleteById(inputHash);
+        invalidations.increment();
+        return true;
+    }
+
+    // 관리자: 제목으로 무효화 (제목 → 해시)
+    @Transactional
+    public boolean invalidateByTitle(String title) {
+        return invalidate(SummaryInputHasher.hash(title));
+    }
+
+    public SummaryCacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        return SummaryCacheStatsDto.builder()
+                .entryCount(summaryCacheRepository.count())
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRate(total == 0 ? 0.0 : (double) hitCount / total)
+                .storeCount(stores.sum())
+                .invalidationCount(invalidations.sum())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeSummaryStatusDto;
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.event.NoticeSummaryRequestedEvent;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.domain.notice.util.SummaryErrorText;
+import com.ssafy14.a606.domain.notice.util.SummaryInputHasher;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 공고 요약 상태 전이 (PENDING → COMPLETED / 재시도 / FAILED)
+ * - 원격 호출은 NoticeSummaryWorker 가 트랜잭션 밖에서 수행하고,
+ *   여기서는 짧은 트랜잭션으로 결과만 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoticeSummaryService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NoticeRepository noticeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.notice.summary.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notice.summary.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${app.notice.summary.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    // 요약 대상 제목 조회 (PENDING 이 아니면 empty)
+    public Optional<String> findPendingTitle(Long noticeId) {
+        return noticeRepository.findById(noticeId)
+                .filter(notice -> notice.getSummaryStatus() == SummaryStatus.PENDING)
+                .map(Notice::getTitle);
+    }
+
+    // 시도 시각이 도래한 PENDING 공고 id
+    public List<Long> findDueIds(int limit) {
+        return noticeRepository.findDueSummaryIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    // 요약 도중 제목이 바뀌었으면(입력 해시 불일치) 새 요청이 따로 처리하므로 무시
+    @Transactional
+    public void complete(Long noticeId, String summary, String inputHash) {
+        noticeRepository.findById(noticeId)
+                .filter(notice -> notice.getSummaryStatus() == SummaryStatus.PENDING)
+                .filter(notice -> inputHash.equals(notice.getSummaryInputHash()))
+                .ifPresent(notice -> {
+                    notice.completeSummary(summary, inputHash);
+                    eventPublisher.publishEvent(
+                            new NoticeChangedEvent(noticeId, NoticeChangedEvent.ChangeType.SUMMARY_UPDATED));
+                });
+    }
+
+    /**
+     * 실패 기록 + 지수 백오프(jitter 포함)로 다음 시도 예약
+     * - maxAttempts 에 도달하면 FAILED (dead-letter)
+     */
+    @Transactional
+    public void recordFailure(Long noticeId, String error) {
+        noticeRepository.findById(noticeId)
+                .filter(notice -> notice.getSummaryStatus() == SummaryStatus.PENDING)
+                .ifPresent(notice -> {
+                    int attempts = notice.getSummaryAttempts() + 1;
+                    LocalDateTime nextAttemptAt = (attempts >= maxAttempts)
+                            ? null
+                            : LocalDateTime.now().plus(backoff(attempts));
+
+                    notice.failSummaryAttempt(truncate(error), nextAttemptAt);
+
+                    if (nextAttemptAt == null) {
+                        eventPublisher.publishEvent(
+                                new NoticeChangedEvent(noticeId, NoticeChangedEvent.ChangeType.SUMMARY_UPDATED));
+                    }
+                });
+    }
+
+    // 관리자: 상태별 요약 현황
+    public List<NoticeSummaryStatusDto> getSummaryStatuses(SummaryStatus status) {
+        return noticeRepository.findBySummaryStatusOrderByIdAsc(status)
+                .stream()
+                .map(NoticeSummaryStatusDto::new)
+                .toList();
+    }
+
+    // 관리자: 요약 재시도 (FAILED 포함 어떤 상태든 PENDING 으로 되돌림)
+    // 요약 캐시를 먼저 조회하므로, 잘못된 요약을 다시 받으려면 캐시 항목을 먼저 무효화한다.
+    @Transactional
+    public NoticeSummaryStatusDto retry(Long noticeId) {
+        Notice notice = noticeRepository.findById(noticeId)
+                .orElseThrow(() -> new InvalidValueException("해당 공고를 찾을 수 없습니다. Id:" + noticeId));
+
+        notice.requestSummary(SummaryInputHasher.hash(notice.getTitle()));
+        eventPublisher.publishEvent(new NoticeSummaryRequestedEvent(noticeId));
+
+        return new NoticeSummaryStatusDto(notice);
+    }
+
+    /**
+     * 예전 FastAPI 오류 문구로 완료 처리된 공고를 다시 요약 대기로 돌림
+     * - 요약 캐시의 같은 문구는 NoticeSummaryCacheService 가 따로 지운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void requeueErrorSummaries() {
+        int requeued = 0;
+        for (String prefix : SummaryErrorText.prefixes()) {
+            for (Notice notice : noticeRepository.findBySummaryStatusAndSummaryStartingWith(
+                    SummaryStatus.COMPLETED, prefix)) {
+                notice.requestSummary(SummaryInputHasher.hash(notice.getTitle()));
+                eventPublisher.publishEvent(new NoticeSummaryRequestedEvent(notice.getId()));
+                eventPublisher.publishEvent(
+                        new NoticeChangedEvent(notice.getId(), NoticeChangedEvent.ChangeType.SUMMARY_UPDATED));
+                requeued++;
+            }
+        }
+        if (requeued > 0) {
+            log.info("Requeued {} notices whose summary was FastAPI error text", requeued);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long exp = initialBackoffMs * (1L << Math.min(attempts - 1, 20));
+        long capped = Math.min(exp, maxBackoffMs);
+        // 같은 시각에 몰리지 않도록 0.5 ~ 1.0 배 jitter
+        long jittered = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return Duration.ofMillis(jittered);
+    }
+
+    private String truncate(String error) {
+        if (error == null) return null;
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
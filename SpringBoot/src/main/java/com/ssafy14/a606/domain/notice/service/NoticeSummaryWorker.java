@@ -0,0 +1,161 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.request.SummaryRequestDto;
+import com.ssafy14.a606.domain.notice.dto.response.SummaryResponseDto;
+import com.ssafy14.a606.domain.notice.event.NoticeSummaryRequestedEvent;
+import com.ssafy14.a606.domain.notice.util.SummaryInputHasher;
+import com.ssafy14.a606.global.exceptions.FastApiUnavailableException;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import com.ssafy14.a606.global.fastapi.AdmissionLimiter;
+import com.ssafy14.a606.global.fastapi.AdmissionPriority;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공고 요약 백그라운드 워커
+ * - 요청 스레드/DB 커넥션을 잡지 않도록 FastAPI /summary 호출을 전용 풀에서 수행한다.
+ * - 동시 실행 수(concurrency)와 대기열(queue-capacity)이 모두 제한되어 있고,
+ *   대기열이 가득 차면 작업을 버리지 않고 PENDING 으로 남겨 다음 폴링에서 다시 집어간다.
+ * - 재시도 간격/한도는 NoticeSummaryService 가 DB(summary_next_attempt_at)에 기록하므로 재기동에도 유지된다.
+ * - 원격 호출 전 요약 캐시(입력 해시)를 먼저 조회하고, 새로 받은 요약은 캐시에 저장한다.
+ * - FastAPI 는 Gemini 실패를 5xx, 원문 없음을 404 로 알려 주므로 오류 문구가 요약으로 저장되지 않는다.
+ * - FastAPI 호출은 AdmissionLimiter 를 ADMIN 우선순위로 통과한다 (챗봇보다 먼저 자리를 받음).
+ */
+@Slf4j
+@Component
+public class NoticeSummaryWorker {
+
+    private final NoticeSummaryService noticeSummaryService;
+    private final NoticeSummaryCacheService summaryCacheService;
+    private final FastApiClient fastApiClient;
+    private final AdmissionLimiter admissionLimiter;
+    private final ThreadPoolExecutor executor;
+    private final int pollBatchSize;
+
+    // 같은 공고가 동시에 두 번 처리되지 않도록
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public NoticeSummaryWorker(NoticeSummaryService noticeSummaryService,
+                               NoticeSummaryCacheService summaryCacheService,
+                               FastApiClient fastApiClient,
+                               AdmissionLimiter admissionLimiter,
+                               @Value("${app.notice.summary.concurrency:2}") int concurrency,
+                               @Value("${app.notice.summary.queue-capacity:100}") int queueCapacity,
+                               @Value("${app.notice.summary.poll-batch-size:20}") int pollBatchSize) {
+        this.noticeSummaryService = noticeSummaryService;
+        this.summaryCacheService = summaryCacheService;
+        this.fastApiClient = fastApiClient;
+        this.admissionLimiter = admissionLimiter;
+        this.pollBatchSize = pollBatchSize;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notice-summary-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 신규 생성/재시도 커밋 직후 바로 시작
+    @TransactionalEventListener
+    public void onSummaryRequested(NoticeSummaryRequestedEvent event) {
+        submit(event.noticeId());
+    }
+
+    // 놓친 이벤트, 백오프가 끝난 재시도, 재기동 전 남은 PENDING 을 주기적으로 수거
+    @Scheduled(fixedDelayString = "${app.notice.summary.poll-interval-ms:10000}")
+    public void pollDue() {
+        for (Long noticeId : noticeSummaryService.findDueIds(pollBatchSize)) {
+            if (!submit(noticeId)) {
+                break; // 대기열이 가득 참 → 다음 폴링에서
+            }
+        }
+    }
+
+    private boolean submit(Long noticeId) {
+        if (!inFlight.add(noticeId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> process(noticeId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(noticeId);
+            log.warn("Summary queue is full. noticeId={} stays PENDING", noticeId);
+            return false;
+        }
+    }
+
+    private void process(Long noticeId) {
+        try {
+            Optional<String> title = noticeSummaryService.findPendingTitle(noticeId);
+            if (title.isEmpty()) {
+                return;
+            }
+
+            String inputHash = SummaryInputHasher.hash(title.get());
+            Optional<String> cached = summaryCacheService.find(inputHash);
+            String summary;
+            if (cached.isPresent()) {
+                summary = cached.get();
+            } else {
+                summary = requestSummary(title.get());
+                summaryCacheService.store(inputHash, summary);
+            }
+            noticeSummaryService.complete(noticeId, summary, inputHash);
+        } catch (FastApiUnavailableException | ServiceOverloadedException e) {
+            // 서킷 OPEN / 동시 호출 한도 초과 / 진입 거절 → 시도 횟수를 쓰지 않고 PENDING 유지, 다음 폴링에서 재시도
+            log.debug("Summary deferred. noticeId={}, reason={}", noticeId, e.getMessage());
+        } catch (WebClientResponseException e) {
+            // Gemini 실패(5xx) / 원문 없음(404) → 요약도 캐시도 남기지 않고 실패로 기록 (백오프 후 재시도)
+            log.warn("Summary rejected by FastAPI. noticeId={}, status={}", noticeId, e.getStatusCode().value());
+            noticeSummaryService.recordFailure(noticeId,
+                    "FastAPI " + e.getStatusCode().value() + ": " + e.getResponseBodyAsString());
+        } catch (Exception e) {
+            log.warn("Summary attempt failed. noticeId={}, reason={}", noticeId, e.getMessage());
+            noticeSummaryService.recordFailure(noticeId, e.getClass().getSimpleName() + ": " + e.getMessage());
+        } finally {
+            inFlight.remove(noticeId);
+        }
+    }
+
+    private String requestSummary(String title) {
+        // 타임아웃은 FastApiClient 의 /summary 설정을 따른다 (워커 스레드에서만 대기)
+        SummaryResponseDto response = admissionLimiter
+                .admit(AdmissionPriority.ADMIN, () -> fastApiClient
+                        .post(FastApiEndpoint.SUMMARY, new SummaryRequestDto(title), SummaryResponseDto.class))
+                .block();
+
+        if (response == null || response.getSummary() == null || response.getSummary().isBlank()) {
+            throw new IllegalStateException("요약 응답이 비어 있습니다.");
+        }
+        return response.getSummary();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.request.NoticeEligibilityRequestDto;
+import com.ssafy14.a606.domain.notice.dto.response.EligibleUserPageResponseDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeEligibility;
+import com.ssafy14.a606.domain.notice.repository.NoticeEligibilityRepository;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.domain.user.index.UserEligibilityCriteria;
+import com.ssafy14.a606.domain.user.index.UserEligibilityIndex;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공고 → 신청 가능한 사용자 (역방향 자격 판정)
+ * - 사용자 쪽은 UserEligibilityIndex 에서 판정하므로 SQL 은 공고 기준 조회뿐
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoticeTargetingService {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeEligibilityRepository noticeEligibilityRepository;
+    private final UserEligibilityIndex userEligibilityIndex;
+
+    // 등록된 공고의 자격 기준으로 (기준이 없으면 전체 사용자)
+    public EligibleUserPageResponseDto getEligibleUsers(Long noticeId, Long cursor, Integer size) {
+        if (!noticeRepository.existsById(noticeId)) {
+            throw new InvalidValueException("해당 공고를 찾을 수 없습니다. Id:" + noticeId);
+        }
+        UserEligibilityCriteria criteria = noticeEligibilityRepository.findById(noticeId)
+                .map(NoticeTargetingService::toCriteria)
+                .orElseGet(() -> new UserEligibilityCriteria(null, null, null, null, null, false));
+        return match(criteria, cursor, size);
+    }
+
+    // 공고 등록 전 기준 미리보기
+    public EligibleUserPageResponseDto previewEligibleUsers(NoticeEligibilityRequestDto request, Long cursor,
+                                                            Integer size) {
+        if (request == null) {
+            throw new InvalidValueException("자격 기준이 비어 있습니다.");
+        }
+        return match(new UserEligibilityCriteria(request.getMaxIncome(), request.getMaxAsset(),
+                toSet(request.getTargetTypes()), toSet(request.getMarriageStatuses()),
+                request.getMinChildCount(), Boolean.TRUE.equals(request.getRequireNoHouse())), cursor, size);
+    }
+
+    private EligibleUserPageResponseDto match(UserEligibilityCriteria criteria, Long cursor, Integer size) {
+        if (!userEligibilityIndex.isReady()) {
+            throw new ServiceOverloadedException("사용자 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.", 5);
+        }
+        UserEligibilityIndex.Result result = userEligibilityIndex.match(criteria, cursor, normalizeSize(size));
+        return EligibleUserPageResponseDto.builder()
+                .totalCount(result.totalCount())
+                .userIds(result.userIds())
+                .nextCursor(result.nextCursor())
+                .build();
+    }
+
+    private static UserEligibilityCriteria toCriteria(NoticeEligibility eligibility) {
+        return new UserEligibilityCriteria(eligibility.getMaxIncome(), eligibility.getMaxAsset(),
+                eligibility.targetTypeSet(), eligibility.marriageStatusSet(),
+                eligibility.getMinChildCount(), eligibility.isRequireNoHouse());
+    }
+
+    private static <E> Set<E> toSet(List<E> values) {
+        return values == null ? null : values.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private int normalizeSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        if (size < 1) throw new InvalidValueException("size는 1 이상이어야 합니다.");
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
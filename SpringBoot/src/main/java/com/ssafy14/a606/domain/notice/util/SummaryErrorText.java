@@ -0,0 +1,35 @@
+package com.ssafy14.a606.domain.notice.util;
+
+import java.util.List;
+
+/**
+ * FastAPI 가 예전에 200 응답 본문으로 보내던 오류 문구 (Gemini 실패 / 원문 없음)
+ * - 지금은 5xx/404 로 알려 주지만, 그 전에 요약이나 요약 캐시로 저장된 값을 걸러내고 지우는 데 쓴다.
+ */
+public final class SummaryErrorText {
+
+    private static final List<String> PREFIXES = List.of(
+            "답변 생성 중 오류가 발생했습니다.",
+            "답변 생성 중 예상치 못한 오류가 발생했습니다",
+            "API 응답이 비어있습니다.",
+            "해당 공고의 내용을 찾을 수 없어 요약할 수 없습니다."
+    );
+
+    private SummaryErrorText() {
+    }
+
+    public static List<String> prefixes() {
+        return PREFIXES;
+    }
+
+    public static boolean isErrorText(String summary) {
+        if (summary == null) return false;
+        String trimmed = summary.strip();
+        for (String prefix : PREFIXES) {
+            if (trimmed.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy14.a606.domain.notice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+
+/**
+ * 요약 입력 해시 (요약 캐시 키)
+ * - FastAPI /summary 는 제목으로 원문을 찾아 요약하므로, 정규화한 제목의 SHA-256 을 키로 사용
+ * - 유니코드 정규화(NFC) + 앞뒤 공백 제거 + 연속 공백 축약 → 표기만 다른 같은 제목은 같은 키
+ */
+public final class SummaryInputHasher {
+
+    private SummaryInputHasher() {
+    }
+
+    public static String hash(String title) {
+        String normalized = normalize(title);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalize(String title) {
+        if (title == null) return "";
+        return Normalizer.normalize(title, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy14.a606.domain.user.controller;
+
+import com.ssafy14.a606.domain.user.dto.response.UserEligibilityIndexStatsDto;
+import com.ssafy14.a606.domain.user.dto.response.UserIdentifierIndexStatsDto;
+import com.ssafy14.a606.domain.user.index.UserEligibilityIndex;
+import com.ssafy14.a606.domain.user.index.UserIdentifierIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/users")
+public class UserAdminController {
+
+    private final UserIdentifierIndex userIdentifierIndex;
+    private final UserEligibilityIndex userEligibilityIndex;
+
+    // 아이디/이메일 중복확인 인덱스: 오탐률, DB 조회 절감률
+    @GetMapping("/identifier-index/stats")
+    public ResponseEntity<UserIdentifierIndexStatsDto> getIdentifierIndexStats() {
+        return ResponseEntity.ok(userIdentifierIndex.getStats());
+    }
+
+    // 인덱스 즉시 재구성
+    @PostMapping("/identifier-index/rebuild")
+    public ResponseEntity<UserIdentifierIndexStatsDto> rebuildIdentifierIndex() {
+        userIdentifierIndex.rebuild();
+        return ResponseEntity.ok(userIdentifierIndex.getStats());
+    }
+
+    // 역방향 자격 판정용 추가정보 열 색인: 사용자 수, 세그먼트, 마지막 조회 시간
+    @GetMapping("/eligibility-index/stats")
+    public ResponseEntity<UserEligibilityIndexStatsDto> getEligibilityIndexStats() {
+        return ResponseEntity.ok(userEligibilityIndex.getStats());
+    }
+
+    @PostMapping("/eligibility-index/rebuild")
+    public ResponseEntity<UserEligibilityIndexStatsDto> rebuildEligibilityIndex() {
+        userEligibilityIndex.rebuild();
+        return ResponseEntity.ok(userEligibilityIndex.getStats());
+    }
+}
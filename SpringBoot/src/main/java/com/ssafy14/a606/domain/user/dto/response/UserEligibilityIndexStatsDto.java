@@ -0,0 +1,30 @@
+package com.ssafy14.a606.domain.user.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class UserEligibilityIndexStatsDto {
+
+    // 기동 후 첫 적재가 끝났는지
+    private boolean ready;
+
+    // 색인된 사용자 수 / 탈퇴로 비어 있는 슬롯 포함 수 / 배열 크기
+    private int indexedUsers;
+    private int slots;
+    private int capacity;
+
+    // 병렬 스캔 단위 (슬롯 4096개)
+    private int segments;
+    private int parallelism;
+
+    private LocalDateTime builtAt;
+    private long rebuildCount;
+    private long lastRebuildMillis;
+    private long incrementalUpdateCount;
+    private long queryCount;
+    private long lastQueryMicros;
+}
@@ -0,0 +1,32 @@
+package com.ssafy14.a606.domain.user.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class UserIdentifierIndexStatsDto {
+
+    // 기동 후 첫 적재가 끝났는지 (false 면 모든 조회가 DB 로)
+    private boolean ready;
+
+    private long counters;
+    private int hashFunctions;
+    private long expectedInsertions;
+    private long sizeBytes;
+    private double fillRatio;
+    private double estimatedFalsePositiveRate;
+
+    // "확실히 없음"으로 DB 를 건너뛴 수 / DB 까지 간 수 / 그중 실제로 없던 수(오탐)
+    private long skippedDbQueries;
+    private long dbQueries;
+    private long falsePositiveCount;
+    private double observedFalsePositiveRate;
+    private double dbQuerySavingsRate;
+
+    private LocalDateTime builtAt;
+    private long rebuildCount;
+    private long lastRebuildMillis;
+}
@@ -0,0 +1,13 @@
+package com.ssafy14.a606.domain.user.event;
+
+/**
+ * 사용자 추가정보(user_details) 생성/수정/삭제
+ * - UserEligibilityIndex 가 커밋 이후에 해당 사용자 한 명만 다시 읽어 반영한다.
+ * - removed: 회원탈퇴 (DB 를 읽지 않고 색인에서 뺀다)
+ */
+public record UserDetailsChangedEvent(Long userId, boolean removed) {
+
+    public UserDetailsChangedEvent(Long userId) {
+        this(userId, false);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ssafy14.a606.domain.user.event;
+
+/**
+ * 아이디/이메일이 더 이상 쓰이지 않게 됨 (탈퇴, 이메일 변경)
+ * - 롤백되면 여전히 사용 중이므로 UserIdentifierIndex 는 커밋 이후에만 제거한다.
+ * - 값이 없으면 null
+ */
+public record UserIdentifiersReleasedEvent(String loginId, String email) {
+}
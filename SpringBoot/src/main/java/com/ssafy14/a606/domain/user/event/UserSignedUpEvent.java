@@ -0,0 +1,8 @@
+package com.ssafy14.a606.domain.user.event;
+
+/**
+ * 로컬 회원가입 완료
+ * - 이메일 인증 완료 상태는 커밋 이후에만 소비한다 (가입이 롤백되면 인증을 다시 받지 않아도 되도록).
+ */
+public record UserSignedUpEvent(Long userId, String email) {
+}
@@ -0,0 +1,159 @@
+package com.ssafy14.a606.domain.user.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 4비트 카운터 Counting Bloom filter (삭제 지원, lock-free)
+ * - long 하나에 카운터 16개, 증감은 CAS
+ * - 카운터가 15에 도달하면 고정(saturated) → 이후 삭제해도 줄이지 않음 (오탐만 늘고 미탐은 생기지 않음)
+ * - 해시는 64비트 FNV-1a + 두 번의 mix 로 h1, h2 를 만들고 h1 + i*h2 로 k 개 위치를 구한다 (Kirsch-Mitzenmacher)
+ */
+public final class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counters;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+
+    private CountingBloomFilter(long counters, int hashFunctions, long expectedInsertions) {
+        this.counters = counters;
+        this.hashFunctions = hashFunctions;
+        this.expectedInsertions = expectedInsertions;
+        this.words = new AtomicLongArray(Math.toIntExact((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    // m = -n ln p / (ln 2)^2, k = m/n ln 2
+    public static CountingBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new CountingBloomFilter(m, k, n);
+    }
+
+    public void add(String key) {
+        long hash = hash64(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            increment(index(h1, h2, i));
+        }
+    }
+
+    // add 된 적이 있는 키에만 호출해야 한다 (아니면 다른 키의 미탐이 생길 수 있음)
+    public void remove(String key) {
+        long hash = hash64(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            decrement(index(h1, h2, i));
+        }
+    }
+
+    // false 면 확실히 없음, true 면 있을 수도 있음
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counterAt(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 0 이 아닌 카운터 비율 (전체 스캔 - 통계용)
+    public double fillRatio() {
+        long nonZero = 0;
+        for (int w = 0; w < words.length(); w++) {
+            long word = words.get(w);
+            for (int c = 0; c < COUNTERS_PER_WORD; c++) {
+                if (((word >>> (c * 4)) & COUNTER_MASK) != 0) {
+                    nonZero++;
+                }
+            }
+        }
+        return (double) nonZero / counters;
+    }
+
+    // 현재 채워진 정도로 추정한 오탐률 = fillRatio^k
+    public double estimatedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashFunctions);
+    }
+
+    public long getCounters() {
+        return counters;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public long getSizeBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long index(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % counters;
+    }
+
+    private int counterAt(long index) {
+        int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        return (int) ((words.get((int) (index / COUNTERS_PER_WORD)) >>> shift) & COUNTER_MASK);
+    }
+
+    private void increment(long index) {
+        int word = (int) (index / COUNTERS_PER_WORD);
+        int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = words.get(word);
+            if (((current >>> shift) & COUNTER_MASK) == COUNTER_MASK) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current + (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private void decrement(long index) {
+        int word = (int) (index / COUNTERS_PER_WORD);
+        int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = words.get(word);
+            long counter = (current >>> shift) & COUNTER_MASK;
+            if (counter == 0 || counter == COUNTER_MASK) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current - (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,231 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.entity.HouseOwn;
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * user_details 열 단위 저장 (스레드 안전하지 않음 - UserEligibilityIndex 의 락 안에서만 사용)
+ * - 사용자 한 명 = 슬롯 하나. 소득/자산/자녀 수는 원시 배열, enum 은 값마다 비트셋(long[] 워드)
+ * - 입력하지 않은 숫자는 NULL 센티널, 입력하지 않은 enum 은 어떤 값의 비트도 켜지 않는다
+ * - 삭제는 live 비트만 끄고 슬롯은 재사용하지 않는다 (빈 슬롯은 다음 재구성 때 정리)
+ */
+final class UserColumns {
+
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_INT = Integer.MIN_VALUE;
+
+    private static final int TARGET_TYPE_COUNT = TargetType.values().length;
+    private static final int MARRIAGE_STATUS_COUNT = MarriageStatus.values().length;
+    private static final int HOUSE_OWN_COUNT = HouseOwn.values().length;
+
+    private final Map<Long, Integer> slots;
+    private int size;
+    private int liveCount;
+
+    private long[] userIds;
+    private long[] income;
+    private long[] asset;
+    private int[] childCount;
+
+    private long[] live;
+    private final long[][] targetType = new long[TARGET_TYPE_COUNT][];
+    private final long[][] marriageStatus = new long[MARRIAGE_STATUS_COUNT][];
+    private final long[][] houseOwn = new long[HOUSE_OWN_COUNT][];
+
+    UserColumns(int capacity) {
+        int rows = Math.max(64, capacity);
+        this.slots = new HashMap<>(rows * 4 / 3 + 1);
+        this.userIds = new long[rows];
+        this.income = new long[rows];
+        this.asset = new long[rows];
+        this.childCount = new int[rows];
+        int words = wordsFor(rows);
+        this.live = new long[words];
+        allocate(targetType, words);
+        allocate(marriageStatus, words);
+        allocate(houseOwn, words);
+    }
+
+    // 있으면 덮어쓰고 없으면 뒤에 붙인다
+    void put(UserEligibilityRow row) {
+        Integer existing = slots.get(row.userId());
+        int slot;
+        if (existing != null) {
+            slot = existing;
+        } else {
+            if (size == userIds.length) {
+                grow();
+            }
+            slot = size++;
+            slots.put(row.userId(), slot);
+            userIds[slot] = row.userId();
+            live[slot >>> 6] |= 1L << slot;
+            liveCount++;
+        }
+
+        income[slot] = row.income() == null ? NULL_LONG : row.income();
+        asset[slot] = row.asset() == null ? NULL_LONG : row.asset();
+        childCount[slot] = row.childCount() == null ? NULL_INT : row.childCount();
+        setOnly(targetType, slot, row.targetType() == null ? -1 : row.targetType().ordinal());
+        setOnly(marriageStatus, slot, row.marriageStatus() == null ? -1 : row.marriageStatus().ordinal());
+        setOnly(houseOwn, slot, row.houseOwn() == null ? -1 : row.houseOwn().ordinal());
+    }
+
+    void remove(Long userId) {
+        Integer slot = slots.remove(userId);
+        if (slot == null) {
+            return;
+        }
+        live[slot >>> 6] &= ~(1L << slot);
+        setOnly(targetType, slot, -1);
+        setOnly(marriageStatus, slot, -1);
+        setOnly(houseOwn, slot, -1);
+        liveCount--;
+    }
+
+    /**
+     * [fromWord, toWord) 워드 구간(슬롯 64개 단위)을 조건으로 걸러 out 에 쓰고 일치 수를 돌려준다
+     * - enum/무주택 조건은 워드 단위 AND, 숫자 조건은 남은 후보 비트만 확인
+     */
+    int scan(Compiled criteria, int fromWord, int toWord, long[] out) {
+        int count = 0;
+        for (int w = fromWord; w < toWord; w++) {
+            long bits = live[w];
+            if (criteria.targetTypes != null) {
+                bits &= union(targetType, criteria.targetTypes, w);
+            }
+            if (criteria.marriageStatuses != null) {
+                bits &= union(marriageStatus, criteria.marriageStatuses, w);
+            }
+            if (criteria.requireNoHouse) {
+                bits &= houseOwn[HouseOwn.NO.ordinal()][w];
+            }
+            if (criteria.numeric && bits != 0) {
+                long candidates = bits;
+                while (candidates != 0) {
+                    int bit = Long.numberOfTrailingZeros(candidates);
+                    if (!passesNumeric(criteria, (w << 6) + bit)) {
+                        bits &= ~(1L << bit);
+                    }
+                    candidates &= candidates - 1;
+                }
+            }
+            out[w] = bits;
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    long userId(int slot) {
+        return userIds[slot];
+    }
+
+    // 사용 중인 워드 수 (scan 범위)
+    int words() {
+        return wordsFor(size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    int capacity() {
+        return userIds.length;
+    }
+
+    private boolean passesNumeric(Compiled criteria, int slot) {
+        if (criteria.maxIncome != NULL_LONG && (income[slot] == NULL_LONG || income[slot] > criteria.maxIncome)) {
+            return false;
+        }
+        if (criteria.maxAsset != NULL_LONG && (asset[slot] == NULL_LONG || asset[slot] > criteria.maxAsset)) {
+            return false;
+        }
+        return criteria.minChildCount == NULL_INT
+                || childCount[slot] != NULL_INT && childCount[slot] >= criteria.minChildCount;
+    }
+
+    private static long union(long[][] bitsets, int[] ordinals, int word) {
+        long mask = 0;
+        for (int ordinal : ordinals) {
+            mask |= bitsets[ordinal][word];
+        }
+        return mask;
+    }
+
+    // 해당 슬롯의 비트를 ordinal 값 하나에만 켠다 (-1 이면 모두 끔)
+    private static void setOnly(long[][] bitsets, int slot, int ordinal) {
+        int word = slot >>> 6;
+        long bit = 1L << slot;
+        for (int v = 0; v < bitsets.length; v++) {
+            if (v == ordinal) {
+                bitsets[v][word] |= bit;
+            } else {
+                bitsets[v][word] &= ~bit;
+            }
+        }
+    }
+
+    private void grow() {
+        int rows = userIds.length * 2;
+        userIds = Arrays.copyOf(userIds, rows);
+        income = Arrays.copyOf(income, rows);
+        asset = Arrays.copyOf(asset, rows);
+        childCount = Arrays.copyOf(childCount, rows);
+        int words = wordsFor(rows);
+        live = Arrays.copyOf(live, words);
+        resize(targetType, words);
+        resize(marriageStatus, words);
+        resize(houseOwn, words);
+    }
+
+    private static void allocate(long[][] bitsets, int words) {
+        for (int v = 0; v < bitsets.length; v++) {
+            bitsets[v] = new long[words];
+        }
+    }
+
+    private static void resize(long[][] bitsets, int words) {
+        for (int v = 0; v < bitsets.length; v++) {
+            bitsets[v] = Arrays.copyOf(bitsets[v], words);
+        }
+    }
+
+    private static int wordsFor(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    /**
+     * 스캔용으로 풀어 둔 조건 (enum 집합 → ordinal 배열, 제한 없으면 null / NULL 센티널)
+     */
+    static final class Compiled {
+
+        private final int[] targetTypes;
+        private final int[] marriageStatuses;
+        private final boolean requireNoHouse;
+        private final long maxIncome;
+        private final long maxAsset;
+        private final int minChildCount;
+        private final boolean numeric;
+
+        Compiled(UserEligibilityCriteria criteria) {
+            this.targetTypes = criteria.targetTypes().isEmpty() ? null
+                    : criteria.targetTypes().stream().mapToInt(Enum::ordinal).toArray();
+            this.marriageStatuses = criteria.marriageStatuses().isEmpty() ? null
+                    : criteria.marriageStatuses().stream().mapToInt(Enum::ordinal).toArray();
+            this.requireNoHouse = criteria.requireNoHouse();
+            this.maxIncome = criteria.maxIncome() == null ? NULL_LONG : criteria.maxIncome();
+            this.maxAsset = criteria.maxAsset() == null ? NULL_LONG : criteria.maxAsset();
+            this.minChildCount = criteria.minChildCount() == null ? NULL_INT : criteria.minChildCount();
+            this.numeric = maxIncome != NULL_LONG || maxAsset != NULL_LONG || minChildCount != NULL_INT;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+
+import java.util.Set;
+
+/**
+ * 사용자 자격 조건 (공고 자격 기준과 같은 의미)
+ * - null / 빈 집합인 항목은 제한 없음
+ * - 제한이 있는 항목을 사용자가 입력하지 않았으면 탈락
+ */
+public record UserEligibilityCriteria(Long maxIncome, Long maxAsset,
+                                      Set<TargetType> targetTypes, Set<MarriageStatus> marriageStatuses,
+                                      Integer minChildCount, boolean requireNoHouse) {
+
+    public UserEligibilityCriteria {
+        targetTypes = targetTypes == null ? Set.of() : Set.copyOf(targetTypes);
+        marriageStatuses = marriageStatuses == null ? Set.of() : Set.copyOf(marriageStatuses);
+    }
+}
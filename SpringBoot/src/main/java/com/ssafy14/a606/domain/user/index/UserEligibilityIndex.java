@@ -0,0 +1,300 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.dto.response.UserEligibilityIndexStatsDto;
+import com.ssafy14.a606.domain.user.event.UserDetailsChangedEvent;
+import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 역방향 자격 판정용 user_details 열 색인
+ * - 공고 자격 기준 하나로 신청 가능한 사용자 수와 사용자 ID 페이지를 DB 없이 구한다 (타게팅/알림 대상 산정)
+ * - UserColumns 를 세그먼트(슬롯 4096개) 단위로 나눠 fork/join 으로 병렬 스캔
+ * - 추가정보 수정/가입/탈퇴 커밋 후 그 사용자 한 명만 반영하고, 주기적으로 다시 만들어 빈 슬롯을 정리한다
+ * - 재구성 중 바뀐 사용자는 교체 직후 다시 읽는다 (적재가 수정 커밋 전 값을 읽었을 수 있음)
+ */
+@Slf4j
+@Component
+public class UserEligibilityIndex {
+
+    // 세그먼트 = 워드 64개 = 슬롯 4096개
+    static final int SEGMENT_WORDS = 64;
+
+    private final UserDetailsRepository userDetailsRepository;
+    private final int pageSize;
+    private final ForkJoinPool pool;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private UserColumns columns = new UserColumns(0);
+
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private final ConcurrentLinkedQueue<Long> changedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private volatile LocalDateTime builtAt;
+    private volatile long lastRebuildMillis;
+    private volatile long lastQueryMicros;
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder incrementalUpdates = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    public UserEligibilityIndex(UserDetailsRepository userDetailsRepository,
+                                @Value("${app.user.eligibility-index.page-size:5000}") int pageSize,
+                                @Value("${app.user.eligibility-index.parallelism:0}") int parallelism) {
+        this.userDetailsRepository = userDetailsRepository;
+        this.pageSize = Math.max(1, pageSize);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build user eligibility index: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.user.eligibility-index.rebuild-interval-ms:21600000}",
+            fixedDelayString = "${app.user.eligibility-index.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("User eligibility index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * DB 에서 다시 적재 (user_id keyset 페이지) 후 교체
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        try {
+            UserColumns next = new UserColumns((int) Math.min(Integer.MAX_VALUE / 2, userDetailsRepository.count()));
+            Long lastId = 0L;
+            List<UserEligibilityRow> page;
+            do {
+                page = userDetailsRepository.findEligibilityRowsAfter(lastId, PageRequest.of(0, pageSize));
+                for (UserEligibilityRow row : page) {
+                    next.put(row);
+                    lastId = row.userId();
+                }
+            } while (page.size() == pageSize);
+
+            lock.writeLock().lock();
+            try {
+                columns = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+
+        // 교체 전에 들어온 변경은 새 색인에 없을 수 있으므로 다시 읽는다 (중복 반영은 무해)
+        Long userId;
+        while ((userId = changedDuringRebuild.poll()) != null) {
+            refresh(userId);
+        }
+
+        ready = true;
+        builtAt = LocalDateTime.now();
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        rebuilds.increment();
+        log.info("User eligibility index built. users={}, {}ms", columns().liveCount(), lastRebuildMillis);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onDetailsChanged(UserDetailsChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.userId());
+        }
+        try {
+            if (event.removed()) {
+                remove(event.userId());
+            } else {
+                refresh(event.userId());
+            }
+        } catch (Exception e) {
+            // 다음 재구성 때 맞춰진다
+            log.warn("User eligibility update failed for {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 조건을 만족하는 사용자 수와 cursor(사용자 ID) 다음부터 ID 오름차순 최대 limit 명
+     */
+    public Result match(UserEligibilityCriteria criteria, Long cursor, int limit) {
+        long start = System.nanoTime();
+        UserColumns.Compiled compiled = new UserColumns.Compiled(criteria);
+
+        lock.readLock().lock();
+        try {
+            UserColumns current = columns;
+            int words = current.words();
+            long[] matched = new long[words];
+            int total = words <= SEGMENT_WORDS
+                    ? current.scan(compiled, 0, words, matched)
+                    : pool.invoke(new ScanTask(current, compiled, matched, 0, words));
+
+            Result result = page(current, matched, total, cursor, limit);
+            queries.increment();
+            lastQueryMicros = (System.nanoTime() - start) / 1_000;
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public UserEligibilityIndexStatsDto getStats() {
+        lock.readLock().lock();
+        try {
+            UserColumns current = columns;
+            return UserEligibilityIndexStatsDto.builder()
+                    .ready(ready)
+                    .indexedUsers(current.liveCount())
+                    .slots(current.size())
+                    .capacity(current.capacity())
+                    .segments((current.words() + SEGMENT_WORDS - 1) / SEGMENT_WORDS)
+                    .parallelism(pool.getParallelism())
+                    .builtAt(builtAt)
+                    .rebuildCount(rebuilds.sum())
+                    .lastRebuildMillis(lastRebuildMillis)
+                    .incrementalUpdateCount(incrementalUpdates.sum())
+                    .queryCount(queries.sum())
+                    .lastQueryMicros(lastQueryMicros)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refresh(Long userId) {
+        UserEligibilityRow row = userDetailsRepository.findEligibilityRow(userId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (row == null) {
+                columns.remove(userId);
+            } else {
+                columns.put(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        incrementalUpdates.increment();
+    }
+
+    private void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            columns.remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        incrementalUpdates.increment();
+    }
+
+    private UserColumns columns() {
+        lock.readLock().lock();
+        try {
+            return columns;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 슬롯 순서는 ID 순서가 아니므로 cursor 뒤 ID 중 작은 limit 개를 최대 힙으로 고른다
+    private static Result page(UserColumns current, long[] matched, int total, Long cursor, int limit) {
+        PriorityQueue<Long> smallest = new PriorityQueue<>(Math.max(1, limit), Comparator.reverseOrder());
+        int after = 0;
+        for (int w = 0; w < matched.length; w++) {
+            long bits = matched[w];
+            while (bits != 0) {
+                long userId = current.userId((w << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+                if (cursor != null && userId <= cursor) {
+                    continue;
+                }
+                after++;
+                if (smallest.size() < limit) {
+                    smallest.add(userId);
+                } else if (limit > 0 && userId < smallest.peek()) {
+                    smallest.poll();
+                    smallest.add(userId);
+                }
+            }
+        }
+
+        List<Long> userIds = new ArrayList<>(smallest);
+        Collections.sort(userIds);
+        Long nextCursor = after > userIds.size() && !userIds.isEmpty() ? userIds.get(userIds.size() - 1) : null;
+        return new Result(total, userIds, nextCursor);
+    }
+
+    public record Result(int totalCount, List<Long> userIds, Long nextCursor) {
+    }
+
+    // 워드 구간을 세그먼트 크기까지 반으로 나눠 스캔, 각 태스크는 서로 다른 out 구간만 쓴다
+    private static final class ScanTask extends RecursiveTask<Integer> {
+
+        private final UserColumns columns;
+        private final UserColumns.Compiled criteria;
+        private final long[] out;
+        private final int fromWord;
+        private final int toWord;
+
+        ScanTask(UserColumns columns, UserColumns.Compiled criteria, long[] out, int fromWord, int toWord) {
+            this.columns = columns;
+            this.criteria = criteria;
+            this.out = out;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toWord - fromWord <= SEGMENT_WORDS) {
+                return columns.scan(criteria, fromWord, toWord, out);
+            }
+            int half = Math.max(1, (toWord - fromWord) / SEGMENT_WORDS / 2);
+            int mid = fromWord + half * SEGMENT_WORDS;
+            ScanTask left = new ScanTask(columns, criteria, out, fromWord, mid);
+            left.fork();
+            int right = new ScanTask(columns, criteria, out, mid, toWord).compute();
+            return left.join() + right;
+        }
+    }
+}
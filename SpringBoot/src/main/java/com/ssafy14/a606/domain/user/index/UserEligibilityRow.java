@@ -0,0 +1,10 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.entity.HouseOwn;
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+
+// 자격 색인 적재용 projection (입력하지 않은 항목은 null)
+public record UserEligibilityRow(Long userId, TargetType targetType, MarriageStatus marriageStatus,
+                                 HouseOwn houseOwn, Long income, Long asset, Integer childCount) {
+}
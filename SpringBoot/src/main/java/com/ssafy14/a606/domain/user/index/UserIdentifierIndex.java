@@ -0,0 +1,344 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.dto.response.UserIdentifierIndexStatsDto;
+import com.ssafy14.a606.domain.user.event.UserIdentifiersReleasedEvent;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용 중인 loginId / email 인메모리 인덱스 (Counting Bloom filter)
+ * - /api/users/check 에서 "확실히 없음"이면 DB 를 건너뛰고, "있을 수도 있음"일 때만 exists 쿼리
+ * - 기동 시 DB 에서 전체 적재, 이후 가입/이메일 변경/탈퇴 때 갱신하고 주기적으로 다시 만든다
+ *   (삭제가 누적되거나 카운터가 포화돼 늘어난 오탐을 정리)
+ * - 추가는 즉시(커밋 전) 반영 → 롤백되면 오탐만 남음. 제거는 커밋 이후에만 → 미탐이 생기지 않음
+ * - 제거는 이 필터에 넣은 것이 확실한 값(최근 로컬 추가 / 반영한 원격 추가)만 카운터를 내린다.
+ *   넣은 적 없는 값을 내리면 다른 값의 카운터가 깎여 미탐이 생기므로, 그 외에는 오탐으로 남기고
+ *   release-rebuild-threshold 건이 쌓이면 앞당겨 재구성한다.
+ * - 재구성 중 DB 에 아직 커밋되지 않은 추가를 놓치지 않도록, 최근 추가분을 교체 직전에 새 필터에 다시 넣는다
+ * - 다른 인스턴스에서 추가된 값은 Redis ZSET 에 짧게 남겨 두고 sync-interval-ms 마다 가져온다.
+ *   (제거는 전파하지 않음 - 오탐만 남고 다음 재구성 때 정리)
+ * - 값은 trim + 소문자로 저장 (DB 콜레이션이 대소문자를 무시해도 미탐이 없도록)
+ */
+@Slf4j
+@Component
+public class UserIdentifierIndex {
+
+    private static final String RECENT_KEY = "user:identifiers:recent";
+    private static final String LOGIN_ID_PREFIX = "l:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final int pageSize;
+    private final long syncRetentionMs;
+    private final long releaseRebuildThreshold;
+
+    // 다른 인스턴스가 남긴 값만 가져오기 위한 구분자
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile CountingBloomFilter filter;
+    // 재구성 중에는 새 필터에도 같이 추가 (적재가 끝난 뒤 교체)
+    private volatile CountingBloomFilter building;
+    private volatile LocalDateTime builtAt;
+    private volatile long lastRebuildMillis;
+
+    // 이미 반영한 다른 인스턴스의 항목 (member → score), retention 이 지나면 정리
+    private final Map<String, Long> appliedRemote = new ConcurrentHashMap<>();
+    // 이 인스턴스에서 최근 추가한 키 (재구성 교체 직전 재반영용), retention 이 지나면 정리
+    private final ConcurrentLinkedQueue<RecentKey> recentLocal = new ConcurrentLinkedQueue<>();
+    private volatile long lastSyncScore;
+    // 카운터를 내리지 못하고 오탐으로 남긴 제거 건수 (재구성 시작 시 초기화)
+    private final AtomicLong unconfirmedReleases = new AtomicLong();
+
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder dbQueries = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    public UserIdentifierIndex(UserRepository userRepository,
+                               StringRedisTemplate redisTemplate,
+                               @Value("${app.user.identifier-index.expected-insertions:100000}") long minExpectedInsertions,
+                               @Value("${app.user.identifier-index.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${app.user.identifier-index.page-size:5000}") int pageSize,
+                               @Value("${app.user.identifier-index.sync-retention-ms:600000}") long syncRetentionMs,
+                               @Value("${app.user.identifier-index.release-rebuild-threshold:1000}") long releaseRebuildThreshold) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pageSize = pageSize;
+        this.syncRetentionMs = syncRetentionMs;
+        this.releaseRebuildThreshold = releaseRebuildThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 적재 실패 시 인덱스 없이 동작 (모든 조회가 DB 로)
+            log.error("Failed to build user identifier index: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.user.identifier-index.rebuild-interval-ms:21600000}",
+            fixedDelayString = "${app.user.identifier-index.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("User identifier index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 에서 다시 적재 (id keyset 페이지)
+     * - 사용자당 값 2개(loginId, email) x 여유 2배로 잡아 다음 재구성까지 가입이 늘어도 오탐률을 유지
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long expected = Math.max(minExpectedInsertions, userRepository.count() * 2 * 2);
+        CountingBloomFilter next = CountingBloomFilter.create(expected, falsePositiveRate);
+        // 이후 커밋된 제거는 새 필터에 적재되지 않으므로 여기서부터 다시 센다
+        unconfirmedReleases.set(0);
+        building = next;
+        try {
+            Long lastId = 0L;
+            List<UserIdentifiers> page;
+            do {
+                page = userRepository.findIdentifiersAfter(lastId, PageRequest.of(0, pageSize));
+                for (UserIdentifiers row : page) {
+                    addTo(next, row.loginId(), row.email());
+                    lastId = row.id();
+                }
+            } while (page.size() == pageSize);
+
+            // 적재 중 커밋 전이라 DB 에서 안 보였던 추가분 (중복 추가는 오탐만 늘 뿐 안전)
+            for (RecentKey recent : recentLocal) {
+                next.add(recent.key());
+            }
+            for (String member : appliedRemote.keySet()) {
+                next.add(keyOf(member));
+            }
+            filter = next;
+        } finally {
+            building = null;
+        }
+
+        builtAt = LocalDateTime.now();
+        lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        rebuilds.increment();
+        log.info("User identifier index built. counters={}, hashes={}, {}ms",
+                next.getCounters(), next.getHashFunctions(), lastRebuildMillis);
+    }
+
+    // false 면 확실히 사용 중이 아님 (DB 조회 생략). 인덱스가 아직 없으면 true
+    public boolean mightContainLoginId(String loginId) {
+        return mightContain(LOGIN_ID_PREFIX + normalize(loginId));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(EMAIL_PREFIX + normalize(email));
+    }
+
+    // "있을 수도 있음"으로 DB 까지 간 결과 기록 (없었으면 오탐)
+    public void recordDbResult(boolean exists) {
+        dbQueries.increment();
+        if (!exists) {
+            falsePositives.increment();
+        }
+    }
+
+    // 가입/이메일 변경 시 (커밋 전 즉시 반영)
+    public void add(String loginId, String email) {
+        List<String> keys = new ArrayList<>(2);
+        if (loginId != null) keys.add(LOGIN_ID_PREFIX + normalize(loginId));
+        if (email != null) keys.add(EMAIL_PREFIX + normalize(email));
+
+        long now = System.currentTimeMillis();
+        for (String key : keys) {
+            // 기록 → building → filter 순서로 읽어야 재구성 교체와 겹쳐도 새 필터에서 빠지지 않는다
+            recentLocal.add(new RecentKey(key, now));
+            CountingBloomFilter next = building;
+            CountingBloomFilter current = filter;
+            if (current != null) current.add(key);
+            if (next != null) next.add(key);
+        }
+        publish(keys, now);
+    }
+
+    // 탈퇴/이메일 변경이 커밋된 뒤 제거
+    @TransactionalEventListener
+    public void onReleased(UserIdentifiersReleasedEvent event) {
+        // 재구성 중인 필터는 그 값을 적재했는지 알 수 없으므로 건드리지 않는다 (오탐만 남음)
+        CountingBloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        if (event.loginId() != null) release(current, LOGIN_ID_PREFIX + normalize(event.loginId()));
+        if (event.email() != null) release(current, EMAIL_PREFIX + normalize(event.email()));
+    }
+
+    /**
+     * 이 필터에 들어간 것이 확실한 추가 기록을 하나 소비하고 카운터를 내린다
+     * - 필터를 먼저 읽고 기록을 소비해야, 그 사이 재구성이 끝나도 새 필터에는 기록이 다시 들어가 있다
+     * - 기록이 없으면 (DB 적재분, 아직 반영 못 한 원격 추가, retention 경과) 오탐으로 남긴다
+     */
+    private void release(CountingBloomFilter current, String key) {
+        if (consumeLocal(key) || consumeRemote(key)) {
+            current.remove(key);
+        } else {
+            unconfirmedReleases.incrementAndGet();
+        }
+    }
+
+    private boolean consumeLocal(String key) {
+        for (RecentKey recent : recentLocal) {
+            if (recent.key().equals(key) && recentLocal.remove(recent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 소비한 항목이 아직 ZSET 에 남아 있으면 다음 동기화 때 다시 추가될 수 있음 (오탐만 남음)
+    private boolean consumeRemote(String key) {
+        for (Map.Entry<String, Long> applied : appliedRemote.entrySet()) {
+            if (keyOf(applied.getKey()).equals(key) && appliedRemote.remove(applied.getKey(), applied.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 다른 인스턴스에서 추가된 값 반영 + 오래된 항목 정리
+    @Scheduled(fixedDelayString = "${app.user.identifier-index.sync-interval-ms:5000}")
+    public void syncRemote() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(RECENT_KEY, 0, now - syncRetentionMs);
+
+            // 인스턴스 간 시계 차이를 감안해 1초 겹쳐서 읽고, 이미 반영한 항목은 건너뜀
+            Set<ZSetOperations.TypedTuple<String>> recent = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(RECENT_KEY, lastSyncScore - 1000, Double.POSITIVE_INFINITY);
+            if (recent != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : recent) {
+                    applyRemote(tuple.getValue(), tuple.getScore() == null ? now : tuple.getScore().longValue());
+                }
+            }
+            lastSyncScore = now;
+        } catch (Exception e) {
+            log.warn("User identifier index sync failed: {}", e.getMessage());
+        } finally {
+            long expiredBefore = System.currentTimeMillis() - syncRetentionMs;
+            appliedRemote.values().removeIf(score -> score < expiredBefore);
+            recentLocal.removeIf(recent -> recent.addedAt() < expiredBefore);
+        }
+
+        if (unconfirmedReleases.get() >= releaseRebuildThreshold) {
+            scheduledRebuild();
+        }
+    }
+
+    private void applyRemote(String member, long score) {
+        // member = "{instanceId}|{seq}|{key}"
+        if (member == null || member.startsWith(instanceId + "|") || appliedRemote.putIfAbsent(member, score) != null) {
+            return;
+        }
+        String key = keyOf(member);
+        CountingBloomFilter next = building;
+        CountingBloomFilter current = filter;
+        if (current != null) current.add(key);
+        if (next != null) next.add(key);
+    }
+
+    private void publish(List<String> keys, long now) {
+        try {
+            for (String key : keys) {
+                redisTemplate.opsForZSet().add(RECENT_KEY, instanceId + "|" + sequence.incrementAndGet() + "|" + key, now);
+            }
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 다음 재구성 때 반영 (가입 자체는 DB 에서 정확히 검사)
+            log.warn("User identifier publish failed: {}", e.getMessage());
+        }
+    }
+
+    // "{instanceId}|{seq}|{key}" → key
+    private static String keyOf(String member) {
+        return member.substring(member.indexOf('|', member.indexOf('|') + 1) + 1);
+    }
+
+    private boolean mightContain(String key) {
+        CountingBloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        if (current.mightContain(key)) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    private static void addTo(CountingBloomFilter target, String loginId, String email) {
+        if (loginId != null) target.add(LOGIN_ID_PREFIX + normalize(loginId));
+        if (email != null) target.add(EMAIL_PREFIX + normalize(email));
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record RecentKey(String key, long addedAt) {
+    }
+
+    public UserIdentifierIndexStatsDto getStats() {
+        CountingBloomFilter current = filter;
+        long skippedCount = skipped.sum();
+        long dbCount = dbQueries.sum();
+        long falsePositiveCount = falsePositives.sum();
+        long absentCount = skippedCount + falsePositiveCount;
+
+        return UserIdentifierIndexStatsDto.builder()
+                .ready(current != null)
+                .counters(current == null ? 0 : current.getCounters())
+                .hashFunctions(current == null ? 0 : current.getHashFunctions())
+                .expectedInsertions(current == null ? 0 : current.getExpectedInsertions())
+                .sizeBytes(current == null ? 0 : current.getSizeBytes())
+                .fillRatio(current == null ? 0 : current.fillRatio())
+                .estimatedFalsePositiveRate(current == null ? 0 : current.estimatedFalsePositiveRate())
+                .skippedDbQueries(skippedCount)
+                .dbQueries(dbCount)
+                .falsePositiveCount(falsePositiveCount)
+                .observedFalsePositiveRate(absentCount == 0 ? 0 : (double) falsePositiveCount / absentCount)
+                .dbQuerySavingsRate(skippedCount + dbCount == 0 ? 0 : (double) skippedCount / (skippedCount + dbCount))
+                .builtAt(builtAt)
+                .rebuildCount(rebuilds.sum())
+                .lastRebuildMillis(lastRebuildMillis)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy14.a606.domain.user.index;
+
+// 인덱스 적재용 projection (loginId 는 소셜 사용자면 null)
+public record UserIdentifiers(Long id, String loginId, String email) {
+}
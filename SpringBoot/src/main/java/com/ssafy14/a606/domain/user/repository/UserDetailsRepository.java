@@ -1,7 +1,32 @@
 package com.ssafy14.a606.domain.user.repository;
 
 import com.ssafy14.a606.domain.user.entity.UserDetails;
+import com.ssafy14.a606.domain.user.index.UserEligibilityRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface UserDetailsRepository extends JpaRepository<UserDetails, Long> {
+
+    // 자격 색인 적재용 (user_id keyset 페이지)
+    @Query("""
+            select new com.ssafy14.a606.domain.user.index.UserEligibilityRow(
+                d.userId, d.targetType, d.marriageStatus, d.houseOwn, d.income, d.asset, d.childCount)
+            from UserDetails d
+            where d.userId > :lastId
+            order by d.userId asc
+            """)
+    List<UserEligibilityRow> findEligibilityRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("""
+            select new com.ssafy14.a606.domain.user.index.UserEligibilityRow(
+                d.userId, d.targetType, d.marriageStatus, d.houseOwn, d.income, d.asset, d.childCount)
+            from UserDetails d
+            where d.userId = :userId
+            """)
+    Optional<UserEligibilityRow> findEligibilityRow(@Param("userId") Long userId);
 }
@@ -2,8 +2,14 @@ package com.ssafy14.a606.domain.user.repository;
 
 import com.ssafy14.a606.domain.user.entity.AuthType;
 import com.ssafy14.a606.domain.user.entity.User;
+import com.ssafy14.a606.domain.user.index.UserIdentifiers;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -23,4 +29,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByAuthTypeAndProviderId(AuthType authType, String providerId);
 
     Optional<User> findByEmail(String email);
+
+    // 로그인 시 재해시 저장 - 조회 이후 비밀번호가 바뀌지 않았을 때만 (반환: 변경된 행 수)
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 아이디/이메일 인덱스 적재용 keyset 페이지 (id 오름차순)
+    @Query("""
+            select new com.ssafy14.a606.domain.user.index.UserIdentifiers(u.id, u.loginId, u.email)
+            from User u
+            where u.id > :lastId
+            order by u.id asc
+            """)
+    List<UserIdentifiers> findIdentifiersAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -4,10 +4,12 @@ import com.ssafy14.a606.domain.user.dto.request.UserDetailsRequestDto;
 import com.ssafy14.a606.domain.user.dto.response.UserDetailsResponseDto;
 import com.ssafy14.a606.domain.user.entity.User;
 import com.ssafy14.a606.domain.user.entity.UserDetails;
+import com.ssafy14.a606.domain.user.event.UserDetailsChangedEvent;
 import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
 import com.ssafy14.a606.domain.user.repository.UserRepository;
 import com.ssafy14.a606.global.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserDetailsRepository userDetailsRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 추가정보 조회
     @Override
@@ -63,6 +66,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 });
 
         details.update(requestDto);
+        eventPublisher.publishEvent(new UserDetailsChangedEvent(userId));
 
         return toResponseDto(details);
     }
@@ -2,7 +2,6 @@ package com.ssafy14.a606.domain.user.service;
 
 import com.ssafy14.a606.domain.auth.refresh.RefreshTokenStore;
 import com.ssafy14.a606.domain.email.service.EmailVerificationService;
-import com.ssafy14.a606.domain.email.store.EmailVerificationStatusStore;
 import com.ssafy14.a606.domain.user.dto.request.SignUpRequestDto;
 import com.ssafy14.a606.domain.user.dto.request.UserUpdateRequestDto;
 import com.ssafy14.a606.domain.user.dto.response.SignUpResponseDto;
@@ -11,6 +10,10 @@ import com.ssafy14.a606.domain.user.entity.AuthType;
 import com.ssafy14.a606.domain.user.entity.Role;
 import com.ssafy14.a606.domain.user.entity.User;
 import com.ssafy14.a606.domain.user.entity.UserDetails;
+import com.ssafy14.a606.domain.user.event.UserDetailsChangedEvent;
+import com.ssafy14.a606.domain.user.event.UserIdentifiersReleasedEvent;
+import com.ssafy14.a606.domain.user.event.UserSignedUpEvent;
+import com.ssafy14.a606.domain.user.index.UserIdentifierIndex;
 import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
 import com.ssafy14.a606.domain.user.repository.UserRepository;
 import com.ssafy14.a606.global.exceptions.AuthenticationException;
@@ -18,15 +21,18 @@ import com.ssafy14.a606.global.exceptions.DuplicateValueException;
 import com.ssafy14.a606.global.exceptions.InvalidValueException;
 import com.ssafy14.a606.global.exceptions.NotFoundException;
 import com.ssafy14.a606.global.security.jwt.JwtTokenProvider;
+import com.ssafy14.a606.global.security.jwt.TokenRevocationStore;
+import com.ssafy14.a606.global.security.password.PasswordHasher;
 import com.ssafy14.a606.global.security.user.CustomUserDetails;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -35,12 +41,14 @@ import java.util.Map;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsRepository userDetailsRepository;
     private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationStore tokenRevocationStore;
     private final EmailVerificationService emailVerificationService;
-    private final EmailVerificationStatusStore emailVerificationStatusStore;
+    private final UserIdentifierIndex userIdentifierIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. 회원가입
     @Override
@@ -57,13 +65,15 @@ public class UserServiceImpl implements UserService {
             throw new DuplicateValueException("이미 사용 중인 ID입니다.");
         }
 
-        // 이메일 인증 완료 여부 체크
+        // 이메일 인증 완료 여부 체크 (소비는 커밋 이후 - UserSignedUpEvent)
+        // - BCrypt 보다 먼저 확인해 인증하지 않은 가입 요청에 해시 비용을 쓰지 않는다
+        // - 해시(503)나 저장이 실패해도 인증 상태는 남아 있어 바로 다시 가입할 수 있다
         if (!emailVerificationService.isVerified(request.getEmail())) {
             throw new InvalidValueException("이메일 인증이 필요합니다.");
         }
 
         // 비밀번호 해시(BCrypt)
-        String encodedPw = passwordEncoder.encode(request.getPassword());
+        String encodedPw = passwordHasher.encode(request.getPassword());
 
         // 엔티티 생성 (서버가 기본값 세팅)
         User user = User.builder()
@@ -76,6 +86,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         User saved = userRepository.save(user);
+        userIdentifierIndex.add(saved.getLoginId(), saved.getEmail());
 
         // 회원가입 시 user_details 테이블에 빈 row 생성
         UserDetails details = UserDetails.builder()
@@ -83,9 +94,8 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         userDetailsRepository.save(details);
-
-        // 회원가입 완료 후 verified 상태 삭제
-        emailVerificationStatusStore.deleteVerified(request.getEmail());
+        eventPublisher.publishEvent(new UserDetailsChangedEvent(saved.getId()));
+        eventPublisher.publishEvent(new UserSignedUpEvent(saved.getId(), saved.getEmail()));
 
         return new SignUpResponseDto(saved.getId(), saved.getUserName(), saved.getRole().name());
     }
@@ -96,7 +106,15 @@ public class UserServiceImpl implements UserService {
         if (loginId == null || loginId.isBlank()) {
             throw new InvalidValueException("loginId는 필수입니다.");
         }
-        return !userRepository.existsByLoginId(loginId.trim());
+        String trimmed = loginId.trim();
+
+        // 인덱스에 확실히 없으면 DB 조회 생략
+        if (!userIdentifierIndex.mightContainLoginId(trimmed)) {
+            return true;
+        }
+        boolean exists = userRepository.existsByLoginId(trimmed);
+        userIdentifierIndex.recordDbResult(exists);
+        return !exists;
     }
 
     // 3. 이메일 중복 검증
@@ -105,7 +123,15 @@ public class UserServiceImpl implements UserService {
         if (email == null || email.isBlank()) {
             throw new InvalidValueException("email은 필수입니다.");
         }
-        return !userRepository.existsByEmail(email.trim());
+        String trimmed = email.trim();
+
+        // 인덱스에 확실히 없으면 DB 조회 생략
+        if (!userIdentifierIndex.mightContainEmail(trimmed)) {
+            return true;
+        }
+        boolean exists = userRepository.existsByEmail(trimmed);
+        userIdentifierIndex.recordDbResult(exists);
+        return !exists;
     }
 
     // 4. 회원가입 시 아이디 & 이메일 중복 검증
@@ -162,7 +188,10 @@ public class UserServiceImpl implements UserService {
                 if (userRepository.existsByEmail(newEmail)) {
                     throw new DuplicateValueException("이미 사용 중인 이메일입니다.");
                 }
+                String oldEmail = user.getEmail();
                 user.updateEmail(newEmail);
+                userIdentifierIndex.add(null, newEmail);
+                eventPublisher.publishEvent(new UserIdentifiersReleasedEvent(null, oldEmail));
             }
         }
 
@@ -178,8 +207,9 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(()->new NotFoundException("존재하지 않는 사용자입니다."));
 
-        // 2) Redis에서 RT 삭제
-        refreshTokenStore.delete(userId);
+        // 2) Redis에서 RT 삭제, 남은 AT 도 강제 만료 (필터가 DB 를 보지 않으므로)
+        refreshTokenStore.deleteAll(List.of(userId));
+        tokenRevocationStore.revokeUser(userId);
 
         // 3) RT 쿠키 만료
         ResponseCookie expiredCookie = ResponseCookie.from("refreshToken", "")
@@ -193,6 +223,8 @@ public class UserServiceImpl implements UserService {
 
         // 4) 회원 삭제
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserIdentifiersReleasedEvent(user.getLoginId(), user.getEmail()));
+        eventPublisher.publishEvent(new UserDetailsChangedEvent(userId, true));
 
     }
 
@@ -215,7 +247,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // 비밀번호 불일치 (403)
-        if(!passwordEncoder.matches(rawPassword, user.getPassword())){
+        if(!passwordHasher.matches(rawPassword, user.getPassword())){
             throw new AuthenticationException("비밀번호가 일치하지 않습니다.");
         }
     }
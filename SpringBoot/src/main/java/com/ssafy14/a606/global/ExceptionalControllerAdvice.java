@@ -3,6 +3,7 @@ package com.ssafy14.a606.global;
 import com.ssafy14.a606.global.dto.ErrorResponse;
 import com.ssafy14.a606.global.exceptions.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -60,12 +61,40 @@ public class ExceptionalControllerAdvice {
         return handleException(e, HttpStatus.GONE, "GONE");
     }
 
+    // 429 - 요청 횟수 제한 초과
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("[TMR] {}", e.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse("TMR", e.getMessage()));
+    }
+
     // 500 - DB 오류
     @ExceptionHandler(DatabaseException.class)
     public ResponseEntity<ErrorResponse> handleDatabaseException(DatabaseException e) {
         return handleException(e, HttpStatus.INTERNAL_SERVER_ERROR, "DBE");
     }
 
+    // 503 - FastAPI 호출 차단 (서킷 OPEN / 동시 호출 한도 초과)
+    @ExceptionHandler(FastApiUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleFastApiUnavailableException(FastApiUnavailableException e) {
+        return handleException(e, HttpStatus.SERVICE_UNAVAILABLE, "SU");
+    }
+
+    // 503 - AI 백엔드 과부하로 요청을 받지 않음 (대기열 초과 / 대기 시간 초과)
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("[OL] {}", e.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse("OL", e.getMessage()));
+    }
+
     // 500 - 기타 모든 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
@@ -0,0 +1,10 @@
+package com.ssafy14.a606.global.config;
+
+import com.ssafy14.a606.domain.game.analytics.QuizAnalyticsProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(QuizAnalyticsProperties.class)
+public class GameConfig {
+}
@@ -0,0 +1,10 @@
+package com.ssafy14.a606.global.config;
+
+import com.ssafy14.a606.global.mail.MailQueueProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MailQueueProperties.class)
+public class MailConfig {
+}
@@ -1,15 +1,32 @@
 package com.ssafy14.a606.global.config;
 
+import com.ssafy14.a606.global.security.password.BcryptCostCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class PasswordConfig {
 
+    /**
+     * cost 를 지정하지 않으면(0) 이 서버에서 해시 1회가 target-hash-ms 에 가깝도록 기동 시 보정
+     * - 보정값이든 지정값이든 min-cost 아래로는 내려가지 않는다
+     * - 저장된 해시의 cost 가 더 낮으면 로그인 성공 시 새 cost 로 다시 해시 (PasswordHasher.needsRehash)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.password.cost:0}") int cost,
+                                           @Value("${app.auth.password.target-hash-ms:250}") long targetHashMs,
+                                           @Value("${app.auth.password.min-cost:10}") int minCost,
+                                           @Value("${app.auth.password.max-cost:14}") int maxCost) {
+        int strength = cost > 0 ? cost : BcryptCostCalibrator.calibrate(targetHashMs, minCost, maxCost);
+        if (strength < minCost) {
+            log.warn("BCrypt cost {} is below min-cost, using {}", strength, minCost);
+            strength = minCost;
+        }
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -53,6 +53,7 @@ public class SecurityConfig {
                         ).permitAll()
                         .requestMatchers("/api/users/email/**").permitAll()
                         .requestMatchers("/api/notices/favorites/**").authenticated()
+                        .requestMatchers("/api/notices/eligible").authenticated()
                         .requestMatchers("/api/users/me/**").authenticated()
                         .requestMatchers("/api/auth/logout").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
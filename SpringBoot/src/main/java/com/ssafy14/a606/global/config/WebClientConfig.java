@@ -1,14 +1,17 @@
 package com.ssafy14.a606.global.config;
 
+import com.ssafy14.a606.global.fastapi.FastApiProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
+@EnableConfigurationProperties(FastApiProperties.class)
 public class WebClientConfig {
 
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
-}
\ No newline at end of file
+}
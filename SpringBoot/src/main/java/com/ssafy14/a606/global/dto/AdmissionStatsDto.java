@@ -0,0 +1,36 @@
+package com.ssafy14.a606.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class AdmissionStatsDto {
+
+    // 현재 동시 작업 한도 (지연시간에 따라 minLimit ~ maxLimit 사이에서 변함)
+    private int limit;
+    private int minLimit;
+    private int maxLimit;
+    private int inFlight;
+    private int queueDepth;
+    private int maxQueue;
+    private long queuedCount;
+    private long queueTimeoutCount;
+    // 타임아웃/5xx 로 한도를 줄인 횟수
+    private long dropCount;
+    private double longRttMs;
+    private double lastRttMs;
+    private Map<String, PriorityStats> priorities;
+
+    @Getter
+    @Builder
+    public static class PriorityStats {
+        private int queued;
+        private int queueLimit;
+        private long admittedCount;
+        // 대기열이 차서 바로 거절한 수
+        private long shedCount;
+    }
+}
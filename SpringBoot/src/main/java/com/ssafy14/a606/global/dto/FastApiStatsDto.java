@@ -0,0 +1,55 @@
+package com.ssafy14.a606.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FastApiStatsDto {
+
+    private List<EndpointStats> endpoints;
+    private PoolStats pool;
+
+    @Getter
+    @Builder
+    public static class EndpointStats {
+        private String endpoint;
+        private String circuitState;
+        private double failureRate;
+        private int inFlight;
+        private int maxConcurrent;
+        private long successCount;
+        private long failureCount;
+        private long timeoutCount;
+        private long clientErrorCount;
+        private long shortCircuitedCount;
+        private long bulkheadRejectedCount;
+        private long poolAcquireFailureCount;
+        private long cancelledCount;
+        private long fallbackCount;
+        private long avgLatencyMs;
+        private long maxLatencyMs;
+        private long p50LatencyMs;
+        private long p95LatencyMs;
+        private long p99LatencyMs;
+        // 첫 조각까지 걸린 시간 (스트리밍 엔드포인트)
+        private long avgFirstByteMs;
+        private long p50FirstByteMs;
+        private long p95FirstByteMs;
+    }
+
+    // Reactor Netty 커넥션 풀 (사용률이 1 에 가까우면 포화)
+    @Getter
+    @Builder
+    public static class PoolStats {
+        private int maxConnections;
+        private int allocated;
+        private int acquired;
+        private int idle;
+        private int pendingAcquire;
+        private int maxPendingAcquire;
+        private double utilization;
+    }
+}
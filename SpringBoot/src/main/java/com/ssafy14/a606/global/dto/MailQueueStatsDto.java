@@ -0,0 +1,19 @@
+package com.ssafy14.a606.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MailQueueStatsDto {
+
+    private long queued;             // 대기 + 재시도 예약 (Redis 조회 실패 시 -1)
+    private long deadLettered;       // 포기한 메일 수 (Redis 조회 실패 시 -1)
+    private int inProgress;
+    private long deliveredCount;
+    private long retriedCount;
+    private long deferredCount;
+    private long deadLetteredCount;
+    private long connectionsOpened;
+    private int idleConnections;
+}
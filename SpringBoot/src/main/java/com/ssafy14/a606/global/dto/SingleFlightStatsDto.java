@@ -0,0 +1,16 @@
+package com.ssafy14.a606.global.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SingleFlightStatsDto {
+
+    private int inFlight;
+    private long leaderCount;
+    // 원격 호출 없이 진행 중인 호출에 합류한 요청 수
+    private long coalescedCount;
+    private long fanOutExceededCount;
+    private long waitExceededCount;
+}
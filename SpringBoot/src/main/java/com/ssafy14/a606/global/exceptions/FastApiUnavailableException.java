@@ -0,0 +1,8 @@
+package com.ssafy14.a606.global.exceptions;
+
+// FastAPI 호출 차단 (서킷 OPEN / 동시 호출 한도 초과)
+public class FastApiUnavailableException extends RuntimeException {
+    public FastApiUnavailableException(String message) {
+        super(message);
+    }
+}
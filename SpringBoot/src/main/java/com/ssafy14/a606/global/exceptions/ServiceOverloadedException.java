@@ -0,0 +1,16 @@
+package com.ssafy14.a606.global.exceptions;
+
+// 과부하로 요청을 받지 않음 (503 + Retry-After)
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy14.a606.global.exceptions;
+
+// 요청 횟수 제한 초과 (429 + Retry-After)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
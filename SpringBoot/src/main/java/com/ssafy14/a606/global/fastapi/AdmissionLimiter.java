@@ -0,0 +1,278 @@
+package com.ssafy14.a606.global.fastapi;
+
+import com.ssafy14.a606.global.dto.AdmissionStatsDto;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AI 백엔드(FastAPI) 진입 제어 - 챗봇/공고 요약 공용
+ * - 동시 작업 수가 한도(limit)에 차면 우선순위 대기열에서 기다린다 (ADMIN > USER > ANONYMOUS, 같은 우선순위는 먼저 온 순서)
+ * - 대기열이 우선순위별 허용 깊이를 넘으면 기다리지 않고 바로 ServiceOverloadedException (503 + Retry-After)
+ * - 한도는 관측된 응답 시간으로 조정 (gradient 방식)
+ *   : 장기 평균 RTT × tolerance 보다 빠르면 늘리고, 느려지면 그 비율만큼 줄인다. 타임아웃/5xx 는 즉시 10% 감소
+ * - FastApiClient 의 엔드포인트별 bulkhead/서킷 브레이커 앞단에서 동작한다.
+ */
+@Component
+public class AdmissionLimiter {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int RUNNING = 2;
+    private static final int CANCELLED = 3;
+
+    // 장기 평균 RTT 를 계산할 표본 수 (지수 이동 평균)
+    private static final double LONG_WINDOW = 500;
+    private static final double DROP_RATIO = 0.9;
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private static final class Waiter {
+        private final AdmissionPriority priority;
+        private final long seq;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Sinks.One<Boolean> permit = Sinks.one();
+
+        private Waiter(AdmissionPriority priority, long seq) {
+            this.priority = priority;
+            this.seq = seq;
+        }
+    }
+
+    private final FastApiProperties.Admission config;
+    private final LongSupplier clock;
+
+    private final Object lock = new Object();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+            Comparator.<Waiter, AdmissionPriority>comparing(waiter -> waiter.priority)
+                    .thenComparingLong(waiter -> waiter.seq));
+    private final Map<AdmissionPriority, Integer> queuedByPriority = new EnumMap<>(AdmissionPriority.class);
+    private long seq;
+    private int inFlight;
+    private double limit;
+    private double longRttNanos;
+    private long lastRttNanos;
+
+    private final Map<AdmissionPriority, LongAdder> admitted = new EnumMap<>(AdmissionPriority.class);
+    private final Map<AdmissionPriority, LongAdder> shed = new EnumMap<>(AdmissionPriority.class);
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder queueTimeouts = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+
+    public AdmissionLimiter(FastApiProperties properties) {
+        this(properties.admission(), System::nanoTime);
+    }
+
+    AdmissionLimiter(FastApiProperties.Admission config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        this.limit = Math.max(config.minLimit(), Math.min(config.maxLimit(), config.initialLimit()));
+        for (AdmissionPriority priority : AdmissionPriority.values()) {
+            queuedByPriority.put(priority, 0);
+            admitted.put(priority, new LongAdder());
+            shed.put(priority, new LongAdder());
+        }
+    }
+
+    public <T> Mono<T> admit(AdmissionPriority priority, Supplier<Mono<T>> work) {
+        return admitMany(priority, work).next();
+    }
+
+    /**
+     * 자리가 나면 work 를 구독한다. 스트림은 첫 원소까지의 시간을 RTT 표본으로 쓴다.
+     */
+    public <T> Flux<T> admitMany(AdmissionPriority priority, Supplier<? extends Publisher<T>> work) {
+        return Flux.defer(() -> {
+            Waiter waiter;
+            synchronized (lock) {
+                if (queue.isEmpty() && inFlight < (int) limit) {
+                    inFlight++;
+                    waiter = new Waiter(priority, seq++);
+                    waiter.state.set(GRANTED);
+                } else if (queue.size() >= priority.queueLimit(config.maxQueue())) {
+                    waiter = null;
+                } else {
+                    waiter = new Waiter(priority, seq++);
+                    queue.add(waiter);
+                    queuedByPriority.merge(priority, 1, Integer::sum);
+                    queued.increment();
+                }
+            }
+
+            if (waiter == null) {
+                shed.get(priority).increment();
+                return Flux.error(overloaded("요청이 많아 잠시 후 다시 시도해 주세요."));
+            }
+            if (waiter.state.get() == GRANTED) {
+                return run(waiter, work);
+            }
+
+            return waiter.permit.asMono()
+                    .doOnCancel(() -> abandon(waiter))
+                    .timeout(Duration.ofMillis(config.maxQueueWaitMs()))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        queueTimeouts.increment();
+                        return overloaded("대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+                    })
+                    .flatMapMany(granted -> run(waiter, work));
+        });
+    }
+
+    public AdmissionStatsDto getStats() {
+        Map<String, AdmissionStatsDto.PriorityStats> priorities = new LinkedHashMap<>();
+        synchronized (lock) {
+            for (AdmissionPriority priority : AdmissionPriority.values()) {
+                priorities.put(priority.name(), AdmissionStatsDto.PriorityStats.builder()
+                        .queued(queuedByPriority.get(priority))
+                        .queueLimit(priority.queueLimit(config.maxQueue()))
+                        .admittedCount(admitted.get(priority).sum())
+                        .shedCount(shed.get(priority).sum())
+                        .build());
+            }
+
+            return AdmissionStatsDto.builder()
+                    .limit((int) limit)
+                    .minLimit(config.minLimit())
+                    .maxLimit(config.maxLimit())
+                    .inFlight(inFlight)
+                    .queueDepth(queue.size())
+                    .maxQueue(config.maxQueue())
+                    .queuedCount(queued.sum())
+                    .queueTimeoutCount(queueTimeouts.sum())
+                    .dropCount(drops.sum())
+                    .longRttMs(longRttNanos / 1_000_000.0)
+                    .lastRttMs(lastRttNanos / 1_000_000.0)
+                    .priorities(priorities)
+                    .build();
+        }
+    }
+
+    private <T> Flux<T> run(Waiter waiter, Supplier<? extends Publisher<T>> work) {
+        // 자리를 받은 직후 취소된 경우 abandon() 이 이미 자리를 반납함
+        if (!waiter.state.compareAndSet(GRANTED, RUNNING)) {
+            return Flux.empty();
+        }
+        admitted.get(waiter.priority).increment();
+
+        long startedAt = clock.getAsLong();
+        AtomicBoolean sampled = new AtomicBoolean();
+        return Flux.defer(work::get)
+                .doOnNext(value -> {
+                    if (sampled.compareAndSet(false, true)) {
+                        onSample(clock.getAsLong() - startedAt);
+                    }
+                })
+                .doOnComplete(() -> {
+                    if (sampled.compareAndSet(false, true)) {
+                        onSample(clock.getAsLong() - startedAt);
+                    }
+                })
+                .doOnError(e -> {
+                    if (isDropSignal(e)) {
+                        onDrop();
+                    }
+                })
+                .doFinally(signal -> release());
+    }
+
+    private void abandon(Waiter waiter) {
+        if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+            synchronized (lock) {
+                if (queue.remove(waiter)) {
+                    queuedByPriority.merge(waiter.priority, -1, Integer::sum);
+                }
+            }
+        } else if (waiter.state.compareAndSet(GRANTED, CANCELLED)) {
+            release();
+        }
+    }
+
+    private void release() {
+        synchronized (lock) {
+            inFlight--;
+        }
+        grantWaiting();
+    }
+
+    // 한도 안에서 대기열 앞쪽부터 자리를 넘겨준다 (emit 은 lock 밖에서)
+    private void grantWaiting() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (lock) {
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                Waiter next = queue.poll();
+                queuedByPriority.merge(next.priority, -1, Integer::sum);
+                if (next.state.compareAndSet(WAITING, GRANTED)) {
+                    inFlight++;
+                    granted.add(next);
+                }
+            }
+        }
+        granted.forEach(waiter -> waiter.permit.tryEmitValue(Boolean.TRUE));
+    }
+
+    private void onSample(long rttNanos) {
+        synchronized (lock) {
+            lastRttNanos = rttNanos;
+            longRttNanos = longRttNanos == 0
+                    ? rttNanos
+                    : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+
+            double gradient = Math.max(0.5, Math.min(1.0, config.rttTolerance() * longRttNanos / Math.max(1, rttNanos)));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            // 한도의 절반도 안 쓰고 있으면 늘릴 근거가 없음 (줄이는 것만 반영)
+            if (newLimit > limit && inFlight < limit / 2) {
+                return;
+            }
+            limit = clamp(limit * (1 - config.smoothing()) + newLimit * config.smoothing());
+        }
+        grantWaiting();
+    }
+
+    private void onDrop() {
+        drops.increment();
+        synchronized (lock) {
+            limit = clamp(limit * DROP_RATIO);
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(config.minLimit(), Math.min(config.maxLimit(), value));
+    }
+
+    // 업스트림이 버거워한다는 신호만 한도 감소에 반영 (4xx, 서킷/bulkhead 거절은 제외)
+    private static boolean isDropSignal(Throwable e) {
+        if (e instanceof TimeoutException || e instanceof WebClientRequestException) {
+            return true;
+        }
+        return e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError();
+    }
+
+    // 대기열 앞사람들이 빠지는 데 걸릴 시간 추정 (최소 1초)
+    private ServiceOverloadedException overloaded(String message) {
+        long retryAfterSeconds;
+        synchronized (lock) {
+            double rttSeconds = Math.max(longRttNanos, 1_000_000_000.0) / 1_000_000_000.0;
+            retryAfterSeconds = (long) Math.ceil((queue.size() + 1) * rttSeconds / Math.max(1, (int) limit));
+        }
+        return new ServiceOverloadedException(message, Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS, retryAfterSeconds)));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy14.a606.global.fastapi;
+
+/**
+ * AI 백엔드 작업 우선순위 (선언 순서 = 대기열에서 먼저 나가는 순서)
+ * - queueShare: 대기열이 이 비율 이상 차 있으면 해당 우선순위 요청은 바로 거절
+ */
+public enum AdmissionPriority {
+    ADMIN(1.0),      // 관리자 공고 등록/수정에 따른 요약
+    USER(0.8),       // 로그인 사용자 챗봇
+    ANONYMOUS(0.5);  // 비로그인 챗봇
+
+    private final double queueShare;
+
+    AdmissionPriority(double queueShare) {
+        this.queueShare = queueShare;
+    }
+
+    public int queueLimit(int maxQueue) {
+        return (int) Math.ceil(maxQueue * queueShare);
+    }
+}
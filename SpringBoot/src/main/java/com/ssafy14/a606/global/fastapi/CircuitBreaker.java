@@ -0,0 +1,139 @@
+package com.ssafy14.a606.global.fastapi;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 단순 카운트 기반 서킷 브레이커
+ * - CLOSED: 최근 windowSize 건 중 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openDuration 동안 호출 차단 → 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenPermits 건만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 상태가 바뀔 때마다 generation 이 증가하며, 이전 상태에서 시작된 호출의 결과는 무시한다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public static final long NOT_PERMITTED = -1L;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermits;
+    private final LongSupplier nanoClock;
+
+    // 최근 결과 (true = 실패) 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(FastApiProperties.Breaker settings) {
+        this(settings, System::nanoTime);
+    }
+
+    CircuitBreaker(FastApiProperties.Breaker settings, LongSupplier nanoClock) {
+        this.windowSize = settings.windowSize();
+        this.minimumCalls = Math.min(settings.minimumCalls(), settings.windowSize());
+        this.failureRateThreshold = settings.failureRateThreshold();
+        this.openDurationNanos = settings.openDurationMs() * 1_000_000L;
+        this.halfOpenPermits = settings.halfOpenPermits();
+        this.nanoClock = nanoClock;
+        this.window = new boolean[windowSize];
+    }
+
+    // 호출 허가 → generation, 거부 → NOT_PERMITTED
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return NOT_PERMITTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermits) {
+                return NOT_PERMITTED;
+            }
+            halfOpenInFlight++;
+        }
+        return generation;
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (permit != generation) return;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (++halfOpenSuccesses >= halfOpenPermits) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(long permit) {
+        if (permit != generation) return;
+
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 취소 등 결과를 판단할 수 없는 경우 (HALF_OPEN 허가만 반납)
+    public synchronized void onIgnored(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        // 조회만으로는 전이하지 않지만, 차단 시간이 지났으면 HALF_OPEN 으로 보여준다
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) windowFailures++;
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy14.a606.global.fastapi;
+
+import com.ssafy14.a606.global.dto.AdmissionStatsDto;
+import com.ssafy14.a606.global.dto.FastApiStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/fastapi")
+@RequiredArgsConstructor
+public class FastApiAdminController {
+
+    private final FastApiClient fastApiClient;
+    private final AdmissionLimiter admissionLimiter;
+
+    // FastAPI 호출 지연/실패/서킷 상태/커넥션 풀 포화도 조회
+    @GetMapping("/stats")
+    public ResponseEntity<FastApiStatsDto> getStats() {
+        return ResponseEntity.ok(fastApiClient.getStats());
+    }
+
+    // AI 백엔드 진입 제어: 현재 한도/대기열/우선순위별 거절 수
+    @GetMapping("/admission/stats")
+    public ResponseEntity<AdmissionStatsDto> getAdmissionStats() {
+        return ResponseEntity.ok(admissionLimiter.getStats());
+    }
+}
@@ -0,0 +1,322 @@
+package com.ssafy14.a606.global.fastapi;
+
+import com.ssafy14.a606.global.dto.FastApiStatsDto;
+import com.ssafy14.a606.global.exceptions.FastApiUnavailableException;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 공용 클라이언트 (공고 요약 / 챗봇)
+ * - 크기가 정해진 Reactor Netty 커넥션 풀 + 연결 타임아웃
+ * - 엔드포인트별 응답 타임아웃, 서킷 브레이커, 동시 호출 제한(bulkhead)
+ *   → /summary 가 느려져도 /chat 자리를 잠식하지 않는다.
+ * - 호출/지연/실패/풀 포화 통계는 getStats() (관리자 API)로 노출
+ */
+@Slf4j
+@Component
+public class FastApiClient {
+
+    private final FastApiProperties properties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+
+    private final Map<FastApiEndpoint, Semaphore> bulkheads = new EnumMap<>(FastApiEndpoint.class);
+    private final Map<FastApiEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(FastApiEndpoint.class);
+    private final Map<FastApiEndpoint, FastApiEndpointStats> stats = new EnumMap<>(FastApiEndpoint.class);
+
+    // 원격 주소별 풀 지표 (Micrometer 없이 Reactor Netty 가 직접 넘겨준다)
+    private final Map<String, ConnectionPoolMetrics> poolMetrics = new ConcurrentHashMap<>();
+
+    public FastApiClient(WebClient.Builder webClientBuilder, FastApiProperties properties) {
+        this.properties = properties;
+
+        FastApiProperties.Pool pool = properties.pool();
+        this.connectionProvider = ConnectionProvider.builder("fastapi")
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.pendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(pool.maxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(pool.maxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(pool.maxIdleTimeMs()))
+                .metrics(true, () -> new ConnectionProvider.MeterRegistrar() {
+                    @Override
+                    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+                                                ConnectionPoolMetrics metrics) {
+                        poolMetrics.put(id, metrics);
+                    }
+
+                    @Override
+                    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+                        poolMetrics.remove(id);
+                    }
+                })
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeoutMs());
+
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(properties.url())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        for (FastApiEndpoint endpoint : FastApiEndpoint.values()) {
+            bulkheads.put(endpoint, new Semaphore(properties.endpoint(endpoint).maxConcurrent()));
+            circuitBreakers.put(endpoint, new CircuitBreaker(properties.circuitBreaker()));
+            stats.put(endpoint, new FastApiEndpointStats());
+        }
+    }
+
+    /**
+     * POST 호출
+     * - 서킷 OPEN / bulkhead 초과 시 FastApiUnavailableException
+     * - 타임아웃, 연결 실패, 5xx 는 서킷 실패로 집계 (4xx 는 요청 문제이므로 제외)
+     */
+    public <T> Mono<T> post(FastApiEndpoint endpoint, Object body, Class<T> responseType) {
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        FastApiEndpointStats endpointStats = stats.get(endpoint);
+        Duration timeout = Duration.ofMillis(properties.endpoint(endpoint).timeoutMs());
+
+        return Mono.defer(() -> {
+            long permit;
+            try {
+                permit = acquire(endpoint, bulkhead, circuitBreaker, endpointStats);
+            } catch (FastApiUnavailableException e) {
+                return Mono.error(e);
+            }
+
+            long startedAt = System.nanoTime();
+            return webClient.post()
+                    .uri(endpoint.getPath())
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(responseType)
+                    .timeout(timeout)
+                    .doOnSuccess(response -> {
+                        endpointStats.recordLatency(elapsedMs(startedAt));
+                        endpointStats.success();
+                        circuitBreaker.onSuccess(permit);
+                    })
+                    .doOnError(e -> {
+                        endpointStats.recordLatency(elapsedMs(startedAt));
+                        recordError(endpoint, e, circuitBreaker, permit, endpointStats);
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            endpointStats.cancelled();
+                            circuitBreaker.onIgnored(permit);
+                        }
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    /**
+     * SSE 스트리밍 POST
+     * - 받은 이벤트를 모으지 않고 그대로 흘려보낸다 (구독자가 요청한 만큼만 읽으므로 느린 클라이언트는 TCP 까지 백프레셔)
+     * - 구독 취소(클라이언트 연결 종료) 시 FastAPI 연결도 끊는다
+     * - 첫 이벤트까지의 시간(firstByte)과 전체 시간(latency)을 따로 기록
+     */
+    public <T> Flux<ServerSentEvent<T>> stream(FastApiEndpoint endpoint,
+                                               Object body,
+                                               ParameterizedTypeReference<ServerSentEvent<T>> eventType) {
+        Semaphore bulkhead = bulkheads.get(endpoint);
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        FastApiEndpointStats endpointStats = stats.get(endpoint);
+        Duration timeout = Duration.ofMillis(properties.endpoint(endpoint).timeoutMs());
+
+        return Flux.defer(() -> {
+            long permit;
+            try {
+                permit = acquire(endpoint, bulkhead, circuitBreaker, endpointStats);
+            } catch (FastApiUnavailableException e) {
+                return Flux.error(e);
+            }
+
+            long startedAt = System.nanoTime();
+            AtomicBoolean firstEvent = new AtomicBoolean(true);
+            return webClient.post()
+                    .uri(endpoint.getPath())
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToFlux(eventType)
+                    // 첫 이벤트까지, 이후 이벤트 사이 간격에 각각 타임아웃
+                    .timeout(Mono.delay(timeout), event -> Mono.delay(timeout))
+                    .doOnNext(event -> {
+                        if (firstEvent.compareAndSet(true, false)) {
+                            endpointStats.recordFirstByte(elapsedMs(startedAt));
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        endpointStats.recordLatency(elapsedMs(startedAt));
+                        endpointStats.success();
+                        circuitBreaker.onSuccess(permit);
+                    })
+                    .doOnError(e -> {
+                        endpointStats.recordLatency(elapsedMs(startedAt));
+                        recordError(endpoint, e, circuitBreaker, permit, endpointStats);
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            endpointStats.cancelled();
+                            circuitBreaker.onIgnored(permit);
+                        }
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    /**
+     * FastAPI 장애(차단/타임아웃/연결 실패/5xx) 시 fallback 응답으로 대체
+     * - 4xx 와 응답 해석 실패는 우리 쪽 요청 문제이므로 대체하지 않고 그대로 전파
+     */
+    public <T> Mono<T> post(FastApiEndpoint endpoint, Object body, Class<T> responseType, Supplier<T> fallback) {
+        FastApiEndpointStats endpointStats = stats.get(endpoint);
+        return post(endpoint, body, responseType)
+                .onErrorResume(FastApiClient::isUnavailable, e -> {
+                    endpointStats.fallback();
+                    return Mono.fromSupplier(fallback);
+                });
+    }
+
+    public FastApiStatsDto getStats() {
+        List<FastApiStatsDto.EndpointStats> endpoints = new ArrayList<>();
+        for (FastApiEndpoint endpoint : FastApiEndpoint.values()) {
+            int maxConcurrent = properties.endpoint(endpoint).maxConcurrent();
+            int inFlight = maxConcurrent - bulkheads.get(endpoint).availablePermits();
+            endpoints.add(stats.get(endpoint).snapshot(endpoint, circuitBreakers.get(endpoint), inFlight, maxConcurrent));
+        }
+
+        return FastApiStatsDto.builder()
+                .endpoints(endpoints)
+                .pool(poolStats())
+                .build();
+    }
+
+    private FastApiStatsDto.PoolStats poolStats() {
+        int allocated = 0;
+        int acquired = 0;
+        int idle = 0;
+        int pending = 0;
+        int maxPending = properties.pool().pendingAcquireMaxCount();
+        for (ConnectionPoolMetrics metrics : poolMetrics.values()) {
+            allocated += metrics.allocatedSize();
+            acquired += metrics.acquiredSize();
+            idle += metrics.idleSize();
+            pending += metrics.pendingAcquireSize();
+        }
+
+        int maxConnections = properties.pool().maxConnections();
+        return FastApiStatsDto.PoolStats.builder()
+                .maxConnections(maxConnections)
+                .allocated(allocated)
+                .acquired(acquired)
+                .idle(idle)
+                .pendingAcquire(pending)
+                .maxPendingAcquire(maxPending)
+                .utilization((double) acquired / maxConnections)
+                .build();
+    }
+
+    // bulkhead → 서킷 순으로 허가 획득 (실패 시 FastApiUnavailableException)
+    private long acquire(FastApiEndpoint endpoint,
+                         Semaphore bulkhead,
+                         CircuitBreaker circuitBreaker,
+                         FastApiEndpointStats endpointStats) {
+        if (!bulkhead.tryAcquire()) {
+            endpointStats.bulkheadRejected();
+            throw new FastApiUnavailableException(
+                    "FastAPI " + endpoint.getPath() + " 동시 호출 한도를 초과했습니다.");
+        }
+
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.NOT_PERMITTED) {
+            bulkhead.release();
+            endpointStats.shortCircuited();
+            throw new FastApiUnavailableException(
+                    "FastAPI " + endpoint.getPath() + " 호출이 일시적으로 차단되었습니다.");
+        }
+        return permit;
+    }
+
+    private void recordError(FastApiEndpoint endpoint,
+                             Throwable e,
+                             CircuitBreaker circuitBreaker,
+                             long permit,
+                             FastApiEndpointStats endpointStats) {
+        if (e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError()) {
+            endpointStats.clientError();
+            circuitBreaker.onSuccess(permit); // 서버는 정상 응답
+            return;
+        }
+
+        endpointStats.failure();
+        if (e instanceof TimeoutException) {
+            endpointStats.timeout();
+        }
+        if (isPoolAcquireFailure(e)) {
+            endpointStats.poolAcquireFailure();
+        }
+        circuitBreaker.onFailure(permit);
+        log.warn("FastAPI {} call failed: {}", endpoint.getPath(), e.toString());
+    }
+
+    private static boolean isUnavailable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof FastApiUnavailableException
+                || e instanceof TimeoutException
+                || e instanceof WebClientRequestException
+                || isPoolAcquireFailure(e);
+    }
+
+    // 풀 대기 초과 예외는 Reactor Netty 내부(shaded) 타입이라 이름으로 판별
+    private static boolean isPoolAcquireFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getClass().getSimpleName().startsWith("PoolAcquire")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000L;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+}
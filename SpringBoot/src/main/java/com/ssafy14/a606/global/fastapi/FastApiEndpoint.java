@@ -0,0 +1,18 @@
+package com.ssafy14.a606.global.fastapi;
+
+public enum FastApiEndpoint {
+    CHAT("/chat"),
+    CHAT_STREAM("/chat/stream"),
+    CHAT_BATCH("/chat/batch"),
+    SUMMARY("/summary");
+
+    private final String path;
+
+    FastApiEndpoint(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ssafy14.a606.global.fastapi;
+
+import com.ssafy14.a606.global.dto.FastApiStatsDto;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 호출 통계
+ * - latency: 호출 시작 ~ 응답 완료
+ * - firstByte: 호출 시작 ~ 첫 조각 수신 (스트리밍 엔드포인트만)
+ */
+class FastApiEndpointStats {
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder bulkheadRejected = new LongAdder();
+    private final LongAdder poolAcquireFailures = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram firstByte = new LatencyHistogram();
+
+    void recordLatency(long latencyMs) { latency.record(latencyMs); }
+    void recordFirstByte(long latencyMs) { firstByte.record(latencyMs); }
+
+    void success() { successes.increment(); }
+    void failure() { failures.increment(); }
+    void timeout() { timeouts.increment(); }
+    void clientError() { clientErrors.increment(); }
+    void cancelled() { cancellations.increment(); }
+    void shortCircuited() { shortCircuited.increment(); }
+    void bulkheadRejected() { bulkheadRejected.increment(); }
+    void poolAcquireFailure() { poolAcquireFailures.increment(); }
+    void fallback() { fallbacks.increment(); }
+
+    FastApiStatsDto.EndpointStats snapshot(FastApiEndpoint endpoint,
+                                           CircuitBreaker circuitBreaker,
+                                           int inFlight,
+                                           int maxConcurrent) {
+        return FastApiStatsDto.EndpointStats.builder()
+                .endpoint(endpoint.getPath())
+                .circuitState(circuitBreaker.getState().name())
+                .failureRate(circuitBreaker.getFailureRate())
+                .inFlight(inFlight)
+                .maxConcurrent(maxConcurrent)
+                .successCount(successes.sum())
+                .failureCount(failures.sum())
+                .timeoutCount(timeouts.sum())
+                .clientErrorCount(clientErrors.sum())
+                .cancelledCount(cancellations.sum())
+                .shortCircuitedCount(shortCircuited.sum())
+                .bulkheadRejectedCount(bulkheadRejected.sum())
+                .poolAcquireFailureCount(poolAcquireFailures.sum())
+                .fallbackCount(fallbacks.sum())
+                .avgLatencyMs(latency.avg())
+                .maxLatencyMs(latency.max())
+                .p50LatencyMs(latency.percentile(0.50))
+                .p95LatencyMs(latency.percentile(0.95))
+                .p99LatencyMs(latency.percentile(0.99))
+                .avgFirstByteMs(firstByte.avg())
+                .p50FirstByteMs(firstByte.percentile(0.50))
+                .p95FirstByteMs(firstByte.percentile(0.95))
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssafy14.a606.global.fastapi;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * FastAPI 클라이언트 설정 (fastapi.*)
+ * - 값이 비어 있으면 기본값 사용
+ */
+@ConfigurationProperties(prefix = "fastapi")
+public record FastApiProperties(
+        String url,
+        long connectTimeoutMs,
+        Pool pool,
+        Breaker circuitBreaker,
+        Endpoints endpoints,
+        Admission admission
+) {
+
+    public FastApiProperties {
+        if (connectTimeoutMs <= 0) connectTimeoutMs = 3000;
+        if (pool == null) pool = new Pool(0, 0, 0, 0, 0);
+        if (circuitBreaker == null) circuitBreaker = new Breaker(0, 0, 0, 0, 0);
+        if (endpoints == null) endpoints = new Endpoints(null, null, null, null);
+        if (admission == null) admission = new Admission(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public Endpoint endpoint(FastApiEndpoint endpoint) {
+        return switch (endpoint) {
+            case CHAT -> endpoints.chat();
+            case CHAT_STREAM -> endpoints.chatStream();
+            case CHAT_BATCH -> endpoints.chatBatch();
+            case SUMMARY -> endpoints.summary();
+        };
+    }
+
+    // Reactor Netty 커넥션 풀
+    public record Pool(
+            int maxConnections,
+            int pendingAcquireMaxCount,
+            long pendingAcquireTimeoutMs,
+            long maxIdleTimeMs,
+            long maxLifeTimeMs
+    ) {
+        public Pool {
+            if (maxConnections <= 0) maxConnections = 50;
+            if (pendingAcquireMaxCount <= 0) pendingAcquireMaxCount = 100;
+            if (pendingAcquireTimeoutMs <= 0) pendingAcquireTimeoutMs = 2000;
+            if (maxIdleTimeMs <= 0) maxIdleTimeMs = 30000;
+            if (maxLifeTimeMs <= 0) maxLifeTimeMs = 300000;
+        }
+    }
+
+    // 서킷 브레이커 (엔드포인트별로 따로 동작)
+    public record Breaker(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            long openDurationMs,
+            int halfOpenPermits
+    ) {
+        public Breaker {
+            if (windowSize <= 0) windowSize = 20;
+            if (minimumCalls <= 0) minimumCalls = 10;
+            if (failureRateThreshold <= 0) failureRateThreshold = 0.5;
+            if (openDurationMs <= 0) openDurationMs = 30000;
+            if (halfOpenPermits <= 0) halfOpenPermits = 3;
+        }
+    }
+
+    /**
+     * AI 백엔드 진입 제어 (AdmissionLimiter)
+     * - 동시 작업 수 한도는 [minLimit, maxLimit] 안에서 관측 지연시간에 따라 자동 조정
+     * - rttTolerance: 장기 평균 대비 이 배수까지는 정상으로 보고 한도를 줄이지 않음
+     */
+    public record Admission(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int maxQueue,
+            long maxQueueWaitMs,
+            double rttTolerance,
+            double smoothing
+    ) {
+        public Admission {
+            if (initialLimit <= 0) initialLimit = 20;
+            if (minLimit <= 0) minLimit = 2;
+            if (maxLimit <= 0) maxLimit = 100;
+            if (maxQueue <= 0) maxQueue = 100;
+            if (maxQueueWaitMs <= 0) maxQueueWaitMs = 10000;
+            if (rttTolerance <= 0) rttTolerance = 2.0;
+            if (smoothing <= 0) smoothing = 0.2;
+        }
+    }
+
+    public record Endpoints(Endpoint chat, Endpoint chatStream, Endpoint chatBatch, Endpoint summary) {
+        public Endpoints {
+            if (chat == null) chat = new Endpoint(30000, 20);
+            if (chatStream == null) chatStream = new Endpoint(30000, 20);
+            if (chatBatch == null) chatBatch = new Endpoint(30000, 8);
+            if (summary == null) summary = new Endpoint(60000, 4);
+        }
+    }
+
+    // 엔드포인트별 응답 타임아웃 / 동시 호출 수 (bulkhead)
+    // 스트리밍은 첫 조각까지, 그리고 조각 사이 간격에 각각 timeoutMs 적용
+    public record Endpoint(long timeoutMs, int maxConcurrent) {
+        public Endpoint {
+            if (timeoutMs <= 0) timeoutMs = 30000;
+            if (maxConcurrent <= 0) maxConcurrent = 10;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy14.a606.global.fastapi;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 지연시간 히스토그램 (p50/p95/p99 근사)
+ */
+class LatencyHistogram {
+
+    // 버킷 상한 (ms), 마지막 버킷은 그 이상 전부
+    private static final long[] BUCKET_BOUNDS_MS = {50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000};
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMs = new LongAdder();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+    private volatile long maxMs;
+
+    void record(long latencyMs) {
+        count.increment();
+        totalMs.add(latencyMs);
+        buckets.incrementAndGet(bucketOf(latencyMs));
+        if (latencyMs > maxMs) {
+            maxMs = latencyMs; // 근사값이면 충분 (경합 시 한 번쯤 덜 갱신돼도 무방)
+        }
+    }
+
+    long avg() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalMs.sum() / n;
+    }
+
+    long max() {
+        return maxMs;
+    }
+
+    // 해당 백분위가 속한 버킷의 상한
+    long percentile(double p) {
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) total += buckets.get(i);
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(total * p);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i < BUCKET_BOUNDS_MS.length ? BUCKET_BOUNDS_MS[i] : maxMs;
+            }
+        }
+        return maxMs;
+    }
+
+    private static int bucketOf(long latencyMs) {
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            if (latencyMs <= BUCKET_BOUNDS_MS[i]) return i;
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy14.a606.global.mail;
+
+import com.ssafy14.a606.global.dto.MailQueueStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/mail")
+@RequiredArgsConstructor
+public class MailAdminController {
+
+    private final MailDeliveryWorker mailDeliveryWorker;
+
+    // 발송 대기열 길이/재시도/포기 건수, SMTP 연결 재사용 현황
+    @GetMapping("/stats")
+    public ResponseEntity<MailQueueStatsDto> getStats() {
+        return ResponseEntity.ok(mailDeliveryWorker.getStats());
+    }
+}
@@ -0,0 +1,191 @@
+package com.ssafy14.a606.global.mail;
+
+import com.ssafy14.a606.global.dto.MailQueueStatsDto;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 발송 워커
+ * - MailQueue 에서 처리 시각이 된 메일을 가져와 전용 풀(workers)에서 SmtpTransportPool 로 보낸다.
+ * - 실패하면 지수 백오프(+지터)로 다시 예약하고, max-attempts 를 넘거나 주소 오류면 dead 목록으로 옮긴다.
+ * - 수신 도메인 한도를 넘은 메일은 시도 횟수를 쓰지 않고 다음 윈도우로 미룬다.
+ * - 풀 대기열이 비어 있는 만큼만 가져가므로, 가져간 메일이 풀에서 거절되는 일은 없다.
+ * - 발송 후 ack 실패는 재시도로 돌리지 않는다 (다시 보내면 중복 발송).
+ *   lease 가 지나 같은 메일을 다시 가져오면 이 인스턴스는 보내지 않고 ack 만 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class MailDeliveryWorker {
+
+    // 보냈지만 ack 하지 못한 메일 ID 보관 한도 (Redis 장애가 길어져도 메모리는 이만큼만)
+    private static final int MAX_UNACKED = 10_000;
+
+    private final MailQueue mailQueue;
+    private final SmtpTransportPool transportPool;
+    private final MailDomainRateLimiter rateLimiter;
+    private final MailQueueProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    // 보냈지만 ack 하지 못한 메일 ID (lease 가 지나 다시 가져와도 다시 보내지 않도록)
+    private final Set<String> sentUnacked = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    public MailDeliveryWorker(MailQueue mailQueue,
+                              SmtpTransportPool transportPool,
+                              MailDomainRateLimiter rateLimiter,
+                              MailQueueProperties properties) {
+        this.mailQueue = mailQueue;
+        this.transportPool = transportPool;
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.workers(), properties.workers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.batchSize()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-delivery-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.queue.poll-interval-ms:500}")
+    public void pollDue() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        List<MailQueue.QueuedMail> mails;
+        try {
+            mails = mailQueue.claim(capacity, properties.leaseMs());
+        } catch (Exception e) {
+            log.warn("Mail queue poll failed: {}", e.getMessage());
+            return;
+        }
+        for (MailQueue.QueuedMail mail : mails) {
+            executor.execute(() -> deliver(mail));
+        }
+    }
+
+    private void deliver(MailQueue.QueuedMail mail) {
+        if (sentUnacked.contains(mail.id())) {
+            ack(mail);
+            return;
+        }
+
+        try {
+            long waitMs = rateLimiter.tryAcquire(mail.to());
+            if (waitMs > 0) {
+                mailQueue.defer(mail.id(), waitMs);
+                deferred.increment();
+                return;
+            }
+
+            transportPool.sendHtml(mail.to(), mail.subject(), mail.html());
+        } catch (SendFailedException e) {
+            // 수신 주소 거절(5xx) → 다시 보내도 같은 결과
+            log.warn("Mail rejected. id={}, reason={}", mail.id(), e.getMessage());
+            deadLetter(mail, e);
+            return;
+        } catch (Exception e) {
+            int attempts = mail.attempts() + 1;
+            if (attempts >= properties.maxAttempts()) {
+                log.error("Mail delivery gave up. id={}, attempts={}, reason={}", mail.id(), attempts, e.getMessage());
+                deadLetter(mail, e);
+                return;
+            }
+            log.warn("Mail delivery failed. id={}, attempts={}, reason={}", mail.id(), attempts, e.getMessage());
+            try {
+                mailQueue.retry(mail.id(), backoffMs(attempts));
+                retried.increment();
+            } catch (Exception redisError) {
+                // 기록하지 못해도 lease 가 지나면 다시 처리된다
+                log.warn("Mail retry scheduling failed. id={}, reason={}", mail.id(), redisError.getMessage());
+            }
+            return;
+        }
+
+        // 이미 보냈으므로 여기서 실패해도 재시도하지 않는다
+        delivered.increment();
+        ack(mail);
+    }
+
+    // ack 전에 먼저 기록해 두고, 성공하면 지운다
+    private void ack(MailQueue.QueuedMail mail) {
+        if (sentUnacked.size() < MAX_UNACKED) {
+            sentUnacked.add(mail.id());
+        }
+        try {
+            mailQueue.ack(mail.id());
+            sentUnacked.remove(mail.id());
+        } catch (Exception e) {
+            log.warn("Mail ack failed after delivery. id={}, reason={}", mail.id(), e.getMessage());
+        }
+    }
+
+    private void deadLetter(MailQueue.QueuedMail mail, Exception cause) {
+        try {
+            mailQueue.deadLetter(mail.id(), cause.getClass().getSimpleName() + ": " + cause.getMessage());
+            deadLettered.increment();
+        } catch (Exception e) {
+            log.warn("Mail dead-letter failed. id={}, reason={}", mail.id(), e.getMessage());
+        }
+    }
+
+    // base * 2^(attempts-1), 상한 backoff-max-ms, ±20% 지터
+    private long backoffMs(int attempts) {
+        long delay = properties.backoffBaseMs() << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, properties.backoffMaxMs());
+        return (long) (delay * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    public MailQueueStatsDto getStats() {
+        long queued;
+        long dead;
+        try {
+            queued = mailQueue.size();
+            dead = mailQueue.deadSize();
+        } catch (Exception e) {
+            queued = -1;
+            dead = -1;
+        }
+        return MailQueueStatsDto.builder()
+                .queued(queued)
+                .deadLettered(dead)
+                .inProgress(executor.getActiveCount() + executor.getQueue().size())
+                .deliveredCount(delivered.sum())
+                .retriedCount(retried.sum())
+                .deferredCount(deferred.sum())
+                .deadLetteredCount(deadLettered.sum())
+                .connectionsOpened(transportPool.getOpenedCount())
+                .idleConnections(transportPool.getIdleCount())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ssafy14.a606.global.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 수신 도메인별 발송 속도 제한 (Redis 고정 윈도우, 모든 인스턴스 합산)
+ * - gmail.com 등 수신 서버가 짧은 시간에 몰린 메일을 스팸/임시 거절하지 않도록
+ * - 한도를 넘으면 다음 윈도우까지 남은 시간을 돌려주고, 워커는 그만큼 미룬다 (시도 횟수는 쓰지 않음)
+ */
+@Slf4j
+@Component
+public class MailDomainRateLimiter {
+
+    private static final String KEY_PREFIX = "mail:rate:";
+
+    // ARGV: 한도, 윈도우(ms) / 반환: 0 통과, 양수 = 다음 윈도우까지 남은 ms
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            if count > tonumber(ARGV[1]) then
+                local ttl = redis.call('PTTL', KEYS[1])
+                if ttl < 0 then
+                    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                    ttl = tonumber(ARGV[2])
+                end
+                return ttl
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMs;
+    private final int defaultLimit;
+    private final Map<String, Integer> domainLimits;
+
+    public MailDomainRateLimiter(StringRedisTemplate redisTemplate, MailQueueProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.windowMs = properties.rateWindowMs();
+        this.defaultLimit = properties.defaultDomainLimit();
+        this.domainLimits = properties.domainLimits();
+    }
+
+    // 0 이면 발송 가능, 양수면 그만큼(ms) 기다린 뒤 다시 시도
+    public long tryAcquire(String recipient) {
+        String domain = domainOf(recipient);
+        int limit = domainLimits.getOrDefault(domain, defaultLimit);
+        if (limit <= 0) {
+            return 0;
+        }
+        try {
+            Long waitMs = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + domain),
+                    String.valueOf(limit), String.valueOf(windowMs));
+            return waitMs == null ? 0 : waitMs;
+        } catch (Exception e) {
+            // 한도 확인 실패로 발송을 멈추지는 않는다
+            log.warn("Mail rate limiter unavailable: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    static String domainOf(String recipient) {
+        int at = recipient.lastIndexOf('@');
+        return (at < 0 ? recipient : recipient.substring(at + 1)).trim().toLowerCase(Locale.ROOT);
+    }
+}
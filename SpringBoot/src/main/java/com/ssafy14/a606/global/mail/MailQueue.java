@@ -0,0 +1,155 @@
+package com.ssafy14.a606.global.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 발송 대기열 (재기동/다중 인스턴스에도 유지)
+ * - mail:queue  ZSET (member = 메일 ID, score = 다음 처리 가능 시각 ms)
+ * - mail:msg:{id} HASH (to, subject, html, attempts)
+ * - mail:dead   LIST (재시도 한도를 넘었거나 주소 오류로 포기한 메일 ID, 최근 DEAD_LIST_MAX 개만 보관)
+ * - 워커가 가져간 메일은 score 를 lease 만큼 미뤄 둔다
+ *   → 워커가 처리 중에 죽어도 lease 가 지나면 다른 워커가 다시 가져간다.
+ */
+@Component
+public class MailQueue {
+
+    private static final String QUEUE_KEY = "mail:queue";
+    private static final String DEAD_KEY = "mail:dead";
+    private static final String MESSAGE_KEY_PREFIX = "mail:msg:";
+
+    private static final Duration DEAD_MESSAGE_TTL = Duration.ofDays(7);
+    private static final int DEAD_LIST_MAX = 10_000;
+
+    // KEYS: queue, msg / ARGV: id, to, subject, html, 현재 시각(ms), TTL(초)
+    private static final DefaultRedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[2], 'to', ARGV[2], 'subject', ARGV[3], 'html', ARGV[4], 'attempts', 0)
+            redis.call('EXPIRE', KEYS[2], ARGV[6])
+            redis.call('ZADD', KEYS[1], ARGV[5], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: queue / ARGV: 현재 시각(ms), 최대 개수, lease(ms)
+    // 처리 시각이 된 메일 ID 를 가져가면서 score 를 lease 뒤로 미룬다
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, id in ipairs(ids) do
+                redis.call('ZADD', KEYS[1], 'XX', now + tonumber(ARGV[3]), id)
+            end
+            return ids
+            """, List.class);
+
+    // KEYS: queue, msg / ARGV: id, 다음 처리 시각(ms), 시도 횟수 증가분
+    private static final DefaultRedisScript<Long> RESCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) == false then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], 'XX', ARGV[2], ARGV[1])
+            return redis.call('HINCRBY', KEYS[2], 'attempts', ARGV[3])
+            """, Long.class);
+
+    // KEYS: queue, msg, dead / ARGV: id, 사유, 보관 TTL(초), dead 목록 최대 길이
+    // dead 목록은 최근 것만 남기고, 마지막 추가 후 TTL 이 지나면 본문 hash 와 함께 사라진다
+    private static final DefaultRedisScript<Long> DEAD_LETTER_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[2], 'error', ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('RPUSH', KEYS[3], ARGV[1])
+            redis.call('LTRIM', KEYS[3], -tonumber(ARGV[4]), -1)
+            redis.call('EXPIRE', KEYS[3], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration messageTtl;
+
+    public MailQueue(StringRedisTemplate redisTemplate,
+                     @Value("${app.mail.queue.message-ttl-ms:86400000}") long messageTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.messageTtl = Duration.ofMillis(messageTtlMs);
+    }
+
+    public String enqueue(String to, String subject, String html) {
+        String id = UUID.randomUUID().toString();
+        redisTemplate.execute(ENQUEUE_SCRIPT, List.of(QUEUE_KEY, messageKey(id)),
+                id, to, subject, html,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(messageTtl.toSeconds()));
+        return id;
+    }
+
+    // 처리 시각이 된 메일을 최대 limit 개 가져간다 (본문이 만료된 ID 는 정리)
+    public List<QueuedMail> claim(int limit, long leaseMs) {
+        @SuppressWarnings("unchecked")
+        List<String> ids = redisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit), String.valueOf(leaseMs));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<QueuedMail> mails = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            List<Object> fields = redisTemplate.opsForHash()
+                    .multiGet(messageKey(id), List.of("to", "subject", "html", "attempts"));
+            if (fields.get(0) == null) {
+                redisTemplate.opsForZSet().remove(QUEUE_KEY, id);
+                continue;
+            }
+            mails.add(new QueuedMail(id, (String) fields.get(0), (String) fields.get(1), (String) fields.get(2),
+                    fields.get(3) == null ? 0 : Integer.parseInt((String) fields.get(3))));
+        }
+        return mails;
+    }
+
+    // 발송 완료
+    public void ack(String id) {
+        redisTemplate.opsForZSet().remove(QUEUE_KEY, id);
+        redisTemplate.delete(messageKey(id));
+    }
+
+    // 실패 → delayMs 뒤 재시도 (시도 횟수 +1)
+    public void retry(String id, long delayMs) {
+        reschedule(id, delayMs, 1);
+    }
+
+    // 도메인 발송 한도 등으로 미룸 (시도 횟수는 그대로)
+    public void defer(String id, long delayMs) {
+        reschedule(id, delayMs, 0);
+    }
+
+    public void deadLetter(String id, String reason) {
+        redisTemplate.execute(DEAD_LETTER_SCRIPT, List.of(QUEUE_KEY, messageKey(id), DEAD_KEY),
+                id, reason == null ? "" : reason, String.valueOf(DEAD_MESSAGE_TTL.toSeconds()),
+                String.valueOf(DEAD_LIST_MAX));
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(QUEUE_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public long deadSize() {
+        Long size = redisTemplate.opsForList().size(DEAD_KEY);
+        return size == null ? 0 : size;
+    }
+
+    private void reschedule(String id, long delayMs, int attemptIncrement) {
+        redisTemplate.execute(RESCHEDULE_SCRIPT, List.of(QUEUE_KEY, messageKey(id)),
+                id, String.valueOf(System.currentTimeMillis() + delayMs), String.valueOf(attemptIncrement));
+    }
+
+    private static String messageKey(String id) {
+        return MESSAGE_KEY_PREFIX + id;
+    }
+
+    public record QueuedMail(String id, String to, String subject, String html, int attempts) {
+    }
+}
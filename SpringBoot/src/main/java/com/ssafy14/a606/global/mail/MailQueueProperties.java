@@ -0,0 +1,39 @@
+package com.ssafy14.a606.global.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 메일 발송 대기열 설정 (app.mail.queue.*)
+ * - 값이 비어 있으면 기본값 사용
+ */
+@ConfigurationProperties(prefix = "app.mail.queue")
+public record MailQueueProperties(
+        int workers,
+        int batchSize,
+        long leaseMs,
+        int maxAttempts,
+        long backoffBaseMs,
+        long backoffMaxMs,
+        long rateWindowMs,
+        int defaultDomainLimit,
+        Map<String, Integer> domainLimits,
+        long connectionMaxIdleMs,
+        int maxMessagesPerConnection
+) {
+
+    public MailQueueProperties {
+        if (workers <= 0) workers = 4;
+        if (batchSize <= 0) batchSize = 50;
+        if (leaseMs <= 0) leaseMs = 60000;
+        if (maxAttempts <= 0) maxAttempts = 6;
+        if (backoffBaseMs <= 0) backoffBaseMs = 2000;
+        if (backoffMaxMs <= 0) backoffMaxMs = 600000;
+        if (rateWindowMs <= 0) rateWindowMs = 60000;
+        if (defaultDomainLimit <= 0) defaultDomainLimit = 60;
+        if (domainLimits == null) domainLimits = Map.of();
+        if (connectionMaxIdleMs <= 0) connectionMaxIdleMs = 30000;
+        if (maxMessagesPerConnection <= 0) maxMessagesPerConnection = 100;
+    }
+}
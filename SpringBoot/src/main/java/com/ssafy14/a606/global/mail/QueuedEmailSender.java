@@ -0,0 +1,28 @@
+package com.ssafy14.a606.global.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 요청 스레드에서는 대기열에 넣기만 하고 바로 반환 (SMTP 연결/전송은 MailDeliveryWorker 가 담당)
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class QueuedEmailSender implements EmailSender {
+
+    private final MailQueue mailQueue;
+
+    // 대기열은 HTML 본문만 다루므로 text/plain 은 <pre> 로 감싸서 보낸다
+    @Override
+    public void send(String to, String subject, String content) {
+        mailQueue.enqueue(to, subject, "<pre>" + HtmlUtils.htmlEscape(content) + "</pre>");
+    }
+
+    @Override
+    public void sendHtml(String to, String subject, String html) {
+        mailQueue.enqueue(to, subject, html);
+    }
+}
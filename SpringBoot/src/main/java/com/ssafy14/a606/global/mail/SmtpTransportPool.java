@@ -0,0 +1,149 @@
+package com.ssafy14.a606.global.mail;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SMTP 연결 재사용 풀
+ * - JavaMailSender.send() 는 메일마다 연결 → EHLO → STARTTLS → AUTH 를 새로 하므로,
+ *   열어 둔 Transport 를 여러 메일에 이어서 쓴다.
+ * - 빌리는 쪽은 MailDeliveryWorker 의 스레드뿐이라 연결 수는 워커 수를 넘지 않는다.
+ * - 오래 놀았거나(connection-max-idle-ms) 일정 개수를 보낸 연결은 닫고 새로 연다.
+ * - 발송 중 예외가 나면 그 연결은 상태를 알 수 없으므로 풀에 돌려놓지 않는다.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final String from;
+    private final long maxIdleMs;
+    private final int maxMessagesPerConnection;
+
+    // 가장 최근에 쓴 연결부터 다시 쓴다 (오래된 연결은 뒤에 남아 정리됨)
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             MailQueueProperties properties,
+                             @Value("${app.email.from:${spring.mail.username:}}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.maxIdleMs = properties.connectionMaxIdleMs();
+        this.maxMessagesPerConnection = properties.maxMessagesPerConnection();
+    }
+
+    public void sendHtml(String to, String subject, String html) throws MessagingException {
+        MimeMessage message = createMessage(to, subject, html);
+
+        PooledTransport connection = borrow();
+        boolean reusable = false;
+        try {
+            connection.transport.sendMessage(message, message.getAllRecipients());
+            connection.sentCount++;
+            sent.increment();
+            reusable = connection.sentCount < maxMessagesPerConnection;
+        } finally {
+            if (reusable) {
+                connection.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(connection);
+            } else {
+                close(connection);
+            }
+        }
+    }
+
+    // 오래 쉬고 있는 연결 정리 (서버가 먼저 끊기 전에)
+    @Scheduled(fixedDelayString = "${app.mail.queue.idle-check-interval-ms:10000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (PooledTransport connection : idle) {
+            if (now - connection.lastUsedAt > maxIdleMs && idle.remove(connection)) {
+                close(connection);
+            }
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (now - connection.lastUsedAt <= maxIdleMs && connection.transport.isConnected()) {
+                return connection;
+            }
+            close(connection);
+        }
+
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        opened.increment();
+        return new PooledTransport(transport, now);
+    }
+
+    private MimeMessage createMessage(String to, String subject, String html) throws MessagingException {
+        // createMimeMessage() 로 만들어야 MimeMessageHelper 가 mime.types 를 메일마다 다시 읽지 않는다
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setFrom(from);
+        helper.setText(html, true);
+        // Transport.sendMessage 는 헤더를 채워 주지 않으므로 직접 반영
+        message.saveChanges();
+        return message;
+    }
+
+    private void close(PooledTransport connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP connection close failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            close(connection);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private volatile long lastUsedAt;
+        private int sentCount;
+
+        private PooledTransport(Transport transport, long lastUsedAt) {
+            this.transport = transport;
+            this.lastUsedAt = lastUsedAt;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy14.a606.global.security.jwt;
 
-import com.ssafy14.a606.global.security.user.CustomUserDetailsService;
+import com.ssafy14.a606.global.security.user.CustomUserDetails;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,7 +21,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected void doFilterInternal(
@@ -39,17 +39,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 3. 토큰 유효성 검증 (유효하지 않으면 인증 없이 통과)
-        jwtTokenProvider.validateTokenOrThrow(token);
+        // 3. 토큰 유효성 검증 (유효하지 않으면 JwtExceptionFilter 에서 401)
+        // (같은 access token 은 검증 결과 캐시 사용)
+        VerifiedToken verified = jwtTokenProvider.verify(token);
 
         // 이미 인증이 들어있으면 중복 세팅 방지
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // 4. JWT에서 userId 추출
-            Long userId = jwtTokenProvider.getUserId(token);
+            // 4. role 이 없으면 refresh token 이므로 거절
+            if (!verified.isAccessToken()) {
+                throw new JwtException("JWT is not an access token");
+            }
 
-            // 5. DB에서 UserDetails로 조회
-            UserDetails userDetails = customUserDetailsService.loadUserByUserId(userId);
+            // 5. 관리자가 강제 만료시킨 토큰인지 확인 (로컬 스냅샷, DB/Redis 조회 없음)
+            if (tokenRevocationStore.isRevoked(verified.userId(), verified.issuedAt())) {
+                throw new JwtException("JWT has been revoked");
+            }
+
+            CustomUserDetails userDetails = CustomUserDetails.fromToken(verified.userId(), verified.role());
 
             // 6. UserDetails 기반으로 Authentication 생성
             UsernamePasswordAuthenticationToken authentication =
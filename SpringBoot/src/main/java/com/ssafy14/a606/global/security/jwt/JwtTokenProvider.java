@@ -6,20 +6,42 @@ import org.springframework.stereotype.Component;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
 
+    // 검증 결과 캐시 최대 크기 (access token 만 캐시)
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    // 밀리초 단위 발급 시각 (표준 iat 는 초 단위라 강제 만료와 같은 초에 발급된 토큰을 구분 못 함)
+    private static final String ISSUED_AT_MILLIS = "iat_ms";
+
     private final JwtProperties props;
     private final SecretKey key;
 
+    // 파서는 불변/스레드 안전 → 한 번만 만들어 재사용
+    private final JwtParser parser;
+
+    // 토큰 SHA-256 → 검증 결과 (토큰 만료 시각까지만 유효)
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
     public JwtTokenProvider(JwtProperties props) {
         this.props = props;
         byte[] keyBytes = Base64.getDecoder().decode(props.secret());
         this.key = Keys.hmacShaKeyFor(keyBytes);
-
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     // accessToken 생성 (userId, role 포함)
@@ -30,6 +52,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .subject(String.valueOf(userId))
                 .claim("role", role)
+                .claim(ISSUED_AT_MILLIS, now.getTime())
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -37,40 +60,68 @@ public class JwtTokenProvider {
     }
 
 
-    // refreshToken 생성 (userId만 포함)
-    public String createRefreshToken(Long userId) {
+    // 로그인할 때마다 새 세션(기기) ID
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    // refreshToken 생성 (userId, 세션 ID 포함 / jti 로 교체 때마다 다른 토큰 보장)
+    public String createRefreshToken(Long userId, String sessionId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + props.refreshExpirationMs());
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
+                .id(UUID.randomUUID().toString())
+                .claim("sid", sessionId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 서명/만료를 한 번만 검증하고 claim 을 꺼내 반환
+     * - 같은 access token 이 다시 오면 캐시된 결과 사용 (서명 재검증 없음, 만료는 매번 확인)
+     * - 만료: ExpiredJwtException / 위조·형식 오류: JwtException, IllegalArgumentException
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT is empty");
+        }
+
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (cached.isExpired(Instant.now())) {
+                verifiedTokens.remove(cacheKey);
+                throw new ExpiredJwtException(null, null, "JWT expired");
+            }
+            return cached;
+        }
+
+        VerifiedToken verified = toVerifiedToken(parseClaims(token));
+        if (verified.isAccessToken()) {
+            cache(cacheKey, verified);
+        }
+        return verified;
+    }
 
     // JWT에서 userId 추출
     public Long getUserId(String token) {
-        String sub = parseClaims(token).getSubject();
-        try {
-            return Long.valueOf(sub);
-        } catch (NumberFormatException e) {
-            throw new JwtException("JWT subject is not a userId");
-        }
+        return verify(token).userId();
     }
 
     // JWT에서 role 추출
     public String getRole(String token) {
-        return parseClaims(token).get("role", String.class);
+        return verify(token).role();
     }
 
 
     // JWT 유효성 검증
     public boolean validateToken(String token) {
         try {
-            parseClaims(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -79,9 +130,7 @@ public class JwtTokenProvider {
 
     // Claims 파싱
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -89,6 +138,56 @@ public class JwtTokenProvider {
     // 만료/위조 등을 예외로 구분해서 밖으로 던지는 검증 메서드
     public void validateTokenOrThrow(String token)
             throws ExpiredJwtException, JwtException, IllegalArgumentException {
-        parseClaims(token);
+        verify(token);
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Long userId;
+        try {
+            userId = Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new JwtException("JWT subject is not a userId");
+        }
+        return new VerifiedToken(
+                userId,
+                claims.get("role", String.class),
+                claims.get("sid", String.class),
+                issuedAt(claims),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()
+        );
+    }
+
+    // iat_ms 가 없는 토큰(도입 이전 발급)은 초 단위 iat 사용
+    private static Instant issuedAt(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (millis != null) {
+            return Instant.ofEpochMilli(millis);
+        }
+        return claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+    }
+
+    // 가득 차면 만료된 것부터 비우고, 그래도 가득 차 있으면 통째로 비움 (다시 검증하면 채워짐)
+    private void cache(String cacheKey, VerifiedToken verified) {
+        if (verified.expiresAt() == null) {
+            return;
+        }
+        if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+            Instant now = Instant.now();
+            verifiedTokens.values().removeIf(token -> token.isExpired(now));
+            if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(cacheKey, verified);
+    }
+
+    // 원문 토큰을 메모리에 키로 들고 있지 않도록 해시 사용
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
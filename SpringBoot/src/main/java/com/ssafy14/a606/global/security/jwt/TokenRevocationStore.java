@@ -0,0 +1,114 @@
+package com.ssafy14.a606.global.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * access token 강제 만료 기준 시각(epoch) 저장소
+ * - Redis hash auth:token-epoch, field = userId (전체는 "*"), value = epoch 밀리초
+ *   → 발급 시각(iat_ms)이 epoch 이하인 토큰은 서명이 유효해도 거절
+ * - 요청마다 Redis 를 보지 않도록 로컬 스냅샷만 조회하고, 스냅샷은 주기적으로 다시 읽는다.
+ *   (다른 인스턴스에서 한 강제 만료는 refresh-interval-ms 안에 반영)
+ * - access token 수명이 지난 epoch 는 의미가 없으므로 갱신 시 정리
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final String KEY = "auth:token-epoch";
+    private static final String ALL = "*";
+
+    // 이보다 작은 값은 초 단위로 저장하던 이전 형식
+    private static final long MIN_EPOCH_MILLIS = 100_000_000_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final long accessExpirationMs;
+
+    // 교체만 하고 수정하지 않는 스냅샷
+    private volatile Map<String, Long> epochs = Map.of();
+
+    public TokenRevocationStore(StringRedisTemplate redisTemplate, JwtProperties jwtProperties) {
+        this.redisTemplate = redisTemplate;
+        this.accessExpirationMs = jwtProperties.accessExpirationMs();
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    // 해당 사용자의 기존 access token 전부 만료 (권한 변경, 탈퇴 등)
+    public void revokeUser(Long userId) {
+        revoke(String.valueOf(userId));
+    }
+
+    // 모든 사용자의 기존 access token 만료 (키 유출 의심 등)
+    public void revokeAll() {
+        revoke(ALL);
+    }
+
+    /**
+     * 밀리초 단위로 비교하므로 강제 만료 직후(같은 초) 재발급된 토큰은 통과한다.
+     * - iat_ms 가 없는 이전 토큰은 초 단위 iat 라 같은 초에 발급됐으면 거절 (재발급 한 번이면 통과)
+     */
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        if (issuedAt == null) {
+            return true;
+        }
+        Map<String, Long> snapshot = epochs;
+        if (snapshot.isEmpty()) {
+            return false;
+        }
+        long iat = issuedAt.toEpochMilli();
+        Long all = snapshot.get(ALL);
+        Long user = snapshot.get(String.valueOf(userId));
+        return (all != null && iat <= all) || (user != null && iat <= user);
+    }
+
+    public int size() {
+        return epochs.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            long expiredBefore = System.currentTimeMillis() - accessExpirationMs;
+            Map<String, Long> loaded = new HashMap<>();
+            for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(KEY).entrySet()) {
+                String field = entry.getKey().toString();
+                long epoch = toMillis(Long.parseLong(entry.getValue().toString()));
+                if (epoch < expiredBefore) {
+                    redisTemplate.opsForHash().delete(KEY, field);
+                } else {
+                    loaded.put(field, epoch);
+                }
+            }
+            epochs = Map.copyOf(loaded);
+        } catch (Exception e) {
+            // Redis 장애 시 마지막 스냅샷 유지
+            log.warn("Token revocation refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void revoke(String field) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForHash().put(KEY, field, String.valueOf(now));
+
+        // 이 인스턴스는 바로 반영
+        Map<String, Long> updated = new HashMap<>(epochs);
+        updated.put(field, now);
+        epochs = Map.copyOf(updated);
+    }
+
+    // 초 단위 값은 그 초의 마지막 밀리초로 (이전처럼 같은 초에 발급된 토큰까지 거절)
+    private static long toMillis(long epoch) {
+        return epoch < MIN_EPOCH_MILLIS ? epoch * 1000 + 999 : epoch;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy14.a606.global.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 마친 토큰의 claim
+ * - role 이 있으면 access token, 없으면 refresh token
+ * - sessionId 는 refresh token 에만 있음 (기기별 세션)
+ */
+public record VerifiedToken(Long userId, String role, String sessionId, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return role != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
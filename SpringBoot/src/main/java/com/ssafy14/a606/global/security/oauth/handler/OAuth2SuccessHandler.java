@@ -59,10 +59,11 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
         // 3) AT/RT 발급
         String accessToken = jwtTokenProvider.createAccessToken(userId, role);
-        String refreshToken = jwtTokenProvider.createRefreshToken(userId);
+        String sessionId = jwtTokenProvider.newSessionId();
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, sessionId);
 
-        // 4) Redis 저장 (기존 RT 폐기)
-        refreshTokenStore.save(userId, refreshToken);
+        // 4) Redis 저장 (기기별 세션, 다른 기기 로그인은 유지)
+        refreshTokenStore.save(userId, sessionId, refreshToken);
 
         // 5) refreshToken 쿠키로
         ResponseCookie cookie = ResponseCookie.from("refreshToken", refreshToken)
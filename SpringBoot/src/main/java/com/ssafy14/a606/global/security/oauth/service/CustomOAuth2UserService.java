@@ -3,6 +3,7 @@ package com.ssafy14.a606.global.security.oauth.service;
 import com.ssafy14.a606.domain.user.entity.AuthType;
 import com.ssafy14.a606.domain.user.entity.Role;
 import com.ssafy14.a606.domain.user.entity.User;
+import com.ssafy14.a606.domain.user.index.UserIdentifierIndex;
 import com.ssafy14.a606.domain.user.repository.UserRepository;
 import com.ssafy14.a606.global.security.oauth.user.OAuthAttributes;
 import com.ssafy14.a606.global.security.oauth.user.OAuthProvider;
@@ -27,6 +28,7 @@ import java.util.Map;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserIdentifierIndex userIdentifierIndex;
 
     @Override
     @Transactional
@@ -47,17 +49,21 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         // 5) (authType, providerId)로 사용자 조회 -> 없으면 생성
         User user = userRepository.findByAuthTypeAndProviderId(authType, oAuthAttr.getProviderId())
-                .orElseGet(()-> userRepository.save(
-                        User.builder()
-                                .authType(authType)
-                                .providerId(oAuthAttr.getProviderId())
-                                .loginId(null)
-                                .password(null)
-                                .email(oAuthAttr.getEmail())
-                                .userName(oAuthAttr.getName() == null ? "소셜사용자" : oAuthAttr.getName())
-                                .role(Role.USER)
-                                .build()
-                ));
+                .orElseGet(()-> {
+                    User created = userRepository.save(
+                            User.builder()
+                                    .authType(authType)
+                                    .providerId(oAuthAttr.getProviderId())
+                                    .loginId(null)
+                                    .password(null)
+                                    .email(oAuthAttr.getEmail())
+                                    .userName(oAuthAttr.getName() == null ? "소셜사용자" : oAuthAttr.getName())
+                                    .role(Role.USER)
+                                    .build());
+                    // 이메일 중복확인 인덱스에 반영
+                    userIdentifierIndex.add(null, created.getEmail());
+                    return created;
+                });
 
         Long userId = user.getId();
 
@@ -0,0 +1,44 @@
+package com.ssafy14.a606.global.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 기동 시 BCrypt cost 보정
+ * - 기준 cost 로 몇 번 해시해 걸린 시간을 재고, cost 가 1 오를 때마다 2배가 되는 점을 이용해
+ *   목표 시간(targetMs)을 넘지 않는 가장 큰 cost 를 고른다. [minCost, maxCost] 범위 안에서만.
+ * - 서버가 느려 목표 시간 안에 minCost 도 못 돌려도 minCost 아래로는 내리지 않는다 (하한 우선)
+ */
+@Slf4j
+public final class BcryptCostCalibrator {
+
+    private static final int BASE_COST = 8;
+    private static final int SAMPLES = 3;
+
+    private BcryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMs, int minCost, int maxCost) {
+        String salt = BCrypt.gensalt(BASE_COST);
+        BCrypt.hashpw("calibration", salt); // 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        double baseMs = Math.max(best / 1_000_000.0, 0.01);
+        int cost = BASE_COST;
+        while (cost < maxCost && baseMs * (1L << (cost + 1 - BASE_COST)) <= targetMs) {
+            cost++;
+        }
+        // 하한이 상한보다 우선 (잘못 설정돼 min > max 여도 min 아래로 내려가지 않음)
+        cost = Math.max(minCost, Math.min(maxCost, cost));
+
+        log.info("BCrypt cost calibrated. cost={}, estimatedMs={}, targetMs={}",
+                cost, Math.round(baseMs * (1L << (cost - BASE_COST))), targetMs);
+        return cost;
+    }
+}
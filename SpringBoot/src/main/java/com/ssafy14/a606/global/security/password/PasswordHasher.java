@@ -0,0 +1,163 @@
+package com.ssafy14.a606.global.security.password;
+
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 해시/검증 전용 실행기
+ * - 요청 스레드에서 바로 돌리지 않고 CPU 코어 수만큼의 전용 스레드에서만 실행
+ *   → 크리덴셜 스터핑이 몰려도 BCrypt 가 쓰는 CPU 는 코어 수로 제한되고, 다른 API 는 영향을 덜 받는다.
+ * - 대기열이 가득 차거나 대기가 길어지면 기다리지 않고 ServiceOverloadedException (503)
+ * - BCrypt 는 인터럽트를 보지 않으므로 대기 시간을 넘긴 작업은 취소할 수 없다.
+ *   대기열에 있던 작업은 빼내지만, 이미 돌고 있던 해시는 끝까지 돌고 결과만 버려진다
+ *   → 과부하 때 헛도는 작업은 스레드 수(threads) 이하. 대기열은 threads × max-wait-ms / 해시 시간 정도면 충분하다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+    private final int targetCost;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${app.auth.password.threads:0}") int threads,
+                          @Value("${app.auth.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.auth.password.max-wait-ms:2000}") long maxWaitMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMs = maxWaitMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 현재 설정된 cost (보정 결과) - 저장된 해시와 비교해 재해시 여부 판단
+        this.targetCost = costOf(passwordEncoder.encode("cost-probe"));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 true (로그인 성공 시 다시 해시)
+    // - 느린 서버에서 보정된 cost 가 더 낮게 나와도 이미 강한 해시를 약하게 바꾸지 않는다
+    public boolean needsRehash(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost < targetCost;
+    }
+
+    public void recordRehash() {
+        rehashed.increment();
+    }
+
+    public int getTargetCost() {
+        return targetCost;
+    }
+
+    public int getQueued() {
+        return executor.getQueue().size();
+    }
+
+    public int getActive() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    public long getRehashedCount() {
+        return rehashed.sum();
+    }
+
+    private <T> T run(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 1);
+        }
+
+        try {
+            T result = future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            completed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            // 아직 대기 중이면 대기열에서 빼고, 이미 돌고 있으면 끝날 때까지 스레드를 쓴다 (BCrypt 는 인터럽트 불가)
+            future.cancel(true);
+            executor.remove(future);
+            timedOut.increment();
+            throw new ServiceOverloadedException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // "$2a$10$..." → 10 (BCrypt 형식이 아니면 0)
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
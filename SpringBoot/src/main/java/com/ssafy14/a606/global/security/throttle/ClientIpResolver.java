@@ -0,0 +1,77 @@
+package com.ssafy14.a606.global.security.throttle;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 로그인 제한(IP 버킷)에 쓸 클라이언트 IP
+ * - /api 는 nginx(Front/nginx.conf) 를 거쳐 오므로 getRemoteAddr() 는 프록시 IP → IP 한도가 전체 한도가 된다.
+ * - 직접 연결한 쪽이 신뢰하는 프록시(app.auth.trusted-proxies, IP 또는 CIDR)일 때만
+ *   X-Forwarded-For 를 오른쪽부터 읽어 신뢰하지 않는 첫 주소를 쓴다 (없거나 IP 형식이 아니면 X-Real-IP).
+ * - 그 밖의 연결은 헤더를 무시하고 getRemoteAddr() (클라이언트가 헤더를 꾸며도 버킷을 바꿀 수 없음)
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final String REAL_IP = "X-Real-IP";
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F.:]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${app.auth.trusted-proxies:127.0.0.1,::1}") String trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor != null) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!isIpLiteral(hop)) {
+                    break;
+                }
+                if (!isTrusted(hop)) {
+                    return hop;
+                }
+            }
+        }
+
+        String realIp = request.getHeader(REAL_IP);
+        return (realIp != null && isIpLiteral(realIp.trim())) ? realIp.trim() : remoteAddr;
+    }
+
+    private boolean isTrusted(String address) {
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return false;
+    }
+
+    // 호스트 이름 조회(DNS) 없이 IP 표기인지만 확인
+    private static boolean isIpLiteral(String value) {
+        return IP_LITERAL.matcher(value).matches() && (value.indexOf('.') >= 0 || value.indexOf(':') >= 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ssafy14.a606.global.security.throttle;
+
+import com.ssafy14.a606.global.exceptions.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 횟수 제한 (Redis ZSET 슬라이딩 윈도우)
+ * - loginId 별, IP 별 키 두 개를 Lua 한 번으로 확인 → BCrypt 를 돌리기 전에 거절
+ * - score = 시도 시각(ms), 윈도우 밖의 기록은 확인할 때마다 정리
+ * - 로그인에 성공하면 loginId 기록은 지운다 (IP 기록은 유지)
+ * - Redis 장애 시에는 제한 없이 통과 (로그인 자체를 막지 않도록)
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final String ID_KEY_PREFIX = "login:throttle:id:";
+    private static final String IP_KEY_PREFIX = "login:throttle:ip:";
+
+    // ARGV: 현재 시각(ms), 윈도우(ms), loginId 한도, IP 한도, 멤버
+    // 반환: 0 통과(기록 추가), 양수 = 다시 시도 가능할 때까지 남은 ms
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limits = { tonumber(ARGV[3]), tonumber(ARGV[4]) }
+            local wait = 0
+            for i = 1, 2 do
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], 0, now - window)
+                if redis.call('ZCARD', KEYS[i]) >= limits[i] then
+                    local oldest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES')
+                    wait = math.max(wait, tonumber(oldest[2]) + window - now)
+                end
+            end
+            if wait > 0 then
+                return wait
+            end
+            for i = 1, 2 do
+                redis.call('ZADD', KEYS[i], now, ARGV[5])
+                redis.call('PEXPIRE', KEYS[i], window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMs;
+    private final int maxPerLoginId;
+    private final int maxPerIp;
+
+    private final LongAdder throttled = new LongAdder();
+
+    public LoginThrottle(StringRedisTemplate redisTemplate,
+                         @Value("${app.auth.throttle.window-ms:300000}") long windowMs,
+                         @Value("${app.auth.throttle.max-per-login-id:10}") int maxPerLoginId,
+                         @Value("${app.auth.throttle.max-per-ip:50}") int maxPerIp) {
+        this.redisTemplate = redisTemplate;
+        this.windowMs = windowMs;
+        this.maxPerLoginId = maxPerLoginId;
+        this.maxPerIp = maxPerIp;
+    }
+
+    // 한도를 넘었으면 TooManyRequestsException (429)
+    public void acquire(String loginId, String clientIp) {
+        Long waitMs;
+        try {
+            waitMs = redisTemplate.execute(ACQUIRE_SCRIPT,
+                    List.of(ID_KEY_PREFIX + loginId, IP_KEY_PREFIX + clientIp),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(windowMs),
+                    String.valueOf(maxPerLoginId), String.valueOf(maxPerIp),
+                    UUID.randomUUID().toString());
+        } catch (Exception e) {
+            log.warn("Login throttle unavailable: {}", e.getMessage());
+            return;
+        }
+
+        if (waitMs != null && waitMs > 0) {
+            throttled.increment();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                    Math.max(1, (waitMs + 999) / 1000));
+        }
+    }
+
+    public void reset(String loginId) {
+        try {
+            redisTemplate.delete(ID_KEY_PREFIX + loginId);
+        } catch (Exception e) {
+            log.warn("Login throttle reset failed: {}", e.getMessage());
+        }
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+}
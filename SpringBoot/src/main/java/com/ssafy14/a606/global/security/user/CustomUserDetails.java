@@ -25,6 +25,14 @@ public class CustomUserDetails implements UserDetails {
         this.role = role;
     }
 
+    /**
+     * access token claim(userId, role)만으로 구성 (요청마다 DB 조회하지 않음)
+     * - loginId/password 는 토큰에 없으므로 빈 값
+     */
+    public static CustomUserDetails fromToken(Long userId, String role) {
+        return new CustomUserDetails(userId, "", "", role);
+    }
+
     private String normalizeRole(String role) {
         if (role == null || role.isBlank()) return "ROLE_USER"; // 기본값(원하면 변경)
         return role.startsWith("ROLE_") ? role : "ROLE_" + role;
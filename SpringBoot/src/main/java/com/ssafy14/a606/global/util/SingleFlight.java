@@ -0,0 +1,156 @@
+package com.ssafy14.a606.global.util;
+
+import com.ssafy14.a606.global.dto.SingleFlightStatsDto;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 원격 호출 한 번으로 합친다 (single-flight)
+ * - 첫 요청(leader)의 Mono 를 share() 로 공유하고, 끝나면(성공/실패/전원 취소) 키를 지운다.
+ * - 뒤따르는 요청은 leader 시작 후 maxWait 안에서만 기다리며, 넘기면 직접 호출한다.
+ * - 한 호출을 동시에 기다리는 구독자는 maxFanOut 까지 (넘으면 직접 호출).
+ *   구독자는 끝나거나 취소/타임아웃되면 빠지고, 마지막 구독자가 취소로 빠지면 원격 호출도 취소한다
+ *   (share() 구독은 스스로 취소되지 않으므로 takeUntilOther 로 끊는다).
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight> flights = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final int maxFanOut;
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder fanOutExceeded = new LongAdder();
+    private final LongAdder waitExceeded = new LongAdder();
+
+    public SingleFlight(Duration maxWait, int maxFanOut) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxFanOut = maxFanOut;
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> upstream) {
+        return Mono.defer(() -> {
+            Flight current = flights.get(key);
+            if (current == null) {
+                Flight fresh = new Flight(key, upstream);
+                current = flights.putIfAbsent(key, fresh);
+                if (current == null) {
+                    leaders.increment();
+                    return fresh.attach();
+                }
+            }
+
+            Mono<V> joined = join(current, upstream);
+            if (joined != null) {
+                return joined;
+            }
+
+            // 오래됐거나 전원 취소된 호출이면 새 호출로 교체해 이후 요청은 새 호출에 합류
+            if (current.remainingNanos() <= 0 || current.isAbandoned()) {
+                Flight fresh = new Flight(key, upstream);
+                if (flights.replace(key, current, fresh)) {
+                    leaders.increment();
+                    return fresh.attach();
+                }
+            }
+            return upstream.get();
+        });
+    }
+
+    public SingleFlightStatsDto getStats() {
+        return SingleFlightStatsDto.builder()
+                .inFlight(flights.size())
+                .leaderCount(leaders.sum())
+                .coalescedCount(coalesced.sum())
+                .fanOutExceededCount(fanOutExceeded.sum())
+                .waitExceededCount(waitExceeded.sum())
+                .build();
+    }
+
+    private Mono<V> join(Flight flight, Supplier<Mono<V>> upstream) {
+        long remaining = flight.remainingNanos();
+        if (remaining <= 0) {
+            waitExceeded.increment();
+            return null;
+        }
+        int joined = flight.tryJoin();
+        if (joined == Flight.ABANDONED) {
+            return null;
+        }
+        if (joined == Flight.FULL) {
+            fanOutExceeded.increment();
+            return null;
+        }
+
+        coalesced.increment();
+        // 남은 대기 시간 안에 결과가 없으면 직접 호출 (타임아웃은 공유 구독을 취소하므로 구독자 수에서 빠진다)
+        return flight.attach().timeout(Duration.ofNanos(remaining), Mono.defer(() -> {
+            waitExceeded.increment();
+            return upstream.get();
+        }));
+    }
+
+    private class Flight {
+
+        private static final int ABANDONED = -1;
+        private static final int FULL = -2;
+
+        private final long startedAt = System.nanoTime();
+        // 지금 기다리는 구독자 수 (leader 포함, 전원 취소 후에는 ABANDONED)
+        private final AtomicInteger subscribers = new AtomicInteger(1);
+        private final Sinks.Empty<Void> abandoned = Sinks.empty();
+        private final Mono<V> shared;
+
+        private Flight(K key, Supplier<Mono<V>> upstream) {
+            this.shared = Mono.defer(upstream)
+                    .takeUntilOther(abandoned.asMono())
+                    .doFinally(signal -> flights.remove(key, this))
+                    .share();
+        }
+
+        // 구독자 자리 하나 확보 (ABANDONED / FULL 이면 합류 불가)
+        private int tryJoin() {
+            while (true) {
+                int current = subscribers.get();
+                if (current == ABANDONED) {
+                    return ABANDONED;
+                }
+                if (current >= maxFanOut) {
+                    return FULL;
+                }
+                if (subscribers.compareAndSet(current, current + 1)) {
+                    return current + 1;
+                }
+            }
+        }
+
+        // 자리를 확보한 구독자가 실제로 받을 Mono (끝나거나 취소되면 자리 반납)
+        private Mono<V> attach() {
+            return shared.doFinally(this::leave);
+        }
+
+        private void leave(SignalType signal) {
+            if (subscribers.decrementAndGet() == 0
+                    && signal == SignalType.CANCEL
+                    && subscribers.compareAndSet(0, ABANDONED)) {
+                abandoned.tryEmitEmpty();
+            }
+        }
+
+        private boolean isAbandoned() {
+            return subscribers.get() == ABANDONED;
+        }
+
+        private long remainingNanos() {
+            return maxWaitNanos - (System.nanoTime() - startedAt);
+        }
+    }
+}
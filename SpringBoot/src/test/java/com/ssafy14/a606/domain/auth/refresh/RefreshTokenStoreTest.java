@@ -0,0 +1,104 @@
+package com.ssafy14.a606.domain.auth.refresh;
+
+import com.ssafy14.a606.global.config.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SAVE / ROTATE 스크립트와 deleteAll 파이프라인 검증 (실제 Redis 필요, 없으면 건너뜀)
+ */
+class RefreshTokenStoreTest {
+
+    private StringRedisTemplate redisTemplate;
+    private Long userId;
+    private Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = LocalRedis.connectOrSkip();
+        // 다른 데이터와 겹치지 않는 사용자 id
+        userId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE / 2);
+        otherUserId = userId - 1;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            redisTemplate.delete(List.of("refresh:" + userId, "refresh:" + otherUserId));
+            LocalRedis.close(redisTemplate);
+        }
+    }
+
+    @Test
+    @DisplayName("세션 수가 가득 차면 가장 오래 쓰지 않은 세션을 밀어낸다")
+    void evictsLeastRecentlyUsedSession() throws InterruptedException {
+        // given: 최대 2 세션, s1 이 s2 보다 먼저 저장됐지만 나중에 교체(사용)됨
+        RefreshTokenStore store = new RefreshTokenStore(redisTemplate, 2, 10_000);
+        store.save(userId, "s1", "t1");
+        Thread.sleep(2);
+        store.save(userId, "s2", "t2");
+        Thread.sleep(2);
+        assertThat(store.rotate(userId, "s1", "t1", "t1-next")).isEqualTo(RotationResult.ROTATED);
+        Thread.sleep(2);
+
+        // when
+        store.save(userId, "s3", "t3");
+
+        // then: s2 가 밀려남
+        assertThat(store.countSessions(userId)).isEqualTo(2);
+        assertThat(store.rotate(userId, "s2", "t2", "t2-next")).isEqualTo(RotationResult.SESSION_NOT_FOUND);
+        assertThat(store.rotate(userId, "s1", "t1-next", "t1-next2")).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.rotate(userId, "s3", "t3", "t3-next")).isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("grace 안의 직전 토큰은 거절만 하고, 그 밖의 재사용은 세션을 삭제한다")
+    void detectsConcurrentAndReusedTokens() throws InterruptedException {
+        // given
+        RefreshTokenStore concurrent = new RefreshTokenStore(redisTemplate, 10, 10_000);
+        concurrent.save(userId, "s1", "t1");
+        assertThat(concurrent.rotate(userId, "s1", "t1", "t2")).isEqualTo(RotationResult.ROTATED);
+
+        // when & then: 교체 직후 직전 토큰 → 동시 재발급으로 보고 세션 유지
+        assertThat(concurrent.rotate(userId, "s1", "t1", "t3")).isEqualTo(RotationResult.CONCURRENT);
+        assertThat(concurrent.countSessions(userId)).isEqualTo(1);
+
+        // grace 0 이면 직전 토큰도 재사용 → -1, 세션 삭제
+        RefreshTokenStore strict = new RefreshTokenStore(redisTemplate, 10, 0);
+        Thread.sleep(2);
+        assertThat(strict.rotate(userId, "s1", "t1", "t3")).isEqualTo(RotationResult.REUSED);
+        assertThat(strict.countSessions(userId)).isZero();
+        assertThat(strict.rotate(userId, "s1", "t2", "t3")).isEqualTo(RotationResult.SESSION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("deleteAll 은 여러 사용자의 모든 세션을 지우고, delete 는 한 세션만 지운다")
+    void deletesSessions() {
+        // given
+        RefreshTokenStore store = new RefreshTokenStore(redisTemplate, 10, 10_000);
+        store.save(userId, "s1", "t1");
+        store.save(userId, "s2", "t2");
+        store.save(otherUserId, "s1", "t3");
+
+        // when
+        store.delete(userId, "s1");
+
+        // then
+        assertThat(store.countSessions(userId)).isEqualTo(1);
+
+        // when
+        store.deleteAll(List.of(userId, otherUserId));
+
+        // then
+        assertThat(store.countSessions(userId)).isZero();
+        assertThat(store.countSessions(otherUserId)).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ssafy14.a606.domain.auth.service;
+
+import com.ssafy14.a606.domain.auth.refresh.RefreshTokenStore;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import com.ssafy14.a606.global.security.jwt.JwtProperties;
+import com.ssafy14.a606.global.security.jwt.JwtTokenProvider;
+import com.ssafy14.a606.global.security.password.PasswordHasher;
+import com.ssafy14.a606.global.security.throttle.LoginThrottle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AuthServiceLogoutTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenStore refreshTokenStore;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new JwtProperties(
+                Base64.getEncoder().encodeToString("test-secret-key-for-logout-0123456789abcdef".getBytes()),
+                1_800_000L,
+                1_209_600_000L));
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        authService = new AuthServiceImpl(mock(UserRepository.class), mock(PasswordHasher.class),
+                mock(LoginThrottle.class), jwtTokenProvider, refreshTokenStore, mock(TransactionTemplate.class));
+    }
+
+    @Test
+    @DisplayName("쿠키의 세션만 지운다")
+    void deletesOnlyCookieSession() {
+        // given
+        String sessionId = jwtTokenProvider.newSessionId();
+        String refreshToken = jwtTokenProvider.createRefreshToken(7L, sessionId);
+
+        // when
+        MockHttpServletResponse response = logout(7L, refreshToken, false);
+
+        // then
+        verify(refreshTokenStore).delete(7L, sessionId);
+        verify(refreshTokenStore, never()).deleteAll(anyCollection());
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+    }
+
+    @Test
+    @DisplayName("쿠키가 없거나 세션을 알 수 없으면 아무 세션도 지우지 않는다")
+    void deletesNothingWhenSessionIsUnknown() {
+        // given: 다른 사용자의 토큰
+        String otherUsersToken = jwtTokenProvider.createRefreshToken(8L, jwtTokenProvider.newSessionId());
+
+        // when
+        logout(7L, null, false);
+        logout(7L, "not-a-jwt", false);
+        MockHttpServletResponse response = logout(7L, otherUsersToken, false);
+
+        // then: 쿠키만 만료
+        verify(refreshTokenStore, never()).delete(any(), any());
+        verify(refreshTokenStore, never()).deleteAll(anyCollection());
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+    }
+
+    @Test
+    @DisplayName("allDevices 일 때만 모든 기기의 세션을 지운다")
+    void deletesAllSessionsOnlyWhenRequested() {
+        // when
+        logout(7L, null, true);
+
+        // then
+        verify(refreshTokenStore).deleteAll(List.of(7L));
+        verify(refreshTokenStore, never()).delete(any(), any());
+    }
+
+    private MockHttpServletResponse logout(Long userId, String refreshToken, boolean allDevices) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.logout(userId, refreshToken, allDevices, response);
+        return response;
+    }
+}
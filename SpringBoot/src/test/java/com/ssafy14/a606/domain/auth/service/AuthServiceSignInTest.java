@@ -0,0 +1,134 @@
+package com.ssafy14.a606.domain.auth.service;
+
+import com.ssafy14.a606.domain.auth.dto.request.SignInRequestDto;
+import com.ssafy14.a606.domain.auth.refresh.RefreshTokenStore;
+import com.ssafy14.a606.domain.user.entity.AuthType;
+import com.ssafy14.a606.domain.user.entity.Role;
+import com.ssafy14.a606.domain.user.entity.User;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import com.ssafy14.a606.global.security.jwt.JwtProperties;
+import com.ssafy14.a606.global.security.jwt.JwtTokenProvider;
+import com.ssafy14.a606.global.security.password.PasswordHasher;
+import com.ssafy14.a606.global.security.throttle.LoginThrottle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 로그인의 트랜잭션 범위
+ * - BCrypt 검증은 트랜잭션 밖, 재해시 저장만 짧은 쓰기 트랜잭션
+ */
+class AuthServiceSignInTest {
+
+    private static final String OLD_HASH = "$2a$10$old";
+    private static final String NEW_HASH = "$2a$12$new";
+
+    private UserRepository userRepository;
+    private PasswordHasher passwordHasher;
+    private RefreshTokenStore refreshTokenStore;
+    private PlatformTransactionManager transactionManager;
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordHasher = mock(PasswordHasher.class);
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new JwtProperties(
+                Base64.getEncoder().encodeToString("test-secret-key-for-sign-in-0123456789abcdef".getBytes()),
+                1_800_000L,
+                1_209_600_000L));
+        authService = new AuthServiceImpl(userRepository, passwordHasher, mock(LoginThrottle.class),
+                jwtTokenProvider, refreshTokenStore, new TransactionTemplate(transactionManager));
+
+        User user = User.builder()
+                .id(7L)
+                .authType(AuthType.LOCAL)
+                .loginId("tester")
+                .password(OLD_HASH)
+                .userName("테스터")
+                .role(Role.USER)
+                .build();
+        when(userRepository.findByLoginId("tester")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password", OLD_HASH)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("재해시가 필요 없으면 트랜잭션을 열지 않는다")
+    void signsInWithoutTransaction() {
+        // when
+        signIn();
+
+        // then
+        verifyNoInteractions(transactionManager);
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), anyString(), anyString());
+        verify(refreshTokenStore).save(eq(7L), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("재해시는 검증/해시가 끝난 뒤 짧은 트랜잭션에서 조회 때의 해시와 비교해 저장한다")
+    void rehashesInShortTransaction() {
+        // given
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHasher.encode("password")).thenReturn(NEW_HASH);
+        when(userRepository.updatePasswordIfUnchanged(7L, OLD_HASH, NEW_HASH)).thenReturn(1);
+
+        // when
+        signIn();
+
+        // then
+        InOrder order = inOrder(passwordHasher, transactionManager, userRepository, refreshTokenStore);
+        order.verify(passwordHasher).matches("password", OLD_HASH);
+        order.verify(passwordHasher).encode("password");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(userRepository).updatePasswordIfUnchanged(7L, OLD_HASH, NEW_HASH);
+        order.verify(transactionManager).commit(any());
+        order.verify(refreshTokenStore).save(eq(7L), anyString(), anyString());
+        verify(passwordHasher).recordRehash();
+    }
+
+    @Test
+    @DisplayName("그 사이 비밀번호가 바뀌어 저장되지 않았으면 재해시로 세지 않는다")
+    void skipsRehashCountWhenPasswordChanged() {
+        // given
+        when(passwordHasher.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHasher.encode("password")).thenReturn(NEW_HASH);
+        when(userRepository.updatePasswordIfUnchanged(7L, OLD_HASH, NEW_HASH)).thenReturn(0);
+
+        // when
+        signIn();
+
+        // then
+        verify(passwordHasher, never()).recordRehash();
+        verify(refreshTokenStore).save(eq(7L), anyString(), anyString());
+    }
+
+    private void signIn() {
+        SignInRequestDto request = new SignInRequestDto();
+        ReflectionTestUtils.setField(request, "loginId", "tester");
+        ReflectionTestUtils.setField(request, "password", "password");
+        authService.signInLocal(request, "127.0.0.1", new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy14.a606.domain.chatbot.batch;
+
+import com.ssafy14.a606.domain.chatbot.dto.request.ChatBatchRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatBatchResponseDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatMicroBatcherTest {
+
+    private FastApiClient fastApiClient;
+    private ChatMicroBatcher batcher;
+
+    // FastAPI 로 보낸 배치의 질문 목록
+    private final List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        fastApiClient = mock(FastApiClient.class);
+        when(fastApiClient.post(eq(FastApiEndpoint.CHAT_BATCH), any(), eq(ChatBatchResponseDto.class)))
+                .thenAnswer(invocation -> {
+                    ChatBatchRequestDto body = invocation.getArgument(1);
+                    List<String> messages = body.getRequests().stream().map(ChatbotRequestDto::getMessage).toList();
+                    sentBatches.add(messages);
+                    return Mono.just(new ChatBatchResponseDto(
+                            messages.stream().map(m -> new ChatbotResponseDto("답변:" + m)).toList()));
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("maxSize 개가 모이면 window 를 기다리지 않고 바로 보내고, 답변은 요청 순서대로 돌려준다")
+    void flushesWhenBatchIsFull() {
+        // given: window 가 길어 타이머로는 보내지지 않는 설정
+        batcher = new ChatMicroBatcher(fastApiClient, true, 60_000, 3);
+
+        // when
+        CompletableFuture<ChatbotResponseDto> first = batcher.submit(question("a")).toFuture();
+        CompletableFuture<ChatbotResponseDto> second = batcher.submit(question("b")).toFuture();
+        CompletableFuture<ChatbotResponseDto> third = batcher.submit(question("c")).toFuture();
+
+        // then
+        assertThat(first.join().getMessage()).isEqualTo("답변:a");
+        assertThat(second.join().getMessage()).isEqualTo("답변:b");
+        assertThat(third.join().getMessage()).isEqualTo("답변:c");
+        assertThat(sentBatches).containsExactly(List.of("a", "b", "c"));
+        assertThat(batcher.getStats().getSizeFlushCount()).isEqualTo(1);
+        assertThat(batcher.getStats().getWindowFlushCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("maxSize 에 못 미치면 window 가 지난 뒤 모인 만큼 보낸다")
+    void flushesWhenWindowElapses() {
+        // given
+        batcher = new ChatMicroBatcher(fastApiClient, true, 50, 16);
+
+        // when
+        CompletableFuture<ChatbotResponseDto> firstResult = batcher.submit(question("a")).toFuture();
+        CompletableFuture<ChatbotResponseDto> secondResult = batcher.submit(question("b")).toFuture();
+
+        // then
+        assertThat(Mono.fromFuture(firstResult).block(Duration.ofSeconds(2)).getMessage()).isEqualTo("답변:a");
+        assertThat(secondResult.join().getMessage()).isEqualTo("답변:b");
+        assertThat(sentBatches).containsExactly(List.of("a", "b"));
+        assertThat(batcher.getStats().getWindowFlushCount()).isEqualTo(1);
+        assertThat(batcher.getStats().getAvgBatchSize()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("보내기 전에 취소한 질문은 배치에서 빠진다")
+    void removesCancelledRequestBeforeFlush() {
+        // given
+        batcher = new ChatMicroBatcher(fastApiClient, true, 50, 16);
+        Disposable cancelled = batcher.submit(question("a")).subscribe();
+        CompletableFuture<ChatbotResponseDto> kept = batcher.submit(question("b")).toFuture();
+
+        // when
+        cancelled.dispose();
+
+        // then
+        assertThat(batcher.getStats().getPending()).isEqualTo(1);
+        assertThat(Mono.fromFuture(kept).block(Duration.ofSeconds(2)).getMessage()).isEqualTo("답변:b");
+        assertThat(sentBatches).containsExactly(List.of("b"));
+    }
+
+    private static ChatbotRequestDto question(String message) {
+        return new ChatbotRequestDto(message, null);
+    }
+}
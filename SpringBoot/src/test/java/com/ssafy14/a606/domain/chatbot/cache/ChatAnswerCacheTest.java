@@ -0,0 +1,146 @@
+package com.ssafy14.a606.domain.chatbot.cache;
+
+import com.ssafy14.a606.domain.chatbot.store.ChatAnswerStore;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatAnswerCacheTest {
+
+    // 무효화 전 Redis 세대 0 에서의 미스
+    private static final ChatAnswerCache.Lookup MISS = new ChatAnswerCache.Lookup(null, 0L, 0L);
+
+    private ChatAnswerStore chatAnswerStore;
+
+    @BeforeEach
+    void setUp() {
+        chatAnswerStore = mock(ChatAnswerStore.class);
+        when(chatAnswerStore.get(anyString(), anyString())).thenReturn(new ChatAnswerStore.Lookup(null, 0L));
+    }
+
+    @Test
+    @DisplayName("로컬 적중은 Redis 를 거치지 않고, Redis 적중은 로컬에 채운다")
+    void localThenRedis() {
+        ChatAnswerCache cache = cache(10, 60_000);
+        cache.put("행복주택 공고", "청약 자격이 뭔가요?", MISS, "무주택자입니다.", 800);
+
+        // 표기만 다른 질문, 제목 앞뒤 공백도 무시
+        assertThat(cache.get(" 행복주택 공고 ", "청약자격이 뭔가요").answer()).isEqualTo("무주택자입니다.");
+        verify(chatAnswerStore, never()).get(anyString(), anyString());
+
+        awaitRedisSaves(1);
+        when(chatAnswerStore.get("행복주택 공고", "소득기준은")).thenReturn(new ChatAnswerStore.Lookup("100% 이하", 0L));
+        assertThat(cache.get("행복주택 공고", "소득 기준은?").answer()).isEqualTo("100% 이하");
+        assertThat(cache.get("행복주택 공고", "소득 기준은?").answer()).isEqualTo("100% 이하");
+        verify(chatAnswerStore, times(1)).get("행복주택 공고", "소득기준은");
+
+        assertThat(cache.getStats().getLocalHitCount()).isEqualTo(2);
+        assertThat(cache.getStats().getRedisHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getEstimatedLatencySavedMs()).isEqualTo(3 * 800);
+    }
+
+    @Test
+    @DisplayName("로컬 LRU 는 크기 한도와 TTL 을 지키고, Redis 오류는 미스로 처리한다")
+    void evictsAndToleratesRedisErrors() throws InterruptedException {
+        ChatAnswerCache lru = cache(2, 60_000);
+        lru.put("공고", "질문1", MISS, "답1", 0);
+        lru.put("공고", "질문2", MISS, "답2", 0);
+        lru.get("공고", "질문1");            // 질문1 을 최근 사용으로
+        lru.put("공고", "질문3", MISS, "답3", 0);  // 가장 오래된 질문2 제거
+        assertThat(lru.getStats().getLocalEntryCount()).isEqualTo(2);
+        assertThat(lru.get("공고", "질문2").hit()).isFalse();
+        assertThat(lru.get("공고", "질문1").answer()).isEqualTo("답1");
+
+        ChatAnswerCache shortLived = cache(10, 1);
+        shortLived.put("공고", "질문", MISS, "답", 0);
+        Thread.sleep(5);
+        awaitRedisSaves(4);
+        when(chatAnswerStore.get("공고", "질문")).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(shortLived.get("공고", "질문").hit()).isFalse();
+        assertThat(shortLived.getStats().getRedisErrorCount()).isEqualTo(1);
+        assertThat(shortLived.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공고 수정/삭제와 다른 인스턴스의 무효화 메시지는 그 제목의 답변만 비운다")
+    void invalidatesByTitle() {
+        ChatAnswerCache cache = cache(10, 60_000);
+        cache.put("공고 A", "질문", MISS, "답 A", 0);
+        cache.put("공고 B", "질문", MISS, "답 B", 0);
+        cache.put("공고 C", "질문", MISS, "답 C", 0);
+
+        cache.onNoticeChanged(new NoticeChangedEvent(1L, NoticeChangedEvent.ChangeType.UPDATED, "공고 A"));
+        cache.onNoticeChanged(new NoticeChangedEvent(2L, NoticeChangedEvent.ChangeType.SUMMARY_UPDATED, "공고 B"));
+        cache.onMessage(new DefaultMessage("chat".getBytes(StandardCharsets.UTF_8),
+                "공고 C".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(cache.get("공고 A", "질문").hit()).isFalse();
+        assertThat(cache.get("공고 B", "질문").answer()).isEqualTo("답 B");
+        assertThat(cache.get("공고 C", "질문").hit()).isFalse();
+        verify(chatAnswerStore).deleteTitle("공고 A");
+        verify(chatAnswerStore, never()).deleteTitle("공고 B");
+    }
+
+    @Test
+    @DisplayName("조회 이후 무효화가 있었으면 그 조회로 받은 답변은 로컬에도 Redis 에도 저장하지 않는다")
+    void skipsSaveAfterInvalidation() {
+        // given
+        ChatAnswerCache cache = cache(10, 60_000);
+        ChatAnswerCache.Lookup lookup = cache.get("공고", "질문");
+
+        // when
+        cache.invalidateTitle("공고");
+        cache.put("공고", "질문", lookup, "수정 전 공고 기준 답", 0);
+
+        // then
+        assertThat(cache.get("공고", "질문").hit()).isFalse();
+        verify(chatAnswerStore, never()).save(anyString(), anyString(), anyString(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 조회 세대를 그대로 저장에 넘기고, 세대를 모르면(Redis 오류) 로컬에만 둔다")
+    void passesLookupGenerationToStore() {
+        // given
+        ChatAnswerCache cache = cache(10, 60_000);
+        when(chatAnswerStore.get("공고", "질문")).thenReturn(new ChatAnswerStore.Lookup(null, 7L));
+        when(chatAnswerStore.get("공고", "다른질문")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        cache.put("공고", "질문", cache.get("공고", "질문"), "답", 0);
+        cache.put("공고", "다른 질문", cache.get("공고", "다른 질문"), "답 2", 0);
+
+        // then
+        verify(chatAnswerStore, timeout(1_000)).save("공고", "질문", "답", Duration.ofMillis(60_000), 100, 7L);
+        assertThat(cache.get("공고", "다른 질문").answer()).isEqualTo("답 2");
+        verify(chatAnswerStore, never()).save(anyString(), eq("다른질문"), anyString(), any(), anyLong(), anyLong());
+    }
+
+    // put 의 Redis 저장은 다른 스레드에서 돈다. 그 호출이 when(...) 스텁 도중에 끼어들면 Mockito 가 스텁 대상을 혼동하므로 먼저 끝나길 기다린다
+    private void awaitRedisSaves(int count) {
+        verify(chatAnswerStore, timeout(1_000).times(count)).save(anyString(), anyString(), anyString(), any(), anyLong(), anyLong());
+    }
+
+    private ChatAnswerCache cache(int localMaxEntries, long localTtlMs) {
+        return new ChatAnswerCache(chatAnswerStore, mock(RedisMessageListenerContainer.class),
+                localMaxEntries, localTtlMs, 60_000, 100);
+    }
+}
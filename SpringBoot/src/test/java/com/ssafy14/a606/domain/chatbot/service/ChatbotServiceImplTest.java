@@ -0,0 +1,117 @@
+package com.ssafy14.a606.domain.chatbot.service;
+
+import com.ssafy14.a606.domain.chatbot.batch.ChatMicroBatcher;
+import com.ssafy14.a606.domain.chatbot.cache.ChatAnswerCache;
+import com.ssafy14.a606.domain.chatbot.dto.request.ChatbotRequestDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatStreamChunkDto;
+import com.ssafy14.a606.domain.chatbot.dto.response.ChatbotResponseDto;
+import com.ssafy14.a606.global.fastapi.AdmissionLimiter;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatbotServiceImplTest {
+
+    private FastApiClient fastApiClient;
+    private ChatAnswerCache chatAnswerCache;
+    private ChatMicroBatcher chatMicroBatcher;
+    private ChatbotServiceImpl chatbotService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        fastApiClient = mock(FastApiClient.class);
+        chatAnswerCache = mock(ChatAnswerCache.class);
+        chatMicroBatcher = mock(ChatMicroBatcher.class);
+        AdmissionLimiter admissionLimiter = mock(AdmissionLimiter.class);
+        when(admissionLimiter.admit(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<?>>) invocation.getArgument(1)).get());
+        when(admissionLimiter.admitMany(any(), any()))
+                .thenAnswer(invocation -> Flux.from(((Supplier<Publisher<?>>) invocation.getArgument(1)).get()));
+        when(chatAnswerCache.get(anyString(), anyString())).thenReturn(new ChatAnswerCache.Lookup(null, 0L, 0L));
+
+        chatbotService = new ChatbotServiceImpl(fastApiClient, chatAnswerCache, chatMicroBatcher,
+                admissionLimiter, 30_000, 100);
+    }
+
+    @Test
+    @DisplayName("배치 항목이 error=true 로 오면 fallback 문구로 답하고 캐시에 넣지 않는다")
+    void doesNotCacheBatchItemError() {
+        // given
+        ChatbotResponseDto failed = new ChatbotResponseDto("죄송합니다. 현재 데이터베이스에 연결할 수 없어 답변을 드릴 수 없습니다.");
+        ReflectionTestUtils.setField(failed, "error", true);
+        when(chatMicroBatcher.isEnabled()).thenReturn(true);
+        when(chatMicroBatcher.submit(any())).thenReturn(Mono.just(failed));
+
+        // when
+        ChatbotResponseDto response = chatbotService.getResponse(request()).block();
+
+        // then
+        assertThat(response.getMessage()).startsWith("지금은 상담 요청이 많아");
+        verify(chatAnswerCache, never()).put(anyString(), anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("스트림은 error 이벤트가 있거나 done 없이 끝나면 캐시하지 않고, 정상 완료만 캐시한다")
+    void cachesOnlyCompletedStream() {
+        // given
+        when(fastApiClient.<ChatStreamChunkDto>stream(eq(FastApiEndpoint.CHAT_STREAM), any(), any()))
+                .thenReturn(Flux.just(event("error", "답변 생성 중 오류가 발생했습니다.")))
+                .thenReturn(Flux.just(event("delta", "모집 ")))
+                .thenReturn(Flux.just(event("delta", "모집 "), event("delta", "일정"), event("done", null)));
+
+        // when
+        chatbotService.streamResponse(request()).blockLast();
+        chatbotService.streamResponse(request()).blockLast();
+        verify(chatAnswerCache, never()).put(anyString(), anyString(), any(), anyString(), anyLong());
+        chatbotService.streamResponse(request()).blockLast();
+
+        // then
+        verify(chatAnswerCache).put(eq("행복주택"), eq("모집 일정은?"), any(), eq("모집 일정"), anyLong());
+    }
+
+    @Test
+    @DisplayName("FastAPI 의 error 필드는 읽기만 하고 클라이언트 응답으로는 내보내지 않는다")
+    void readsErrorFlagWithoutExposingIt() {
+        // given
+        JsonMapper mapper = JsonMapper.builder().build();
+
+        // when
+        ChatbotResponseDto response = mapper.readValue("{\"message\":\"오류\",\"error\":true}", ChatbotResponseDto.class);
+
+        // then
+        assertThat(response.isError()).isTrue();
+        assertThat(mapper.writeValueAsString(response)).isEqualTo("{\"message\":\"오류\"}");
+    }
+
+    private static ChatbotRequestDto request() {
+        return new ChatbotRequestDto("모집 일정은?", "행복주택");
+    }
+
+    private static ServerSentEvent<ChatStreamChunkDto> event(String name, String text) {
+        return ServerSentEvent.<ChatStreamChunkDto>builder()
+                .event(name)
+                .data(new ChatStreamChunkDto(text))
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy14.a606.domain.chatbot.store;
+
+import com.ssafy14.a606.global.config.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SAVE / INVALIDATE 스크립트 검증 (실제 Redis 필요, 없으면 건너뜀)
+ */
+class ChatAnswerStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private StringRedisTemplate redisTemplate;
+    private ChatAnswerStore store;
+    private String title;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = LocalRedis.connectOrSkip();
+        store = new ChatAnswerStore(redisTemplate);
+        title = "공고-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            redisTemplate.delete("chat:answer:" + title);
+            redisTemplate.delete("chat:answer-gen:" + title);
+            LocalRedis.close(redisTemplate);
+        }
+    }
+
+    @Test
+    @DisplayName("조회 이후 무효화가 있었으면 그 조회 세대로는 저장하지 않는다")
+    void rejectsSaveFromBeforeInvalidation() {
+        // given
+        ChatAnswerStore.Lookup before = store.get(title, "질문");
+
+        // when
+        store.deleteTitle(title);
+        boolean stale = store.save(title, "질문", "수정 전 답", TTL, 10, before.generation());
+        ChatAnswerStore.Lookup after = store.get(title, "질문");
+        boolean fresh = store.save(title, "질문", "수정 후 답", TTL, 10, after.generation());
+
+        // then
+        assertThat(before.generation()).isZero();
+        assertThat(stale).isFalse();
+        assertThat(after.answer()).isNull();
+        assertThat(after.generation()).isEqualTo(1);
+        assertThat(fresh).isTrue();
+        assertThat(store.get(title, "질문").answer()).isEqualTo("수정 후 답");
+        assertThat(redisTemplate.getExpire("chat:answer:" + title)).isPositive();
+    }
+
+    @Test
+    @DisplayName("제목당 질문 수 한도에 닿으면 새 질문은 저장하지 않고 기존 질문은 갱신한다")
+    void capsEntriesPerTitle() {
+        // when
+        store.save(title, "질문1", "답1", TTL, 2, 0);
+        store.save(title, "질문2", "답2", TTL, 2, 0);
+        boolean third = store.save(title, "질문3", "답3", TTL, 2, 0);
+        boolean overwrite = store.save(title, "질문1", "새 답1", TTL, 2, 0);
+
+        // then
+        assertThat(third).isFalse();
+        assertThat(overwrite).isTrue();
+        assertThat(store.get(title, "질문1").answer()).isEqualTo("새 답1");
+        assertThat(store.get(title, "질문3").answer()).isNull();
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy14.a606.domain.chatbot.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatQuestionNormalizerTest {
+
+    @Test
+    @DisplayName("공백/문장부호/기호/전각 문자/대소문자만 다른 질문은 같은 키")
+    void ignoresFormatting() {
+        String key = ChatQuestionNormalizer.normalize("청약 자격이 뭔가요?");
+
+        assertThat(key).isEqualTo("청약자격이뭔가요");
+        assertThat(ChatQuestionNormalizer.normalize("  청약자격이   뭔가요!! ~")).isEqualTo(key);
+        assertThat(ChatQuestionNormalizer.normalize("ＬＨ 임대 Ｏｋ?")).isEqualTo("lh임대ok");
+        assertThat(ChatQuestionNormalizer.normalize("청약 자격이 뭔가요? 소득은요?")).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("null 이나 문장부호뿐인 질문은 빈 키 (캐시하지 않음)")
+    void emptyKey() {
+        assertThat(ChatQuestionNormalizer.normalize(null)).isEmpty();
+        assertThat(ChatQuestionNormalizer.normalize(" ?! … ")).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy14.a606.domain.email.store;
+
+import com.ssafy14.a606.domain.email.store.EmailVerificationStore.VerifyResult;
+import com.ssafy14.a606.global.config.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ISSUE / VERIFY / CONSUME 스크립트 검증 (실제 Redis 필요, 없으면 건너뜀)
+ */
+class EmailVerificationStoreTest {
+
+    private static final Duration COOLDOWN = Duration.ofSeconds(60);
+    private static final Duration CODE_TTL = Duration.ofMinutes(5);
+    private static final Duration VERIFIED_TTL = Duration.ofMinutes(30);
+
+    private StringRedisTemplate redisTemplate;
+    private EmailVerificationStore store;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = LocalRedis.connectOrSkip();
+        store = new EmailVerificationStore(redisTemplate);
+        email = UUID.randomUUID() + "@test.local";
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            redisTemplate.delete("email:verify:" + email);
+            LocalRedis.close(redisTemplate);
+        }
+    }
+
+    @Test
+    @DisplayName("쿨다운 중 재발송은 남은 시간을 돌려주고 기존 코드를 유지한다")
+    void issueRespectsCooldown() {
+        assertThat(store.issueCode(email, "111111", COOLDOWN, CODE_TTL)).isZero();
+
+        long remainingMs = store.issueCode(email, "222222", COOLDOWN, CODE_TTL);
+
+        assertThat(remainingMs).isBetween(1L, COOLDOWN.toMillis());
+        assertThat(store.verify(email, "111111", 5, VERIFIED_TTL)).isEqualTo(VerifyResult.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("틀린 코드는 시도 횟수를 올리고, 한도에 닿으면 맞는 코드도 거절한다")
+    void verifyCountsAttempts() {
+        store.issueCode(email, "111111", COOLDOWN, CODE_TTL);
+
+        assertThat(store.verify(email, "000000", 2, VERIFIED_TTL)).isEqualTo(VerifyResult.MISMATCH);
+        assertThat(store.verify(email, "000000", 2, VERIFIED_TTL)).isEqualTo(VerifyResult.MISMATCH);
+        assertThat(store.verify(email, "111111", 2, VERIFIED_TTL)).isEqualTo(VerifyResult.TOO_MANY_ATTEMPTS);
+        assertThat(store.isVerified(email)).isFalse();
+    }
+
+    @Test
+    @DisplayName("코드가 없으면 만료, 인증 후에는 다시 검증해도 인증 완료")
+    void verifyMarksVerified() {
+        assertThat(store.verify(email, "111111", 5, VERIFIED_TTL)).isEqualTo(VerifyResult.EXPIRED);
+
+        store.issueCode(email, "111111", COOLDOWN, CODE_TTL);
+        assertThat(store.verify(email, "111111", 5, VERIFIED_TTL)).isEqualTo(VerifyResult.VERIFIED);
+        assertThat(store.verify(email, "999999", 5, VERIFIED_TTL)).isEqualTo(VerifyResult.VERIFIED);
+        assertThat(redisTemplate.getExpire("email:verify:" + email)).isGreaterThan(CODE_TTL.toSeconds());
+    }
+
+    @Test
+    @DisplayName("확인은 상태를 지우지 않고, 소비는 인증 완료 상태일 때 한 번만 성공한다")
+    void consumeOnlyOnce() {
+        store.issueCode(email, "111111", COOLDOWN, CODE_TTL);
+        assertThat(store.consumeVerified(email)).isFalse();
+
+        store.verify(email, "111111", 5, VERIFIED_TTL);
+        assertThat(store.isVerified(email)).isTrue();
+        assertThat(store.isVerified(email)).isTrue();
+
+        assertThat(store.consumeVerified(email)).isTrue();
+        assertThat(store.consumeVerified(email)).isFalse();
+        assertThat(store.isVerified(email)).isFalse();
+    }
+}
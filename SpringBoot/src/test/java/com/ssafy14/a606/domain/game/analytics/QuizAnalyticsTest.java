@@ -0,0 +1,153 @@
+package com.ssafy14.a606.domain.game.analytics;
+
+import com.ssafy14.a606.domain.game.bank.QuizAnswerKey;
+import com.ssafy14.a606.domain.game.bank.QuizBank;
+import com.ssafy14.a606.domain.game.repository.QuizOptionStatRepository;
+import com.ssafy14.a606.domain.game.repository.QuizQuestionStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuizAnalyticsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private QuizAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        QuizQuestionStatRepository questionStatRepository = mock(QuizQuestionStatRepository.class);
+        QuizOptionStatRepository optionStatRepository = mock(QuizOptionStatRepository.class);
+        when(questionStatRepository.findAll()).thenReturn(List.of());
+        when(optionStatRepository.findAll()).thenReturn(List.of());
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        analytics = new QuizAnalytics(mock(QuizBank.class), questionStatRepository, optionStatRepository,
+                jdbcTemplate, transactionTemplate, new QuizAnalyticsProperties(60_000, true, 0.6, 5, 0.2));
+    }
+
+    @Test
+    @DisplayName("flush 는 쌓인 증분을 한 번만 보내고, 보낸 값은 누적값으로 옮긴다")
+    void flushDrainsPendingCounters() {
+        // given: 1번 문제에 3번 응답 (정답 2)
+        record(1L, 11L, true);
+        record(1L, 11L, true);
+        record(1L, 12L, false);
+
+        // when
+        analytics.flush();
+        analytics.flush();
+
+        // then: 두 번째 flush 는 보낼 증분이 없다
+        List<List<Object[]>> batches = captureBatches(2);
+        assertThat(batches.get(0)).singleElement()
+                .satisfies(row -> assertThat(Arrays.asList(row).subList(0, 3)).containsExactly(1L, 3L, 2L));
+        assertThat(batches.get(1)).extracting(row -> row[0], row -> row[2])
+                .containsExactlyInAnyOrder(tuple(11L, 2L),
+                        tuple(12L, 1L));
+
+        QuizQuestionCounters counter = counters().get(1L);
+        assertThat(counter.pendingAttempts.sum()).isZero();
+        assertThat(counter.attempts()).isEqualTo(3);
+        assertThat(counter.correct()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 떼어낸 증분을 되돌리고 다음 flush 에서 다시 보낸다")
+    void restoresPendingOnFailure() {
+        // given
+        record(1L, 11L, true);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[]{1});
+
+        // when
+        assertThatThrownBy(() -> analytics.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+
+        // then: 조회 값은 그대로, 증분은 다시 pending 으로
+        QuizQuestionCounters counter = counters().get(1L);
+        assertThat(counter.attempts()).isEqualTo(1);
+        assertThat(counter.flushedAttempts).isZero();
+        assertThat(counter.pendingAttempts.sum()).isEqualTo(1);
+        assertThat(counter.option(11L).pendingPicks.sum()).isEqualTo(1);
+
+        analytics.flush();
+        List<List<Object[]>> batches = captureBatches(3);
+        assertThat(batches.get(1)).singleElement()
+                .satisfies(row -> assertThat(Arrays.asList(row).subList(0, 3)).containsExactly(1L, 1L, 1L));
+        assertThat(counter.pendingAttempts.sum()).isZero();
+        assertThat(counter.attempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가중치: 목표 정답률(0.6)이면 1, 멀어질수록 낮아지고 min-weight 아래로는 내려가지 않는다")
+    void weightsFollowSmoothedAccuracy() {
+        // given
+        recordMany(1L, 10, 6);     // (6 + 5*0.6) / (10 + 5) = 0.6
+        recordMany(2L, 20, 20);    // (20 + 3) / 25 = 0.92 → 1 - 0.32 / 0.6
+        recordMany(3L, 100, 0);    // 3 / 105 → 1 - 0.571 / 0.6 < 0.2
+        recordMany(4L, 1, 1);      // 응답이 적으면 평활로 목표 근처: 4 / 6
+
+        // when
+        analytics.flush();
+
+        // then
+        assertThat(analytics.weightOf(1L)).isCloseTo(1.0, within(1e-9));
+        assertThat(analytics.weightOf(2L)).isCloseTo(1 - 0.32 / 0.6, within(1e-9));
+        assertThat(analytics.weightOf(3L)).isEqualTo(0.2);
+        assertThat(analytics.weightOf(4L)).isCloseTo(1 - (4.0 / 6 - 0.6) / 0.6, within(1e-9));
+        assertThat(analytics.weightOf(99L)).isEqualTo(1.0);
+    }
+
+    private void record(Long questionId, Long optionId, boolean correct) {
+        analytics.record(optionId, new QuizAnswerKey(questionId, correct, "정답", null));
+    }
+
+    private void recordMany(Long questionId, int attempts, int correct) {
+        for (int i = 0; i < attempts; i++) {
+            record(questionId, questionId * 10, i < correct);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, QuizQuestionCounters> counters() {
+        return (Map<Long, QuizQuestionCounters>) ReflectionTestUtils.getField(analytics, "counters");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> captureBatches(int count) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(count)).batchUpdate(anyString(), rows.capture());
+        return rows.getAllValues();
+    }
+}
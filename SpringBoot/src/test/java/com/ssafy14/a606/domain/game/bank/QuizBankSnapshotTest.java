@@ -0,0 +1,78 @@
+package com.ssafy14.a606.domain.game.bank;
+
+import com.ssafy14.a606.domain.game.dto.response.QuizQuestionResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizBankSnapshotTest {
+
+    @Test
+    @DisplayName("중복 없이 요청한 수만큼 뽑고, 모든 문제가 고르게 뽑힌다")
+    void samplesDistinctQuestionsUniformly() {
+        QuizBankSnapshot snapshot = snapshotOf(50);
+        int[] picked = new int[50];
+
+        for (int round = 0; round < 20_000; round++) {
+            List<QuizQuestionResponse> sample = snapshot.sample(10);
+            Set<Long> ids = new HashSet<>();
+            for (QuizQuestionResponse question : sample) {
+                ids.add(question.getQuestionId());
+                picked[question.getQuestionId().intValue()]++;
+            }
+            assertThat(ids).hasSize(10);
+        }
+
+        // 기대값 20_000 * 10 / 50 = 4000
+        for (int count : picked) {
+            assertThat(count).isBetween(3600, 4400);
+        }
+    }
+
+    @Test
+    @DisplayName("문제 수가 요청보다 적으면 전부 반환한다")
+    void returnsAllWhenBankIsSmall() {
+        assertThat(snapshotOf(3).sample(10)).hasSize(3);
+        assertThat(snapshotOf(0).sample(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가중 추출은 중복 없이 가중치에 비례해서 뽑고, 가중치 0 인 문제는 뽑지 않는다")
+    void weightedSampleFollowsWeights() {
+        QuizBankSnapshot snapshot = snapshotOf(20);
+        // 0~9 는 가중치 1, 10~18 은 0.25, 19 는 0
+        int[] picked = new int[20];
+
+        for (int round = 0; round < 20_000; round++) {
+            List<QuizQuestionResponse> sample = snapshot.sampleWeighted(1, id -> id < 10 ? 1.0 : id < 19 ? 0.25 : 0);
+            picked[sample.get(0).getQuestionId().intValue()]++;
+        }
+        Set<Long> ids = new HashSet<>();
+        snapshot.sampleWeighted(10, id -> 1.0).forEach(q -> ids.add(q.getQuestionId()));
+
+        // 한 문제만 뽑으면 확률 = w / Σw = 1 / 12.25, 0.25 / 12.25
+        assertThat(ids).hasSize(10);
+        assertThat(picked[19]).isZero();
+        for (int i = 0; i < 10; i++) {
+            assertThat(picked[i]).isBetween(1450, 1820);   // 기대값 약 1633
+        }
+        for (int i = 10; i < 19; i++) {
+            assertThat(picked[i]).isBetween(320, 500);     // 기대값 약 408
+        }
+    }
+
+    private static QuizBankSnapshot snapshotOf(int size) {
+        List<QuizQuestionResponse> questions = LongStream.range(0, size)
+                .mapToObj(id -> new QuizQuestionResponse(id, "Q" + id, List.of()))
+                .toList();
+        return new QuizBankSnapshot(questions, Map.of(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,39 @@
+package com.ssafy14.a606.domain.game.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardPeriodTest {
+
+    @Test
+    @DisplayName("주간 키는 ISO 주 기준 (연말 연초가 같은 주면 같은 키)")
+    void weeklyKeyFollowsIsoWeek() {
+        // 2026-01-01(목)은 2026-W01, 2025-12-29(월)도 같은 주
+        assertThat(LeaderboardPeriod.WEEKLY.key(LocalDate.of(2025, 12, 29)))
+                .isEqualTo(LeaderboardPeriod.WEEKLY.key(LocalDate.of(2026, 1, 1)))
+                .isEqualTo("quiz:lb:weekly:2026-W01");
+        assertThat(LeaderboardPeriod.DAILY.key(LocalDate.of(2026, 10, 18))).isEqualTo("quiz:lb:daily:20261018");
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 빨리 끝낸 기록의 score 가 더 크고, 점수/소요 시간으로 다시 풀린다")
+    void compositeScoreRoundTrips() {
+        double fastSeven = QuizLeaderboard.composite(7, 42);
+        double slowSeven = QuizLeaderboard.composite(7, 300);
+        double slowEight = QuizLeaderboard.composite(8, 9_999);
+
+        assertThat(fastSeven).isGreaterThan(slowSeven);
+        assertThat(slowEight).isGreaterThan(fastSeven);
+        assertThat(QuizLeaderboard.points(fastSeven)).isEqualTo(7);
+        assertThat(QuizLeaderboard.elapsedSeconds(fastSeven)).isEqualTo(42);
+        assertThat(QuizLeaderboard.points(slowEight)).isEqualTo(8);
+        assertThat(QuizLeaderboard.elapsedSeconds(slowEight)).isEqualTo(9_999);
+        // 범위를 벗어난 소요 시간은 스크립트와 같이 0~9999 로 자른다
+        assertThat(QuizLeaderboard.elapsedSeconds(QuizLeaderboard.composite(3, 20_000))).isEqualTo(9_999);
+        assertThat(QuizLeaderboard.elapsedSeconds(QuizLeaderboard.composite(3, -5))).isZero();
+    }
+}
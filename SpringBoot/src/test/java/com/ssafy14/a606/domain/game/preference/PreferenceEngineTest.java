@@ -0,0 +1,63 @@
+package com.ssafy14.a606.domain.game.preference;
+
+import com.ssafy14.a606.domain.game.dto.request.PreferenceAnswerRequest;
+import com.ssafy14.a606.domain.game.dto.request.PreferenceResultRequest;
+import com.ssafy14.a606.domain.game.enums.PreferenceOption;
+import com.ssafy14.a606.domain.game.enums.PreferenceQuestionKey;
+import com.ssafy14.a606.domain.game.enums.PreferenceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreferenceEngineTest {
+
+    private final int[] scores = new int[PreferenceType.values().length];
+
+    @Test
+    @DisplayName("기본 가중치는 기존 규칙과 같다 (최고점 단독이면 그 성향, 동점이면 BALANCE_SEEKER)")
+    void defaultWeightsMatchLegacyRules() {
+        PreferenceWeightMatrix matrix = PreferenceWeightMatrix.defaults();
+
+        // 안정 2+2+2+1 = 7, 입지 1
+        assertThat(PreferenceEngine.evaluate(matrix, request(
+                "COMMUTE_TIME", "WITHIN_30_MIN", "LOAN_ATTITUDE", "AVOID_LOAN",
+                "STAY_DURATION", "LONG_TERM", "RELOCATION_FLEX", "AVOID_MOVE"), scores))
+                .isEqualTo(PreferenceType.STABLE_SEEKER);
+
+        // 비용 3, 기회 2+1 = 3 → 동점
+        assertThat(PreferenceEngine.evaluate(matrix, request(
+                "HOUSING_COST", "MINIMIZE_COST", "LOAN_ATTITUDE", "ACTIVE_LOAN",
+                "SACRIFICE_PRIORITY", "SACRIFICE_COST"), scores))
+                .isEqualTo(PreferenceType.BALANCE_SEEKER);
+
+        // 응답이 없으면 모두 0 → 동점
+        assertThat(PreferenceEngine.evaluate(matrix, request(), scores)).isEqualTo(PreferenceType.BALANCE_SEEKER);
+    }
+
+    @Test
+    @DisplayName("가중치를 덮어쓰면 같은 응답의 결과가 바뀐다")
+    void overrideChangesResult() {
+        PreferenceResultRequest request = request(
+                "HOUSING_COST", "MINIMIZE_COST", "LOAN_ATTITUDE", "ACTIVE_LOAN",
+                "SACRIFICE_PRIORITY", "SACRIFICE_COST");
+
+        PreferenceWeightMatrix matrix = PreferenceWeightMatrix.builder()
+                .set(PreferenceQuestionKey.HOUSING_COST, PreferenceOption.MINIMIZE_COST, PreferenceType.COST_CONSERVATIVE, 5)
+                .build();
+
+        assertThat(matrix.getOverrides()).isEqualTo(1);
+        assertThat(PreferenceEngine.evaluate(matrix, request, scores)).isEqualTo(PreferenceType.COST_CONSERVATIVE);
+    }
+
+    private static PreferenceResultRequest request(String... pairs) {
+        List<PreferenceAnswerRequest> answers = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            answers.add(new PreferenceAnswerRequest(pairs[i], pairs[i + 1]));
+        }
+        return new PreferenceResultRequest(answers);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ssafy14.a606.domain.game.service;
+
+import com.ssafy14.a606.domain.game.analytics.QuizAnalytics;
+import com.ssafy14.a606.domain.game.analytics.QuizQuestionSelector;
+import com.ssafy14.a606.domain.game.bank.QuizAnswerKey;
+import com.ssafy14.a606.domain.game.bank.QuizBank;
+import com.ssafy14.a606.domain.game.dto.request.QuizAnswerRequest;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardEntryResponse;
+import com.ssafy14.a606.domain.game.dto.response.LeaderboardPageResponse;
+import com.ssafy14.a606.domain.game.leaderboard.LeaderboardPeriod;
+import com.ssafy14.a606.domain.game.leaderboard.QuizLeaderboard;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore.AnswerResult;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore.FinishResult;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore.Status;
+import com.ssafy14.a606.domain.user.entity.User;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import com.ssafy14.a606.global.exceptions.AuthorizationException;
+import com.ssafy14.a606.global.exceptions.DuplicateValueException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuizSessionServiceTest {
+
+    private static final QuizAnswerKey CORRECT = new QuizAnswerKey(1L, true, "정답", "해설");
+
+    private QuizBank quizBank;
+    private QuizAnalytics quizAnalytics;
+    private QuizSessionStore sessionStore;
+    private QuizLeaderboard leaderboard;
+    private UserRepository userRepository;
+    private QuizSessionService service;
+
+    @BeforeEach
+    void setUp() {
+        quizBank = mock(QuizBank.class);
+        quizAnalytics = mock(QuizAnalytics.class);
+        sessionStore = mock(QuizSessionStore.class);
+        leaderboard = mock(QuizLeaderboard.class);
+        userRepository = mock(UserRepository.class);
+        service = new QuizSessionService(quizBank, mock(QuizQuestionSelector.class), quizAnalytics,
+                sessionStore, leaderboard, userRepository, 1_800_000, 300_000);
+
+        when(quizBank.answerOf(10L)).thenReturn(Optional.of(CORRECT));
+    }
+
+    @Test
+    @DisplayName("받아들인 응답만 통계에 남기고, 중복 응답은 409 로 거절한다")
+    void duplicateAnswerIsNotRecorded() {
+        // given
+        when(sessionStore.answer("s1", "42", 1L, true))
+                .thenReturn(new AnswerResult(Status.OK, 1, 1, 10))
+                .thenReturn(new AnswerResult(Status.ALREADY_ANSWERED, 0, 0, 0));
+
+        // when
+        assertThat(service.answer("s1", 42L, answer(1L, 10L)).getScore()).isEqualTo(1);
+
+        // then
+        assertThatThrownBy(() -> service.answer("s1", 42L, answer(1L, 10L)))
+                .isInstanceOf(DuplicateValueException.class);
+        verify(quizAnalytics).record(10L, CORRECT);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 세션에 응답하면 403, 통계에도 남지 않는다")
+    void foreignSessionIsRejected() {
+        // given
+        when(sessionStore.answer("s1", "", 1L, true)).thenReturn(new AnswerResult(Status.NOT_OWNER, 0, 0, 0));
+
+        // when & then
+        assertThatThrownBy(() -> service.answer("s1", null, answer(1L, 10L)))
+                .isInstanceOf(AuthorizationException.class);
+        verify(quizAnalytics, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 종료된 세션을 다시 종료하면 409")
+    void doubleFinishIsRejected() {
+        // given
+        when(sessionStore.finish(eq("s1"), eq("42"), any(), anyList(), anyList()))
+                .thenReturn(new FinishResult(Status.OK, 7, 10, 10, 42))
+                .thenReturn(new FinishResult(Status.FINISHED, 0, 0, 0, 0));
+
+        // when
+        assertThat(service.finish("s1", 42L).getScore()).isEqualTo(7);
+
+        // then
+        assertThatThrownBy(() -> service.finish("s1", 42L)).isInstanceOf(DuplicateValueException.class);
+    }
+
+    @Test
+    @DisplayName("리더보드 이름은 가운데를 가리고, 점수/소요 시간은 score 에서 풀어낸다")
+    void leaderboardMasksNames() {
+        // given
+        when(leaderboard.top(eq(LeaderboardPeriod.DAILY), any(), eq(0), anyInt())).thenReturn(List.of(
+                new QuizLeaderboard.Ranked(1, 1L, QuizLeaderboard.composite(9, 30)),
+                new QuizLeaderboard.Ranked(2, 2L, QuizLeaderboard.composite(8, 45))));
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getUserName()).thenReturn("홍길동");
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(user));
+
+        // when
+        LeaderboardPageResponse page = service.getLeaderboard("daily", 0, 10);
+
+        // then
+        assertThat(page.getEntries()).extracting(LeaderboardEntryResponse::getUserName)
+                .containsExactly("홍*동", "알 수 없음");
+        assertThat(page.getEntries().get(0).getScore()).isEqualTo(9);
+        assertThat(page.getEntries().get(0).getElapsedSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("이름 마스킹: 한 글자는 그대로, 두 글자는 끝을, 그 이상은 가운데를 가린다")
+    void maskName() {
+        assertThat(QuizSessionService.maskName("김")).isEqualTo("김");
+        assertThat(QuizSessionService.maskName("김철")).isEqualTo("김*");
+        assertThat(QuizSessionService.maskName("남궁민수")).isEqualTo("남**수");
+        assertThat(QuizSessionService.maskName(" ")).isEqualTo("알 수 없음");
+        assertThat(QuizSessionService.maskName(null)).isEqualTo("알 수 없음");
+    }
+
+    private static QuizAnswerRequest answer(Long questionId, Long optionId) {
+        QuizAnswerRequest request = BeanUtils.instantiateClass(QuizAnswerRequest.class);
+        ReflectionTestUtils.setField(request, "questionId", questionId);
+        ReflectionTestUtils.setField(request, "selectedOptionId", optionId);
+        return request;
+    }
+}
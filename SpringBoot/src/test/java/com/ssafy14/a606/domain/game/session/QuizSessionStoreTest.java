@@ -0,0 +1,119 @@
+package com.ssafy14.a606.domain.game.session;
+
+import com.ssafy14.a606.domain.game.leaderboard.QuizLeaderboard;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore.AnswerResult;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore.FinishResult;
+import com.ssafy14.a606.domain.game.session.QuizSessionStore.Status;
+import com.ssafy14.a606.global.config.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * START / ANSWER / FINISH 스크립트 검증 (실제 Redis 필요, 없으면 건너뜀)
+ */
+class QuizSessionStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final String OWNER = "42";
+
+    private StringRedisTemplate redisTemplate;
+    private QuizSessionStore store;
+    private String leaderboardKey;
+    private final List<String> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = LocalRedis.connectOrSkip();
+        store = new QuizSessionStore(redisTemplate);
+        leaderboardKey = "test:quiz:lb:" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            List<String> keys = new ArrayList<>(sessions.stream().map(id -> "quiz:session:" + id).toList());
+            keys.add(leaderboardKey);
+            redisTemplate.delete(keys);
+            LocalRedis.close(redisTemplate);
+        }
+    }
+
+    @Test
+    @DisplayName("출제한 문제만 한 번씩 채점하고, 다른 사용자의 응답은 거절한다")
+    void answerIsScoredOncePerServedQuestion() {
+        String sessionId = start(OWNER, List.of(1L, 2L));
+
+        AnswerResult first = store.answer(sessionId, OWNER, 1L, true);
+        assertThat(first).isEqualTo(new AnswerResult(Status.OK, 1, 1, 2));
+
+        assertThat(store.answer(sessionId, OWNER, 1L, true).status()).isEqualTo(Status.ALREADY_ANSWERED);
+        assertThat(store.answer(sessionId, "7", 2L, true).status()).isEqualTo(Status.NOT_OWNER);
+        assertThat(store.answer(sessionId, "", 2L, true).status()).isEqualTo(Status.NOT_OWNER);
+        assertThat(store.answer(sessionId, OWNER, 3L, true).status()).isEqualTo(Status.NOT_IN_SESSION);
+        assertThat(store.answer("missing-" + UUID.randomUUID(), OWNER, 1L, true).status()).isEqualTo(Status.NOT_FOUND);
+
+        // 거절된 응답은 점수/응답 수를 바꾸지 않는다
+        assertThat(store.answer(sessionId, OWNER, 2L, false)).isEqualTo(new AnswerResult(Status.OK, 1, 2, 2));
+    }
+
+    @Test
+    @DisplayName("종료는 한 번만, 종료 후 응답은 거절하고 리더보드에는 같은 인코딩으로 남긴다")
+    void finishOnlyOnce() {
+        String sessionId = start(OWNER, List.of(1L, 2L));
+        store.answer(sessionId, OWNER, 1L, true);
+
+        assertThat(store.finish(sessionId, "7", TTL, List.of(leaderboardKey), List.of(0L)).status())
+                .isEqualTo(Status.NOT_OWNER);
+
+        FinishResult result = store.finish(sessionId, OWNER, TTL, List.of(leaderboardKey), List.of(60L));
+        assertThat(result.status()).isEqualTo(Status.OK);
+        assertThat(result.score()).isEqualTo(1);
+        assertThat(result.answered()).isEqualTo(1);
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(redisTemplate.opsForZSet().score(leaderboardKey, OWNER))
+                .isEqualTo(QuizLeaderboard.composite(result.score(), result.elapsedSeconds()));
+        assertThat(redisTemplate.getExpire(leaderboardKey)).isBetween(1L, 60L);
+
+        assertThat(store.finish(sessionId, OWNER, TTL, List.of(leaderboardKey), List.of(60L)).status())
+                .isEqualTo(Status.FINISHED);
+        assertThat(store.answer(sessionId, OWNER, 2L, true).status()).isEqualTo(Status.FINISHED);
+    }
+
+    @Test
+    @DisplayName("리더보드에는 기간 내 최고 기록만 남고, 비로그인 세션은 남지 않는다")
+    void keepsBestRecordOnly() {
+        String best = start(OWNER, List.of(1L, 2L));
+        store.answer(best, OWNER, 1L, true);
+        store.answer(best, OWNER, 2L, true);
+        store.finish(best, OWNER, TTL, List.of(leaderboardKey), List.of(0L));
+        Double bestScore = redisTemplate.opsForZSet().score(leaderboardKey, OWNER);
+
+        String worse = start(OWNER, List.of(1L, 2L));
+        store.answer(worse, OWNER, 1L, false);
+        store.finish(worse, OWNER, TTL, List.of(leaderboardKey), List.of(0L));
+
+        String guest = start("", List.of(1L));
+        store.answer(guest, "", 1L, true);
+        assertThat(store.finish(guest, "", TTL, List.of(leaderboardKey), List.of(0L)).status()).isEqualTo(Status.OK);
+
+        assertThat(QuizLeaderboard.points(bestScore)).isEqualTo(2);
+        assertThat(redisTemplate.opsForZSet().score(leaderboardKey, OWNER)).isEqualTo(bestScore);
+        assertThat(redisTemplate.opsForZSet().zCard(leaderboardKey)).isEqualTo(1);
+    }
+
+    private String start(String owner, List<Long> questionIds) {
+        String sessionId = store.start(owner, questionIds, TTL);
+        sessions.add(sessionId);
+        return sessionId;
+    }
+}
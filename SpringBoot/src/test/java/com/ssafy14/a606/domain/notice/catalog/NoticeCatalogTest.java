@@ -0,0 +1,154 @@
+package com.ssafy14.a606.domain.notice.catalog;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.paging.NoticeCursor;
+import com.ssafy14.a606.domain.notice.paging.NoticeSortType;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeCatalogTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    private NoticeRepository noticeRepository;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository = mock(NoticeRepository.class);
+        // 등록일/마감일이 겹치는 공고 + 날짜가 없는 공고 (적재 쿼리처럼 id 역순)
+        when(noticeRepository.findCatalogPageBefore(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                new NoticeResponseDto(notice(5L, NoticeCategory.HAPPY_HOUSE, null, null)),
+                new NoticeResponseDto(notice(4L, NoticeCategory.HAPPY_HOUSE, BASE.plusMonths(2), BASE.plusDays(90))),
+                new NoticeResponseDto(notice(3L, NoticeCategory.YOUTH_RESIDENCE, BASE.plusMonths(1), BASE.plusDays(10))),
+                new NoticeResponseDto(notice(2L, NoticeCategory.HAPPY_HOUSE, BASE, BASE.plusDays(20))),
+                new NoticeResponseDto(notice(1L, NoticeCategory.HAPPY_HOUSE, BASE, BASE.plusDays(20)))));
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 읽으면 DB keyset 쿼리와 같은 순서로 빠짐없이 한 번씩 나온다")
+    void pagesLikeKeysetQuery() {
+        NoticeCatalog catalog = new NoticeCatalog(noticeRepository, Long.MAX_VALUE);
+        catalog.refresh();
+
+        assertThat(pageAll(catalog, null, null, NoticeSortType.REG_DATE)).containsExactly(4L, 3L, 2L, 1L, 5L);
+        assertThat(pageAll(catalog, null, null, NoticeSortType.END_DATE)).containsExactly(3L, 1L, 2L, 4L, 5L);
+
+        // 카테고리 + 마감 전 필터는 날짜가 없는 공고를 빼고 적용
+        assertThat(pageAll(catalog, NoticeCategory.HAPPY_HOUSE, BASE.plusDays(30), NoticeSortType.END_DATE))
+                .containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 목록과 없는 id 는 DB 로 넘기고, 완전한 스냅샷에 없는 id 는 바로 404 로 판단한다")
+    void fallsBackWhenIncomplete() {
+        NoticeCatalog partial = new NoticeCatalog(noticeRepository, 1000);
+        partial.refresh();
+
+        assertThat(partial.page(null, null, null, NoticeSortType.REG_DATE, null, 10)).isEmpty();
+        assertThat(partial.find(5L)).isPresent();
+        assertThat(partial.find(1L)).isEmpty();
+        assertThat(partial.getStats().isComplete()).isFalse();
+        assertThat(partial.getStats().getMissCount()).isEqualTo(2);
+
+        NoticeCatalog complete = new NoticeCatalog(noticeRepository, Long.MAX_VALUE);
+        complete.refresh();
+        assertThat(complete.find(5L)).isPresent();
+        assertThatThrownBy(() -> complete.find(99L)).isInstanceOf(InvalidValueException.class);
+    }
+
+    @Test
+    @DisplayName("공고 변경 이벤트는 그 공고 한 건만 다시 읽어 스냅샷에 반영한다")
+    void appliesSingleNoticeDelta() {
+        // given
+        NoticeCatalog catalog = new NoticeCatalog(noticeRepository, Long.MAX_VALUE);
+        catalog.refresh();
+        Notice moved = notice(3L, NoticeCategory.YOUTH_RESIDENCE, BASE.plusMonths(3), BASE.plusDays(100));
+        ReflectionTestUtils.setField(moved, "summary", "요약");
+        when(noticeRepository.findById(3L)).thenReturn(Optional.of(moved));
+        when(noticeRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        catalog.onNoticeChanged(new NoticeChangedEvent(3L, NoticeChangedEvent.ChangeType.UPDATED, "공고 3"));
+        catalog.onNoticeChanged(new NoticeChangedEvent(1L, NoticeChangedEvent.ChangeType.DELETED, "공고 1"));
+
+        // then
+        assertThat(pageAll(catalog, null, null, NoticeSortType.REG_DATE)).containsExactly(3L, 4L, 2L, 5L);
+        assertThat(pageAll(catalog, null, null, NoticeSortType.END_DATE)).containsExactly(2L, 4L, 3L, 5L);
+        assertThat(catalog.find(3L)).get().extracting(NoticeResponseDto::getSummary).isEqualTo("요약");
+        assertThatThrownBy(() -> catalog.find(1L)).isInstanceOf(InvalidValueException.class);
+        assertThat(catalog.getStats().getIncrementalUpdateCount()).isEqualTo(2);
+        verify(noticeRepository, times(1)).findCatalogPageBefore(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("한 건 반영으로 예산을 넘으면 그 공고는 담지 않고 목록 조회를 DB 로 넘긴다")
+    void deltaOverBudgetMarksIncomplete() {
+        // given
+        NoticeCatalog catalog = new NoticeCatalog(noticeRepository, 2_100);
+        catalog.refresh();
+        Notice grown = notice(2L, NoticeCategory.HAPPY_HOUSE, BASE, BASE.plusDays(20));
+        ReflectionTestUtils.setField(grown, "summary", "가".repeat(1_000));
+        when(noticeRepository.findById(2L)).thenReturn(Optional.of(grown));
+
+        // when
+        catalog.onNoticeChanged(new NoticeChangedEvent(2L, NoticeChangedEvent.ChangeType.SUMMARY_UPDATED, null));
+
+        // then
+        assertThat(catalog.getStats().isComplete()).isFalse();
+        assertThat(catalog.page(null, null, null, NoticeSortType.REG_DATE, null, 10)).isEmpty();
+        assertThat(catalog.find(2L)).isEmpty();
+        assertThat(catalog.find(1L)).isPresent();
+    }
+
+    // 서비스와 같은 방식으로 커서를 만들어 2 건씩 읽는다
+    private static List<Long> pageAll(NoticeCatalog catalog, NoticeCategory category, LocalDate openOn,
+                                      NoticeSortType sort) {
+        List<Long> ids = new ArrayList<>();
+        NoticeCursor cursor = null;
+        for (int pages = 0; pages < 10; pages++) {
+            List<NoticeListItemDto> page = catalog.page(category, openOn, null, sort, cursor, 2).orElseThrow();
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> ids.add(row.getId()));
+            NoticeListItemDto last = page.get(page.size() - 1);
+            cursor = new NoticeCursor(sort, sort.keyOf(last), last.getId());
+        }
+        return ids;
+    }
+
+    private static Notice notice(Long id, NoticeCategory category, LocalDate regDate, LocalDate endDate) {
+        Notice notice = Notice.builder()
+                .title("공고 " + id)
+                .category(category)
+                .regDate(regDate)
+                .startDate(regDate)
+                .endDate(endDate)
+                .build();
+        ReflectionTestUtils.setField(notice, "id", id);
+        return notice;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy14.a606.domain.notice.eligibility;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.user.entity.HouseOwn;
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EligibilitySnapshotTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    // 마감 임박순: 1(소득 3천만 이하) → 2(청년/미혼, 무주택) → 3(기준 없음) → 4(자산 2억 이하, 소득 5천만 이하)
+    //            → 5(자녀 2명 이상)
+    private final EligibilitySnapshot snapshot = EligibilitySnapshot.build(List.of(
+            row(1L, 1, 30_000_000L, null, null, null, null, false),
+            row(2L, 2, null, null, "YOUTH", "SINGLE", null, true),
+            new NoticeEligibilityRow(3L, "공고3", NoticeCategory.YOUTH_RESIDENCE, null, null,
+                    TODAY.plusDays(3), null, null, null, null, null, null, null, null, null),
+            row(4L, 4, 50_000_000L, 200_000_000L, null, null, null, false),
+            row(5L, 5, null, null, null, null, 2, false)
+    ));
+
+    @Test
+    void matchesAllCriteriaInDeadlineOrder() {
+        EligibilitySnapshot.Applicant youth = new EligibilitySnapshot.Applicant(
+                TargetType.YOUTH, MarriageStatus.SINGLE, HouseOwn.NO, 40_000_000L, 100_000_000L, 0);
+        assertThat(ids(youth, false)).containsExactly(2L, 4L);
+        assertThat(ids(youth, true)).containsExactly(2L, 3L, 4L);
+
+        EligibilitySnapshot.Applicant owner = new EligibilitySnapshot.Applicant(
+                TargetType.YOUTH, MarriageStatus.SINGLE, HouseOwn.YES, 30_000_000L, 300_000_000L, 3);
+        assertThat(ids(owner, false)).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void missingProfileFieldsFailRestrictedNotices() {
+        EligibilitySnapshot.Applicant unknown = new EligibilitySnapshot.Applicant(
+                null, null, null, null, null, null);
+        assertThat(ids(unknown, true)).containsExactly(3L);
+
+        // 마감된 공고는 건너뛰고 전체 건수에서도 빠진다
+        EligibilitySnapshot.Applicant rich = new EligibilitySnapshot.Applicant(
+                TargetType.NEWLYWED, MarriageStatus.MARRIED, HouseOwn.NO, 10_000_000L, 10_000_000L, 2);
+        int[] total = new int[1];
+        List<NoticeListItemDto> items = snapshot.collect(snapshot.match(rich, false), TODAY.plusDays(2), 10, total);
+        assertThat(items).extracting(NoticeListItemDto::getId).containsExactly(4L, 5L);
+        assertThat(total[0]).isEqualTo(2);
+    }
+
+    private List<Long> ids(EligibilitySnapshot.Applicant applicant, boolean includeUnspecified) {
+        return snapshot.collect(snapshot.match(applicant, includeUnspecified), TODAY, 10, new int[1]).stream()
+                .map(NoticeListItemDto::getId)
+                .toList();
+    }
+
+    private static NoticeEligibilityRow row(Long id, int daysLeft, Long maxIncome, Long maxAsset,
+                                            String targetTypes, String marriageStatuses, Integer minChildCount,
+                                            boolean requireNoHouse) {
+        return new NoticeEligibilityRow(id, "공고" + id, NoticeCategory.YOUTH_RESIDENCE, null, null,
+                TODAY.plusDays(daysLeft), null, null, id, maxIncome, maxAsset, targetTypes, marriageStatuses,
+                minChildCount, requireNoHouse);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ssafy14.a606.domain.notice.feed;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeFeedIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private NoticeRepository noticeRepository;
+    private NoticeFeedIndex index;
+
+    // DB 에 있다고 가정하는 마감 전 공고 (카테고리별, 마감 임박순)
+    private final List<NoticeListItemDto> happyHouse = new ArrayList<>();
+    private final List<NoticeListItemDto> youth = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository = mock(NoticeRepository.class);
+        when(noticeRepository.findPageOrderByEndDate(any(), any(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    NoticeCategory category = invocation.getArgument(0);
+                    Pageable pageable = invocation.getArgument(5);
+                    List<NoticeListItemDto> rows = category == NoticeCategory.HAPPY_HOUSE ? happyHouse
+                            : category == NoticeCategory.YOUTH_RESIDENCE ? youth : List.of();
+                    return List.copyOf(rows.subList(0, Math.min(rows.size(), pageable.getPageSize())));
+                });
+
+        for (int i = 1; i <= 4; i++) {
+            happyHouse.add(item(i, NoticeCategory.HAPPY_HOUSE, i * 2));      // 마감 D+2, 4, 6, 8
+        }
+        youth.add(item(10, NoticeCategory.YOUTH_RESIDENCE, 3));
+        youth.add(item(11, NoticeCategory.YOUTH_RESIDENCE, 5));
+
+        index = new NoticeFeedIndex(noticeRepository, 3);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("피드는 여러 카테고리를 마감 임박순으로 병합하고, 카테고리별로는 상위 N 만 보관한다")
+    void mergesCategoriesByDeadline() {
+        List<NoticeListItemDto> feed = index.feed(List.of(NoticeCategory.HAPPY_HOUSE, NoticeCategory.YOUTH_RESIDENCE), 10);
+
+        // 행복주택은 상위 3개(1,2,3)만, 한도 10 은 top-n(3) 으로 잘린다
+        assertThat(feed).extracting(NoticeListItemDto::getId).containsExactly(1L, 10L, 2L);
+        assertThat(index.getStats().getTruncatedCategories()).containsExactly("HAPPY_HOUSE");
+    }
+
+    @Test
+    @DisplayName("생성은 제자리에 끼워 넣고, 잘린 목록에서 빠지면 그 카테고리만 다시 채운다")
+    void appliesIncrementalChanges() {
+        // 마감 D+1 청년안심주택 공고 생성 → 맨 앞
+        Notice created = notice(12L, NoticeCategory.YOUTH_RESIDENCE, 1);
+        when(noticeRepository.findById(12L)).thenReturn(Optional.of(created));
+        youth.add(0, item(12, NoticeCategory.YOUTH_RESIDENCE, 1));
+        index.apply(12L);
+        assertThat(index.feed(List.of(NoticeCategory.YOUTH_RESIDENCE), 3))
+                .extracting(NoticeListItemDto::getId).containsExactly(12L, 10L, 11L);
+
+        // 행복주택 2번 삭제 → 잘린 목록이므로 DB 에서 4번까지 다시 채움
+        when(noticeRepository.findById(2L)).thenReturn(Optional.empty());
+        happyHouse.remove(1);
+        index.apply(2L);
+        assertThat(index.feed(List.of(NoticeCategory.HAPPY_HOUSE), 3))
+                .extracting(NoticeListItemDto::getId).containsExactly(1L, 3L, 4L);
+        assertThat(index.getStats().getRefillCount()).isEqualTo(1);
+
+        // 청년안심주택은 잘리지 않은 목록이라 생성 때 DB 를 다시 읽지 않았다 (rebuild 1회 + 행복주택 refill 1회)
+        verify(noticeRepository, times(1)).findPageOrderByEndDate(
+                eq(NoticeCategory.YOUTH_RESIDENCE), any(), isNull(), isNull(), isNull(), any(Pageable.class));
+    }
+
+    private static NoticeListItemDto item(long id, NoticeCategory category, int daysLeft) {
+        return new NoticeListItemDto(id, "공고 " + id, category, TODAY, TODAY, TODAY.plusDays(daysLeft), null, null);
+    }
+
+    private static Notice notice(Long id, NoticeCategory category, int daysLeft) {
+        Notice notice = Notice.builder()
+                .title("공고 " + id)
+                .category(category)
+                .regDate(TODAY)
+                .startDate(TODAY)
+                .endDate(TODAY.plusDays(daysLeft))
+                .build();
+        ReflectionTestUtils.setField(notice, "id", id);
+        return notice;
+    }
+}
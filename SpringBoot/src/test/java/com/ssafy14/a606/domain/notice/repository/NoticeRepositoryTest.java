@@ -0,0 +1,152 @@
+package com.ssafy14.a606.domain.notice.repository;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.dto.response.NoticeResponseDto;
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.paging.NoticeSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NoticeRepositoryTest {
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository.deleteAll();
+
+        // 같은 등록일/마감일을 가진 공고를 섞어서 id 가 tie-breaker 로 동작하는지 확인
+        noticeRepository.save(notice("공고 1", NoticeCategory.HAPPY_HOUSE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 20)));
+        noticeRepository.save(notice("공고 2", NoticeCategory.HAPPY_HOUSE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 20)));
+        noticeRepository.save(notice("공고 3", NoticeCategory.YOUTH_RESIDENCE, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 20)));
+        noticeRepository.save(notice("공고 4", NoticeCategory.HAPPY_HOUSE, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 20)));
+    }
+
+    @Test
+    @DisplayName("등록일 최신순 keyset 페이지는 커서 이후 행만 중복 없이 반환한다")
+    void findPageOrderByRegDate() {
+        // when
+        List<NoticeListItemDto> first = noticeRepository.findPageOrderByRegDate(
+                null, null, null, null, null, PageRequest.of(0, 2));
+        NoticeListItemDto last = first.get(first.size() - 1);
+        List<NoticeListItemDto> second = noticeRepository.findPageOrderByRegDate(
+                null, null, null, last.getRegDate(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).extracting(NoticeListItemDto::getTitle).containsExactly("공고 4", "공고 3");
+        assertThat(second).extracting(NoticeListItemDto::getTitle).containsExactly("공고 2", "공고 1");
+    }
+
+    @Test
+    @DisplayName("마감 임박순 keyset 페이지는 카테고리/마감 여부 필터를 함께 적용한다")
+    void findPageOrderByEndDate() {
+        // when
+        List<NoticeListItemDto> open = noticeRepository.findPageOrderByEndDate(
+                NoticeCategory.HAPPY_HOUSE, LocalDate.of(2024, 1, 21), null, null, null, PageRequest.of(0, 10));
+        List<NoticeListItemDto> closed = noticeRepository.findPageOrderByEndDate(
+                NoticeCategory.HAPPY_HOUSE, null, LocalDate.of(2024, 1, 21), null, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(open).extracting(NoticeListItemDto::getTitle).containsExactly("공고 4");
+        assertThat(closed).extracting(NoticeListItemDto::getTitle).containsExactly("공고 1", "공고 2");
+    }
+
+    @Test
+    @DisplayName("날짜가 없는 공고도 정렬 순서 맨 뒤에서 커서로 끝까지 페이지된다")
+    void pagesNullDatesLast() {
+        // given
+        noticeRepository.save(notice("날짜 없음 1", NoticeCategory.HAPPY_HOUSE, null, null));
+        noticeRepository.save(notice("날짜 없음 2", NoticeCategory.HAPPY_HOUSE, null, null));
+
+        // when
+        List<String> byRegDate = pageAll(NoticeSortType.REG_DATE);
+        List<String> byEndDate = pageAll(NoticeSortType.END_DATE);
+
+        // then
+        assertThat(byRegDate).containsExactly("공고 4", "공고 3", "공고 2", "공고 1", "날짜 없음 2", "날짜 없음 1");
+        assertThat(byEndDate).containsExactly("공고 1", "공고 2", "공고 3", "공고 4", "날짜 없음 1", "날짜 없음 2");
+    }
+
+    @Test
+    @DisplayName("날짜 있는 구간 쿼리는 날짜 없는 공고를 섞지 않는다 (정렬 컬럼 인덱스를 그대로 쓰기 위해 구간을 나눔)")
+    void datedQueriesSkipNullDates() {
+        // given
+        noticeRepository.save(notice("날짜 없음", NoticeCategory.HAPPY_HOUSE, null, null));
+
+        // when
+        List<NoticeListItemDto> byRegDate = noticeRepository.findPageOrderByRegDate(
+                null, null, null, null, null, PageRequest.of(0, 10));
+        List<NoticeListItemDto> undated = noticeRepository.findUndatedPageOrderByRegDate(
+                NoticeCategory.HAPPY_HOUSE, null, null, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(byRegDate).extracting(NoticeListItemDto::getTitle).doesNotContain("날짜 없음").hasSize(4);
+        assertThat(undated).extracting(NoticeListItemDto::getTitle).containsExactly("날짜 없음");
+    }
+
+    @Test
+    @DisplayName("카탈로그 적재 쿼리는 최근 추가순 id keyset 으로 상세 DTO 를 바로 읽는다")
+    void findCatalogPageBefore() {
+        // when
+        List<NoticeResponseDto> first = noticeRepository.findCatalogPageBefore(Long.MAX_VALUE, PageRequest.of(0, 3));
+        List<NoticeResponseDto> second = noticeRepository.findCatalogPageBefore(
+                first.get(first.size() - 1).getId(), PageRequest.of(0, 3));
+
+        // then
+        assertThat(first).extracting(NoticeResponseDto::getTitle).containsExactly("공고 4", "공고 3", "공고 2");
+        assertThat(second).extracting(NoticeResponseDto::getTitle).containsExactly("공고 1");
+    }
+
+    // NoticeService 와 같은 방식으로 날짜 있는 구간 → 날짜 없는 구간을 2 건씩 끝까지 읽는다 (커서가 멈추면 페이지 수 제한에 걸린다)
+    private List<String> pageAll(NoticeSortType sort) {
+        List<String> titles = new ArrayList<>();
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        for (int pages = 0; pages < 10; pages++) {
+            List<NoticeListItemDto> page = new ArrayList<>();
+            if (!sort.undatedKey().equals(cursorDate)) {
+                page.addAll(sort == NoticeSortType.REG_DATE
+                        ? noticeRepository.findPageOrderByRegDate(null, null, null, cursorDate, cursorId, PageRequest.of(0, 2))
+                        : noticeRepository.findPageOrderByEndDate(null, null, null, cursorDate, cursorId, PageRequest.of(0, 2)));
+            }
+            if (page.size() < 2) {
+                Long tailCursor = sort.undatedKey().equals(cursorDate) ? cursorId : null;
+                PageRequest rest = PageRequest.of(0, 2 - page.size());
+                page.addAll(sort == NoticeSortType.REG_DATE
+                        ? noticeRepository.findUndatedPageOrderByRegDate(null, null, null, tailCursor, rest)
+                        : noticeRepository.findUndatedPageOrderByEndDate(null, tailCursor, rest));
+            }
+            if (page.isEmpty()) {
+                return titles;
+            }
+            page.forEach(row -> titles.add(row.getTitle()));
+            NoticeListItemDto last = page.get(page.size() - 1);
+            cursorDate = sort.keyOf(last);
+            cursorId = last.getId();
+        }
+        return titles;
+    }
+
+    private Notice notice(String title, NoticeCategory category, LocalDate regDate, LocalDate endDate) {
+        return Notice.builder()
+                .title(title)
+                .category(category)
+                .regDate(regDate)
+                .startDate(regDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy14.a606.domain.notice.search;
+
+import com.ssafy14.a606.domain.notice.dto.response.NoticeListItemDto;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final LocalDate REG = LocalDate.of(2026, 3, 1);
+
+    private final InvertedIndex index = new InvertedIndex(0, 2000);
+
+    @Test
+    void ranksTitleMatchesAboveSummaryMatches() {
+        index.put(doc(1L, "행복주택 입주자 모집", "청년 매입임대 물량 일부 포함", NoticeCategory.YOUTH_RESIDENCE));
+        index.put(doc(2L, "청년 매입임대주택 입주자 모집 공고", null, NoticeCategory.YOUTH_RESIDENCE));
+        index.put(doc(3L, "국민임대 예비입주자 모집", "신혼부부 대상", NoticeCategory.NATIONAL_RENTAL));
+
+        assertThat(ids(search("청년 매입임대"))).containsExactly(2L, 1L);
+        // 띄어쓰기가 달라도 2-gram 으로 맞는다
+        assertThat(ids(search("매입 임대주택"))).startsWith(2L);
+        assertThat(ids(index.search(grams("입주자 모집", 2), grams("입주자 모집", 3),
+                item -> item.getCategory() == NoticeCategory.NATIONAL_RENTAL, 0.6, 0, 10))).containsExactly(3L);
+        assertThat(search("전세임대").totalCount()).isZero();
+    }
+
+    @Test
+    void updatesRemovalsAndCompactionKeepResults() {
+        for (long id = 1; id <= 10; id++) {
+            index.put(doc(id, "청년안심주택 " + id + "차 모집", null, NoticeCategory.YOUTH_RESIDENCE));
+        }
+        index.put(doc(3L, "신혼희망타운 모집", null, NoticeCategory.YOUTH_RESIDENCE));
+        index.remove(5L);
+
+        assertThat(search("청년안심").totalCount()).isEqualTo(8);
+        assertThat(ids(search("신혼희망"))).containsExactly(3L);
+
+        InvertedIndex compacted = index.compact();
+        assertThat(compacted.docCount()).isEqualTo(compacted.liveCount()).isEqualTo(9);
+        assertThat(compacted.search(grams("청년안심", 2), grams("청년안심", 3), item -> true, 0.6, 0, 20).totalCount())
+                .isEqualTo(8);
+        // 페이지: 점수가 같으면 최신(id 큰) 공고 먼저
+        assertThat(ids(compacted.search(grams("청년안심", 2), grams("청년안심", 3), item -> true, 0.6, 2, 3)))
+                .containsExactly(7L, 6L, 4L);
+    }
+
+    @Test
+    void repeatedSearchesReuseCleanScratch() {
+        index.put(doc(1L, "청년안심주택 모집", null, NoticeCategory.YOUTH_RESIDENCE));
+        index.put(doc(2L, "청년 매입임대 모집", null, NoticeCategory.YOUTH_RESIDENCE));
+        InvertedIndex.Result first = search("청년안심");
+
+        // 앞 검색의 점수/적중 수가 남아 있으면 순위나 건수가 달라진다
+        assertThat(search("청년안심")).isEqualTo(first);
+        assertThat(search("매입임대").totalCount()).isEqualTo(1);
+
+        // 검색 사이에 문서가 늘어도 (작업 배열보다 커져도) 새 문서까지 찾는다
+        for (long id = 3; id <= 40; id++) {
+            index.put(doc(id, "청년안심주택 " + id + "차", null, NoticeCategory.YOUTH_RESIDENCE));
+        }
+        assertThat(search("청년안심").totalCount()).isEqualTo(39);
+        assertThat(ids(search("매입임대"))).containsExactly(2L);
+    }
+
+    private InvertedIndex.Result search(String query) {
+        return index.search(grams(query, 2), grams(query, 3), item -> true, 0.6, 0, 10);
+    }
+
+    private static Set<String> grams(String query, int n) {
+        return NgramTokenizer.uniqueGrams(NgramTokenizer.normalize(query), n);
+    }
+
+    private static List<Long> ids(InvertedIndex.Result result) {
+        return result.items().stream().map(NoticeListItemDto::getId).toList();
+    }
+
+    private static NoticeSearchDocument doc(Long id, String title, String summary, NoticeCategory category) {
+        return new NoticeSearchDocument(id, title, category, REG, REG, REG.plusDays(14), null, null, summary);
+    }
+}
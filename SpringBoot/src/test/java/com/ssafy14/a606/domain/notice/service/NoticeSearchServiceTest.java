@@ -0,0 +1,60 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.request.NoticeSearchRequestDto;
+import com.ssafy14.a606.domain.notice.search.NoticeSearchIndex;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeSearchServiceTest {
+
+    private NoticeSearchIndex noticeSearchIndex;
+    private NoticeSearchService noticeSearchService;
+
+    @BeforeEach
+    void setUp() {
+        noticeSearchIndex = mock(NoticeSearchIndex.class);
+        when(noticeSearchIndex.isReady()).thenReturn(true);
+        when(noticeSearchIndex.search(anyString(), any(), anyInt(), anyInt()))
+                .thenReturn(new NoticeSearchIndex.Result(0, List.of()));
+        noticeSearchService = new NoticeSearchService(noticeSearchIndex);
+    }
+
+    @Test
+    @DisplayName("한 글자씩 떨어진 검색어는 2-gram 이 없으므로 색인을 보지 않고 400")
+    void rejectsQueryWithoutBigrams() {
+        assertThatThrownBy(() -> noticeSearchService.search(request("청 년")))
+                .isInstanceOf(InvalidValueException.class);
+        assertThatThrownBy(() -> noticeSearchService.search(request("a-b-c")))
+                .isInstanceOf(InvalidValueException.class);
+        verify(noticeSearchIndex, never()).search(anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("두 글자 이상 이어진 단어가 하나라도 있으면 검색한다")
+    void searchesWhenAnyRunHasTwoChars() {
+        assertThat(noticeSearchService.search(request("청 년주택")).getTotalCount()).isZero();
+
+        verify(noticeSearchIndex).search(eq("청 년주택"), any(), eq(0), eq(20));
+    }
+
+    private static NoticeSearchRequestDto request(String q) {
+        NoticeSearchRequestDto request = new NoticeSearchRequestDto();
+        request.setQ(q);
+        return request;
+    }
+}
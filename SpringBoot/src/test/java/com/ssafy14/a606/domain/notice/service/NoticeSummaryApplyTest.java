@@ -0,0 +1,127 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.catalog.NoticeCatalog;
+import com.ssafy14.a606.domain.notice.dto.request.NoticeRequestDto;
+import com.ssafy14.a606.domain.notice.eligibility.NoticeEligibilityIndex;
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
+import com.ssafy14.a606.domain.notice.event.NoticeSummaryRequestedEvent;
+import com.ssafy14.a606.domain.notice.feed.NoticeFeedIndex;
+import com.ssafy14.a606.domain.notice.repository.NoticeEligibilityRepository;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.domain.notice.util.SummaryInputHasher;
+import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 공고 수정 시 요약 반영 규칙 (NoticeService.applySummary)
+class NoticeSummaryApplyTest {
+
+    private static final String TITLE = "행복주택 입주자 모집";
+
+    private final List<Object> events = new ArrayList<>();
+    private NoticeRepository noticeRepository;
+    private NoticeSummaryCacheService summaryCacheService;
+    private NoticeService noticeService;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository = mock(NoticeRepository.class);
+        summaryCacheService = mock(NoticeSummaryCacheService.class);
+        noticeService = new NoticeService(noticeRepository, mock(NoticeCatalog.class), mock(NoticeFeedIndex.class),
+                mock(NoticeEligibilityIndex.class), mock(NoticeEligibilityRepository.class),
+                mock(UserDetailsRepository.class), summaryCacheService, events::add);
+    }
+
+    @Test
+    @DisplayName("입력 해시가 같으면 기존 요약을 그대로 두고 캐시도 조회하지 않는다")
+    void keepsSummaryWhenInputUnchanged() {
+        Notice notice = summarized(TITLE, "기존 요약");
+
+        noticeService.updateNotice(1L, request(" 행복주택  입주자 모집 ", "기존 요약"));
+
+        assertThat(notice.getSummary()).isEqualTo("기존 요약");
+        assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.COMPLETED);
+        verify(summaryCacheService, never()).find(anyString());
+        assertThat(events).noneMatch(NoticeSummaryRequestedEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("제목이 바뀌면 캐시 적중 시 즉시 반영하고, 없으면 PENDING 으로 바꾸고 요약을 요청한다")
+    void reusesCacheOrRequestsSummary() {
+        String newTitle = "행복주택 예비입주자 모집";
+        String newHash = SummaryInputHasher.hash(newTitle);
+
+        Notice hit = summarized(TITLE, "기존 요약");
+        when(summaryCacheService.find(newHash)).thenReturn(Optional.of("캐시된 요약"));
+        noticeService.updateNotice(1L, request(newTitle, "기존 요약"));
+        assertThat(hit.getSummary()).isEqualTo("캐시된 요약");
+        assertThat(hit.getSummaryInputHash()).isEqualTo(newHash);
+        assertThat(events).noneMatch(NoticeSummaryRequestedEvent.class::isInstance);
+
+        Notice miss = summarized(TITLE, "기존 요약");
+        when(summaryCacheService.find(newHash)).thenReturn(Optional.empty());
+        noticeService.updateNotice(1L, request(newTitle, "기존 요약"));
+        assertThat(miss.getSummaryStatus()).isEqualTo(SummaryStatus.PENDING);
+        assertThat(miss.getSummaryInputHash()).isEqualTo(newHash);
+        assertThat(events).contains(new NoticeSummaryRequestedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("관리자가 요약을 직접 바꾸면 그 값을 쓰고, 해시 도입 이전 공고는 해시만 기록한다")
+    void manualSummaryAndLegacyNotice() {
+        Notice manual = summarized(TITLE, "기존 요약");
+        noticeService.updateNotice(1L, request("다른 제목", "직접 쓴 요약"));
+        assertThat(manual.getSummary()).isEqualTo("직접 쓴 요약");
+        assertThat(manual.getSummaryInputHash()).isEqualTo(SummaryInputHasher.hash("다른 제목"));
+
+        Notice legacy = stored(TITLE);
+        ReflectionTestUtils.setField(legacy, "summary", "예전 요약");
+        noticeService.updateNotice(1L, request(TITLE, null));
+        assertThat(legacy.getSummary()).isEqualTo("예전 요약");
+        assertThat(legacy.getSummaryInputHash()).isEqualTo(SummaryInputHasher.hash(TITLE));
+
+        verify(summaryCacheService, never()).find(anyString());
+    }
+
+    private Notice summarized(String title, String summary) {
+        Notice notice = stored(title);
+        notice.completeSummary(summary, SummaryInputHasher.hash(title));
+        return notice;
+    }
+
+    private Notice stored(String title) {
+        Notice notice = Notice.builder()
+                .title(title)
+                .category(NoticeCategory.HAPPY_HOUSE)
+                .regDate(LocalDate.of(2024, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(notice, "id", 1L);
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice));
+        return notice;
+    }
+
+    private static NoticeRequestDto request(String title, String summary) {
+        NoticeRequestDto request = new NoticeRequestDto();
+        request.setTitle(title);
+        request.setCategory(NoticeCategory.HAPPY_HOUSE);
+        request.setRegDate(LocalDate.of(2024, 1, 1));
+        request.setSummary(summary);
+        return request;
+    }
+}
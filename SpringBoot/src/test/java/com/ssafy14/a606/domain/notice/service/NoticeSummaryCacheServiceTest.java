@@ -0,0 +1,62 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.entity.NoticeSummaryCache;
+import com.ssafy14.a606.domain.notice.repository.NoticeSummaryCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(NoticeSummaryCacheService.class)
+class NoticeSummaryCacheServiceTest {
+
+    private static final String GEMINI_ERROR = "답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: 429)";
+
+    @Autowired
+    private NoticeSummaryCacheService summaryCacheService;
+
+    @Autowired
+    private NoticeSummaryCacheRepository summaryCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        summaryCacheRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("FastAPI 오류 문구는 요약 캐시에 저장하지 않는다")
+    void skipsErrorText() {
+        // when
+        summaryCacheService.store("error", GEMINI_ERROR);
+        summaryCacheService.store("empty", "API 응답이 비어있습니다. 다시 시도해주세요.");
+        summaryCacheService.store("ok", "### 📅 모집 일정");
+
+        // then
+        assertThat(summaryCacheRepository.findAll()).extracting(NoticeSummaryCache::getInputHash)
+                .containsExactly("ok");
+    }
+
+    @Test
+    @DisplayName("예전에 저장된 오류 문구 항목은 조회 시 없는 것으로 보고, 기동 시 정리에서 지운다")
+    void purgesStoredErrorText() {
+        // given
+        summaryCacheRepository.save(new NoticeSummaryCache("error", GEMINI_ERROR));
+        summaryCacheRepository.save(new NoticeSummaryCache("not-found", "해당 공고의 내용을 찾을 수 없어 요약할 수 없습니다."));
+        summaryCacheRepository.save(new NoticeSummaryCache("ok", "### 📅 모집 일정"));
+
+        // when
+        boolean foundBeforePurge = summaryCacheService.find("error").isPresent();
+        summaryCacheService.purgeErrorEntries();
+
+        // then
+        assertThat(foundBeforePurge).isFalse();
+        assertThat(summaryCacheRepository.findAll()).extracting(NoticeSummaryCache::getInputHash)
+                .containsExactly("ok");
+        assertThat(summaryCacheService.getStats().getInvalidationCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.entity.Notice;
+import com.ssafy14.a606.domain.notice.entity.NoticeCategory;
+import com.ssafy14.a606.domain.notice.entity.SummaryStatus;
+import com.ssafy14.a606.domain.notice.event.NoticeChangedEvent;
+import com.ssafy14.a606.domain.notice.event.NoticeSummaryRequestedEvent;
+import com.ssafy14.a606.domain.notice.repository.NoticeRepository;
+import com.ssafy14.a606.domain.notice.util.SummaryInputHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoticeSummaryServiceTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private Notice notice;
+    private NoticeRepository noticeRepository;
+    private NoticeSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        notice = Notice.builder()
+                .title("행복주택 입주자 모집")
+                .category(NoticeCategory.HAPPY_HOUSE)
+                .regDate(LocalDate.of(2024, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(notice, "id", 1L);
+        notice.requestSummary(SummaryInputHasher.hash(notice.getTitle()));
+
+        noticeRepository = mock(NoticeRepository.class);
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice));
+
+        service = new NoticeSummaryService(noticeRepository, events::add);
+        ReflectionTestUtils.setField(service, "maxAttempts", 5);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(service, "maxBackoffMs", 3000L);
+    }
+
+    @Test
+    @DisplayName("실패할 때마다 지수 백오프(0.5~1.0 배 jitter, 상한 적용)로 다음 시도를 잡고, 한도에 닿으면 FAILED")
+    void backsOffThenFails() {
+        // 1000, 2000, 4000→3000, 8000→3000 ms 의 0.5 ~ 1.0 배
+        long[] maxDelays = {1000, 2000, 3000, 3000};
+        for (long maxDelay : maxDelays) {
+            LocalDateTime before = LocalDateTime.now();
+            service.recordFailure(1L, "timeout");
+            LocalDateTime after = LocalDateTime.now();
+
+            assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.PENDING);
+            assertThat(notice.getSummaryNextAttemptAt())
+                    .isAfterOrEqualTo(before.plus(Duration.ofMillis(maxDelay / 2)))
+                    .isBeforeOrEqualTo(after.plus(Duration.ofMillis(maxDelay)));
+        }
+        assertThat(events).isEmpty();
+
+        service.recordFailure(1L, "x".repeat(1000));
+
+        assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.FAILED);
+        assertThat(notice.getSummaryAttempts()).isEqualTo(5);
+        assertThat(notice.getSummaryNextAttemptAt()).isNull();
+        assertThat(notice.getSummaryError()).hasSize(500);
+        assertThat(events).containsExactly(
+                new NoticeChangedEvent(1L, NoticeChangedEvent.ChangeType.SUMMARY_UPDATED));
+
+        // FAILED 이후의 실패 기록은 무시
+        service.recordFailure(1L, "late");
+        assertThat(notice.getSummaryAttempts()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("요약 도중 입력이 바뀌었으면 완료를 무시하고, 재시도는 FAILED 도 PENDING 으로 되돌린다")
+    void completesOnlyMatchingInput() {
+        service.complete(1L, "이전 제목 요약", SummaryInputHasher.hash("이전 제목"));
+        assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.PENDING);
+        assertThat(events).isEmpty();
+
+        String hash = SummaryInputHasher.hash(notice.getTitle());
+        service.complete(1L, "요약", hash);
+        assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.COMPLETED);
+        assertThat(notice.getSummary()).isEqualTo("요약");
+        assertThat(events).hasSize(1);
+
+        notice.failSummaryAttempt("error", null);
+        service.retry(1L);
+        assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.PENDING);
+        assertThat(notice.getSummaryAttempts()).isZero();
+        assertThat(notice.getSummaryError()).isNull();
+        assertThat(events).last().isEqualTo(new NoticeSummaryRequestedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("예전 FastAPI 오류 문구로 완료된 공고는 기동 시 다시 요약 대기로 돌린다")
+    void requeuesErrorSummaries() {
+        // given
+        service.complete(1L, "답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: 429)",
+                SummaryInputHasher.hash(notice.getTitle()));
+        events.clear();
+        when(noticeRepository.findBySummaryStatusAndSummaryStartingWith(
+                SummaryStatus.COMPLETED, "답변 생성 중 오류가 발생했습니다.")).thenReturn(List.of(notice));
+
+        // when
+        service.requeueErrorSummaries();
+
+        // then
+        assertThat(notice.getSummaryStatus()).isEqualTo(SummaryStatus.PENDING);
+        assertThat(events).containsExactly(
+                new NoticeSummaryRequestedEvent(1L),
+                new NoticeChangedEvent(1L, NoticeChangedEvent.ChangeType.SUMMARY_UPDATED));
+    }
+}
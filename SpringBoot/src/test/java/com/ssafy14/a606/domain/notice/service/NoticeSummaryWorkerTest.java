@@ -0,0 +1,76 @@
+package com.ssafy14.a606.domain.notice.service;
+
+import com.ssafy14.a606.domain.notice.dto.response.SummaryResponseDto;
+import com.ssafy14.a606.domain.notice.event.NoticeSummaryRequestedEvent;
+import com.ssafy14.a606.global.fastapi.AdmissionLimiter;
+import com.ssafy14.a606.global.fastapi.FastApiClient;
+import com.ssafy14.a606.global.fastapi.FastApiEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeSummaryWorkerTest {
+
+    private NoticeSummaryService noticeSummaryService;
+    private NoticeSummaryCacheService summaryCacheService;
+    private FastApiClient fastApiClient;
+    private NoticeSummaryWorker worker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        noticeSummaryService = mock(NoticeSummaryService.class);
+        summaryCacheService = mock(NoticeSummaryCacheService.class);
+        fastApiClient = mock(FastApiClient.class);
+        AdmissionLimiter admissionLimiter = mock(AdmissionLimiter.class);
+        when(admissionLimiter.admit(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<?>>) invocation.getArgument(1)).get());
+
+        when(noticeSummaryService.findPendingTitle(1L)).thenReturn(Optional.of("행복주택 입주자 모집"));
+        when(summaryCacheService.find(anyString())).thenReturn(Optional.empty());
+
+        worker = new NoticeSummaryWorker(noticeSummaryService, summaryCacheService, fastApiClient,
+                admissionLimiter, 1, 10, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("FastAPI 가 Gemini 실패를 5xx 로 알리면 요약/캐시 없이 실패로 기록한다")
+    void recordsFailureOnUpstreamError() {
+        // given
+        when(fastApiClient.post(eq(FastApiEndpoint.SUMMARY), any(), eq(SummaryResponseDto.class)))
+                .thenReturn(Mono.error(WebClientResponseException.create(502, "Bad Gateway", HttpHeaders.EMPTY,
+                        "{\"detail\":\"답변 생성 중 오류가 발생했습니다. (HTTP 상태 코드: 429)\"}"
+                                .getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)));
+
+        // when
+        worker.onSummaryRequested(new NoticeSummaryRequestedEvent(1L));
+
+        // then
+        verify(noticeSummaryService, timeout(1_000)).recordFailure(eq(1L), startsWith("FastAPI 502"));
+        verify(noticeSummaryService, never()).complete(any(), any(), any());
+        verify(summaryCacheService, never()).store(any(), any());
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy14.a606.domain.notice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryInputHasherTest {
+
+    @Test
+    @DisplayName("유니코드 정규화 형태와 공백만 다른 제목은 같은 해시, 글자가 다르면 다른 해시")
+    void normalizesBeforeHashing() {
+        String title = "2024년 행복주택 입주자 모집";
+        // NFD(자모 분리) + 앞뒤/연속 공백
+        String decomposed = Normalizer.normalize("  2024년  행복주택\t입주자 모집 ", Normalizer.Form.NFD);
+
+        assertThat(SummaryInputHasher.hash(decomposed)).isEqualTo(SummaryInputHasher.hash(title));
+        assertThat(SummaryInputHasher.hash(title)).hasSize(64).matches("[0-9a-f]+");
+        assertThat(SummaryInputHasher.hash("2024년 행복주택 예비입주자 모집")).isNotEqualTo(SummaryInputHasher.hash(title));
+        assertThat(SummaryInputHasher.hash(null)).isEqualTo(SummaryInputHasher.hash(""));
+    }
+}
@@ -0,0 +1,69 @@
+package com.ssafy14.a606.domain.user.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음, 오탐률은 설정값 근처")
+    void noFalseNegativesAndBoundedFalsePositives() {
+        CountingBloomFilter filter = CountingBloomFilter.create(20_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.add("l:user" + i);
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(filter.mightContain("l:user" + i)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("l:absent" + i)) {
+                falsePositives++;
+            }
+        }
+        double rate = falsePositives / 100_000.0;
+        assertThat(rate).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("삭제한 값은 없음이 되고, 다른 값에는 영향이 없다")
+    void removeKeepsOtherKeys() {
+        CountingBloomFilter filter = CountingBloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("e:user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 500; i++) {
+            filter.remove("e:user" + i + "@example.com");
+        }
+
+        for (int i = 500; i < 1_000; i++) {
+            assertThat(filter.mightContain("e:user" + i + "@example.com")).isTrue();
+        }
+        int stillPresent = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain("e:user" + i + "@example.com")) {
+                stillPresent++;
+            }
+        }
+        assertThat(stillPresent).isLessThan(25);
+    }
+
+    @Test
+    @DisplayName("같은 값을 여러 번 넣으면 그만큼 지워야 없어진다")
+    void duplicateAddsNeedMatchingRemoves() {
+        CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01);
+        filter.add("l:dup");
+        filter.add("l:dup");
+
+        filter.remove("l:dup");
+        assertThat(filter.mightContain("l:dup")).isTrue();
+
+        filter.remove("l:dup");
+        assertThat(filter.mightContain("l:dup")).isFalse();
+    }
+}
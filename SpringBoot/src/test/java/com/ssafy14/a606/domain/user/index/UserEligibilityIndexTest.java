@@ -0,0 +1,111 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.entity.HouseOwn;
+import com.ssafy14.a606.domain.user.entity.MarriageStatus;
+import com.ssafy14.a606.domain.user.entity.TargetType;
+import com.ssafy14.a606.domain.user.event.UserDetailsChangedEvent;
+import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserEligibilityIndexTest {
+
+    private final UserDetailsRepository repository = mock(UserDetailsRepository.class);
+    private final List<UserEligibilityRow> rows = new ArrayList<>();
+    private UserEligibilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 세그먼트(4096) 여러 개에 걸치도록, 항목마다 일부는 비워 둔다
+        Random random = new Random(42);
+        for (long id = 1; id <= 20_000; id++) {
+            rows.add(new UserEligibilityRow(id,
+                    random.nextInt(5) == 0 ? null : TargetType.values()[random.nextInt(TargetType.values().length)],
+                    random.nextInt(5) == 0 ? null : MarriageStatus.values()[random.nextInt(MarriageStatus.values().length)],
+                    random.nextInt(5) == 0 ? null : HouseOwn.values()[random.nextInt(HouseOwn.values().length)],
+                    random.nextInt(5) == 0 ? null : (long) random.nextInt(80_000_000),
+                    random.nextInt(5) == 0 ? null : (long) random.nextInt(500_000_000),
+                    random.nextInt(5) == 0 ? null : random.nextInt(4)));
+        }
+        when(repository.count()).thenReturn((long) rows.size());
+        when(repository.findEligibilityRowsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int size = invocation.<Pageable>getArgument(1).getPageSize();
+            return rows.stream().filter(row -> row.userId() > lastId).limit(size).toList();
+        });
+
+        index = new UserEligibilityIndex(repository, 3000, 4);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void parallelScanMatchesBruteForce() {
+        UserEligibilityCriteria criteria = new UserEligibilityCriteria(50_000_000L, 300_000_000L,
+                Set.of(TargetType.YOUTH, TargetType.NEWLYWED), null, null, true);
+        List<Long> expected = rows.stream().filter(row -> matches(row, criteria)).map(UserEligibilityRow::userId).toList();
+
+        UserEligibilityIndex.Result first = index.match(criteria, null, 100);
+        assertThat(first.totalCount()).isEqualTo(expected.size());
+        assertThat(first.userIds()).containsExactlyElementsOf(expected.subList(0, 100));
+
+        UserEligibilityIndex.Result second = index.match(criteria, first.nextCursor(), 100);
+        assertThat(second.userIds()).containsExactlyElementsOf(expected.subList(100, 200));
+
+        UserEligibilityCriteria everyone = new UserEligibilityCriteria(null, null, null, null, null, false);
+        assertThat(index.match(everyone, null, 10).totalCount()).isEqualTo(rows.size());
+    }
+
+    @Test
+    void appliesChangesIncrementally() {
+        UserEligibilityCriteria criteria = new UserEligibilityCriteria(null, null, null,
+                Set.of(MarriageStatus.MARRIED), 3, false);
+        int before = index.match(criteria, null, 10).totalCount();
+
+        // 기존 사용자를 조건에 맞게 수정 + 새 사용자 추가 (맨 뒤 슬롯) + 조건에 맞던 사용자 탈퇴
+        Long removed = rows.stream().filter(row -> matches(row, criteria)).findFirst().orElseThrow().userId();
+        Long updated = rows.stream().filter(row -> !matches(row, criteria)).findFirst().orElseThrow().userId();
+        when(repository.findEligibilityRow(updated)).thenReturn(Optional.of(
+                new UserEligibilityRow(updated, null, MarriageStatus.MARRIED, null, null, null, 3)));
+        when(repository.findEligibilityRow(30_000L)).thenReturn(Optional.of(
+                new UserEligibilityRow(30_000L, null, MarriageStatus.MARRIED, null, null, null, 5)));
+
+        index.onDetailsChanged(new UserDetailsChangedEvent(updated));
+        index.onDetailsChanged(new UserDetailsChangedEvent(30_000L));
+        index.onDetailsChanged(new UserDetailsChangedEvent(removed, true));
+
+        UserEligibilityIndex.Result result = index.match(criteria, 29_999L, 10);
+        assertThat(index.match(criteria, null, 10).totalCount()).isEqualTo(before + 1);
+        assertThat(result.userIds()).containsExactly(30_000L);
+        assertThat(index.match(criteria, null, 10).userIds()).doesNotContain(removed).contains(updated);
+    }
+
+    private static boolean matches(UserEligibilityRow row, UserEligibilityCriteria c) {
+        if (c.maxIncome() != null && (row.income() == null || row.income() > c.maxIncome())) return false;
+        if (c.maxAsset() != null && (row.asset() == null || row.asset() > c.maxAsset())) return false;
+        if (c.minChildCount() != null && (row.childCount() == null || row.childCount() < c.minChildCount())) return false;
+        if (!c.targetTypes().isEmpty()
+                && (row.targetType() == null || !c.targetTypes().contains(row.targetType()))) return false;
+        if (!c.marriageStatuses().isEmpty()
+                && (row.marriageStatus() == null || !c.marriageStatuses().contains(row.marriageStatus()))) return false;
+        return !c.requireNoHouse() || row.houseOwn() == HouseOwn.NO;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy14.a606.domain.user.index;
+
+import com.ssafy14.a606.domain.user.event.UserIdentifiersReleasedEvent;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserIdentifierIndexTest {
+
+    private UserRepository userRepository;
+    private ZSetOperations<String, String> zSet;
+    private UserIdentifierIndex index;
+
+    // DB 에 있다고 가정하는 사용자
+    private final List<UserIdentifiers> users = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.count()).thenAnswer(invocation -> (long) users.size());
+        when(userRepository.findIdentifiersAfter(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Long lastId = invocation.getArgument(0);
+                    return users.stream().filter(user -> user.id() > lastId).toList();
+                });
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+
+        users.add(new UserIdentifiers(1L, "alice", "alice@example.com"));
+        index = new UserIdentifierIndex(userRepository, redisTemplate, 1_000, 0.01, 100, 600_000, 2);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 넣은 값만 카운터를 내리고, 같은 제거가 반복돼도 한 번만 내린다")
+    void releasesOnlyKeysAddedHere() {
+        // given
+        index.add("bob", null);
+
+        // when
+        index.onReleased(new UserIdentifiersReleasedEvent("bob", null));
+        index.onReleased(new UserIdentifiersReleasedEvent("bob", null));
+
+        // then
+        assertThat(index.mightContainLoginId("bob")).isFalse();
+        assertThat(index.mightContainLoginId("alice")).isTrue();
+    }
+
+    @Test
+    @DisplayName("넣었는지 알 수 없는 값은 오탐으로 남기고, 한도만큼 쌓이면 동기화 때 재구성한다")
+    void unconfirmedReleasesTriggerRebuild() {
+        // given: alice 는 DB 적재분이라 이 필터에 넣은 기록이 없다
+        users.clear();
+        index.onReleased(new UserIdentifiersReleasedEvent("alice", "alice@example.com"));
+        assertThat(index.mightContainLoginId("alice")).isTrue();
+
+        // when
+        index.syncRemote();
+
+        // then
+        assertThat(index.getStats().getRebuildCount()).isEqualTo(2);
+        assertThat(index.mightContainLoginId("alice")).isFalse();
+        assertThat(index.mightContainEmail("alice@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("반영한 원격 추가는 제거할 수 있다")
+    void releasesAppliedRemoteKeys() {
+        // given
+        when(zSet.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("other|1|l:carol", (double) System.currentTimeMillis())));
+        index.syncRemote();
+        assertThat(index.mightContainLoginId("carol")).isTrue();
+
+        // when
+        index.onReleased(new UserIdentifiersReleasedEvent("carol", null));
+
+        // then
+        assertThat(index.mightContainLoginId("carol")).isFalse();
+        assertThat(index.getStats().getRebuildCount()).isEqualTo(1);
+    }
+}
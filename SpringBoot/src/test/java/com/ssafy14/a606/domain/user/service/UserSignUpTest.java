@@ -0,0 +1,108 @@
+package com.ssafy14.a606.domain.user.service;
+
+import com.ssafy14.a606.domain.auth.refresh.RefreshTokenStore;
+import com.ssafy14.a606.domain.email.service.EmailVerificationService;
+import com.ssafy14.a606.domain.user.dto.request.SignUpRequestDto;
+import com.ssafy14.a606.domain.user.entity.User;
+import com.ssafy14.a606.domain.user.event.UserSignedUpEvent;
+import com.ssafy14.a606.domain.user.index.UserIdentifierIndex;
+import com.ssafy14.a606.domain.user.repository.UserDetailsRepository;
+import com.ssafy14.a606.domain.user.repository.UserRepository;
+import com.ssafy14.a606.global.exceptions.InvalidValueException;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import com.ssafy14.a606.global.security.jwt.JwtTokenProvider;
+import com.ssafy14.a606.global.security.jwt.TokenRevocationStore;
+import com.ssafy14.a606.global.security.password.PasswordHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원가입 중 이메일 인증 상태 처리
+ * - 가입 전에는 확인만 하고, 소비는 커밋 이후 UserSignedUpEvent 로 (EmailVerificationServiceImpl)
+ */
+class UserSignUpTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private UserRepository userRepository;
+    private PasswordHasher passwordHasher;
+    private EmailVerificationService emailVerificationService;
+    private final List<Object> events = new ArrayList<>();
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        passwordHasher = mock(PasswordHasher.class);
+        emailVerificationService = mock(EmailVerificationService.class);
+        userService = new UserServiceImpl(userRepository, passwordHasher, mock(JwtTokenProvider.class),
+                mock(UserDetailsRepository.class), mock(RefreshTokenStore.class), mock(TokenRevocationStore.class),
+                emailVerificationService, mock(UserIdentifierIndex.class), events::add);
+    }
+
+    @Test
+    @DisplayName("인증하지 않은 이메일은 BCrypt 를 돌리기 전에 거절한다")
+    void rejectsUnverifiedEmail() {
+        // given
+        when(emailVerificationService.isVerified(EMAIL)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> userService.signUpLocal(request())).isInstanceOf(InvalidValueException.class);
+        verify(passwordHasher, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("해시가 과부하로 실패하면 저장도, 인증 소비 이벤트도 없다 (인증 상태 유지)")
+    void keepsVerificationWhenHashingFails() {
+        // given
+        when(emailVerificationService.isVerified(EMAIL)).thenReturn(true);
+        when(passwordHasher.encode(anyString())).thenThrow(new ServiceOverloadedException("busy", 1));
+
+        // when & then
+        assertThatThrownBy(() -> userService.signUpLocal(request())).isInstanceOf(ServiceOverloadedException.class);
+        verify(userRepository, never()).save(any());
+        assertThat(events).noneMatch(UserSignedUpEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("저장까지 끝나면 가입 완료 이벤트를 발행한다 (소비는 커밋 이후)")
+    void publishesSignedUpEventAfterSave() {
+        // given
+        when(emailVerificationService.isVerified(EMAIL)).thenReturn(true);
+        when(passwordHasher.encode(anyString())).thenReturn("$2a$10$hash");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            ReflectionTestUtils.setField(user, "id", 7L);
+            return user;
+        });
+
+        // when
+        userService.signUpLocal(request());
+
+        // then
+        assertThat(events).contains(new UserSignedUpEvent(7L, EMAIL));
+    }
+
+    private static SignUpRequestDto request() {
+        SignUpRequestDto request = new SignUpRequestDto();
+        ReflectionTestUtils.setField(request, "loginId", "user01");
+        ReflectionTestUtils.setField(request, "password", "pass1234!");
+        ReflectionTestUtils.setField(request, "userName", "홍길동");
+        ReflectionTestUtils.setField(request, "email", EMAIL);
+        return request;
+    }
+}
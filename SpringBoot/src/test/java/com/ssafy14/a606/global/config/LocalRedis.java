@@ -0,0 +1,51 @@
+package com.ssafy14.a606.global.config;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Lua 스크립트 테스트용 실제 Redis 연결
+ * - TEST_REDIS_HOST / TEST_REDIS_PORT (기본 localhost:6379) 에 연결하고, 연결할 수 없으면 테스트를 건너뛴다.
+ * - FLUSHDB 는 하지 않으므로 테스트는 자기 키만 쓰고 직접 지운다.
+ */
+public final class LocalRedis {
+
+    private LocalRedis() {
+    }
+
+    public static StringRedisTemplate connectOrSkip() {
+        String host = env("TEST_REDIS_HOST", "localhost");
+        int port = Integer.parseInt(env("TEST_REDIS_PORT", "6379"));
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+        boolean reachable;
+        try (var connection = factory.getConnection()) {
+            reachable = "PONG".equals(connection.ping());
+        } catch (Exception e) {
+            reachable = false;
+        }
+        if (!reachable) {
+            factory.destroy();
+        }
+        assumeTrue(reachable, "Redis not reachable at " + host + ":" + port);
+
+        StringRedisTemplate template = new StringRedisTemplate(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    public static void close(StringRedisTemplate template) {
+        if (template != null && template.getConnectionFactory() instanceof LettuceConnectionFactory factory) {
+            factory.destroy();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return (value == null || value.isBlank()) ? defaultValue : value;
+    }
+}
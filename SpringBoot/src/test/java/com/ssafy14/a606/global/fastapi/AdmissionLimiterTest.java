@@ -0,0 +1,96 @@
+package com.ssafy14.a606.global.fastapi;
+
+import com.ssafy14.a606.global.dto.AdmissionStatsDto;
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("자리가 나면 관리자 요약이 먼저 온 비로그인 챗봇보다 먼저 들어간다")
+    void adminFirst() {
+        // given: 한도 1, 첫 작업이 자리를 차지
+        AdmissionLimiter limiter = limiter(1, 1, 10);
+        Sinks.One<String> blocker = Sinks.one();
+        limiter.admit(AdmissionPriority.ANONYMOUS, blocker::asMono).subscribe();
+
+        // 자리를 받은 순서 기록
+        List<String> order = new CopyOnWriteArrayList<>();
+        limiter.admit(AdmissionPriority.ANONYMOUS, () -> Mono.fromSupplier(() -> order.add("chat"))).subscribe();
+        limiter.admit(AdmissionPriority.ADMIN, () -> Mono.fromSupplier(() -> order.add("summary"))).subscribe();
+
+        // when
+        blocker.tryEmitValue("first");
+
+        // then
+        assertThat(order).containsExactly("summary", "chat");
+        assertThat(limiter.getStats().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 우선순위별 허용 깊이를 넘으면 기다리지 않고 Retry-After 와 함께 거절한다")
+    void shedsByQueueDepth() {
+        // given: 한도 1, 대기열 4 → 비로그인은 2개까지만 대기
+        AdmissionLimiter limiter = limiter(1, 1, 4);
+        limiter.admit(AdmissionPriority.ANONYMOUS, Mono::never).subscribe(value -> {}, error -> {});
+        limiter.admit(AdmissionPriority.ANONYMOUS, Mono::never).subscribe(value -> {}, error -> {});
+        limiter.admit(AdmissionPriority.ANONYMOUS, Mono::never).subscribe(value -> {}, error -> {});
+
+        // when & then
+        assertThatThrownBy(() -> limiter.admit(AdmissionPriority.ANONYMOUS, () -> Mono.just("x")).block())
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfterSeconds()).isPositive());
+
+        // 관리자 요약은 아직 대기 가능
+        limiter.admit(AdmissionPriority.ADMIN, Mono::never).subscribe(value -> {}, error -> {});
+        AdmissionStatsDto stats = limiter.getStats();
+        assertThat(stats.getQueueDepth()).isEqualTo(3);
+        assertThat(stats.getPriorities().get("ANONYMOUS").getShedCount()).isEqualTo(1);
+        assertThat(stats.getPriorities().get("ADMIN").getShedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소보다 크게 느려지면 동시 작업 한도를 줄인다")
+    void shrinksLimitWhenLatencyRises() {
+        // given: 평소 100ms
+        AdmissionLimiter limiter = limiter(20, 2, 10);
+        for (int i = 0; i < 20; i++) {
+            call(limiter, Duration.ofMillis(100));
+        }
+        int before = limiter.getStats().getLimit();
+
+        // when: 1초씩 걸리기 시작
+        for (int i = 0; i < 10; i++) {
+            call(limiter, Duration.ofSeconds(1));
+        }
+
+        // then
+        assertThat(limiter.getStats().getLimit()).isLessThan(before);
+        assertThat(limiter.getStats().getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    // 가짜 시계를 elapsed 만큼 진행시키는 작업
+    private void call(AdmissionLimiter limiter, Duration elapsed) {
+        limiter.admit(AdmissionPriority.USER, () -> Mono.fromSupplier(() -> clock.addAndGet(elapsed.toNanos())))
+                .block();
+    }
+
+    private AdmissionLimiter limiter(int initialLimit, int minLimit, int maxQueue) {
+        return new AdmissionLimiter(
+                new FastApiProperties.Admission(initialLimit, minLimit, 100, maxQueue, 1000, 2.0, 0.5),
+                clock::get);
+    }
+}
@@ -0,0 +1,263 @@
+package com.ssafy14.a606.global.fastapi;
+
+import com.ssafy14.a606.global.dto.FastApiStatsDto;
+import com.ssafy14.a606.global.exceptions.FastApiUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)로 FastAPI 를 대신해 오프라인에서 검증
+ */
+class FastApiClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private FastApiClient client;
+
+    // 스텁 동작: 응답 상태 코드와 지연
+    private volatile int stubStatus = 200;
+    private volatile long stubDelayMs = 0;
+    private final AtomicInteger stubHits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat", this::handle);
+        server.createContext("/summary", this::handle);
+        server.createContext("/chat/stream", this::handleStream);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        FastApiProperties properties = new FastApiProperties(
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                1000,
+                null,
+                new FastApiProperties.Breaker(4, 4, 0.5, 60000, 1),
+                new FastApiProperties.Endpoints(
+                        new FastApiProperties.Endpoint(2000, 10),
+                        null,
+                        null,
+                        new FastApiProperties.Endpoint(200, 1)
+                ),
+                null
+        );
+        client = new FastApiClient(WebClient.builder(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("정상 응답을 받고 성공/지연 통계를 남긴다")
+    void success() {
+        // when
+        Map<?, ?> response = client.post(FastApiEndpoint.CHAT, Map.of("message", "hi"), Map.class).block();
+
+        // then
+        assertThat(response.get("message")).isEqualTo("ok");
+        FastApiStatsDto.EndpointStats chat = endpointStats("/chat");
+        assertThat(chat.getSuccessCount()).isEqualTo(1);
+        assertThat(chat.getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    @DisplayName("5xx 가 누적되면 서킷이 열리고, 이후 호출은 서버에 가지 않고 fallback 으로 대체된다")
+    void circuitOpensAndFallsBack() {
+        // given
+        stubStatus = 500;
+        for (int i = 0; i < 4; i++) {
+            Mono<Map> call = client.post(FastApiEndpoint.CHAT, Map.of("message", "hi"), Map.class);
+            assertThatThrownBy(call::block).isNotInstanceOf(FastApiUnavailableException.class);
+        }
+
+        // when
+        Map<?, ?> fallback = client.post(FastApiEndpoint.CHAT, Map.of("message", "hi"), Map.class,
+                () -> Map.of("message", "fallback")).block();
+
+        // then
+        assertThat(fallback.get("message")).isEqualTo("fallback");
+        assertThat(stubHits.get()).isEqualTo(4);
+        FastApiStatsDto.EndpointStats chat = endpointStats("/chat");
+        assertThat(chat.getCircuitState()).isEqualTo("OPEN");
+        assertThat(chat.getShortCircuitedCount()).isEqualTo(1);
+        assertThat(chat.getFallbackCount()).isEqualTo(1);
+
+        // /summary 서킷은 영향 없음
+        assertThat(endpointStats("/summary").getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    @DisplayName("4xx 는 우리 요청 문제이므로 fallback 으로 감추지 않고 그대로 전파한다")
+    void clientErrorIsNotFallenBack() {
+        // given
+        stubStatus = 422;
+
+        // when
+        Mono<Map> call = client.post(FastApiEndpoint.CHAT, Map.of("message", "hi"), Map.class,
+                () -> Map.of("message", "fallback"));
+
+        // then
+        assertThatThrownBy(call::block).isInstanceOf(WebClientResponseException.class)
+                .satisfies(e -> assertThat(((WebClientResponseException) e).getStatusCode().value()).isEqualTo(422));
+        FastApiStatsDto.EndpointStats chat = endpointStats("/chat");
+        assertThat(chat.getFallbackCount()).isZero();
+        assertThat(chat.getClientErrorCount()).isEqualTo(1);
+
+        // 5xx 는 fallback
+        stubStatus = 503;
+        Map<?, ?> fallback = client.post(FastApiEndpoint.CHAT, Map.of("message", "hi"), Map.class,
+                () -> Map.of("message", "fallback")).block();
+        assertThat(fallback.get("message")).isEqualTo("fallback");
+        assertThat(endpointStats("/chat").getFallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 타임아웃과 동시 호출 한도(bulkhead)가 적용된다")
+    void timeoutAndBulkhead() {
+        // given: /summary 타임아웃 200ms, 동시 호출 1
+        stubDelayMs = 1000;
+        CompletableFuture<Map> first = client.post(FastApiEndpoint.SUMMARY, Map.of("title", "t"), Map.class).toFuture();
+
+        // when: 첫 호출이 끝나기 전에 두 번째 호출
+        Mono<Map> second = client.post(FastApiEndpoint.SUMMARY, Map.of("title", "t"), Map.class);
+
+        // then
+        assertThatThrownBy(second::block).isInstanceOf(FastApiUnavailableException.class);
+        assertThatThrownBy(() -> first.get()).hasCauseInstanceOf(TimeoutException.class);
+
+        FastApiStatsDto.EndpointStats summary = endpointStats("/summary");
+        assertThat(summary.getBulkheadRejectedCount()).isEqualTo(1);
+        assertThat(summary.getTimeoutCount()).isEqualTo(1);
+        // bulkhead 반납(doFinally)은 오류 전달 직후에 일어날 수 있음
+        assertThat(awaitInFlightZero("/summary")).isTrue();
+
+        // /chat 은 /summary 의 한도와 무관하게 호출 가능
+        stubDelayMs = 0;
+        Map<?, ?> chat = client.post(FastApiEndpoint.CHAT, Map.of("message", "hi"), Map.class)
+                .block(Duration.ofSeconds(5));
+        assertThat(chat.get("message")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("SSE 이벤트를 순서대로 중계하고, 첫 이벤트 시간과 전체 시간을 따로 기록한다")
+    void streamsEvents() {
+        // when
+        List<ServerSentEvent<Map<String, Object>>> events = client.stream(FastApiEndpoint.CHAT_STREAM, Map.of("message", "hi"),
+                        new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {})
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("delta", "delta", "done");
+        assertThat(events.get(0).data().get("text")).isEqualTo("안녕");
+        FastApiStatsDto.EndpointStats stream = endpointStats("/chat/stream");
+        assertThat(stream.getSuccessCount()).isEqualTo(1);
+        assertThat(stream.getAvgLatencyMs()).isGreaterThanOrEqualTo(stream.getAvgFirstByteMs());
+    }
+
+    @Test
+    @DisplayName("스트림 구독을 취소하면 실패로 집계하지 않고 동시 호출 자리를 반납한다")
+    void streamCancellation() {
+        // when: 첫 이벤트만 받고 취소
+        ServerSentEvent<Map<String, Object>> first = client.stream(FastApiEndpoint.CHAT_STREAM, Map.of("message", "hi"),
+                        new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {})
+                .next()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(first.event()).isEqualTo("delta");
+        FastApiStatsDto.EndpointStats stream = endpointStats("/chat/stream");
+        assertThat(stream.getCancelledCount()).isEqualTo(1);
+        assertThat(stream.getFailureCount()).isZero();
+        assertThat(stream.getInFlight()).isZero();
+    }
+
+    private boolean awaitInFlightZero(String path) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (endpointStats(path).getInFlight() != 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    private FastApiStatsDto.EndpointStats endpointStats(String path) {
+        return client.getStats().getEndpoints().stream()
+                .filter(stats -> stats.getEndpoint().equals(path))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // 이벤트 사이에 간격을 두고 SSE 전송 (chunked)
+    private void handleStream(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String event : List.of(
+                    "event: delta\ndata: {\"text\":\"안녕\"}\n\n",
+                    "event: delta\ndata: {\"text\":\"하세요\"}\n\n",
+                    "event: done\ndata: {}\n\n")) {
+                out.write(event.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(100);
+            }
+        } catch (IOException | InterruptedException e) {
+            // 클라이언트가 먼저 끊은 경우
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        stubHits.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            if (stubDelayMs > 0) Thread.sleep(stubDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = (stubStatus == 200 ? "{\"message\":\"ok\"}" : "{\"detail\":\"error\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(stubStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy14.a606.global.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailDeliveryWorkerTest {
+
+    private static final MailQueue.QueuedMail MAIL =
+            new MailQueue.QueuedMail("mail-1", "user@example.com", "code", "<p>123456</p>", 0);
+
+    private MailQueue mailQueue;
+    private SmtpTransportPool transportPool;
+    private MailDeliveryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mailQueue = mock(MailQueue.class);
+        transportPool = mock(SmtpTransportPool.class);
+        MailDomainRateLimiter rateLimiter = mock(MailDomainRateLimiter.class);
+        when(rateLimiter.tryAcquire(anyString())).thenReturn(0L);
+        when(mailQueue.claim(anyInt(), anyLong())).thenReturn(List.of(MAIL));
+
+        MailQueueProperties properties = new MailQueueProperties(
+                1, 10, 60000, 3, 1000, 60000, 0, 0, null, 0, 0);
+        worker = new MailDeliveryWorker(mailQueue, transportPool, rateLimiter, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("보낸 뒤 ack 가 실패해도 재시도로 돌리지 않고, 다시 가져오면 보내지 않고 ack 만 한다")
+    void doesNotResendWhenAckFails() throws Exception {
+        // given: 첫 ack 는 Redis 오류, 두 번째는 성공
+        doThrow(new IllegalStateException("redis down")).doNothing().when(mailQueue).ack("mail-1");
+
+        // when
+        worker.pollDue();
+        verify(mailQueue, timeout(2000)).ack("mail-1");
+        worker.pollDue(); // lease 가 지나 같은 메일을 다시 가져온 상황
+        verify(mailQueue, timeout(2000).times(2)).ack("mail-1");
+
+        // then
+        verify(transportPool, times(1)).sendHtml("user@example.com", "code", "<p>123456</p>");
+        verify(mailQueue, never()).retry(anyString(), anyLong());
+        verify(mailQueue, never()).deadLetter(anyString(), anyString());
+        assertThat(worker.getStats().getDeliveredCount()).isEqualTo(1);
+        assertThat(worker.getStats().getRetriedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 실패는 백오프로 다시 예약하고 ack 하지 않는다")
+    void retriesWhenSendFails() throws Exception {
+        // given
+        doThrow(new IllegalStateException("smtp down")).when(transportPool).sendHtml(anyString(), anyString(), anyString());
+        doNothing().when(mailQueue).retry(anyString(), anyLong());
+
+        // when
+        worker.pollDue();
+
+        // then
+        verify(mailQueue, timeout(2000)).retry(eq("mail-1"), anyLong());
+        verify(mailQueue, never()).ack(anyString());
+        assertThat(worker.getStats().getDeliveredCount()).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ssafy14.a606.global.mail;
+
+import jakarta.mail.SendFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmtpTransportPoolTest {
+
+    private LocalSmtpServer server;
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LocalSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(server.port());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("여러 워커가 보내도 연결은 워커 수만큼만 열고 계속 재사용한다")
+    void reusesConnectionsAcrossMessages() throws Exception {
+        // given
+        SmtpTransportPool pool = pool(100);
+        pool.sendHtml("warmup@example.com", "code", "<p>123456</p>");
+        int warmupConnections = server.connections();
+
+        // when: 4 스레드 x 25 통
+        sendConcurrently(4, 25, to -> pool.sendHtml(to, "code", "<p>123456</p>"));
+
+        // then
+        assertThat(server.messages()).isEqualTo(101);
+        assertThat(server.connections() - warmupConnections).isLessThanOrEqualTo(3); // 워밍업 연결 1개는 재사용
+        assertThat(pool.getOpenedCount()).isLessThanOrEqualTo(4);
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("풀 없이 JavaMailSender.send() 로 보내면 메일마다 연결을 새로 연다 (풀이 줄이는 연결 수 기준)")
+    void connectionPerMessageBaseline() throws Exception {
+        // when: 같은 4 스레드 x 25 통
+        sendConcurrently(4, 25, to -> {
+            MimeMessageHelper helper = new MimeMessageHelper(mailSender.createMimeMessage(), false, "UTF-8");
+            helper.setFrom("noreply@example.com");
+            helper.setTo(to);
+            helper.setSubject("code");
+            helper.setText("<p>123456</p>", true);
+            mailSender.send(helper.getMimeMessage());
+        });
+
+        // then
+        assertThat(server.messages()).isEqualTo(100);
+        assertThat(server.connections()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("연결당 최대 발송 수를 채우면 닫고 새 연결을 연다")
+    void rollsOverAfterMaxMessagesPerConnection() throws Exception {
+        SmtpTransportPool pool = pool(3);
+
+        for (int i = 0; i < 7; i++) {
+            pool.sendHtml("user@example.com", "code", "<p>123456</p>");
+        }
+
+        assertThat(server.messages()).isEqualTo(7);
+        assertThat(server.connections()).isEqualTo(3);
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("수신 주소가 거절되면 SendFailedException, 이후 발송은 정상")
+    void rejectedRecipientDoesNotBreakPool() throws Exception {
+        SmtpTransportPool pool = pool(100);
+
+        assertThatThrownBy(() -> pool.sendHtml("reject@example.com", "code", "<p>1</p>"))
+                .isInstanceOf(SendFailedException.class);
+        pool.sendHtml("user@example.com", "code", "<p>1</p>");
+
+        assertThat(server.messages()).isEqualTo(1);
+        pool.shutdown();
+    }
+
+    private void sendConcurrently(int threads, int perThread, MailSend send) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < threads; w++) {
+            futures.add(workers.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    send.send("user" + i + "@example.com");
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface MailSend {
+        void send(String to) throws Exception;
+    }
+
+    private SmtpTransportPool pool(int maxMessagesPerConnection) {
+        MailQueueProperties properties = new MailQueueProperties(
+                0, 0, 0, 0, 0, 0, 0, 0, null, 30000, maxMessagesPerConnection);
+        return new SmtpTransportPool(mailSender, properties, "noreply@example.com");
+    }
+}
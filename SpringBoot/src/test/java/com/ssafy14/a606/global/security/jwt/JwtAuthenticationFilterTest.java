@@ -0,0 +1,111 @@
+package com.ssafy14.a606.global.security.jwt;
+
+import com.ssafy14.a606.global.security.user.CustomUserDetails;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 필터가 DB 없이 토큰 claim 만으로 인증 정보를 만드는지 검증
+ * (UserRepository / CustomUserDetailsService 를 주입받지 않으므로 요청당 DB 조회 0회)
+ */
+class JwtAuthenticationFilterTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationStore tokenRevocationStore;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties(
+                Base64.getEncoder().encodeToString("test-secret-key-for-jwt-filter-0123456789".getBytes()),
+                1_800_000L,
+                1_209_600_000L);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        tokenRevocationStore = new TokenRevocationStore(mock(StringRedisTemplate.class, Answers.RETURNS_DEEP_STUBS), properties);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("access token 의 userId/role 로 인증 정보를 만든다")
+    void authenticatesFromClaims() throws Exception {
+        // when
+        Authentication authentication = doFilter(jwtTokenProvider.createAccessToken(7L, "ADMIN"));
+
+        // then
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("role 이 없는 refresh token 은 access token 으로 쓸 수 없다")
+    void rejectsRefreshToken() {
+        String refreshToken = jwtTokenProvider.createRefreshToken(7L, jwtTokenProvider.newSessionId());
+
+        assertThatThrownBy(() -> doFilter(refreshToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("강제 만료 이전에 발급된 토큰은 서명이 유효해도 거절한다")
+    void rejectsRevokedToken() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(7L, "USER");
+        String otherUserToken = jwtTokenProvider.createAccessToken(8L, "USER");
+
+        // when
+        tokenRevocationStore.revokeUser(7L);
+
+        // then
+        assertThatThrownBy(() -> doFilter(token)).isInstanceOf(JwtException.class);
+        assertThat(doFilter(otherUserToken)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("강제 만료 직후(같은 초) 재발급된 토큰은 통과한다")
+    void acceptsTokenIssuedRightAfterRevocation() throws Exception {
+        // given
+        String revoked = jwtTokenProvider.createAccessToken(7L, "USER");
+        tokenRevocationStore.revokeUser(7L);
+        Thread.sleep(2);
+
+        // when
+        String reissued = jwtTokenProvider.createAccessToken(7L, "USER");
+
+        // then
+        assertThatThrownBy(() -> doFilter(revoked)).isInstanceOf(JwtException.class);
+        assertThat(doFilter(reissued)).isNotNull();
+    }
+
+    private Authentication doFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,106 @@
+package com.ssafy14.a606.global.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    private JwtTokenProvider provider;
+    private Map<String, VerifiedToken> verifiedTokens;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        provider = new JwtTokenProvider(new JwtProperties(
+                Base64.getEncoder().encodeToString("test-secret-key-for-jwt-provider-0123456789".getBytes()),
+                1_800_000L,
+                1_209_600_000L));
+        verifiedTokens = (Map<String, VerifiedToken>) ReflectionTestUtils.getField(provider, "verifiedTokens");
+    }
+
+    @Test
+    @DisplayName("access token 검증 결과는 캐시하고 refresh token 은 캐시하지 않는다")
+    void cachesOnlyAccessTokens() {
+        // given
+        String accessToken = provider.createAccessToken(7L, "USER");
+        String refreshToken = provider.createRefreshToken(7L, provider.newSessionId());
+
+        // when
+        VerifiedToken first = provider.verify(accessToken);
+        VerifiedToken second = provider.verify(accessToken);
+        provider.verify(refreshToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(verifiedTokens).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 있어도 만료 시각이 지났으면 만료로 거절하고 캐시에서 지운다")
+    void rejectsExpiredCachedToken() {
+        // given: 캐시된 결과의 만료 시각을 과거로 바꿔 둔다
+        String token = provider.createAccessToken(7L, "USER");
+        VerifiedToken verified = provider.verify(token);
+        String cacheKey = cacheKey(token);
+        verifiedTokens.put(cacheKey, new VerifiedToken(verified.userId(), verified.role(), null,
+                verified.issuedAt(), Instant.now().minusSeconds(1)));
+
+        // when & then
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifiedTokens).doesNotContainKey(cacheKey);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 만료된 항목부터 비운다")
+    void evictsExpiredEntriesFirstWhenFull() {
+        // given: 1 개는 만료, 나머지는 유효
+        fill(MAX_VERIFIED_TOKENS - 1, Instant.now().plusSeconds(600));
+        verifiedTokens.put("expired", fake(Instant.now().minusSeconds(1)));
+
+        // when
+        provider.verify(provider.createAccessToken(7L, "USER"));
+
+        // then
+        assertThat(verifiedTokens).hasSize(MAX_VERIFIED_TOKENS).doesNotContainKey("expired");
+    }
+
+    @Test
+    @DisplayName("만료된 항목이 없이 가득 차면 통째로 비우고 새 결과만 담는다")
+    void clearsAllWhenFullOfLiveEntries() {
+        // given
+        fill(MAX_VERIFIED_TOKENS, Instant.now().plusSeconds(600));
+        String token = provider.createAccessToken(7L, "USER");
+
+        // when
+        provider.verify(token);
+
+        // then
+        assertThat(verifiedTokens).containsOnlyKeys(cacheKey(token));
+    }
+
+    private void fill(int count, Instant expiresAt) {
+        for (int i = 0; i < count; i++) {
+            verifiedTokens.put("token-" + i, fake(expiresAt));
+        }
+    }
+
+    private static VerifiedToken fake(Instant expiresAt) {
+        return new VerifiedToken(1L, "USER", null, Instant.now(), expiresAt);
+    }
+
+    private static String cacheKey(String token) {
+        return ReflectionTestUtils.invokeMethod(JwtTokenProvider.class, "hash", token);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy14.a606.global.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BcryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간 안에 돌릴 수 있는 cost 가 하한보다 낮아도 하한 아래로 내리지 않는다")
+    void neverGoesBelowMinCost() {
+        // 목표 0ms → 어떤 서버에서도 기준 cost(8) 도 못 맞춤
+        assertThat(BcryptCostCalibrator.calibrate(0, 10, 12)).isEqualTo(10);
+        // 하한이 상한보다 커도 하한 우선
+        assertThat(BcryptCostCalibrator.calibrate(0, 6, 4)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 충분하면 상한까지만 올린다")
+    void capsAtMaxCost() {
+        assertThat(BcryptCostCalibrator.calibrate(60_000, 4, 9)).isEqualTo(9);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy14.a606.global.security.password;
+
+import com.ssafy14.a606.global.exceptions.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 503 으로 거절한다")
+    void rejectsWhenSaturated() throws Exception {
+        // given: 스레드 1, 대기열 1, matches 가 풀릴 때까지 멈추는 인코더
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "$2a$04$" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blocking, 1, 1, 5000);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("a", "b"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hasher.matches("a", "b"));
+        while (hasher.getActive() + hasher.getQueued() < 2) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> hasher.matches("a", "b")).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(hasher.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘긴 작업은 대기열에서 빠지고, 이미 돌고 있는 해시는 끝까지 돈다")
+    void removesQueuedTaskOnTimeout() throws Exception {
+        // given: 스레드 1 을 붙잡아 두는 인코더 (인터럽트를 무시하는 BCrypt 처럼)
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder uninterruptible = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "$2a$04$" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ignored) {
+                        // 취소돼도 계속 돈다
+                    }
+                }
+                return true;
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(uninterruptible, 1, 4, 100);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("a", "b"));
+        while (hasher.getActive() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when: 대기열에 들어간 요청이 시간 초과
+        assertThatThrownBy(() -> hasher.matches("a", "b")).isInstanceOf(ServiceOverloadedException.class);
+
+        // then: 대기열은 비었고, 돌던 작업은 여전히 스레드를 쓰고 있다
+        assertThat(hasher.getQueued()).isZero();
+        assertThat(hasher.getActive()).isEqualTo(1);
+        assertThat(hasher.getTimedOutCount()).isGreaterThanOrEqualTo(1);
+
+        release.countDown();
+        assertThatThrownBy(() -> running.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ServiceOverloadedException.class);
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 현재 설정보다 낮을 때만 재해시 대상이다")
+    void detectsCostChange() {
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4, 5000);
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(6).encode("pw"))).isFalse();
+        assertThat(hasher.needsRehash(hasher.encode("pw"))).isFalse();
+        assertThat(hasher.matches("pw", hasher.encode("pw"))).isTrue();
+        hasher.shutdown();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssafy14.a606.global.security.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ClientIpResolverTest {
+
+    private static final String NGINX = "10.0.0.5";
+
+    private final ClientIpResolver resolver = new ClientIpResolver("127.0.0.1, 10.0.0.0/24");
+
+    @Test
+    @DisplayName("nginx 를 거친 서로 다른 클라이언트는 로그인 제한 IP 버킷이 나뉜다")
+    void forwardedClientsGetSeparateBuckets() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        LoginThrottle throttle = new LoginThrottle(redisTemplate, 300_000, 10, 50);
+
+        // when
+        throttle.acquire("user", resolver.resolve(viaNginx("203.0.113.7")));
+        throttle.acquire("user", resolver.resolve(viaNginx("198.51.100.9")));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(2)).execute(any(), keys.capture(), any(), any(), any(), any(), any());
+        assertThat(keys.getAllValues()).extracting(k -> k.get(1))
+                .containsExactly("login:throttle:ip:203.0.113.7", "login:throttle:ip:198.51.100.9");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 는 오른쪽부터 신뢰하지 않는 첫 주소를 쓴다 (클라이언트가 앞에 끼운 값은 무시)")
+    void usesRightmostUntrustedHop() {
+        MockHttpServletRequest request = viaNginx("1.1.1.1, 203.0.113.7");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 곳에서 직접 온 요청은 헤더를 무시한다")
+    void ignoresHeadersFromUntrustedPeer() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.9");
+        request.addHeader("X-Real-IP", "198.51.100.9");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 가 없거나 형식이 아니면 X-Real-IP, 그것도 없으면 프록시 주소")
+    void fallsBackToRealIpThenRemoteAddr() {
+        MockHttpServletRequest realIp = new MockHttpServletRequest();
+        realIp.setRemoteAddr(NGINX);
+        realIp.addHeader("X-Real-IP", "203.0.113.7");
+
+        MockHttpServletRequest bare = new MockHttpServletRequest();
+        bare.setRemoteAddr(NGINX);
+
+        assertThat(resolver.resolve(realIp)).isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(bare)).isEqualTo(NGINX);
+        assertThat(resolver.resolve(viaNginx("not-an-ip"))).isEqualTo(NGINX);
+    }
+
+    private static MockHttpServletRequest viaNginx(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(NGINX);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
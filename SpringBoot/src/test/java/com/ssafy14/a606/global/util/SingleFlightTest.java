@@ -0,0 +1,139 @@
+package com.ssafy14.a606.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 원격 호출 한 번을 공유하고 같은 결과를 받는다")
+    void coalescesConcurrentCalls() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), 10);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<String> sink = Sinks.one();
+
+        // when
+        Mono<String> first = singleFlight.execute("key", () -> {
+            upstreamCalls.incrementAndGet();
+            return sink.asMono();
+        });
+        Mono<String> second = singleFlight.execute("key", () -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.just("other");
+        });
+        var firstResult = first.toFuture();
+        var secondResult = second.toFuture();
+        sink.tryEmitValue("answer");
+
+        // then
+        assertThat(firstResult.join()).isEqualTo("answer");
+        assertThat(secondResult.join()).isEqualTo("answer");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(singleFlight.getStats().getCoalescedCount()).isEqualTo(1);
+        assertThat(singleFlight.getStats().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("fan-out 한도를 넘는 요청은 직접 호출한다")
+    void bypassesWhenFanOutExceeded() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), 1);
+        Sinks.One<String> sink = Sinks.one();
+        var leader = singleFlight.execute("key", sink::asMono).toFuture();
+
+        // when
+        String bypassed = singleFlight.execute("key", () -> Mono.just("direct")).block();
+
+        // then
+        assertThat(bypassed).isEqualTo("direct");
+        assertThat(singleFlight.getStats().getFanOutExceededCount()).isEqualTo(1);
+        sink.tryEmitValue("answer");
+        assertThat(leader.join()).isEqualTo("answer");
+    }
+
+    @Test
+    @DisplayName("leader 가 maxWait 안에 끝나지 않으면 기다리던 요청은 직접 호출로 전환한다")
+    void fallsBackAfterMaxWait() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(100), 10);
+        singleFlight.execute("key", Mono::never).subscribe();
+
+        // when
+        String result = singleFlight.execute("key", () -> Mono.just("direct")).block(Duration.ofSeconds(2));
+
+        // then
+        assertThat(result).isEqualTo("direct");
+        assertThat(singleFlight.getStats().getWaitExceededCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("끝났거나 취소한 구독자는 fan-out 자리를 반납한다")
+    void releasesFanOutSlotWhenFollowerLeaves() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), 2);
+        Sinks.One<String> sink = Sinks.one();
+        var leader = singleFlight.execute("key", sink::asMono).toFuture();
+        var follower = singleFlight.execute("key", () -> Mono.just("direct")).subscribe();
+
+        // when: 첫 follower 가 취소한 뒤 새 follower 가 합류
+        follower.dispose();
+        var next = singleFlight.execute("key", () -> Mono.just("direct")).toFuture();
+        sink.tryEmitValue("answer");
+
+        // then
+        assertThat(next.join()).isEqualTo("answer");
+        assertThat(leader.join()).isEqualTo("answer");
+        assertThat(singleFlight.getStats().getCoalescedCount()).isEqualTo(2);
+        assertThat(singleFlight.getStats().getFanOutExceededCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 구독자가 취소하면 원격 호출을 취소하고 키를 지워 다음 요청은 새로 호출한다")
+    void cancelsUpstreamWhenAllSubscribersCancel() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), 10);
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        var leader = singleFlight.execute("key",
+                () -> Mono.<String>never().doOnCancel(() -> upstreamCancelled.set(true))).subscribe();
+        var follower = singleFlight.execute("key", () -> Mono.just("direct")).subscribe();
+
+        // when
+        leader.dispose();
+        assertThat(upstreamCancelled).isFalse();
+        follower.dispose();
+
+        // then
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(singleFlight.getStats().getInFlight()).isZero();
+        assertThat(singleFlight.execute("key", () -> Mono.just("fresh")).block()).isEqualTo("fresh");
+        assertThat(singleFlight.getStats().getLeaderCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("maxWait 로 빠진 follower 는 구독자 수에서 빠지고, leader 가 취소하면 원격 호출도 취소된다")
+    void timedOutFollowerLeavesFlight() {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(100), 10);
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        var leader = singleFlight.execute("key",
+                () -> Mono.<String>never().doOnCancel(() -> upstreamCancelled.set(true))).subscribe();
+
+        // when
+        String result = singleFlight.execute("key", () -> Mono.just("direct")).block(Duration.ofSeconds(2));
+        leader.dispose();
+
+        // then
+        assertThat(result).isEqualTo("direct");
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(singleFlight.getStats().getInFlight()).isZero();
+    }
+}